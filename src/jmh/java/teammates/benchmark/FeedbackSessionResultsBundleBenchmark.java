@@ -0,0 +1,172 @@
+package teammates.benchmark;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import teammates.common.datatransfer.CourseRoster;
+import teammates.common.datatransfer.DataBundle;
+import teammates.common.datatransfer.FeedbackSessionResponseStatus;
+import teammates.common.datatransfer.FeedbackSessionResultsBundle;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Const;
+
+/**
+ * Benchmarks the building of the results of a feedback session and the operations done on them
+ * when the results are displayed or downloaded.
+ *
+ * @see SessionResultsDataGenerator
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class FeedbackSessionResultsBundleBenchmark {
+
+    @Param({"100", "1000"})
+    private int numberOfStudents;
+
+    @Param({"2"})
+    private int numberOfQuestionsPerType;
+
+    @Param({"100", "1000"})
+    private int numberOfResponsesPerQuestion;
+
+    private FeedbackSessionAttributes session;
+    private Map<String, FeedbackQuestionAttributes> questions;
+    private List<FeedbackResponseAttributes> responses;
+    private List<StudentAttributes> students;
+    private List<InstructorAttributes> instructors;
+    private Map<String, String> emailNameTable;
+    private Map<String, String> emailLastNameTable;
+    private Map<String, String> emailTeamNameTable;
+    private Map<String, Set<String>> sectionTeamNameTable;
+    private Map<String, boolean[]> visibilityTable;
+
+    private FeedbackSessionResultsBundle bundle;
+
+    /**
+     * Generates the data of the session, and the lookup tables that are built from the course roster
+     * before the results are built.
+     */
+    @Setup
+    public void setUp() {
+        DataBundle dataBundle = SessionResultsDataGenerator.generate(
+                numberOfStudents, numberOfQuestionsPerType, numberOfResponsesPerQuestion);
+
+        session = dataBundle.feedbackSessions.values().iterator().next();
+        questions = dataBundle.feedbackQuestions;
+        responses = new ArrayList<>(dataBundle.feedbackResponses.values());
+        students = new ArrayList<>(dataBundle.students.values());
+        instructors = new ArrayList<>(dataBundle.instructors.values());
+
+        emailNameTable = new HashMap<>();
+        emailLastNameTable = new HashMap<>();
+        emailTeamNameTable = new HashMap<>();
+        sectionTeamNameTable = new HashMap<>();
+        for (StudentAttributes student : students) {
+            emailNameTable.put(student.email, student.name);
+            emailLastNameTable.put(student.email, student.lastName);
+            emailTeamNameTable.put(student.email, student.team);
+            emailNameTable.put(student.email + Const.TEAM_OF_EMAIL_OWNER, student.team);
+            sectionTeamNameTable.computeIfAbsent(student.section, section -> new HashSet<>()).add(student.team);
+        }
+        for (InstructorAttributes instructor : instructors) {
+            emailNameTable.put(instructor.email, instructor.name);
+            emailLastNameTable.put(instructor.email, instructor.name);
+            emailTeamNameTable.put(instructor.email, Const.USER_TEAM_FOR_INSTRUCTOR);
+        }
+
+        visibilityTable = new HashMap<>();
+        for (FeedbackResponseAttributes response : responses) {
+            visibilityTable.put(response.getId(), new boolean[] {true, true});
+        }
+
+        bundle = buildBundle(responses);
+    }
+
+    /**
+     * Builds the results from copies of the responses, as the results modify the responses given to them.
+     */
+    private FeedbackSessionResultsBundle buildBundle(List<FeedbackResponseAttributes> responsesToCopy) {
+        List<FeedbackResponseAttributes> responsesCopy = new ArrayList<>(responsesToCopy.size());
+        for (FeedbackResponseAttributes response : responsesToCopy) {
+            responsesCopy.add(new FeedbackResponseAttributes(response));
+        }
+        return new FeedbackSessionResultsBundle(session, responsesCopy, questions, emailNameTable,
+                emailLastNameTable, emailTeamNameTable, sectionTeamNameTable, visibilityTable,
+                new FeedbackSessionResponseStatus(), new CourseRoster(students, instructors), new HashMap<>());
+    }
+
+    /**
+     * Builds the results of the session.
+     */
+    @Benchmark
+    public FeedbackSessionResultsBundle constructBundle() {
+        return buildBundle(responses);
+    }
+
+    /**
+     * Groups the responses by question.
+     */
+    @Benchmark
+    public Map<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> getQuestionResponseMap() {
+        return bundle.getQuestionResponseMap();
+    }
+
+    /**
+     * Sorts the responses in the order they are shown in the results grouped by giver.
+     */
+    @Benchmark
+    public List<FeedbackResponseAttributes> sortResponses() {
+        List<FeedbackResponseAttributes> responsesToSort = new ArrayList<>(bundle.responses);
+        responsesToSort.sort(bundle.compareByGiverRecipientQuestion);
+        return responsesToSort;
+    }
+
+    /**
+     * Generates the CSV of the results in the same way as the session results are downloaded,
+     * without the parts that read from the datastore.
+     */
+    @Benchmark
+    public String generateCsv() {
+        StringBuilder csv = new StringBuilder();
+        for (Map.Entry<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> entry
+                : bundle.getQuestionResponseMap().entrySet()) {
+            FeedbackQuestionAttributes question = entry.getKey();
+            List<FeedbackResponseAttributes> questionResponses = entry.getValue();
+
+            csv.append(question.getQuestionDetails().getQuestionResultStatisticsCsv(questionResponses, question, bundle))
+                    .append(System.lineSeparator())
+                    .append(question.getQuestionDetails().getCsvDetailedResponsesHeader(0));
+            for (FeedbackResponseAttributes response : questionResponses) {
+                csv.append(question.getQuestionDetails().getCsvDetailedResponsesRow(bundle, response, question));
+            }
+            csv.append(System.lineSeparator());
+        }
+        return csv.toString();
+    }
+
+}
@@ -0,0 +1,234 @@
+package teammates.benchmark;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import teammates.common.datatransfer.DataBundle;
+import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.attributes.CourseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.datatransfer.questions.FeedbackQuestionDetails;
+import teammates.common.datatransfer.questions.FeedbackQuestionType;
+import teammates.common.datatransfer.questions.FeedbackResponseDetails;
+import teammates.common.util.JsonUtils;
+
+/**
+ * Generates synthetic data of a feedback session for benchmarks.
+ *
+ * <p>The generated course has a number of students in teams of {@value #TEAM_SIZE}, spread across sections of
+ * {@value #TEAMS_PER_SECTION} teams, and a session with a number of questions of each {@link FeedbackQuestionType}.
+ * Every question is answered by students about their team members including themselves,
+ * so that contribution questions are valid too.
+ */
+public final class SessionResultsDataGenerator {
+
+    static final String COURSE_ID = "benchmark.course";
+    static final String FEEDBACK_SESSION_NAME = "Benchmark session";
+    static final String INSTRUCTOR_EMAIL = "instructor@benchmark.tmt";
+
+    private static final int TEAM_SIZE = 4;
+    private static final int TEAMS_PER_SECTION = 10;
+    private static final int NUMBER_OF_OPTIONS = 4;
+
+    /**
+     * Question types to generate questions of.
+     * The CONSTSUM_OPTIONS and CONSTSUM_RECIPIENTS types are placeholders for CONSTSUM and are not stored.
+     */
+    private static final FeedbackQuestionType[] QUESTION_TYPES = {
+            FeedbackQuestionType.TEXT, FeedbackQuestionType.MCQ, FeedbackQuestionType.MSQ,
+            FeedbackQuestionType.NUMSCALE, FeedbackQuestionType.CONSTSUM, FeedbackQuestionType.CONTRIB,
+            FeedbackQuestionType.RUBRIC, FeedbackQuestionType.RANK_OPTIONS, FeedbackQuestionType.RANK_RECIPIENTS,
+    };
+
+    private static final Map<FeedbackQuestionType, String> QUESTION_DETAILS = new EnumMap<>(FeedbackQuestionType.class);
+
+    static {
+        String options = "[\"Option 1\", \"Option 2\", \"Option 3\", \"Option 4\"]";
+        QUESTION_DETAILS.put(FeedbackQuestionType.TEXT,
+                "{\"questionType\": \"TEXT\", \"questionText\": \"Comment on your team member.\"}");
+        QUESTION_DETAILS.put(FeedbackQuestionType.MCQ,
+                "{\"questionType\": \"MCQ\", \"questionText\": \"Choose one.\", \"numOfMcqChoices\": 4, "
+                + "\"mcqChoices\": " + options + ", \"generateOptionsFor\": \"NONE\", \"otherEnabled\": false}");
+        QUESTION_DETAILS.put(FeedbackQuestionType.MSQ,
+                "{\"questionType\": \"MSQ\", \"questionText\": \"Choose some.\", \"msqChoices\": " + options
+                + ", \"generateOptionsFor\": \"NONE\", \"otherEnabled\": false}");
+        QUESTION_DETAILS.put(FeedbackQuestionType.NUMSCALE,
+                "{\"questionType\": \"NUMSCALE\", \"questionText\": \"Rate your team member.\", "
+                + "\"minScale\": 1, \"maxScale\": 5, \"step\": 0.5}");
+        QUESTION_DETAILS.put(FeedbackQuestionType.CONSTSUM,
+                "{\"questionType\": \"CONSTSUM\", \"questionText\": \"Distribute the points.\", "
+                + "\"distributeToRecipients\": false, \"pointsPerOption\": false, \"points\": 100, "
+                + "\"numOfConstSumOptions\": 4, \"constSumOptions\": " + options + "}");
+        QUESTION_DETAILS.put(FeedbackQuestionType.CONTRIB,
+                "{\"questionType\": \"CONTRIB\", \"questionText\": \"Rate the contribution.\", "
+                + "\"isNotSureAllowed\": true}");
+        QUESTION_DETAILS.put(FeedbackQuestionType.RUBRIC,
+                "{\"questionType\": \"RUBRIC\", \"questionText\": \"Assess your team member.\", "
+                + "\"numOfRubricChoices\": 2, \"rubricChoices\": [\"Yes\", \"No\"], "
+                + "\"numOfRubricSubQuestions\": 2, \"rubricSubQuestions\": [\"Was on time.\", \"Did the work.\"], "
+                + "\"rubricDescriptions\": [[\"Always\", \"Rarely\"], [\"Always\", \"Rarely\"]], "
+                + "\"hasAssignedWeights\": false}");
+        QUESTION_DETAILS.put(FeedbackQuestionType.RANK_OPTIONS,
+                "{\"questionType\": \"RANK_OPTIONS\", \"questionText\": \"Rank the options.\", "
+                + "\"areDuplicatesAllowed\": false, \"options\": " + options + "}");
+        QUESTION_DETAILS.put(FeedbackQuestionType.RANK_RECIPIENTS,
+                "{\"questionType\": \"RANK_RECIPIENTS\", \"questionText\": \"Rank your team members.\", "
+                + "\"areDuplicatesAllowed\": true}");
+    }
+
+    private SessionResultsDataGenerator() {
+        // utility class
+    }
+
+    /**
+     * Generates a course with {@code numberOfStudents} students and a session with
+     * {@code numberOfQuestionsPerType} questions of each type, each of which has
+     * {@code numberOfResponsesPerQuestion} responses.
+     *
+     * <p>The questions and responses are given IDs as if they had been stored.
+     */
+    public static DataBundle generate(int numberOfStudents, int numberOfQuestionsPerType,
+            int numberOfResponsesPerQuestion) {
+        DataBundle dataBundle = new DataBundle();
+
+        dataBundle.courses = new LinkedHashMap<>();
+        dataBundle.courses.put(COURSE_ID, CourseAttributes.builder(COURSE_ID)
+                .withName("Benchmark Course")
+                .withTimezone(ZoneId.of("UTC"))
+                .build());
+
+        dataBundle.instructors = new LinkedHashMap<>();
+        dataBundle.instructors.put("instructor", InstructorAttributes.builder(COURSE_ID, INSTRUCTOR_EMAIL)
+                .withName("Instructor")
+                .build());
+
+        dataBundle.students = generateStudents(numberOfStudents);
+
+        Instant now = Instant.now();
+        dataBundle.feedbackSessions = new LinkedHashMap<>();
+        dataBundle.feedbackSessions.put("session", FeedbackSessionAttributes.builder(FEEDBACK_SESSION_NAME, COURSE_ID)
+                .withCreatorEmail(INSTRUCTOR_EMAIL)
+                .withSessionVisibleFromTime(now.minus(Duration.ofDays(2)))
+                .withStartTime(now.minus(Duration.ofDays(1)))
+                .withEndTime(now.plus(Duration.ofDays(1)))
+                .withResultsVisibleFromTime(now.plus(Duration.ofDays(2)))
+                .withTimeZone(ZoneId.of("UTC"))
+                .withGracePeriod(Duration.ofMinutes(15))
+                .build());
+
+        dataBundle.feedbackQuestions = new LinkedHashMap<>();
+        dataBundle.feedbackResponses = new LinkedHashMap<>();
+        StudentAttributes[] students = dataBundle.students.values().toArray(new StudentAttributes[0]);
+        int questionNumber = 1;
+        for (FeedbackQuestionType questionType : QUESTION_TYPES) {
+            for (int i = 0; i < numberOfQuestionsPerType; i++) {
+                FeedbackQuestionAttributes question = generateQuestion(questionType, questionNumber);
+                dataBundle.feedbackQuestions.put(question.getId(), question);
+                for (int j = 0; j < numberOfResponsesPerQuestion; j++) {
+                    FeedbackResponseAttributes response = generateResponse(question, students, j);
+                    dataBundle.feedbackResponses.put(response.getId(), response);
+                }
+                questionNumber++;
+            }
+        }
+
+        return dataBundle;
+    }
+
+    private static Map<String, StudentAttributes> generateStudents(int numberOfStudents) {
+        Map<String, StudentAttributes> students = new LinkedHashMap<>();
+        for (int i = 0; i < numberOfStudents; i++) {
+            int team = i / TEAM_SIZE;
+            String email = "student" + i + "@benchmark.tmt";
+            students.put(email, StudentAttributes.builder(COURSE_ID, email)
+                    .withName("Student " + i)
+                    .withLastName(String.valueOf(i))
+                    .withTeamName("Team " + team)
+                    .withSectionName("Section " + team / TEAMS_PER_SECTION)
+                    .withComment("")
+                    .build());
+        }
+        return students;
+    }
+
+    private static FeedbackQuestionAttributes generateQuestion(FeedbackQuestionType questionType, int questionNumber) {
+        FeedbackQuestionAttributes question = FeedbackQuestionAttributes.builder()
+                .withCourseId(COURSE_ID)
+                .withFeedbackSessionName(FEEDBACK_SESSION_NAME)
+                .withQuestionNumber(questionNumber)
+                .withQuestionDetails(JsonUtils.fromJson(QUESTION_DETAILS.get(questionType), FeedbackQuestionDetails.class))
+                .withGiverType(FeedbackParticipantType.STUDENTS)
+                .withRecipientType(FeedbackParticipantType.OWN_TEAM_MEMBERS_INCLUDING_SELF)
+                .withNumberOfEntitiesToGiveFeedbackTo(TEAM_SIZE)
+                .withShowResponsesTo(Arrays.asList(FeedbackParticipantType.INSTRUCTORS,
+                        FeedbackParticipantType.RECEIVER))
+                .withShowGiverNameTo(Arrays.asList(FeedbackParticipantType.INSTRUCTORS))
+                .withShowRecipientNameTo(Arrays.asList(FeedbackParticipantType.INSTRUCTORS,
+                        FeedbackParticipantType.RECEIVER))
+                .build();
+        question.setId("question" + questionNumber);
+        return question;
+    }
+
+    /**
+     * Generates the {@code index}-th response to a question, given by a student to one of their team members.
+     */
+    private static FeedbackResponseAttributes generateResponse(FeedbackQuestionAttributes question,
+            StudentAttributes[] students, int index) {
+        StudentAttributes giver = students[index % students.length];
+        int teamStart = index % students.length / TEAM_SIZE * TEAM_SIZE;
+        int teamSize = Math.min(TEAM_SIZE, students.length - teamStart);
+        StudentAttributes recipient = students[teamStart + index / students.length % teamSize];
+
+        FeedbackResponseAttributes response = FeedbackResponseAttributes
+                .builder(question.getId(), giver.email, recipient.email)
+                .withCourseId(COURSE_ID)
+                .withFeedbackSessionName(FEEDBACK_SESSION_NAME)
+                .withGiverSection(giver.section)
+                .withRecipientSection(recipient.section)
+                .withResponseDetails(JsonUtils.fromJson(
+                        generateResponseDetails(question.getQuestionType(), index), FeedbackResponseDetails.class))
+                .build();
+        response.setId(question.getId() + "%" + giver.email + "%" + recipient.email + "%" + index);
+        return response;
+    }
+
+    private static String generateResponseDetails(FeedbackQuestionType questionType, int index) {
+        int option = index % NUMBER_OF_OPTIONS + 1;
+        switch (questionType) {
+        case TEXT:
+            return "{\"questionType\": \"TEXT\", \"answer\": \"Response " + index + " to the question.\"}";
+        case MCQ:
+            return "{\"questionType\": \"MCQ\", \"answer\": \"Option " + option + "\", \"otherFieldContent\": \"\"}";
+        case MSQ:
+            return "{\"questionType\": \"MSQ\", \"answers\": [\"Option 1\", \"Option " + option + "\"]}";
+        case NUMSCALE:
+            return "{\"questionType\": \"NUMSCALE\", \"answer\": " + (1 + index % 9 * 0.5) + "}";
+        case CONSTSUM:
+            return "{\"questionType\": \"CONSTSUM\", \"answers\": [" + (10 * option) + ", 20, 30, "
+                    + (40 - 10 * option + 10) + "]}";
+        case CONTRIB:
+            return "{\"questionType\": \"CONTRIB\", \"answer\": " + (70 + index % 7 * 10) + "}";
+        case RUBRIC:
+            return "{\"questionType\": \"RUBRIC\", \"answer\": [" + index % 2 + ", " + (index + 1) % 2 + "]}";
+        case RANK_OPTIONS:
+            return "{\"questionType\": \"RANK_OPTIONS\", \"answers\": [" + option + ", "
+                    + (option % NUMBER_OF_OPTIONS + 1) + ", " + ((option + 1) % NUMBER_OF_OPTIONS + 1) + ", "
+                    + ((option + 2) % NUMBER_OF_OPTIONS + 1) + "]}";
+        case RANK_RECIPIENTS:
+            return "{\"questionType\": \"RANK_RECIPIENTS\", \"answer\": " + option + "}";
+        default:
+            throw new IllegalArgumentException("Unsupported question type: " + questionType);
+        }
+    }
+
+}
@@ -0,0 +1,4 @@
+/**
+ * Contains JMH microbenchmarks of the back-end, which run on synthetic data generated in memory.
+ */
+package teammates.benchmark;
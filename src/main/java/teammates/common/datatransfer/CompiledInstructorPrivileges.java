@@ -0,0 +1,159 @@
+package teammates.common.datatransfer;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import teammates.common.util.Assumption;
+import teammates.common.util.Const;
+
+/**
+ * Immutable snapshot of {@link InstructorPrivileges} compiled for fast privilege checks.
+ *
+ * <p>Each privilege is a bit in an {@code int} mask, and the sections and sessions with special settings
+ * are mapped to small integer IDs, so that a check takes a few map and array lookups
+ * instead of walking the nested maps of {@link InstructorPrivileges}.
+ */
+final class CompiledInstructorPrivileges {
+
+    private static final String[] PRIVILEGE_NAMES = {
+            Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_COURSE,
+            Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_INSTRUCTOR,
+            Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_SESSION,
+            Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_STUDENT,
+            Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_STUDENT_IN_SECTIONS,
+            Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS,
+            Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS,
+            Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_SESSION_COMMENT_IN_SECTIONS,
+    };
+
+    private static final Map<String, Integer> PRIVILEGE_BITS = new HashMap<>();
+
+    static {
+        for (int i = 0; i < PRIVILEGE_NAMES.length; i++) {
+            PRIVILEGE_BITS.put(PRIVILEGE_NAMES[i], 1 << i);
+        }
+    }
+
+    /** Marks a session without special settings in a section. */
+    private static final int NOT_SPECIAL = -1;
+
+    private final int courseMask;
+
+    /** IDs of the sections with section level or session level settings. */
+    private final Map<String, Integer> sectionIds;
+
+    /** Privileges of each section, which are the course level privileges if the section has none of its own. */
+    private final int[] sectionMasks;
+
+    /** IDs of the sessions with session level settings in any section. */
+    private final Map<String, Integer> sessionIds;
+
+    /** Privileges of each session in each section, or {@link #NOT_SPECIAL}. */
+    private final int[][] sessionMasks;
+
+    /** Privileges of each session allowed in any section. */
+    private final int[] anySectionSessionMasks;
+
+    /** Privileges allowed in any section for sessions without session level settings. */
+    private final int anySectionMask;
+
+    CompiledInstructorPrivileges(Map<String, Boolean> courseLevel, Map<String, Map<String, Boolean>> sectionLevel,
+                                 Map<String, Map<String, Map<String, Boolean>>> sessionLevel) {
+        this.courseMask = toMask(courseLevel);
+
+        this.sectionIds = new HashMap<>();
+        sectionLevel.keySet().forEach(sectionName -> sectionIds.putIfAbsent(sectionName, sectionIds.size()));
+        sessionLevel.keySet().forEach(sectionName -> sectionIds.putIfAbsent(sectionName, sectionIds.size()));
+
+        this.sessionIds = new HashMap<>();
+        sessionLevel.values().forEach(sessions ->
+                sessions.keySet().forEach(sessionName -> sessionIds.putIfAbsent(sessionName, sessionIds.size())));
+
+        this.sectionMasks = new int[sectionIds.size()];
+        this.sessionMasks = new int[sectionIds.size()][sessionIds.size()];
+        int anySectionMask = 0;
+        for (Map.Entry<String, Integer> section : sectionIds.entrySet()) {
+            int sectionId = section.getValue();
+            Map<String, Boolean> sectionPrivileges = sectionLevel.get(section.getKey());
+            sectionMasks[sectionId] = sectionPrivileges == null ? courseMask : toMask(sectionPrivileges);
+            anySectionMask |= sectionMasks[sectionId];
+
+            Arrays.fill(sessionMasks[sectionId], NOT_SPECIAL);
+            sessionLevel.getOrDefault(section.getKey(), new HashMap<>()).forEach((sessionName, sessionPrivileges) ->
+                    sessionMasks[sectionId][sessionIds.get(sessionName)] = toMask(sessionPrivileges));
+        }
+        this.anySectionMask = anySectionMask;
+
+        this.anySectionSessionMasks = new int[sessionIds.size()];
+        for (int sessionId = 0; sessionId < sessionIds.size(); sessionId++) {
+            for (int sectionId = 0; sectionId < sectionMasks.length; sectionId++) {
+                anySectionSessionMasks[sessionId] |= getSessionMask(sectionId, sessionId);
+            }
+        }
+    }
+
+    private static int toMask(Map<String, Boolean> privileges) {
+        int mask = 0;
+        for (Map.Entry<String, Boolean> privilege : privileges.entrySet()) {
+            Integer bit = PRIVILEGE_BITS.get(privilege.getKey());
+            if (bit != null && Boolean.TRUE.equals(privilege.getValue())) {
+                mask |= bit;
+            }
+        }
+        return mask;
+    }
+
+    private static int getBit(String privilegeName) {
+        Integer bit = PRIVILEGE_BITS.get(privilegeName);
+        Assumption.assertNotNull(bit);
+        return bit;
+    }
+
+    private int getSessionMask(int sectionId, int sessionId) {
+        int sessionMask = sessionMasks[sectionId][sessionId];
+        return sessionMask == NOT_SPECIAL ? sectionMasks[sectionId] : sessionMask;
+    }
+
+    /**
+     * Returns true if the privilege is allowed in course level.
+     */
+    boolean isAllowed(String privilegeName) {
+        return (courseMask & getBit(privilegeName)) != 0;
+    }
+
+    /**
+     * Returns true if the privilege is allowed in the section.
+     */
+    boolean isAllowed(String sectionName, String privilegeName) {
+        int bit = getBit(privilegeName);
+        Integer sectionId = sectionIds.get(sectionName);
+        int mask = sectionId == null ? courseMask : sectionMasks[sectionId];
+        return (mask & bit) != 0;
+    }
+
+    /**
+     * Returns true if the privilege is allowed for the session in the section.
+     */
+    boolean isAllowed(String sectionName, String sessionName, String privilegeName) {
+        int bit = getBit(privilegeName);
+        Integer sectionId = sectionIds.get(sectionName);
+        if (sectionId == null) {
+            return (courseMask & bit) != 0;
+        }
+        Integer sessionId = sessionIds.get(sessionName);
+        int mask = sessionId == null ? sectionMasks[sectionId] : getSessionMask(sectionId, sessionId);
+        return (mask & bit) != 0;
+    }
+
+    /**
+     * Returns true if the privilege is allowed for the session in any of the sections with special settings.
+     */
+    boolean isAllowedInAnySection(String sessionName, String privilegeName) {
+        int bit = getBit(privilegeName);
+        Integer sessionId = sessionIds.get(sessionName);
+        int mask = sessionId == null ? anySectionMask : anySectionSessionMasks[sessionId];
+        return (mask & bit) != 0;
+    }
+
+}
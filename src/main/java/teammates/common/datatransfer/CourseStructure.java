@@ -0,0 +1,189 @@
+package teammates.common.datatransfer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Const;
+
+/**
+ * Represents the sections, teams and students of a course.
+ *
+ * <p>The students are sorted once when the structure is built, so that the sections and teams
+ * can be listed many times without loading and sorting the students again.
+ * The students, teams and team members that can be recipients of a question are also indexed once,
+ * so that the recipients of each giver are found by excluding the giver from them.
+ * The structure is immutable; the students in the sections and teams listed are copies.
+ */
+public final class CourseStructure {
+
+    private final List<StudentAttributes> studentsBySection;
+    private final List<StudentAttributes> studentsByTeam;
+    private final List<String> sectionNames;
+    private final List<String> teamNames;
+
+    private final Map<String, String> studentNames = new LinkedHashMap<>();
+    private final Map<String, String> studentSections = new HashMap<>();
+    private final Map<String, String> teamSections = new HashMap<>();
+    private final Map<String, Map<String, String>> teamMemberNames = new HashMap<>();
+
+    private final int unregisteredTotal;
+    private final int teamsTotal;
+
+    public CourseStructure(List<StudentAttributes> students) {
+        this.studentsBySection = copyOf(students);
+        StudentAttributes.sortBySectionName(studentsBySection);
+        this.studentsByTeam = new ArrayList<>(studentsBySection);
+        StudentAttributes.sortByTeamName(studentsByTeam);
+
+        Set<String> sectionNameSet = new TreeSet<>();
+        int unregisteredTotal = 0;
+        int teamsTotal = 0;
+        StudentAttributes previous = null;
+        for (StudentAttributes student : studentsBySection) {
+            studentNames.put(student.email, student.name);
+            studentSections.put(student.email, student.section);
+            teamSections.putIfAbsent(student.team, student.section);
+            teamMemberNames.computeIfAbsent(student.team, team -> new LinkedHashMap<>()).put(student.email, student.name);
+            if (!student.isRegistered()) {
+                unregisteredTotal++;
+            }
+            if (!student.section.equals(Const.DEFAULT_SECTION)) {
+                sectionNameSet.add(student.section);
+            }
+            // teams in more than one section are counted once for each section
+            if (previous == null || !student.section.equals(previous.section) || !student.team.equals(previous.team)) {
+                teamsTotal++;
+            }
+            previous = student;
+        }
+        this.sectionNames = new ArrayList<>(sectionNameSet);
+        this.teamNames = new ArrayList<>(teamSections.keySet());
+        teamNames.sort(null);
+        this.unregisteredTotal = unregisteredTotal;
+        this.teamsTotal = teamsTotal;
+    }
+
+    private static List<StudentAttributes> copyOf(List<StudentAttributes> students) {
+        List<StudentAttributes> copies = new ArrayList<>(students.size());
+        for (StudentAttributes student : students) {
+            copies.add(student.getCopy());
+        }
+        return copies;
+    }
+
+    /**
+     * Returns the sorted names of the sections, excluding the default section.
+     */
+    public List<String> getSectionNames() {
+        return new ArrayList<>(sectionNames);
+    }
+
+    /**
+     * Returns the sections sorted by name, each with its teams sorted by name,
+     * each with its students sorted by name.
+     */
+    public List<SectionDetailsBundle> getSections() {
+        List<SectionDetailsBundle> sections = new ArrayList<>();
+        SectionDetailsBundle section = null;
+        TeamDetailsBundle team = null;
+        for (StudentAttributes student : studentsBySection) {
+            if (section == null || !student.section.equals(section.name)) {
+                section = new SectionDetailsBundle();
+                section.name = student.section;
+                sections.add(section);
+                team = null;
+            }
+            if (team == null || !student.team.equals(team.name)) {
+                team = new TeamDetailsBundle();
+                team.name = student.team;
+                section.teams.add(team);
+            }
+            team.students.add(student.getCopy());
+        }
+        return sections;
+    }
+
+    /**
+     * Returns the teams sorted by name, each with its students sorted by name.
+     */
+    public List<TeamDetailsBundle> getTeams() {
+        List<TeamDetailsBundle> teams = new ArrayList<>();
+        TeamDetailsBundle team = null;
+        for (StudentAttributes student : studentsByTeam) {
+            if (team == null || !student.team.equals(team.name)) {
+                team = new TeamDetailsBundle();
+                team.name = student.team;
+                teams.add(team);
+            }
+            team.students.add(student.getCopy());
+        }
+        return teams;
+    }
+
+    /**
+     * Returns the names of all the students keyed by their emails.
+     */
+    public Map<String, String> getStudentNames() {
+        return new LinkedHashMap<>(studentNames);
+    }
+
+    /**
+     * Returns the names of the students in the team keyed by their emails; empty if there is no such team.
+     */
+    public Map<String, String> getTeamMemberNames(String teamName) {
+        Map<String, String> memberNames = teamMemberNames.get(teamName);
+        return memberNames == null ? new LinkedHashMap<>() : new LinkedHashMap<>(memberNames);
+    }
+
+    /**
+     * Returns the section of the student, or {@code null} if there is no such student.
+     */
+    public String getSectionOfStudent(String email) {
+        return studentSections.get(email);
+    }
+
+    /**
+     * Returns the section of the team, or the default section if there is no such team.
+     *
+     * <p>For a team in more than one section, one of its sections is returned.
+     */
+    public String getSectionOfTeam(String teamName) {
+        return teamSections.getOrDefault(teamName, Const.DEFAULT_SECTION);
+    }
+
+    /**
+     * Returns the names of the teams, sorted.
+     */
+    public List<String> getTeamNames() {
+        return new ArrayList<>(teamNames);
+    }
+
+    public int getStudentsTotal() {
+        return studentsBySection.size();
+    }
+
+    public int getUnregisteredTotal() {
+        return unregisteredTotal;
+    }
+
+    /**
+     * Returns the number of teams, where a team in more than one section is counted once for each section.
+     */
+    public int getTeamsTotal() {
+        return teamsTotal;
+    }
+
+    /**
+     * Returns the number of sections, excluding the default section.
+     */
+    public int getSectionsTotal() {
+        return sectionNames.size();
+    }
+
+}
@@ -0,0 +1,35 @@
+package teammates.common.datatransfer;
+
+import java.util.List;
+
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+
+/**
+ * Represents a page of the responses of a feedback session.
+ * <br> Contains:
+ * <br> * The responses in the page, ordered by question, giver and then recipient.
+ * <br> * The cursor to fetch the next page with, or null if this is the last page.
+ */
+public class FeedbackResponsesPage {
+
+    private final List<FeedbackResponseAttributes> responses;
+    private final String nextPageCursor;
+
+    public FeedbackResponsesPage(List<FeedbackResponseAttributes> responses, String nextPageCursor) {
+        this.responses = responses;
+        this.nextPageCursor = nextPageCursor;
+    }
+
+    public List<FeedbackResponseAttributes> getResponses() {
+        return responses;
+    }
+
+    public String getNextPageCursor() {
+        return nextPageCursor;
+    }
+
+    public boolean isLastPage() {
+        return nextPageCursor == null;
+    }
+
+}
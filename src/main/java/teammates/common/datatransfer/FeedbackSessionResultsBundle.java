@@ -48,6 +48,10 @@ public class FeedbackSessionResultsBundle {
     public CourseRoster roster;
     public Map<String, List<FeedbackResponseCommentAttributes>> responseComments;
     public boolean isComplete;
+    /**
+     * Cursor to fetch the next page of responses with, if the bundle holds one page of the responses.
+     */
+    public String nextPageCursor;
 
     /**
      * Responses with identities of giver/recipients NOT hidden.
@@ -58,7 +62,7 @@ public class FeedbackSessionResultsBundle {
     // For contribution questions.
     // Key is questionId, value is a map of student email to StudentResultSumary
     public Map<String, Map<String, StudentResultSummary>> contributionQuestionStudentResultSummary = new HashMap<>();
-    // Key is questionId, value is a map of team name to TeamEvalResult
+    // Key is questionId, value is a map of team name to TeamEvalResult, for each team with a response to the question
     public Map<String, Map<String, TeamEvalResult>> contributionQuestionTeamEvalResults = new HashMap<>();
 
     /*
@@ -72,6 +76,11 @@ public class FeedbackSessionResultsBundle {
      */
     public Map<String, Set<String>> sectionTeamNameTable;
 
+    // The possible givers and recipients of the roster, sorted once and copied for each giver or recipient
+    private List<String> sortedStudentEmails;
+    private List<String> sortedInstructorEmails;
+    private List<String> sortedTeams;
+
     private Comparator<FeedbackResponseAttributes> compareByGiverSection =
             Comparator.comparing(fra -> fra.giverSection);
 
@@ -956,10 +965,12 @@ public class FeedbackSessionResultsBundle {
      * Instructors are not present as a team.
      */
     private List<String> getSortedListOfTeams() {
-        List<String> teams = new ArrayList<>(rosterTeamNameMembersTable.keySet());
-        teams.remove(Const.USER_TEAM_FOR_INSTRUCTOR);
-        teams.sort(null);
-        return teams;
+        if (sortedTeams == null) {
+            sortedTeams = new ArrayList<>(rosterTeamNameMembersTable.keySet());
+            sortedTeams.remove(Const.USER_TEAM_FOR_INSTRUCTOR);
+            sortedTeams.sort(null);
+        }
+        return new ArrayList<>(sortedTeams);
     }
 
     private List<String> getCreatorEmail() {
@@ -1001,26 +1012,30 @@ public class FeedbackSessionResultsBundle {
      * Returns a list of student emails, sorted by section name.
      */
     private List<String> getSortedListOfStudentEmails() {
-        List<String> emailList = new ArrayList<>();
-        List<StudentAttributes> students = roster.getStudents();
-        StudentAttributes.sortBySectionName(students);
-        for (StudentAttributes student : students) {
-            emailList.add(student.email);
+        if (sortedStudentEmails == null) {
+            sortedStudentEmails = new ArrayList<>();
+            List<StudentAttributes> students = roster.getStudents();
+            StudentAttributes.sortBySectionName(students);
+            for (StudentAttributes student : students) {
+                sortedStudentEmails.add(student.email);
+            }
         }
-        return emailList;
+        return new ArrayList<>(sortedStudentEmails);
     }
 
     /**
      * Returns a list of instructor emails, sorted alphabetically.
      */
     private List<String> getSortedListOfInstructorEmails() {
-        List<String> emailList = new ArrayList<>();
-        List<InstructorAttributes> instructors = roster.getInstructors();
-        for (InstructorAttributes instructor : instructors) {
-            emailList.add(instructor.email);
+        if (sortedInstructorEmails == null) {
+            sortedInstructorEmails = new ArrayList<>();
+            List<InstructorAttributes> instructors = roster.getInstructors();
+            for (InstructorAttributes instructor : instructors) {
+                sortedInstructorEmails.add(instructor.email);
+            }
+            sortedInstructorEmails.sort(null);
         }
-        emailList.sort(null);
-        return emailList;
+        return new ArrayList<>(sortedInstructorEmails);
     }
 
     /**
@@ -1666,6 +1681,10 @@ public class FeedbackSessionResultsBundle {
         return isComplete;
     }
 
+    public String getNextPageCursor() {
+        return nextPageCursor;
+    }
+
     public ZoneId getTimeZone() {
         return feedbackSession.getTimeZone();
     }
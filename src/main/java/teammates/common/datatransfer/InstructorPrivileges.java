@@ -95,6 +95,12 @@ public final class InstructorPrivileges {
     private Map<String, Map<String, Boolean>> sectionLevel;
     private Map<String, Map<String, Map<String, Boolean>>> sessionLevel;
 
+    /**
+     * Compiled form of the privileges for fast privilege checks,
+     * which is discarded whenever the privileges are modified.
+     */
+    private transient CompiledInstructorPrivileges compiledPrivileges;
+
     public InstructorPrivileges() {
         this.courseLevel = new LinkedHashMap<>();
         this.sectionLevel = new LinkedHashMap<>();
@@ -161,6 +167,7 @@ public final class InstructorPrivileges {
     }
 
     private void setDefaultPrivileges(Map<String, Boolean> defaultPrivileges) {
+        discardCompiledPrivileges();
         defaultPrivileges.forEach((key, value) -> courseLevel.put(key, value));
     }
 
@@ -216,6 +223,7 @@ public final class InstructorPrivileges {
     }
 
     private void updatePrivilegeInCourseLevel(String privilegeName, boolean isAllowed) {
+        discardCompiledPrivileges();
         if (!isPrivilegeNameValid(privilegeName)) {
             return;
         }
@@ -223,6 +231,7 @@ public final class InstructorPrivileges {
     }
 
     private void updatePrivilegeInSectionLevel(String sectionName, String privilegeName, boolean isAllowed) {
+        discardCompiledPrivileges();
         if (!isPrivilegeNameValidForSectionLevel(privilegeName)) {
             return;
         }
@@ -232,6 +241,7 @@ public final class InstructorPrivileges {
 
     private void updatePrivilegeInSessionLevel(String sectionName, String sessionName,
                                                String privilegeName, boolean isAllowed) {
+        discardCompiledPrivileges();
         if (!isPrivilegeNameValidForSessionLevel(privilegeName)) {
             return;
         }
@@ -249,6 +259,7 @@ public final class InstructorPrivileges {
     }
 
     private void updatePrivilegesInSectionLevel(String sectionName, Map<String, Boolean> privileges) {
+        discardCompiledPrivileges();
         for (String privilegeName : privileges.keySet()) {
             if (!isPrivilegeNameValidForSectionLevel(privilegeName)) {
                 return;
@@ -259,6 +270,7 @@ public final class InstructorPrivileges {
 
     private void updatePrivilegesInSessionLevel(String sectionName, String sessionName,
                                                 Map<String, Boolean> privileges) {
+        discardCompiledPrivileges();
         for (String privilegeName : privileges.keySet()) {
             if (!isPrivilegeNameValidForSessionLevel(privilegeName)) {
                 return;
@@ -269,6 +281,7 @@ public final class InstructorPrivileges {
     }
 
     private void verifyExistenceOfsectionName(String sectionName) {
+        discardCompiledPrivileges();
         this.sessionLevel.computeIfAbsent(sectionName, key -> {
             addSectionWithDefaultPrivileges(sectionName);
             return new LinkedHashMap<>();
@@ -276,10 +289,12 @@ public final class InstructorPrivileges {
     }
 
     public void addSectionWithDefaultPrivileges(String sectionName) {
+        discardCompiledPrivileges();
         this.sectionLevel.putIfAbsent(sectionName, getOverallPrivilegesForSections());
     }
 
     public void addSessionWithDefaultPrivileges(String sectionName, String sessionName) {
+        discardCompiledPrivileges();
         verifyExistenceOfsectionName(sectionName);
         this.sessionLevel.get(sectionName)
                 .putIfAbsent(sessionName, getOverallPrivilegesForSessionsInSection(sectionName));
@@ -289,28 +304,41 @@ public final class InstructorPrivileges {
      * Returns true if it is allowed for the privilege specified by privilegeName.
      */
     public boolean isAllowedForPrivilege(String privilegeName) {
-        return isAllowedInCourseLevel(privilegeName);
+        return getCompiledPrivileges().isAllowed(privilegeName);
     }
 
     /**
      * Returns true if it is allowed for the privilege specified by privilegeName in sectionName.
      */
     public boolean isAllowedForPrivilege(String sectionName, String privilegeName) {
-        return isAllowedInSectionLevel(sectionName, privilegeName);
+        return getCompiledPrivileges().isAllowed(sectionName, privilegeName);
     }
 
     /**
      * Returns true if it is allowed for the privilege specified by privilegeName for sessionName in sectionName.
      */
     public boolean isAllowedForPrivilege(String sectionName, String sessionName, String privilegeName) {
-        return isAllowedInSessionLevel(sectionName, sessionName, privilegeName);
+        return getCompiledPrivileges().isAllowed(sectionName, sessionName, privilegeName);
     }
 
     /**
      * Returns true if privilege for session is present for any section.
      */
     public boolean isAllowedForPrivilegeAnySection(String sessionName, String privilegeName) {
-        return isAllowedInSessionLevelAnySection(sessionName, privilegeName);
+        return getCompiledPrivileges().isAllowedInAnySection(sessionName, privilegeName);
+    }
+
+    private CompiledInstructorPrivileges getCompiledPrivileges() {
+        CompiledInstructorPrivileges compiled = compiledPrivileges;
+        if (compiled == null) {
+            compiled = new CompiledInstructorPrivileges(courseLevel, sectionLevel, sessionLevel);
+            compiledPrivileges = compiled;
+        }
+        return compiled;
+    }
+
+    private void discardCompiledPrivileges() {
+        compiledPrivileges = null;
     }
 
     public boolean hasCoownerPrivileges() {
@@ -367,6 +395,7 @@ public final class InstructorPrivileges {
      * Removes special settings for sectionName.
      */
     public void removeSectionLevelPrivileges(String sectionName) {
+        discardCompiledPrivileges();
         if (this.sectionLevel.containsKey(sectionName)) {
             this.sectionLevel.remove(sectionName);
         }
@@ -377,6 +406,7 @@ public final class InstructorPrivileges {
      * Removes special settings for all sessionNames in sectionName.
      */
     public void removeSessionsPrivilegesForSection(String sectionName) {
+        discardCompiledPrivileges();
         if (this.sessionLevel.containsKey(sectionName)) {
             this.sessionLevel.remove(sectionName);
         }
@@ -386,6 +416,7 @@ public final class InstructorPrivileges {
      * Removes special settings for sessionName in sectionName.
      */
     public void removeSessionPrivileges(String sectionName, String sessionName) {
+        discardCompiledPrivileges();
         if (this.sessionLevel.containsKey(sectionName) && this.sessionLevel.get(sectionName).containsKey(sessionName)) {
             this.sessionLevel.get(sectionName).remove(sessionName);
         }
@@ -409,32 +440,6 @@ public final class InstructorPrivileges {
         return this.sectionLevel.get(sectionName).getOrDefault(privilegeName, false);
     }
 
-    private boolean isAllowedInSessionLevel(String sectionName, String sessionName, String privilegeName) {
-
-        Assumption.assertTrue(isPrivilegeNameValid(privilegeName));
-
-        if (!this.sessionLevel.containsKey(sectionName)
-                || !this.sessionLevel.get(sectionName).containsKey(sessionName)) {
-            return isAllowedInSectionLevel(sectionName, privilegeName);
-        }
-
-        return this.sessionLevel.get(sectionName).get(sessionName).getOrDefault(privilegeName, false);
-    }
-
-    private boolean isAllowedInSessionLevelAnySection(String sessionName, String privilegeName) {
-
-        Assumption.assertTrue(isPrivilegeNameValid(privilegeName));
-
-        Set<String> sections = new LinkedHashSet<>(this.sessionLevel.keySet());
-        sections.addAll(this.sectionLevel.keySet());
-        for (String sectionName : sections) {
-            if (isAllowedInSessionLevel(sectionName, sessionName, privilegeName)) {
-                return true;
-            }
-        }
-        return false;
-    }
-
     /**
      * Validates the privileges in course level, section level and session level.
      *
@@ -442,6 +447,7 @@ public final class InstructorPrivileges {
      * prerequisite privileges if they have not been granted yet.
      */
     public void validatePrivileges() {
+        discardCompiledPrivileges();
         if (this.courseLevel.getOrDefault(
                 Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_SESSION_COMMENT_IN_SECTIONS, false)) {
             this.courseLevel.put(Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS, true);
@@ -0,0 +1,85 @@
+package teammates.common.datatransfer;
+
+import teammates.common.datatransfer.attributes.StudentAttributes;
+
+/**
+ * Represents the outcome of enrolling a single student.
+ * <br> Contains:
+ * <br> * The status of the enrollment.
+ * <br> * The student after enrollment, or the student as requested if the enrollment failed.
+ * <br> * The student before enrollment, or null if the student is new or the enrollment failed.
+ * <br> * The reason of the failure, or null if the enrollment succeeded.
+ */
+public final class StudentEnrollDetails {
+
+    /**
+     * Status of the enrollment of a student.
+     */
+    public enum UpdateStatus {
+        /** The student is newly created. */
+        NEW,
+        /** The student already exists and has been updated. */
+        MODIFIED,
+        /** The student already exists and is identical to the one requested. */
+        UNMODIFIED,
+        /** The student cannot be enrolled. */
+        ERROR
+    }
+
+    private final UpdateStatus updateStatus;
+    private final StudentAttributes student;
+    private final StudentAttributes originalStudent;
+    private final String errorMessage;
+
+    private StudentEnrollDetails(UpdateStatus updateStatus, StudentAttributes student,
+            StudentAttributes originalStudent, String errorMessage) {
+        this.updateStatus = updateStatus;
+        this.student = student;
+        this.originalStudent = originalStudent;
+        this.errorMessage = errorMessage;
+    }
+
+    /**
+     * Creates the details of a student who is newly created.
+     */
+    public static StudentEnrollDetails created(StudentAttributes student) {
+        return new StudentEnrollDetails(UpdateStatus.NEW, student, null, null);
+    }
+
+    /**
+     * Creates the details of an existing student, who is modified if different from {@code originalStudent}.
+     */
+    public static StudentEnrollDetails updated(StudentAttributes student, StudentAttributes originalStudent,
+            boolean isModified) {
+        return new StudentEnrollDetails(isModified ? UpdateStatus.MODIFIED : UpdateStatus.UNMODIFIED,
+                student, originalStudent, null);
+    }
+
+    /**
+     * Creates the details of a student who cannot be enrolled.
+     */
+    public static StudentEnrollDetails failed(StudentAttributes student, String errorMessage) {
+        return new StudentEnrollDetails(UpdateStatus.ERROR, student, null, errorMessage);
+    }
+
+    public UpdateStatus getUpdateStatus() {
+        return updateStatus;
+    }
+
+    public StudentAttributes getStudent() {
+        return student;
+    }
+
+    public StudentAttributes getOriginalStudent() {
+        return originalStudent;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public boolean isSuccessful() {
+        return updateStatus != UpdateStatus.ERROR;
+    }
+
+}
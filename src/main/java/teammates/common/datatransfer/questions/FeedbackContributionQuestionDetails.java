@@ -182,14 +182,9 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
         Map<String, List<FeedbackResponseAttributes>> teamResponses = getTeamResponses(
                 actualResponses, bundle, teamNames);
 
-        //Get each team's submission array. -> int[teamSize][teamSize]
-        //Where int[0][1] refers points from student 0 to student 1
-        //Where student 0 is the 0th student in the list in teamMembersEmail
-        Map<String, int[][]> teamSubmissionArray = getTeamSubmissionArray(
-                teamNames, teamMembersEmail, teamResponses);
-
         //Each team's contribution question results.
-        Map<String, TeamEvalResult> teamResults = getTeamResults(teamNames, teamSubmissionArray, teamMembersEmail);
+        Map<String, TeamEvalResult> teamResults =
+                getTeamResults(bundle, question, teamNames, teamMembersEmail, teamResponses);
 
         TeamEvalResult currentUserTeamResults = teamResults.get(currentUserTeam);
         if (currentUserTeamResults == null) {
@@ -241,14 +236,9 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
         Map<String, List<FeedbackResponseAttributes>> teamResponses = getTeamResponses(
                 actualResponses, bundle, teamNames);
 
-        //Get each team's submission array. -> int[teamSize][teamSize]
-        //Where int[0][1] refers points from student 0 to student 1
-        //Where student 0 is the 0th student in the list in teamMembersEmail
-        Map<String, int[][]> teamSubmissionArray = getTeamSubmissionArray(
-                teamNames, teamMembersEmail, teamResponses);
-
         //Each team's eval results.
-        Map<String, TeamEvalResult> teamResults = getTeamResults(teamNames, teamSubmissionArray, teamMembersEmail);
+        Map<String, TeamEvalResult> teamResults =
+                getTeamResults(bundle, question, teamNames, teamMembersEmail, teamResponses);
 
         //Each person's results summary
         Map<String, StudentResultSummary> studentResults = getStudentResults(
@@ -338,14 +328,9 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
         Map<String, List<FeedbackResponseAttributes>> teamResponses = getTeamResponses(
                 actualResponses, bundle, teamNames);
 
-        //Get each team's submission array. -> int[teamSize][teamSize]
-        //Where int[0][1] refers points from student 0 to student 1
-        //Where student 0 is the 0th student in the list in teamMembersEmail
-        Map<String, int[][]> teamSubmissionArray = getTeamSubmissionArray(
-                teamNames, teamMembersEmail, teamResponses);
-
         //Each team's eval results.
-        Map<String, TeamEvalResult> teamResults = getTeamResults(teamNames, teamSubmissionArray, teamMembersEmail);
+        Map<String, TeamEvalResult> teamResults =
+                getTeamResults(bundle, question, teamNames, teamMembersEmail, teamResponses);
 
         //Each person's results summary
         Map<String, StudentResultSummary> studentResults = getStudentResults(
@@ -451,10 +436,8 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
         Map<String, List<FeedbackResponseAttributes>> teamResponses = getTeamResponses(
                 responses, bundle, teamNames);
 
-        Map<String, int[][]> teamSubmissionArray = getTeamSubmissionArray(
-                teamNames, teamMembersEmail, teamResponses);
-
-        Map<String, TeamEvalResult> teamResults = getTeamResults(teamNames, teamSubmissionArray, teamMembersEmail);
+        Map<String, TeamEvalResult> teamResults =
+                getTeamResults(bundle, question, teamNames, teamMembersEmail, teamResponses);
 
         return getStudentResults(teamMembersEmail, teamResults);
     }
@@ -480,10 +463,18 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
     }
 
     /**
-     * Returns A Map with student email as key and TeamEvalResult as value for the specified question.
+     * Returns A Map with team name as key and TeamEvalResult as value for the specified question,
+     * for each team with at least one response to the question.
+     *
+     * <p>The results are computed only the first time they are needed for the question in the bundle,
+     * as they are needed by the statistics of the question as well as by each of its responses.
      */
     Map<String, TeamEvalResult> getTeamEvalResults(FeedbackSessionResultsBundle bundle,
             FeedbackQuestionAttributes question) {
+        Map<String, TeamEvalResult> teamResults = bundle.contributionQuestionTeamEvalResults.get(question.getId());
+        if (teamResults != null) {
+            return teamResults;
+        }
 
         List<FeedbackResponseAttributes> responses = bundle.getActualResponsesSortedByGqr(question);
 
@@ -494,48 +485,66 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
         Map<String, List<FeedbackResponseAttributes>> teamResponses = getTeamResponses(
                 responses, bundle, teamNames);
 
-        Map<String, int[][]> teamSubmissionArray = getTeamSubmissionArray(
-                teamNames, teamMembersEmail, teamResponses);
-
-        return getTeamResults(teamNames, teamSubmissionArray, teamMembersEmail);
+        teamResults = new LinkedHashMap<>();
+        for (String team : teamNames) {
+            teamResults.put(team, getTeamEvalResult(teamMembersEmail.get(team), teamResponses.get(team)));
+        }
+        bundle.contributionQuestionTeamEvalResults.put(question.getId(), teamResults);
+        return teamResults;
     }
 
-    private Map<String, TeamEvalResult> getTeamResults(List<String> teamNames,
-            Map<String, int[][]> teamSubmissionArray, Map<String, List<String>> teamMembersEmail) {
+    /**
+     * Returns each team's eval results for the question.
+     *
+     * <p>The results of the teams with responses to the question are taken from {@link #getTeamEvalResults},
+     * so that they are computed only once for the question in the bundle.
+     */
+    private Map<String, TeamEvalResult> getTeamResults(FeedbackSessionResultsBundle bundle,
+            FeedbackQuestionAttributes question, List<String> teamNames, Map<String, List<String>> teamMembersEmail,
+            Map<String, List<FeedbackResponseAttributes>> teamResponses) {
+        Map<String, TeamEvalResult> computedTeamResults = getTeamEvalResults(bundle, question);
         Map<String, TeamEvalResult> teamResults = new LinkedHashMap<>();
         for (String team : teamNames) {
-            TeamEvalResult teamEvalResult = new TeamEvalResult(teamSubmissionArray.get(team));
-            teamEvalResult.studentEmails = teamMembersEmail.get(team);
+            TeamEvalResult teamEvalResult = computedTeamResults.get(team);
+            if (teamEvalResult == null) {
+                teamEvalResult = getTeamEvalResult(teamMembersEmail.get(team), teamResponses.get(team));
+            }
             teamResults.put(team, teamEvalResult);
         }
         return teamResults;
     }
 
-    private Map<String, int[][]> getTeamSubmissionArray(List<String> teamNames,
-            Map<String, List<String>> teamMembersEmail,
-            Map<String, List<FeedbackResponseAttributes>> teamResponses) {
-        Map<String, int[][]> teamSubmissionArray = new LinkedHashMap<>();
-        for (String team : teamNames) {
-            int teamSize = teamMembersEmail.get(team).size();
-            teamSubmissionArray.put(team, new int[teamSize][teamSize]);
-            //Initialize all as not submitted.
-            for (int i = 0; i < teamSize; i++) {
-                for (int j = 0; j < teamSize; j++) {
-                    teamSubmissionArray.get(team)[i][j] = Const.POINTS_NOT_SUBMITTED;
-                }
+    private TeamEvalResult getTeamEvalResult(List<String> memberEmailList,
+            List<FeedbackResponseAttributes> teamResponseList) {
+        TeamEvalResult teamEvalResult = new TeamEvalResult(getTeamSubmissionArray(memberEmailList, teamResponseList));
+        teamEvalResult.studentEmails = memberEmailList;
+        return teamEvalResult;
+    }
+
+    /**
+     * Returns the team's submission array. -> int[teamSize][teamSize]
+     * Where int[0][1] refers points from student 0 to student 1
+     * Where student 0 is the 0th student in {@code memberEmailList}
+     */
+    private int[][] getTeamSubmissionArray(List<String> memberEmailList,
+            List<FeedbackResponseAttributes> teamResponseList) {
+        int teamSize = memberEmailList.size();
+        int[][] teamSubmissionArray = new int[teamSize][teamSize];
+        //Initialize all as not submitted.
+        for (int i = 0; i < teamSize; i++) {
+            for (int j = 0; j < teamSize; j++) {
+                teamSubmissionArray[i][j] = Const.POINTS_NOT_SUBMITTED;
             }
-            //Fill in submitted points
-            List<FeedbackResponseAttributes> teamResponseList = teamResponses.get(team);
-            List<String> memberEmailList = teamMembersEmail.get(team);
-            for (FeedbackResponseAttributes response : teamResponseList) {
-                int giverIndx = memberEmailList.indexOf(response.giver);
-                int recipientIndx = memberEmailList.indexOf(response.recipient);
-                if (giverIndx == -1 || recipientIndx == -1) {
-                    continue;
-                }
-                int points = ((FeedbackContributionResponseDetails) response.getResponseDetails()).getAnswer();
-                teamSubmissionArray.get(team)[giverIndx][recipientIndx] = points;
+        }
+        //Fill in submitted points
+        for (FeedbackResponseAttributes response : teamResponseList) {
+            int giverIndx = memberEmailList.indexOf(response.giver);
+            int recipientIndx = memberEmailList.indexOf(response.recipient);
+            if (giverIndx == -1 || recipientIndx == -1) {
+                continue;
             }
+            int points = ((FeedbackContributionResponseDetails) response.getResponseDetails()).getAnswer();
+            teamSubmissionArray[giverIndx][recipientIndx] = points;
         }
         return teamSubmissionArray;
     }
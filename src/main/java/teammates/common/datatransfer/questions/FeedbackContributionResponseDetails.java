@@ -141,17 +141,15 @@ public class FeedbackContributionResponseDetails extends FeedbackResponseDetails
 
     }
 
+    /**
+     * Returns the eval results of the teams with responses to the question.
+     *
+     * <p>The results are taken from the bundle if they have already been computed for the question.
+     */
     public Map<String, TeamEvalResult> getContribQnTeamEvalResult(FeedbackQuestionAttributes question,
             FeedbackSessionResultsBundle feedbackSessionResultsBundle) {
-        Map<String, TeamEvalResult> contribQnStats =
-                feedbackSessionResultsBundle.contributionQuestionTeamEvalResults.get(question.getId());
-        if (contribQnStats == null) {
-            FeedbackContributionQuestionDetails fqcd = (FeedbackContributionQuestionDetails) question.getQuestionDetails();
-            contribQnStats = fqcd.getTeamEvalResults(feedbackSessionResultsBundle, question);
-            feedbackSessionResultsBundle.contributionQuestionTeamEvalResults.put(question.getId(), contribQnStats);
-        }
-
-        return contribQnStats;
+        FeedbackContributionQuestionDetails fqcd = (FeedbackContributionQuestionDetails) question.getQuestionDetails();
+        return fqcd.getTeamEvalResults(feedbackSessionResultsBundle, question);
     }
 
     @Override
@@ -0,0 +1,16 @@
+package teammates.common.exception;
+
+/**
+ * Runtime exception thrown when a deletion is stopped before all the entities are deleted
+ * because the request is running out of time.
+ *
+ * <p>The entities deleted so far stay deleted, so the deletion can be completed by repeating it.
+ */
+@SuppressWarnings("serial")
+public class IncompleteDeletionException extends RuntimeException {
+
+    public IncompleteDeletionException(String message) {
+        super(message);
+    }
+
+}
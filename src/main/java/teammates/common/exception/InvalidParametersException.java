@@ -22,4 +22,8 @@ public class InvalidParametersException extends Exception {
         super(cause);
     }
 
+    public InvalidParametersException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
 }
@@ -0,0 +1,120 @@
+package teammates.common.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A template whose variables, written as {@code ${variableName}}, have been located in advance,
+ * so that it can be populated in a single pass over the template.
+ *
+ * <p>Unlike {@link Templates#populateTemplate(String, String...)}, the values are not searched for variables again,
+ * and variables without a given value are kept as they are.
+ * A template can be partially populated with the values shared by many populations, for example
+ * the details of a feedback session, leaving only the variables that differ between them to be populated.
+ */
+public final class CompiledTemplate {
+
+    private static final String VARIABLE_START = "${";
+    private static final String VARIABLE_END = "}";
+
+    /** The text around the variables, which has one more element than {@link #variables}. */
+    private final String[] literals;
+
+    /** The variables in the order they appear in the template, each including its enclosing {@code ${}}. */
+    private final String[] variables;
+
+    private final int literalsLength;
+
+    private CompiledTemplate(List<String> literals, List<String> variables) {
+        this.literals = literals.toArray(new String[0]);
+        this.variables = variables.toArray(new String[0]);
+        int length = 0;
+        for (String literal : this.literals) {
+            length += literal.length();
+        }
+        this.literalsLength = length;
+    }
+
+    /**
+     * Locates the variables in the {@code template}.
+     */
+    public static CompiledTemplate compile(String template) {
+        List<String> literals = new ArrayList<>();
+        List<String> variables = new ArrayList<>();
+        int literalStart = 0;
+        int variableStart = template.indexOf(VARIABLE_START);
+        while (variableStart != -1) {
+            int variableEnd = template.indexOf(VARIABLE_END, variableStart + VARIABLE_START.length());
+            if (variableEnd == -1) {
+                break;
+            }
+            literals.add(template.substring(literalStart, variableStart));
+            variables.add(template.substring(variableStart, variableEnd + VARIABLE_END.length()));
+            literalStart = variableEnd + VARIABLE_END.length();
+            variableStart = template.indexOf(VARIABLE_START, literalStart);
+        }
+        literals.add(template.substring(literalStart));
+        return new CompiledTemplate(literals, variables);
+    }
+
+    /**
+     * Populates the template by replacing the variables with the given value strings.
+     * @param keyValuePairs Array of a variable, even number of key-value pairs:
+     *                   { "${key1}", "val1", "${key2}", "val2", ... }
+     * @return The populated template
+     */
+    public String populate(String... keyValuePairs) {
+        Map<String, String> values = toValues(keyValuePairs);
+
+        int length = literalsLength;
+        for (String variable : variables) {
+            length += values.getOrDefault(variable, variable).length();
+        }
+
+        StringBuilder populated = new StringBuilder(length);
+        populated.append(literals[0]);
+        for (int i = 0; i < variables.length; i++) {
+            populated.append(values.getOrDefault(variables[i], variables[i])).append(literals[i + 1]);
+        }
+        return populated.toString();
+    }
+
+    /**
+     * Populates the variables given in {@code keyValuePairs}, leaving the other variables to be populated later.
+     *
+     * @see #populate(String...)
+     */
+    public CompiledTemplate partiallyPopulate(String... keyValuePairs) {
+        Map<String, String> values = toValues(keyValuePairs);
+
+        List<String> newLiterals = new ArrayList<>();
+        List<String> newVariables = new ArrayList<>();
+        StringBuilder literal = new StringBuilder(literals[0]);
+        for (int i = 0; i < variables.length; i++) {
+            String value = values.get(variables[i]);
+            if (value == null) {
+                newLiterals.add(literal.toString());
+                newVariables.add(variables[i]);
+                literal.setLength(0);
+            } else {
+                literal.append(value);
+            }
+            literal.append(literals[i + 1]);
+        }
+        newLiterals.add(literal.toString());
+        return new CompiledTemplate(newLiterals, newVariables);
+    }
+
+    private static Map<String, String> toValues(String... keyValuePairs) {
+        Assumption.assertTrue("The number of elements in keyValuePairs passed in must be even",
+                keyValuePairs.length % 2 == 0);
+        Map<String, String> values = new HashMap<>();
+        for (int i = 0; i < keyValuePairs.length; i += 2) {
+            values.put(keyValuePairs[i], keyValuePairs[i + 1]);
+        }
+        return values;
+    }
+
+}
@@ -568,6 +568,8 @@ public final class Const {
         public static final String FEEDBACK_RESULTS_INDICATE_MISSING_RESPONSES = "frindicatemissingresponses";
         public static final String FEEDBACK_RESULTS_NEED_AJAX = "frneedajax";
         public static final String FEEDBACK_RESULTS_MAIN_INDEX = "frmainindex";
+        public static final String FEEDBACK_RESULTS_PAGE_SIZE = "frpagesize";
+        public static final String FEEDBACK_RESULTS_PAGE_CURSOR = "frpagecursor";
 
         public static final String PREVIEWAS = "previewas";
 
@@ -609,6 +611,7 @@ public final class Const {
         public static final String EMAIL_SENDERNAME = "sendername";
         public static final String EMAIL_SUBJECT = "subject";
         public static final String EMAIL_REPLY_TO_ADDRESS = "reply";
+        public static final String EMAIL_BATCH = "emailbatch";
 
         public static final String SEND_SUBMISSION_EMAIL = "sendsubmissionemail";
 
@@ -624,6 +627,9 @@ public final class Const {
         public static final String RESPONDENT_IS_INSTRUCTOR = "respondentisinstructor";
         public static final String RESPONDENT_IS_TO_BE_REMOVED = "respondentistoberemoved";
 
+        public static final String SEARCH_INDEX_NAME = "searchindexname";
+        public static final String SEARCH_ENTITY_IDS = "searchentityids";
+
         public static final String SESSION_LINKS_RECOVERY_EMAIL = "sessionlinksrecoveryemail";
         public static final String USER_CAPTCHA_RESPONSE = "captcharesponse";
 
@@ -823,6 +829,15 @@ public final class Const {
      */
     public static class TaskQueue {
 
+        public static final String COURSE_DELETION_QUEUE_NAME = "course-deletion-queue";
+        public static final String COURSE_DELETION_WORKER_URL = "/worker/courseDeletion";
+
+        public static final String FEEDBACK_QUESTION_DELETION_QUEUE_NAME = "feedback-question-deletion-queue";
+        public static final String FEEDBACK_QUESTION_DELETION_WORKER_URL = "/worker/feedbackQuestionDeletion";
+
+        public static final String FEEDBACK_SESSION_DELETION_QUEUE_NAME = "feedback-session-deletion-queue";
+        public static final String FEEDBACK_SESSION_DELETION_WORKER_URL = "/worker/feedbackSessionDeletion";
+
         public static final String FEEDBACK_SESSION_PUBLISHED_EMAIL_QUEUE_NAME =
                 "feedback-session-published-email-queue";
         public static final String FEEDBACK_SESSION_PUBLISHED_EMAIL_WORKER_URL =
@@ -854,8 +869,12 @@ public final class Const {
         public static final String INSTRUCTOR_COURSE_JOIN_EMAIL_QUEUE_NAME = "instructor-course-join-email-queue";
         public static final String INSTRUCTOR_COURSE_JOIN_EMAIL_WORKER_URL = "/worker/instructorCourseJoinEmail";
 
+        public static final String SEARCH_INDEXING_QUEUE_NAME = "search-indexing-queue";
+        public static final String SEARCH_INDEXING_WORKER_URL = "/worker/searchIndexing";
+
         public static final String SEND_EMAIL_QUEUE_NAME = "send-email-queue";
         public static final String SEND_EMAIL_WORKER_URL = "/worker/sendEmail";
+        public static final String SEND_EMAIL_BATCH_WORKER_URL = "/worker/sendEmailBatch";
 
         public static final String STUDENT_COURSE_JOIN_EMAIL_QUEUE_NAME = "student-course-join-email-queue";
         public static final String STUDENT_COURSE_JOIN_EMAIL_WORKER_URL = "/worker/studentCourseJoinEmail";
@@ -951,9 +970,6 @@ public final class Const {
                 "The feedback session has been deleted. You can restore it from the deleted sessions table below.";
         public static final String FEEDBACK_SESSION_RESTORED = "The feedback session has been restored.";
         public static final String FEEDBACK_SESSION_ALL_RESTORED = "All sessions have been restored.";
-        public static final String FEEDBACK_SESSION_DOWNLOAD_FILE_SIZE_EXCEEDED = "This session has more responses than "
-                + "that can be downloaded in one go. Please download responses for one question at a time instead. "
-                + "To download responses for a specific question, click on the corresponding question number.";
         public static final String FEEDBACK_SESSION_PUBLISHED =
                 "The feedback session has been published. "
                 + "Please allow up to 1 hour for all the notification emails to be sent out.";
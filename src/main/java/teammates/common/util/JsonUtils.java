@@ -1,5 +1,7 @@
 package teammates.common.util;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.lang.reflect.Type;
 import java.time.Duration;
 import java.time.Instant;
@@ -11,10 +13,12 @@ import com.google.gson.GsonBuilder;
 import com.google.gson.JsonDeserializationContext;
 import com.google.gson.JsonDeserializer;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonIOException;
 import com.google.gson.JsonParser;
 import com.google.gson.JsonPrimitive;
 import com.google.gson.JsonSerializationContext;
 import com.google.gson.JsonSerializer;
+import com.google.gson.stream.JsonWriter;
 
 import teammates.common.datatransfer.questions.FeedbackQuestionDetails;
 import teammates.common.datatransfer.questions.FeedbackQuestionType;
@@ -25,24 +29,31 @@ import teammates.common.datatransfer.questions.FeedbackResponseDetails;
  */
 public final class JsonUtils {
 
+    /**
+     * Gson object that can handle the Date format we use in the Json file
+     * and also reformat the Json string in pretty-print format.
+     *
+     * <p>Gson objects are thread-safe, so this is created once and shared.
+     */
+    private static final Gson GSON = getGsonBuilder().setPrettyPrinting().create();
+
+    /**
+     * Same as {@link #GSON}, but without any whitespace in the Json string.
+     */
+    private static final Gson COMPACT_GSON = getGsonBuilder().create();
+
     private JsonUtils() {
         // utility class
     }
 
-    /**
-     * This creates a Gson object that can handle the Date format we use in the
-     * Json file and also reformat the Json string in pretty-print format.
-     */
-    private static Gson getTeammatesGson() {
+    private static GsonBuilder getGsonBuilder() {
         return new GsonBuilder()
                 .registerTypeAdapter(Instant.class, new TeammatesInstantAdapter())
                 .registerTypeAdapter(ZoneId.class, new TeammatesZoneIdAdapter())
                 .registerTypeAdapter(Duration.class, new TeammatesDurationMinutesAdapter())
                 .registerTypeAdapter(FeedbackQuestionDetails.class, new TeammatesFeedbackQuestionDetailsAdapter())
                 .registerTypeAdapter(FeedbackResponseDetails.class, new TeammatesFeedbackResponseDetailsAdapter())
-                .setPrettyPrinting()
-                .disableHtmlEscaping()
-                .create();
+                .disableHtmlEscaping();
     }
 
     /**
@@ -51,7 +62,7 @@ public final class JsonUtils {
      * @see Gson#toJson(Object, Type)
      */
     public static String toJson(Object src, Type typeOfSrc) {
-        return getTeammatesGson().toJson(src, typeOfSrc);
+        return GSON.toJson(src, typeOfSrc);
     }
 
     /**
@@ -60,7 +71,32 @@ public final class JsonUtils {
      * @see Gson#toJson(Object)
      */
     public static String toJson(Object src) {
-        return getTeammatesGson().toJson(src);
+        return GSON.toJson(src);
+    }
+
+    /**
+     * Serializes the specified object into its equivalent JSON string without pretty-printing.
+     *
+     * @see Gson#toJson(Object)
+     */
+    public static String toCompactJson(Object src) {
+        return COMPACT_GSON.toJson(src);
+    }
+
+    /**
+     * Serializes the specified object into its equivalent JSON string without pretty-printing,
+     * writing it directly to {@code writer} instead of building the whole string in memory.
+     *
+     * @see Gson#toJson(Object, Type, JsonWriter)
+     */
+    public static void toCompactJson(Object src, Writer writer) throws IOException {
+        JsonWriter jsonWriter = COMPACT_GSON.newJsonWriter(writer);
+        try {
+            COMPACT_GSON.toJson(src, src.getClass(), jsonWriter);
+        } catch (JsonIOException e) {
+            throw new IOException(e);
+        }
+        jsonWriter.flush();
     }
 
     /**
@@ -69,7 +105,7 @@ public final class JsonUtils {
      * @see Gson#fromJson(String, Type)
      */
     public static <T> T fromJson(String json, Type typeOfT) {
-        return getTeammatesGson().fromJson(json, typeOfT);
+        return GSON.fromJson(json, typeOfT);
     }
 
     /**
@@ -86,16 +122,12 @@ public final class JsonUtils {
 
         @Override
         public JsonElement serialize(Instant instant, Type type, JsonSerializationContext context) {
-            synchronized (this) {
-                return new JsonPrimitive(DateTimeFormatter.ISO_INSTANT.format(instant));
-            }
+            return new JsonPrimitive(DateTimeFormatter.ISO_INSTANT.format(instant));
         }
 
         @Override
         public Instant deserialize(JsonElement element, Type type, JsonDeserializationContext context) {
-            synchronized (this) {
-                return Instant.parse(element.getAsString());
-            }
+            return Instant.parse(element.getAsString());
         }
     }
 
@@ -103,16 +135,12 @@ public final class JsonUtils {
 
         @Override
         public JsonElement serialize(ZoneId zoneId, Type type, JsonSerializationContext context) {
-            synchronized (this) {
-                return new JsonPrimitive(zoneId.getId());
-            }
+            return new JsonPrimitive(zoneId.getId());
         }
 
         @Override
         public ZoneId deserialize(JsonElement element, Type type, JsonDeserializationContext context) {
-            synchronized (this) {
-                return ZoneId.of(element.getAsString());
-            }
+            return ZoneId.of(element.getAsString());
         }
     }
 
@@ -120,16 +148,12 @@ public final class JsonUtils {
 
         @Override
         public JsonElement serialize(Duration duration, Type type, JsonSerializationContext context) {
-            synchronized (this) {
-                return new JsonPrimitive(duration.toMinutes());
-            }
+            return new JsonPrimitive(duration.toMinutes());
         }
 
         @Override
         public Duration deserialize(JsonElement element, Type type, JsonDeserializationContext context) {
-            synchronized (this) {
-                return Duration.ofMinutes(element.getAsLong());
-            }
+            return Duration.ofMinutes(element.getAsLong());
         }
     }
 
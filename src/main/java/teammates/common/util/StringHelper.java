@@ -27,6 +27,15 @@ import teammates.common.exception.TeammatesException;
 public final class StringHelper {
     private static final Logger log = Logger.getLogger();
 
+    /**
+     * Ciphers initialized with the encryption key, kept for each thread as creating and initializing
+     * a cipher is much more expensive than using it, and a cipher cannot be used by many threads at once.
+     */
+    private static final ThreadLocal<Cipher> ENCRYPTION_CIPHERS =
+            ThreadLocal.withInitial(() -> createCipher(Cipher.ENCRYPT_MODE));
+    private static final ThreadLocal<Cipher> DECRYPTION_CIPHERS =
+            ThreadLocal.withInitial(() -> createCipher(Cipher.DECRYPT_MODE));
+
     private StringHelper() {
         // utility class
     }
@@ -130,10 +139,7 @@ public final class StringHelper {
      */
     public static String encrypt(String value) {
         try {
-            SecretKeySpec sks = new SecretKeySpec(hexStringToByteArray(Config.ENCRYPTION_KEY), "AES");
-            Cipher cipher = Cipher.getInstance("AES/ECB/PKCS5Padding");
-            cipher.init(Cipher.ENCRYPT_MODE, sks, cipher.getParameters());
-            byte[] encrypted = cipher.doFinal(value.getBytes());
+            byte[] encrypted = ENCRYPTION_CIPHERS.get().doFinal(value.getBytes());
             return byteArrayToHexString(encrypted);
         } catch (Exception e) {
             Assumption.fail(TeammatesException.toStringWithStackTrace(e));
@@ -151,12 +157,11 @@ public final class StringHelper {
      */
     public static String decrypt(String message) throws InvalidParametersException {
         try {
-            SecretKeySpec sks = new SecretKeySpec(hexStringToByteArray(Config.ENCRYPTION_KEY), "AES");
-            Cipher cipher = Cipher.getInstance("AES/ECB/PKCS5Padding");
-            cipher.init(Cipher.DECRYPT_MODE, sks);
-            byte[] decrypted = cipher.doFinal(hexStringToByteArray(message));
+            byte[] decrypted = DECRYPTION_CIPHERS.get().doFinal(hexStringToByteArray(message));
             return new String(decrypted);
         } catch (NumberFormatException | IllegalBlockSizeException | BadPaddingException e) {
+            // discards the cipher in case the failure left it in an unusable state
+            DECRYPTION_CIPHERS.remove();
             log.warning("Attempted to decrypt invalid ciphertext: " + message);
             throw new InvalidParametersException(e);
         } catch (Exception e) {
@@ -165,6 +170,18 @@ public final class StringHelper {
         }
     }
 
+    private static Cipher createCipher(int mode) {
+        try {
+            SecretKeySpec sks = new SecretKeySpec(hexStringToByteArray(Config.ENCRYPTION_KEY), "AES");
+            Cipher cipher = Cipher.getInstance("AES/ECB/PKCS5Padding");
+            cipher.init(mode, sks);
+            return cipher;
+        } catch (Exception e) {
+            Assumption.fail(TeammatesException.toStringWithStackTrace(e));
+            return null;
+        }
+    }
+
     /**
      * Converts and concatenates a list of objects to a single string, separated by line breaks.
      * The conversion is done by using the {@link Object#toString()} method.
@@ -28,6 +28,9 @@ public final class Templates {
 
     /**
      * Collection of templates of emails to be sent by the system.
+     *
+     * <p>The templates of emails sent to every user of a course are compiled,
+     * as they are populated once for each user.
      */
     public static class EmailTemplates {
         public static final String USER_COURSE_JOIN =
@@ -42,10 +45,10 @@ public final class Templates {
                 FileHelper.readResourceFile("instructorEmailFragment-courseJoin.html");
         public static final String FRAGMENT_INSTRUCTOR_COURSE_REJOIN_AFTER_GOOGLE_ID_RESET =
                 FileHelper.readResourceFile("instructorEmailFragment-googleIdReset.html");
-        public static final String USER_FEEDBACK_SESSION =
-                FileHelper.readResourceFile("userEmailTemplate-feedbackSession.html");
-        public static final String USER_FEEDBACK_SESSION_PUBLISHED =
-                FileHelper.readResourceFile("userEmailTemplate-feedbackSessionPublished.html");
+        public static final CompiledTemplate USER_FEEDBACK_SESSION =
+                CompiledTemplate.compile(FileHelper.readResourceFile("userEmailTemplate-feedbackSession.html"));
+        public static final CompiledTemplate USER_FEEDBACK_SESSION_PUBLISHED =
+                CompiledTemplate.compile(FileHelper.readResourceFile("userEmailTemplate-feedbackSessionPublished.html"));
         public static final String USER_FEEDBACK_SUBMISSION_CONFIRMATION =
                 FileHelper.readResourceFile("userEmailTemplate-feedbackSubmissionConfirmation.html");
         public static final String FRAGMENT_SESSION_LINKS_RECOVERY_ACCESS_LINKS_BY_SESSION =
@@ -58,8 +61,8 @@ public final class Templates {
                 FileHelper.readResourceFile("sessionLinksRecoveryEmailTemplate-feedbackSessionAccessLinksNone.html");
         public static final String SESSION_LINKS_RECOVERY_EMAIL_NOT_FOUND =
                 FileHelper.readResourceFile("sessionLinksRecoveryEmailTemplate-emailNotFound.html");
-        public static final String USER_FEEDBACK_SESSION_UNPUBLISHED =
-                FileHelper.readResourceFile("userEmailTemplate-feedbackSessionUnpublished.html");
+        public static final CompiledTemplate USER_FEEDBACK_SESSION_UNPUBLISHED =
+                CompiledTemplate.compile(FileHelper.readResourceFile("userEmailTemplate-feedbackSessionUnpublished.html"));
         public static final String FRAGMENT_SINGLE_FEEDBACK_SESSION_LINKS =
                 FileHelper.readResourceFile("userEmailTemplateFragment-feedbackSessionResendAllLinks.html");
         public static final String USER_FEEDBACK_SESSION_RESEND_ALL_LINKS =
@@ -51,6 +51,25 @@ public class EmailSender {
         } catch (Exception e) {
             status = new EmailSendingStatus(HttpStatus.SC_INTERNAL_SERVER_ERROR, e.getMessage());
         }
+        logEmailSent(message, status);
+        return status;
+    }
+
+    /**
+     * Sends the given {@code messages} together, using the batch sending API of the service where available,
+     * and generates a log report for each of them.
+     *
+     * @return The HTTP status of the email request of each message, in the same order as {@code messages}.
+     */
+    public List<EmailSendingStatus> sendEmails(List<EmailWrapper> messages) {
+        List<EmailSendingStatus> statuses = service.sendEmails(messages);
+        for (int i = 0; i < messages.size(); i++) {
+            logEmailSent(messages.get(i), statuses.get(i));
+        }
+        return statuses;
+    }
+
+    private void logEmailSent(EmailWrapper message, EmailSendingStatus status) {
         if (!status.isSuccess()) {
             log.severe("Email failed to send: " + status.getMessage());
         }
@@ -59,7 +78,6 @@ public class EmailSender {
                 message.getRecipient(), message.getSubject(), message.getContent(),
                 status.getMessage() == null ? "" : status.getMessage());
         log.info(emailLogInfo);
-        return status;
     }
 
     /**
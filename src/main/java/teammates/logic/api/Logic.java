@@ -1,11 +1,14 @@
 package teammates.logic.api;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import teammates.common.datatransfer.CourseDetailsBundle;
+import teammates.common.datatransfer.CourseStructure;
 import teammates.common.datatransfer.CourseSummaryBundle;
 import teammates.common.datatransfer.DataBundle;
 import teammates.common.datatransfer.FeedbackResponseCommentSearchResultBundle;
@@ -17,6 +20,7 @@ import teammates.common.datatransfer.InstructorPrivileges;
 import teammates.common.datatransfer.InstructorSearchResultBundle;
 import teammates.common.datatransfer.SectionDetail;
 import teammates.common.datatransfer.SectionDetailsBundle;
+import teammates.common.datatransfer.StudentEnrollDetails;
 import teammates.common.datatransfer.StudentSearchResultBundle;
 import teammates.common.datatransfer.TeamDetailsBundle;
 import teammates.common.datatransfer.attributes.AccountAttributes;
@@ -319,6 +323,22 @@ public class Logic {
         return instructorsLogic.isNewInstructor(googleId);
     }
 
+    /**
+     * Updates an instructor by {@link InstructorAttributes.UpdateOptionsWithGoogleId},
+     * putting the search documents of the comments updated by the cascade before returning.
+     *
+     * <br/>Preconditions: <br/>
+     * * All parameters are non-null.
+     *
+     * @see InstructorsLogic#updateInstructorByGoogleIdCascade(InstructorAttributes.UpdateOptionsWithGoogleId)
+     */
+    public InstructorAttributes updateInstructorCascade(InstructorAttributes.UpdateOptionsWithGoogleId updateOptions)
+            throws InvalidParametersException, EntityDoesNotExistException {
+        Assumption.assertNotNull(updateOptions);
+
+        return instructorsLogic.updateInstructorByGoogleIdCascade(updateOptions);
+    }
+
     /**
      * Updates an instructor by {@link InstructorAttributes.UpdateOptionsWithGoogleId}.
      *
@@ -327,15 +347,19 @@ public class Logic {
      * <br/>Preconditions: <br/>
      * * All parameters are non-null.
      *
+     * @param commentIdsToIndex the list to add the IDs of the comments updated by the cascade to,
+     *         whose search documents are to be re-indexed
      * @return updated instructor
      * @throws InvalidParametersException if attributes to update are not valid
      * @throws EntityDoesNotExistException if the instructor cannot be found
      */
-    public InstructorAttributes updateInstructorCascade(InstructorAttributes.UpdateOptionsWithGoogleId updateOptions)
+    public InstructorAttributes updateInstructorCascade(InstructorAttributes.UpdateOptionsWithGoogleId updateOptions,
+            List<Long> commentIdsToIndex)
             throws InvalidParametersException, EntityDoesNotExistException {
         Assumption.assertNotNull(updateOptions);
+        Assumption.assertNotNull(commentIdsToIndex);
 
-        return instructorsLogic.updateInstructorByGoogleIdCascade(updateOptions);
+        return instructorsLogic.updateInstructorByGoogleIdCascade(updateOptions, commentIdsToIndex);
     }
 
     /**
@@ -597,6 +621,10 @@ public class Logic {
      *
      * <p>Fails silently if no such course.
      *
+     * <p>The course itself is deleted last. If the deletion is stopped by an
+     * {@link teammates.common.exception.IncompleteDeletionException}, the course thus remains
+     * and deleting it again continues from where the deletion stopped.
+     *
      * <br/>Preconditions: <br/>
      * * All parameters are non-null.
      */
@@ -757,6 +785,37 @@ public class Logic {
         return studentsLogic.getStudentsForCourse(courseId);
     }
 
+    /**
+     * Gets the sections, teams and students of a course.
+     *
+     * <p>Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @see StudentsLogic#getCourseStructure(String)
+     */
+    public CourseStructure getCourseStructure(String courseId) {
+        Assumption.assertNotNull(courseId);
+        return studentsLogic.getCourseStructure(courseId);
+    }
+
+    /**
+     * Starts caching values derived from the Datastore in the current thread, until {@link #endRequestCache()}.
+     *
+     * @see StudentsLogic#beginRequestCache()
+     */
+    public void beginRequestCache() {
+        studentsLogic.beginRequestCache();
+    }
+
+    /**
+     * Stops caching values derived from the Datastore in the current thread and discards the values cached.
+     *
+     * @see StudentsLogic#endRequestCache()
+     */
+    public void endRequestCache() {
+        studentsLogic.endRequestCache();
+    }
+
     /**
      * Returns a list of section names for the course with ID courseId.
      *
@@ -873,6 +932,23 @@ public class Logic {
         return studentsLogic.createStudent(student);
     }
 
+    /**
+     * Updates a student by {@link StudentAttributes.UpdateOptions},
+     * putting the search documents of the comments updated by the cascade before returning.
+     *
+     * <br/>Preconditions: <br/>
+     * * All parameters are non-null.
+     *
+     * @see StudentsLogic#updateStudentCascade(StudentAttributes.UpdateOptions)
+     */
+    public StudentAttributes updateStudentCascade(StudentAttributes.UpdateOptions updateOptions)
+            throws InvalidParametersException, EntityDoesNotExistException, EntityAlreadyExistsException {
+
+        Assumption.assertNotNull(updateOptions);
+
+        return studentsLogic.updateStudentCascade(updateOptions);
+    }
+
     /**
      * Updates a student by {@link StudentAttributes.UpdateOptions}.
      *
@@ -885,18 +961,65 @@ public class Logic {
      * <br/>Preconditions: <br/>
      * * All parameters are non-null.
      *
+     * @param commentIdsToIndex the list to add the IDs of the comments updated by the cascade to,
+     *         whose search documents are to be re-indexed
      * @return updated student
      * @throws InvalidParametersException if attributes to update are not valid
      * @throws EntityDoesNotExistException if the student cannot be found
      * @throws EntityAlreadyExistsException if the student cannot be updated
      *         by recreation because of an existent student
      */
-    public StudentAttributes updateStudentCascade(StudentAttributes.UpdateOptions updateOptions)
+    public StudentAttributes updateStudentCascade(StudentAttributes.UpdateOptions updateOptions,
+            List<Long> commentIdsToIndex)
             throws InvalidParametersException, EntityDoesNotExistException, EntityAlreadyExistsException {
 
         Assumption.assertNotNull(updateOptions);
+        Assumption.assertNotNull(commentIdsToIndex);
 
-        return studentsLogic.updateStudentCascade(updateOptions);
+        return studentsLogic.updateStudentCascade(updateOptions, commentIdsToIndex);
+    }
+
+    /**
+     * Enrolls students in a course in batch,
+     * putting the search documents of the comments updated by the cascade before returning.
+     *
+     * <br/>Preconditions: <br/>
+     * * All parameters are non-null.
+     *
+     * @see StudentsLogic#enrollStudentsCascade(String, List)
+     */
+    public List<StudentEnrollDetails> enrollStudentsCascade(String courseId, List<StudentAttributes> studentsToEnroll)
+            throws InvalidParametersException, EntityDoesNotExistException {
+        Assumption.assertNotNull(courseId);
+        Assumption.assertNotNull(studentsToEnroll);
+
+        return studentsLogic.enrollStudentsCascade(courseId, studentsToEnroll);
+    }
+
+    /**
+     * Enrolls students in a course in batch, creating the new students and updating the existing ones.
+     *
+     * <p>If team changed, cascade delete all responses the student gives/receives within that team.
+     *
+     * <p>If section changed, cascade update all responses the student gives/receives.
+     *
+     * <br/>Preconditions: <br/>
+     * * All parameters are non-null.
+     *
+     * @param commentIdsToIndex the list to add the IDs of the comments updated by the cascade to,
+     *         whose search documents are to be re-indexed
+     * @return details of the enrollment of each student, in the same order as {@code studentsToEnroll}
+     * @throws InvalidParametersException if the responses cannot be updated
+     * @throws EntityDoesNotExistException if the responses to update cannot be found
+     */
+    public List<StudentEnrollDetails> enrollStudentsCascade(String courseId, List<StudentAttributes> studentsToEnroll,
+            List<Long> commentIdsToIndex)
+            throws InvalidParametersException, EntityDoesNotExistException {
+        Assumption.assertNotNull(courseId);
+        Assumption.assertNotNull(studentsToEnroll);
+        Assumption.assertNotNull(commentIdsToIndex);
+
+        return studentsLogic.enrollStudentsCascade(courseId, studentsToEnroll, commentIdsToIndex);
     }
 
     /**
@@ -934,6 +1057,32 @@ public class Logic {
         return feedbackSessionsLogic.isFeedbackSessionCompletedByStudent(fsa, userEmail);
     }
 
+    /**
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @see FeedbackSessionsLogic#getStudentsYetToRespond(FeedbackSessionAttributes, List)
+     */
+    public List<StudentAttributes> getStudentsYetToRespond(FeedbackSessionAttributes fsa,
+            List<StudentAttributes> students) {
+        Assumption.assertNotNull(fsa);
+        Assumption.assertNotNull(students);
+        return feedbackSessionsLogic.getStudentsYetToRespond(fsa, students);
+    }
+
+    /**
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @see FeedbackSessionsLogic#getInstructorsYetToRespond(FeedbackSessionAttributes, List)
+     */
+    public List<InstructorAttributes> getInstructorsYetToRespond(FeedbackSessionAttributes fsa,
+            List<InstructorAttributes> instructors) {
+        Assumption.assertNotNull(fsa);
+        Assumption.assertNotNull(instructors);
+        return feedbackSessionsLogic.getInstructorsYetToRespond(fsa, instructors);
+    }
+
     /**
      * Deletes a student cascade its associated feedback responses and comments.
      *
@@ -1004,6 +1153,17 @@ public class Logic {
         studentsLogic.putDocuments(students);
     }
 
+    /**
+     * Batch creates or updates search documents for the students with the given IDs.
+     *
+     * @see StudentsLogic#putDocumentsForIds(List)
+     */
+    public void putStudentDocumentsForIds(List<String> studentIds) {
+        Assumption.assertNotNull(studentIds);
+
+        studentsLogic.putDocumentsForIds(studentIds);
+    }
+
     /**
      * Generates students list of a course in CSV format. <br>
      * Preconditions: <br>
@@ -1280,6 +1440,29 @@ public class Logic {
                 questionId, isMissingResponsesShown, isStatsShown);
     }
 
+    /**
+     * Writes summary results (without comments) in CSV format to {@code writer}, one question at a time. <br>
+     * Preconditions: <br>
+     * * All parameters(except section and questionId) are non-null. <br>
+     * @see FeedbackSessionsLogic#writeFeedbackSessionResultsSummaryInSectionAsCsv(String, String, String,
+     *      String, SectionDetail, String, boolean, boolean, Writer)
+     */
+    public void writeFeedbackSessionResultSummaryInSectionAsCsv(
+            String courseId, String feedbackSessionName, String instructorEmail, String section,
+            SectionDetail sectionDetail, String questionId, boolean isMissingResponsesShown, boolean isStatsShown,
+            Writer writer)
+            throws EntityDoesNotExistException, IOException {
+
+        Assumption.assertNotNull(courseId);
+        Assumption.assertNotNull(feedbackSessionName);
+        Assumption.assertNotNull(sectionDetail);
+        Assumption.assertNotNull(writer);
+
+        feedbackSessionsLogic.writeFeedbackSessionResultsSummaryInSectionAsCsv(
+                feedbackSessionName, courseId, instructorEmail, section, sectionDetail,
+                questionId, isMissingResponsesShown, isStatsShown, writer);
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -1422,6 +1605,10 @@ public class Logic {
     /**
      * Deletes a feedback session cascade to its associated questions, responses and comments.
      *
+     * <p>The session itself is deleted last. If the deletion is stopped by an
+     * {@link teammates.common.exception.IncompleteDeletionException}, the session thus remains
+     * and deleting it again continues from where the deletion stopped.
+     *
      * <br/>Preconditions: <br/>
      * * All parameters are non-null.
      */
@@ -1512,6 +1699,10 @@ public class Logic {
      *
      * <p>The respondent lists will also be updated due the deletion of question.
      *
+     * <p>The question itself is deleted after its responses. If the deletion is stopped by an
+     * {@link teammates.common.exception.IncompleteDeletionException}, the question thus remains
+     * and deleting it again continues from where the deletion stopped.
+     *
      * <br/>Preconditions: <br/>
      * * All parameters are non-null.
      */
@@ -1590,6 +1781,31 @@ public class Logic {
         return feedbackSessionsLogic.getFeedbackSessionResultsForStudent(feedbackSessionName, courseId, userEmail);
     }
 
+    /**
+     * Gets a question+response bundle for one page of the responses of a feedback session
+     * that are visible to the instructor. Pages are ordered by question, giver and then recipient.
+     * Preconditions: <br>
+     * * All parameters except {@code cursor} are non-null. <br>
+     * * {@code pageSize} is positive.
+     *
+     * @param cursor the cursor of the page, as returned with the previous page; null for the first page
+     * @return the bundle of the page, whose {@link FeedbackSessionResultsBundle#getNextPageCursor()}
+     *         is null for the last page
+     * @throws InvalidParametersException if the cursor is malformed
+     */
+    public FeedbackSessionResultsBundle getFeedbackSessionResultsForInstructorInPage(
+            String feedbackSessionName, String courseId, String userEmail, String cursor, int pageSize)
+            throws EntityDoesNotExistException, InvalidParametersException {
+
+        Assumption.assertNotNull(feedbackSessionName);
+        Assumption.assertNotNull(courseId);
+        Assumption.assertNotNull(userEmail);
+        Assumption.assertTrue(pageSize > 0);
+
+        return feedbackSessionsLogic.getFeedbackSessionResultsForInstructorInPage(
+                feedbackSessionName, courseId, userEmail, cursor, pageSize);
+    }
+
     /**
      * Gets a question+response bundle for questions with responses that
      * is visible to the instructor for a feedback session within the given range
@@ -1809,6 +2025,22 @@ public class Logic {
         return feedbackSessionsLogic.isOpenOrPublishedEmailSentForTheCourse(courseId);
     }
 
+    /**
+     * Updates a feedback response by {@link FeedbackResponseAttributes.UpdateOptions},
+     * putting the search documents of the comments updated by the cascade before returning.
+     *
+     * <br/>Preconditions: <br/>
+     * * All parameters are non-null.
+     *
+     * @see FeedbackResponsesLogic#updateFeedbackResponseCascade(FeedbackResponseAttributes.UpdateOptions)
+     */
+    public FeedbackResponseAttributes updateFeedbackResponseCascade(FeedbackResponseAttributes.UpdateOptions updateOptions)
+            throws InvalidParametersException, EntityDoesNotExistException, EntityAlreadyExistsException {
+        Assumption.assertNotNull(updateOptions);
+
+        return feedbackResponsesLogic.updateFeedbackResponseCascade(updateOptions);
+    }
+
     /**
      * Updates a feedback response by {@link FeedbackResponseAttributes.UpdateOptions}.
      *
@@ -1821,17 +2053,62 @@ public class Logic {
      * <br/>Preconditions: <br/>
      * * All parameters are non-null.
      *
+     * @param commentIdsToIndex the list to add the IDs of the comments updated by the cascade to,
+     *         whose search documents are to be re-indexed
      * @return updated feedback response
      * @throws InvalidParametersException if attributes to update are not valid
      * @throws EntityDoesNotExistException if the comment cannot be found
      * @throws EntityAlreadyExistsException if the response cannot be updated
      *         by recreation because of an existent response
      */
-    public FeedbackResponseAttributes updateFeedbackResponseCascade(FeedbackResponseAttributes.UpdateOptions updateOptions)
+    public FeedbackResponseAttributes updateFeedbackResponseCascade(FeedbackResponseAttributes.UpdateOptions updateOptions,
+            List<Long> commentIdsToIndex)
             throws InvalidParametersException, EntityDoesNotExistException, EntityAlreadyExistsException {
         Assumption.assertNotNull(updateOptions);
+        Assumption.assertNotNull(commentIdsToIndex);
 
-        return feedbackResponsesLogic.updateFeedbackResponseCascade(updateOptions);
+        return feedbackResponsesLogic.updateFeedbackResponseCascade(updateOptions, commentIdsToIndex);
+    }
+
+    /**
+     * Updates the responses of a giver to a question to be the given responses, cascading to their comments,
+     * and puts the search documents of the comments updated before returning.
+     *
+     * <br/>Preconditions: <br/>
+     * * All parameters are non-null.
+     *
+     * @see FeedbackResponsesLogic#updateFeedbackResponsesFromGiverForQuestionCascade(String, String, List)
+     */
+    public List<FeedbackResponseAttributes> updateFeedbackResponsesFromGiverForQuestionCascade(
+            String feedbackQuestionId, String giver, List<FeedbackResponseAttributes> responses)
+            throws InvalidParametersException {
+        Assumption.assertNotNull(feedbackQuestionId);
+        Assumption.assertNotNull(giver);
+        Assumption.assertNotNull(responses);
+
+        return feedbackResponsesLogic.updateFeedbackResponsesFromGiverForQuestionCascade(
+                feedbackQuestionId, giver, responses);
+    }
+
+    /**
+     * Updates the responses of a giver to a question to be the given responses, cascading to their comments.
+     *
+     * <br/>Preconditions: <br/>
+     * * All parameters are non-null.
+     *
+     * @see FeedbackResponsesLogic#updateFeedbackResponsesFromGiverForQuestionCascade(String, String, List, List)
+     */
+    public List<FeedbackResponseAttributes> updateFeedbackResponsesFromGiverForQuestionCascade(
+            String feedbackQuestionId, String giver, List<FeedbackResponseAttributes> responses,
+            List<Long> commentIdsToIndex)
+            throws InvalidParametersException {
+        Assumption.assertNotNull(feedbackQuestionId);
+        Assumption.assertNotNull(giver);
+        Assumption.assertNotNull(responses);
+        Assumption.assertNotNull(commentIdsToIndex);
+
+        return feedbackResponsesLogic.updateFeedbackResponsesFromGiverForQuestionCascade(
+                feedbackQuestionId, giver, responses, commentIdsToIndex);
     }
 
     /**
@@ -1905,6 +2182,17 @@ public class Logic {
         feedbackResponseCommentsLogic.putDocuments(comments);
     }
 
+    /**
+     * Batch creates or updates documents for the comments with the given IDs.
+     *
+     * @see FeedbackResponseCommentsLogic#putDocumentsForIds(List)
+     */
+    public void putFeedbackResponseCommentDocumentsForIds(List<Long> commentIds) {
+        Assumption.assertNotNull(commentIds);
+
+        feedbackResponseCommentsLogic.putDocumentsForIds(commentIds);
+    }
+
     /**
      * Search for FeedbackResponseComment. Preconditions: all parameters are non-null.
      * @param instructors   a list of InstructorAttributes associated to a googleId,
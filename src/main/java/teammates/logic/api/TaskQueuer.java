@@ -1,12 +1,18 @@
 package teammates.logic.api;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.Const.SearchIndex;
 import teammates.common.util.Const.TaskQueue;
 import teammates.common.util.EmailWrapper;
+import teammates.common.util.JsonUtils;
 import teammates.common.util.Logger;
 import teammates.common.util.TaskWrapper;
 import teammates.logic.core.TaskQueuesLogic;
@@ -18,6 +24,19 @@ public class TaskQueuer {
 
     private static final Logger log = Logger.getLogger();
 
+    private static final int SEARCH_INDEXING_BATCH_SIZE = 200;
+
+    /**
+     * Maximum number of emails sent by one task.
+     */
+    private static final int EMAIL_BATCH_SIZE = 50;
+
+    /**
+     * Maximum length of the JSON of the emails sent by one task, which keeps the task within the 1MB size limit
+     * of the task queue even after the JSON is URL-encoded, which may triple its length.
+     */
+    private static final int MAX_EMAIL_BATCH_JSON_LENGTH = 300 * 1024;
+
     // The following methods are facades to the actual logic for adding tasks to the queue.
     // Using this method, the actual logic can still be black-boxed
     // while at the same time allowing this API to be mocked during test.
@@ -192,6 +211,49 @@ public class TaskQueuer {
                 TaskQueue.STUDENT_COURSE_JOIN_EMAIL_WORKER_URL, paramMap);
     }
 
+    /**
+     * Schedules for the deletion of a course to be continued, e.g. after a request ran out of time
+     * before the course could be deleted.
+     *
+     * @param courseId the ID of the course to delete
+     */
+    public void scheduleCourseDeletion(String courseId) {
+        Map<String, String> paramMap = new HashMap<>();
+        paramMap.put(ParamsNames.COURSE_ID, courseId);
+
+        addTask(TaskQueue.COURSE_DELETION_QUEUE_NAME, TaskQueue.COURSE_DELETION_WORKER_URL, paramMap);
+    }
+
+    /**
+     * Schedules for the deletion of a feedback session to be continued, e.g. after a request ran out of time
+     * before the session could be deleted.
+     *
+     * @param courseId the ID of the course of the session
+     * @param feedbackSessionName the name of the session to delete
+     */
+    public void scheduleFeedbackSessionDeletion(String courseId, String feedbackSessionName) {
+        Map<String, String> paramMap = new HashMap<>();
+        paramMap.put(ParamsNames.COURSE_ID, courseId);
+        paramMap.put(ParamsNames.FEEDBACK_SESSION_NAME, feedbackSessionName);
+
+        addTask(TaskQueue.FEEDBACK_SESSION_DELETION_QUEUE_NAME, TaskQueue.FEEDBACK_SESSION_DELETION_WORKER_URL,
+                paramMap);
+    }
+
+    /**
+     * Schedules for the deletion of a feedback question to be continued, e.g. after a request ran out of time
+     * before the question could be deleted.
+     *
+     * @param feedbackQuestionId the ID of the question to delete
+     */
+    public void scheduleFeedbackQuestionDeletion(String feedbackQuestionId) {
+        Map<String, String> paramMap = new HashMap<>();
+        paramMap.put(ParamsNames.FEEDBACK_QUESTION_ID, feedbackQuestionId);
+
+        addTask(TaskQueue.FEEDBACK_QUESTION_DELETION_QUEUE_NAME, TaskQueue.FEEDBACK_QUESTION_DELETION_WORKER_URL,
+                paramMap);
+    }
+
     /**
      * Schedules adjustments to be done for the respondents of a feedback session.
      */
@@ -208,9 +270,46 @@ public class TaskQueuer {
                 TaskQueue.FEEDBACK_SESSION_UPDATE_RESPONDENT_WORKER_URL, paramMap);
     }
 
+    /**
+     * Schedules for the search documents of the given entities to be created or updated.
+     *
+     * <p>Each entity is indexed once only even if its ID is repeated, and the entities are split into tasks
+     * of at most {@value #SEARCH_INDEXING_BATCH_SIZE} entities, which are indexed in a single batch each.
+     *
+     * @param indexName the name of the search index, as defined in {@link teammates.common.util.Const.SearchIndex}
+     * @param entityIds the IDs of the entities to index
+     */
+    public void scheduleSearchIndexing(String indexName, Collection<String> entityIds) {
+        List<String> distinctEntityIds = new ArrayList<>(new LinkedHashSet<>(entityIds));
+        for (int i = 0; i < distinctEntityIds.size(); i += SEARCH_INDEXING_BATCH_SIZE) {
+            List<String> entityIdsInBatch =
+                    distinctEntityIds.subList(i, Math.min(i + SEARCH_INDEXING_BATCH_SIZE, distinctEntityIds.size()));
+
+            Map<String, String[]> paramMap = new HashMap<>();
+            paramMap.put(ParamsNames.SEARCH_INDEX_NAME, new String[] { indexName });
+            paramMap.put(ParamsNames.SEARCH_ENTITY_IDS, entityIdsInBatch.toArray(new String[0]));
+
+            addTaskMultisetParam(TaskQueue.SEARCH_INDEXING_QUEUE_NAME, TaskQueue.SEARCH_INDEXING_WORKER_URL, paramMap);
+        }
+    }
+
+    /**
+     * Schedules for the search documents of the given feedback response comments to be created or updated.
+     *
+     * @see #scheduleSearchIndexing(String, Collection)
+     */
+    public void scheduleFeedbackResponseCommentsSearchIndexing(Collection<Long> commentIds) {
+        scheduleSearchIndexing(SearchIndex.FEEDBACK_RESPONSE_COMMENT,
+                commentIds.stream().map(String::valueOf).collect(Collectors.toList()));
+    }
+
     /**
      * Schedules for the given list of emails to be sent.
      *
+     * <p>The emails are sent in batches of up to {@value #EMAIL_BATCH_SIZE} emails per task,
+     * and of up to {@value #MAX_EMAIL_BATCH_JSON_LENGTH} characters of JSON per task, except for
+     * an email longer than that, which is sent by a task of its own.
+     *
      * @param emails the list of emails to be sent
      */
     public void scheduleEmailsForSending(List<EmailWrapper> emails) {
@@ -223,40 +322,39 @@ public class TaskQueuer {
         int oneHourInMillis = 60 * 60 * 1000;
         int emailIntervalMillis = Math.min(5000, oneHourInMillis / emails.size());
 
-        int numberOfEmailsSent = 0;
-        for (EmailWrapper email : emails) {
-            long emailDelayTimer = numberOfEmailsSent * emailIntervalMillis;
-            scheduleEmailForSending(email, emailDelayTimer);
-            numberOfEmailsSent++;
+        int batchStart = 0;
+        List<String> batchJsons = new ArrayList<>();
+        int batchJsonLength = 0;
+        for (int i = 0; i < emails.size(); i++) {
+            String emailJson = JsonUtils.toCompactJson(emails.get(i));
+            boolean isBatchFull = batchJsons.size() == EMAIL_BATCH_SIZE
+                    || batchJsonLength + emailJson.length() + 1 > MAX_EMAIL_BATCH_JSON_LENGTH;
+            if (!batchJsons.isEmpty() && isBatchFull) {
+                scheduleEmailBatchForSending(emails.subList(batchStart, i), batchJsons,
+                        (long) batchStart * emailIntervalMillis);
+                batchStart = i;
+                batchJsons = new ArrayList<>();
+                batchJsonLength = 0;
+            }
+            batchJsons.add(emailJson);
+            // each email after the first is preceded by a comma
+            batchJsonLength += emailJson.length() + 1;
         }
+        scheduleEmailBatchForSending(emails.subList(batchStart, emails.size()), batchJsons,
+                (long) batchStart * emailIntervalMillis);
     }
 
-    private void scheduleEmailForSending(EmailWrapper email, long emailDelayTimer) {
-        String emailSubject = email.getSubject();
-        String emailSenderName = email.getSenderName();
-        String emailSender = email.getSenderEmail();
-        String emailReceiver = email.getRecipient();
-        String emailReplyToAddress = email.getReplyTo();
+    private void scheduleEmailBatchForSending(List<EmailWrapper> emails, List<String> emailJsons, long emailDelayTimer) {
         try {
             Map<String, String> paramMap = new HashMap<>();
-            paramMap.put(ParamsNames.EMAIL_SUBJECT, emailSubject);
-            paramMap.put(ParamsNames.EMAIL_CONTENT, email.getContent());
-            paramMap.put(ParamsNames.EMAIL_SENDER, emailSender);
-            if (emailSenderName != null && !emailSenderName.isEmpty()) {
-                paramMap.put(ParamsNames.EMAIL_SENDERNAME, emailSenderName);
-            }
-            paramMap.put(ParamsNames.EMAIL_RECEIVER, emailReceiver);
-            paramMap.put(ParamsNames.EMAIL_REPLY_TO_ADDRESS, emailReplyToAddress);
+            paramMap.put(ParamsNames.EMAIL_BATCH, "[" + String.join(",", emailJsons) + "]");
 
-            addDeferredTask(TaskQueue.SEND_EMAIL_QUEUE_NAME, TaskQueue.SEND_EMAIL_WORKER_URL,
+            addDeferredTask(TaskQueue.SEND_EMAIL_QUEUE_NAME, TaskQueue.SEND_EMAIL_BATCH_WORKER_URL,
                             paramMap, emailDelayTimer);
         } catch (Exception e) {
-            log.severe("Error when adding email to task queue: " + e.getMessage() + "\n"
-                       + "Email sender: " + emailSender + "\n"
-                       + "Email sender name: " + emailSenderName + "\n"
-                       + "Email receiver: " + emailReceiver + "\n"
-                       + "Email subject: " + emailSubject + "\n"
-                       + "Email reply-to address: " + emailReplyToAddress);
+            log.severe("Error when adding emails to task queue: " + e.getMessage() + "\n"
+                       + "Email receivers: "
+                       + emails.stream().map(EmailWrapper::getRecipient).collect(Collectors.joining(", ")));
         }
     }
 
@@ -3,14 +3,13 @@ package teammates.logic.core;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 import teammates.common.datatransfer.AttributesDeletionQuery;
 import teammates.common.datatransfer.CourseDetailsBundle;
+import teammates.common.datatransfer.CourseStructure;
 import teammates.common.datatransfer.CourseSummaryBundle;
 import teammates.common.datatransfer.FeedbackSessionDetailsBundle;
 import teammates.common.datatransfer.InstructorPrivileges;
@@ -32,6 +31,7 @@ import teammates.common.util.Logger;
 import teammates.common.util.SanitizationHelper;
 import teammates.common.util.StringHelper;
 import teammates.storage.api.CoursesDb;
+import teammates.storage.api.PendingResult;
 
 /**
  * Handles operations related to courses.
@@ -130,6 +130,20 @@ public final class CoursesLogic {
         return coursesDb.getCourse(courseId);
     }
 
+    /**
+     * Starts loading the course with the specified ID.
+     */
+    public PendingResult<CourseAttributes> getCourseAsync(String courseId) {
+        return coursesDb.getCourseAsync(courseId);
+    }
+
+    /**
+     * Starts loading the courses with the specified IDs in a single batch.
+     */
+    public PendingResult<List<CourseAttributes>> getCoursesAsync(List<String> courseIds) {
+        return coursesDb.getCoursesAsync(courseIds);
+    }
+
     /**
      * Returns true if the course with ID courseId is present.
      */
@@ -168,40 +182,27 @@ public final class CoursesLogic {
             throw new EntityDoesNotExistException("Student with Google ID " + googleId + " does not exist");
         }
 
-        List<CourseAttributes> courseList = getCoursesForStudentAccount(googleId);
+        List<CourseAttributes> courseList = getCoursesForStudents(studentDataList);
         CourseAttributes.sortById(courseList);
-        List<CourseDetailsBundle> courseDetailsList = new ArrayList<>();
-
-        for (CourseAttributes c : courseList) {
 
-            StudentAttributes s = studentsLogic.getStudentForCourseIdAndGoogleId(c.getId(), googleId);
-
-            if (s == null) {
-                //TODO Remove excessive logging after the reason why s can be null is found
-                StringBuilder logMsgBuilder = new StringBuilder();
-                String logMsg = "Student is null in CoursesLogic.getCourseDetailsListForStudent(String googleId)"
-                        + "<br> Student Google ID: "
-                        + googleId + "<br> Course: " + c.getId()
-                        + "<br> All Courses Retrieved using the Google ID:";
-                logMsgBuilder.append(logMsg);
-                for (CourseAttributes course : courseList) {
-                    logMsgBuilder.append("<br>").append(course.getId());
-                }
-                log.severe(logMsgBuilder.toString());
-
-                //TODO Failing might not be the best course of action here.
-                //Maybe throw a custom exception and tell user to wait due to eventual consistency?
-                Assumption.fail("Student should not be null at this point.");
-            }
+        Map<String, String> studentEmailsByCourseId = new HashMap<>();
+        for (StudentAttributes student : studentDataList) {
+            studentEmailsByCourseId.put(student.course, student.email);
+        }
+        studentEmailsByCourseId.keySet().retainAll(courseList.stream()
+                .map(CourseAttributes::getId)
+                .collect(Collectors.toSet()));
 
-            // Skip the course existence check since the course ID is obtained from a
-            // valid CourseAttributes resulting from query
-            List<FeedbackSessionAttributes> feedbackSessionList =
-                    feedbackSessionsLogic.getFeedbackSessionsForUserInCourseSkipCheck(c.getId(), s.email);
+        // Skip the course existence check since the course IDs are obtained from
+        // valid CourseAttributes resulting from query
+        Map<String, List<FeedbackSessionAttributes>> feedbackSessionsByCourseId =
+                feedbackSessionsLogic.getFeedbackSessionsForUsersInCoursesSkipCheck(studentEmailsByCourseId);
 
+        List<CourseDetailsBundle> courseDetailsList = new ArrayList<>();
+        for (CourseAttributes c : courseList) {
             CourseDetailsBundle cdd = new CourseDetailsBundle(c);
 
-            for (FeedbackSessionAttributes fs : feedbackSessionList) {
+            for (FeedbackSessionAttributes fs : feedbackSessionsByCourseId.get(c.getId())) {
                 cdd.feedbackSessions.add(new FeedbackSessionDetailsBundle(fs));
             }
 
@@ -218,19 +219,7 @@ public final class CoursesLogic {
     public List<String> getSectionsNameForCourse(String courseId) throws EntityDoesNotExistException {
         verifyCourseIsPresent(courseId);
 
-        List<StudentAttributes> studentDataList = studentsLogic.getStudentsForCourse(courseId);
-
-        Set<String> sectionNameSet = new HashSet<>();
-        for (StudentAttributes sd : studentDataList) {
-            if (!sd.section.equals(Const.DEFAULT_SECTION)) {
-                sectionNameSet.add(sd.section);
-            }
-        }
-
-        List<String> sectionNameList = new ArrayList<>(sectionNameSet);
-        sectionNameList.sort(null);
-
-        return sectionNameList;
+        return studentsLogic.getCourseStructure(courseId).getSectionNames();
     }
 
     /**
@@ -243,63 +232,14 @@ public final class CoursesLogic {
     public List<SectionDetailsBundle> getSectionsForCourse(CourseAttributes course, CourseDetailsBundle cdd) {
         Assumption.assertNotNull("Course is null", course);
 
-        List<StudentAttributes> students = studentsLogic.getStudentsForCourse(course.getId());
-        StudentAttributes.sortBySectionName(students);
-
-        List<SectionDetailsBundle> sections = new ArrayList<>();
-
-        SectionDetailsBundle section = null;
-        int teamIndexWithinSection = 0;
-
-        for (int i = 0; i < students.size(); i++) {
-
-            StudentAttributes s = students.get(i);
-            cdd.stats.studentsTotal++;
-            if (!s.isRegistered()) {
-                cdd.stats.unregisteredTotal++;
-            }
-
-            if (section == null) { // First student of first section
-                section = new SectionDetailsBundle();
-                section.name = s.section;
-                section.teams.add(new TeamDetailsBundle());
-                cdd.stats.teamsTotal++;
-                section.teams.get(teamIndexWithinSection).name = s.team;
-                section.teams.get(teamIndexWithinSection).students.add(s);
-            } else if (s.section.equals(section.name)) {
-                if (s.team.equals(section.teams.get(teamIndexWithinSection).name)) {
-                    section.teams.get(teamIndexWithinSection).students.add(s);
-                } else {
-                    teamIndexWithinSection++;
-                    section.teams.add(new TeamDetailsBundle());
-                    cdd.stats.teamsTotal++;
-                    section.teams.get(teamIndexWithinSection).name = s.team;
-                    section.teams.get(teamIndexWithinSection).students.add(s);
-                }
-            } else { // first student of subsequent section
-                sections.add(section);
-                if (!section.name.equals(Const.DEFAULT_SECTION)) {
-                    cdd.stats.sectionsTotal++;
-                }
-                teamIndexWithinSection = 0;
-                section = new SectionDetailsBundle();
-                section.name = s.section;
-                section.teams.add(new TeamDetailsBundle());
-                cdd.stats.teamsTotal++;
-                section.teams.get(teamIndexWithinSection).name = s.team;
-                section.teams.get(teamIndexWithinSection).students.add(s);
-            }
+        CourseStructure structure = studentsLogic.getCourseStructure(course.getId());
 
-            boolean isLastStudent = i == students.size() - 1;
-            if (isLastStudent) {
-                sections.add(section);
-                if (!section.name.equals(Const.DEFAULT_SECTION)) {
-                    cdd.stats.sectionsTotal++;
-                }
-            }
-        }
+        cdd.stats.studentsTotal += structure.getStudentsTotal();
+        cdd.stats.unregisteredTotal += structure.getUnregisteredTotal();
+        cdd.stats.teamsTotal += structure.getTeamsTotal();
+        cdd.stats.sectionsTotal += structure.getSectionsTotal();
 
-        return sections;
+        return structure.getSections();
     }
 
     /**
@@ -310,49 +250,7 @@ public final class CoursesLogic {
 
         verifyCourseIsPresent(courseId);
 
-        List<StudentAttributes> students = studentsLogic.getStudentsForCourse(courseId);
-        StudentAttributes.sortBySectionName(students);
-
-        List<SectionDetailsBundle> sections = new ArrayList<>();
-
-        SectionDetailsBundle section = null;
-        int teamIndexWithinSection = 0;
-
-        for (int i = 0; i < students.size(); i++) {
-            StudentAttributes s = students.get(i);
-
-            if (section == null) { // First student of first section
-                section = new SectionDetailsBundle();
-                section.name = s.section;
-                section.teams.add(new TeamDetailsBundle());
-                section.teams.get(teamIndexWithinSection).name = s.team;
-                section.teams.get(teamIndexWithinSection).students.add(s);
-            } else if (s.section.equals(section.name)) {
-                if (s.team.equals(section.teams.get(teamIndexWithinSection).name)) {
-                    section.teams.get(teamIndexWithinSection).students.add(s);
-                } else {
-                    teamIndexWithinSection++;
-                    section.teams.add(new TeamDetailsBundle());
-                    section.teams.get(teamIndexWithinSection).name = s.team;
-                    section.teams.get(teamIndexWithinSection).students.add(s);
-                }
-            } else { // first student of subsequent section
-                sections.add(section);
-                teamIndexWithinSection = 0;
-                section = new SectionDetailsBundle();
-                section.name = s.section;
-                section.teams.add(new TeamDetailsBundle());
-                section.teams.get(teamIndexWithinSection).name = s.team;
-                section.teams.get(teamIndexWithinSection).students.add(s);
-            }
-
-            boolean isLastStudent = i == students.size() - 1;
-            if (isLastStudent) {
-                sections.add(section);
-            }
-        }
-
-        return sections;
+        return studentsLogic.getCourseStructure(courseId).getSections();
     }
 
     /**
@@ -368,38 +266,7 @@ public final class CoursesLogic {
             throw new EntityDoesNotExistException("The course " + courseId + " does not exist");
         }
 
-        List<StudentAttributes> students = studentsLogic.getStudentsForCourse(courseId);
-        StudentAttributes.sortByTeamName(students);
-
-        List<TeamDetailsBundle> teams = new ArrayList<>();
-
-        TeamDetailsBundle team = null;
-
-        for (int i = 0; i < students.size(); i++) {
-
-            StudentAttributes s = students.get(i);
-
-            // first student of first team
-            if (team == null) {
-                team = new TeamDetailsBundle();
-                team.name = s.team;
-                team.students.add(s);
-            } else if (s.team.equals(team.name)) { // student in the same team as the previous student
-                team.students.add(s);
-            } else { // first student of subsequent teams (not the first team)
-                teams.add(team);
-                team = new TeamDetailsBundle();
-                team.name = s.team;
-                team.students.add(s);
-            }
-
-            // if last iteration
-            if (i == students.size() - 1) {
-                teams.add(team);
-            }
-        }
-
-        return teams;
+        return studentsLogic.getCourseStructure(courseId).getTeams();
     }
 
     /**
@@ -467,14 +334,20 @@ public final class CoursesLogic {
      * @param googleId The Google ID of the student
      */
     public List<CourseAttributes> getCoursesForStudentAccount(String googleId) {
-        List<StudentAttributes> studentDataList = studentsLogic.getStudentsForGoogleId(googleId);
+        return getCoursesForStudents(studentsLogic.getStudentsForGoogleId(googleId));
+    }
 
-        List<String> courseIds = studentDataList.stream()
-                .filter(student -> !getCourse(student.course).isCourseDeleted())
+    /**
+     * Returns the courses of the given students, except for courses in recycle bin.
+     */
+    private List<CourseAttributes> getCoursesForStudents(List<StudentAttributes> students) {
+        List<String> courseIds = students.stream()
                 .map(StudentAttributes::getCourse)
                 .collect(Collectors.toList());
 
-        return coursesDb.getCourses(courseIds);
+        return coursesDb.getCourses(courseIds).stream()
+                .filter(course -> !course.isCourseDeleted())
+                .collect(Collectors.toList());
     }
 
     /**
@@ -653,6 +526,10 @@ public final class CoursesLogic {
      * Deletes a course cascade its students, instructors, sessions, responses and comments.
      *
      * <p>Fails silently if no such course.
+     *
+     * <p>The course itself is deleted last. If the deletion is stopped by an
+     * {@link teammates.common.exception.IncompleteDeletionException}, the course thus remains
+     * and deleting it again continues from where the deletion stopped.
      */
     public void deleteCourseCascade(String courseId) {
         if (getCourse(courseId) == null) {
@@ -1,5 +1,10 @@
 package teammates.logic.core;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.http.HttpStatus;
+
 import teammates.common.util.EmailSendingStatus;
 import teammates.common.util.EmailWrapper;
 
@@ -23,4 +28,31 @@ public abstract class EmailSenderService {
     // accounts for the many different Exceptions from different email services
     public abstract EmailSendingStatus sendEmail(EmailWrapper wrapper) throws Exception;
 
+    /**
+     * Sends the emails packaged as {@code wrappers}.
+     *
+     * <p>The emails are sent one by one by default.
+     * Services with a batch sending API should override this to send many emails per request.
+     *
+     * @return the status of sending each email, in the same order as {@code wrappers}
+     */
+    public List<EmailSendingStatus> sendEmails(List<EmailWrapper> wrappers) {
+        List<EmailSendingStatus> statuses = new ArrayList<>();
+        for (EmailWrapper wrapper : wrappers) {
+            statuses.add(sendEmailWithStatus(wrapper));
+        }
+        return statuses;
+    }
+
+    /**
+     * Sends the email packaged as a {@code wrapper}, reporting any failure in the returned status.
+     */
+    protected EmailSendingStatus sendEmailWithStatus(EmailWrapper wrapper) {
+        try {
+            return sendEmail(wrapper);
+        } catch (Exception e) {
+            return new EmailSendingStatus(HttpStatus.SC_INTERNAL_SERVER_ERROR, e.getMessage());
+        }
+    }
+
 }
@@ -1,6 +1,7 @@
 package teammates.logic.core;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -9,6 +10,7 @@ import java.util.Map;
 import java.util.Set;
 
 import teammates.common.datatransfer.AttributesDeletionQuery;
+import teammates.common.datatransfer.CourseStructure;
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.TeamDetailsBundle;
 import teammates.common.datatransfer.attributes.CourseAttributes;
@@ -25,6 +27,7 @@ import teammates.common.util.Assumption;
 import teammates.common.util.Const;
 import teammates.common.util.Logger;
 import teammates.storage.api.FeedbackQuestionsDb;
+import teammates.storage.api.PendingResult;
 
 /**
  * Handles operations related to feedback questions.
@@ -93,22 +96,40 @@ public final class FeedbackQuestionsLogic {
                 courseId, questionNumber);
     }
 
+    /**
+     * Gets the questions with the given IDs in a single batch.
+     *
+     * @return the questions found, keyed by their IDs
+     */
+    public Map<String, FeedbackQuestionAttributes> getFeedbackQuestions(Collection<String> feedbackQuestionIds) {
+        return fqDb.getFeedbackQuestions(feedbackQuestionIds);
+    }
+
     /**
      * Gets a {@link List} of every FeedbackQuestion in the given session.
      */
     public List<FeedbackQuestionAttributes> getFeedbackQuestionsForSession(
             String feedbackSessionName, String courseId) {
+        return getFeedbackQuestionsForSessionAsync(feedbackSessionName, courseId).get();
+    }
 
-        List<FeedbackQuestionAttributes> questions =
-                fqDb.getFeedbackQuestionsForSession(feedbackSessionName, courseId);
-        questions.sort(null);
+    /**
+     * Starts loading every FeedbackQuestion in the given session.
+     *
+     * @see #getFeedbackQuestionsForSession(String, String)
+     */
+    public PendingResult<List<FeedbackQuestionAttributes>> getFeedbackQuestionsForSessionAsync(
+            String feedbackSessionName, String courseId) {
+        return fqDb.getFeedbackQuestionsForSessionAsync(feedbackSessionName, courseId).map(questions -> {
+            questions.sort(null);
 
-        // check whether the question numbers are consistent
-        if (questions.size() > 1 && !areQuestionNumbersConsistent(questions)) {
-            log.severe(courseId + ": " + feedbackSessionName + " has invalid question numbers");
-        }
+            // check whether the question numbers are consistent
+            if (questions.size() > 1 && !areQuestionNumbersConsistent(questions)) {
+                log.severe(courseId + ": " + feedbackSessionName + " has invalid question numbers");
+            }
 
-        return questions;
+            return questions;
+        });
     }
 
     // TODO can be removed once we are sure that question numbers will be consistent
@@ -291,73 +312,7 @@ public final class FeedbackQuestionsLogic {
             InstructorAttributes instructorGiver, StudentAttributes studentGiver)
             throws EntityDoesNotExistException {
 
-        Map<String, String> recipients = new HashMap<>();
-
-        FeedbackParticipantType recipientType = question.recipientType;
-
-        String giverTeam = getGiverTeam(giver, instructorGiver, studentGiver);
-
-        switch (recipientType) {
-        case SELF:
-            if (question.giverType == FeedbackParticipantType.TEAMS) {
-                recipients.put(studentGiver.team, studentGiver.team);
-            } else {
-                recipients.put(giver, Const.USER_NAME_FOR_SELF);
-            }
-            break;
-        case STUDENTS:
-            List<StudentAttributes> studentsInCourse = studentsLogic.getStudentsForCourse(question.courseId);
-            for (StudentAttributes student : studentsInCourse) {
-                // Ensure student does not evaluate himself
-                if (!giver.equals(student.email)) {
-                    recipients.put(student.email, student.name);
-                }
-            }
-            break;
-        case INSTRUCTORS:
-            List<InstructorAttributes> instructorsInCourse = instructorsLogic.getInstructorsForCourse(question.courseId);
-            for (InstructorAttributes instr : instructorsInCourse) {
-                // Ensure instructor does not evaluate himself
-                if (!giver.equals(instr.email)) {
-                    recipients.put(instr.email, instr.name);
-                }
-            }
-            break;
-        case TEAMS:
-            List<TeamDetailsBundle> teams = coursesLogic.getTeamsForCourse(question.courseId);
-            for (TeamDetailsBundle team : teams) {
-                // Ensure student('s team) does not evaluate own team.
-                if (!giverTeam.equals(team.name)) {
-                    // recipientEmail doubles as team name in this case.
-                    recipients.put(team.name, team.name);
-                }
-            }
-            break;
-        case OWN_TEAM:
-            recipients.put(giverTeam, giverTeam);
-            break;
-        case OWN_TEAM_MEMBERS:
-            List<StudentAttributes> students = studentsLogic.getStudentsForTeam(giverTeam, question.courseId);
-            for (StudentAttributes student : students) {
-                if (!student.email.equals(giver)) {
-                    recipients.put(student.email, student.name);
-                }
-            }
-            break;
-        case OWN_TEAM_MEMBERS_INCLUDING_SELF:
-            List<StudentAttributes> teamMembers = studentsLogic.getStudentsForTeam(giverTeam, question.courseId);
-            for (StudentAttributes student : teamMembers) {
-                // accepts self feedback too
-                recipients.put(student.email, student.name);
-            }
-            break;
-        case NONE:
-            recipients.put(Const.GENERAL_QUESTION, Const.GENERAL_QUESTION);
-            break;
-        default:
-            break;
-        }
-        return recipients;
+        return getRecipientsOfQuestion(question, giver, getGiverTeam(giver, instructorGiver, studentGiver));
     }
 
     /**
@@ -396,26 +351,29 @@ public final class FeedbackQuestionsLogic {
         Map<String, String> recipients = getRecipientsOfQuestion(question, giverEmail, Const.USER_TEAM_FOR_INSTRUCTOR);
         InstructorAttributes instructor = instructorsLogic.getInstructorForEmail(question.getCourseId(), giverEmail);
 
-        // TODO the below will cause slow queries when recipients are large, find a better way
+        removeRecipientsInSectionsNotAllowedForInstructor(question, instructor, recipients);
+
+        return recipients;
+    }
 
-        // instructor can only see students in allowed sections for him/her
+    /**
+     * Removes the student and team recipients in sections the instructor is not allowed to submit responses for.
+     */
+    public void removeRecipientsInSectionsNotAllowedForInstructor(
+            FeedbackQuestionAttributes question, InstructorAttributes instructor, Map<String, String> recipients) {
+        // the sections are looked up from the cached course structure instead of loading each recipient
         if (question.getRecipientType().equals(FeedbackParticipantType.STUDENTS)) {
-            recipients.entrySet().removeIf(studentEntry -> {
-                StudentAttributes student = studentsLogic.getStudentForEmail(question.getCourseId(), studentEntry.getKey());
-                return !instructor.isAllowedForPrivilege(student.section, question.getFeedbackSessionName(),
-                        Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS);
-            });
+            CourseStructure structure = studentsLogic.getCourseStructure(question.getCourseId());
+            recipients.keySet().removeIf(email -> !instructor.isAllowedForPrivilege(
+                    structure.getSectionOfStudent(email), question.getFeedbackSessionName(),
+                    Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS));
         }
-        // instructor can only see teams in allowed sections for him/her
         if (question.getRecipientType().equals(FeedbackParticipantType.TEAMS)) {
-            recipients.entrySet().removeIf(teamEntry -> {
-                String teamSection = studentsLogic.getSectionForTeam(question.getCourseId(), teamEntry.getKey());
-                return !instructor.isAllowedForPrivilege(teamSection, question.getFeedbackSessionName(),
-                        Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS);
-            });
+            CourseStructure structure = studentsLogic.getCourseStructure(question.getCourseId());
+            recipients.keySet().removeIf(teamName -> !instructor.isAllowedForPrivilege(
+                    structure.getSectionOfTeam(teamName), question.getFeedbackSessionName(),
+                    Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS));
         }
-
-        return recipients;
     }
 
     /**
@@ -442,13 +400,9 @@ public final class FeedbackQuestionsLogic {
             }
             break;
         case STUDENTS:
-            List<StudentAttributes> studentsInCourse = studentsLogic.getStudentsForCourse(question.courseId);
-            for (StudentAttributes student : studentsInCourse) {
-                // Ensure student does not evaluate himself
-                if (!giverEmail.equals(student.email)) {
-                    recipients.put(student.email, student.name);
-                }
-            }
+            recipients = studentsLogic.getCourseStructure(question.courseId).getStudentNames();
+            // Ensure student does not evaluate himself
+            recipients.remove(giverEmail);
             break;
         case INSTRUCTORS:
             List<InstructorAttributes> instructorsInCourse = instructorsLogic.getInstructorsForCourse(question.courseId);
@@ -460,17 +414,11 @@ public final class FeedbackQuestionsLogic {
             }
             break;
         case TEAMS:
-            List<TeamDetailsBundle> teams = null;
-            try {
-                teams = coursesLogic.getTeamsForCourse(question.courseId);
-            } catch (EntityDoesNotExistException e) {
-                Assumption.fail(e.getMessage());
-            }
-            for (TeamDetailsBundle team : teams) {
+            for (String teamName : studentsLogic.getCourseStructure(question.courseId).getTeamNames()) {
                 // Ensure student('s team) does not evaluate own team.
-                if (!giverTeam.equals(team.name)) {
+                if (!giverTeam.equals(teamName)) {
                     // recipientEmail doubles as team name in this case.
-                    recipients.put(team.name, team.name);
+                    recipients.put(teamName, teamName);
                 }
             }
             break;
@@ -478,19 +426,12 @@ public final class FeedbackQuestionsLogic {
             recipients.put(giverTeam, giverTeam);
             break;
         case OWN_TEAM_MEMBERS:
-            List<StudentAttributes> students = studentsLogic.getStudentsForTeam(giverTeam, question.courseId);
-            for (StudentAttributes student : students) {
-                if (!student.email.equals(giverEmail)) {
-                    recipients.put(student.email, student.name);
-                }
-            }
+            recipients = studentsLogic.getCourseStructure(question.courseId).getTeamMemberNames(giverTeam);
+            recipients.remove(giverEmail);
             break;
         case OWN_TEAM_MEMBERS_INCLUDING_SELF:
-            List<StudentAttributes> teamMembers = studentsLogic.getStudentsForTeam(giverTeam, question.courseId);
-            for (StudentAttributes student : teamMembers) {
-                // accepts self feedback too
-                recipients.put(student.email, student.name);
-            }
+            // accepts self feedback too
+            recipients = studentsLogic.getCourseStructure(question.courseId).getTeamMemberNames(giverTeam);
             break;
         case NONE:
             recipients.put(Const.GENERAL_QUESTION, Const.GENERAL_QUESTION);
@@ -709,6 +650,10 @@ public final class FeedbackQuestionsLogic {
      * <p>Silently fail if question does not exist.
      *
      * <p>The respondent lists will also be updated due the deletion of question.
+     *
+     * <p>The question itself is deleted after its responses. If the deletion is stopped by an
+     * {@link teammates.common.exception.IncompleteDeletionException}, the question thus remains
+     * and deleting it again continues from where the deletion stopped.
      */
     public void deleteFeedbackQuestionCascade(String feedbackQuestionId) {
         FeedbackQuestionAttributes questionToDelete =
@@ -1,7 +1,9 @@
 package teammates.logic.core;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import teammates.common.datatransfer.AttributesDeletionQuery;
@@ -20,6 +22,7 @@ import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.storage.api.FeedbackResponseCommentsDb;
+import teammates.storage.api.PendingResult;
 
 /**
  * Handles operations related to feedback response comments.
@@ -34,7 +37,6 @@ public final class FeedbackResponseCommentsLogic {
     private static final FeedbackResponseCommentsDb frcDb = new FeedbackResponseCommentsDb();
 
     private static final CoursesLogic coursesLogic = CoursesLogic.inst();
-    private static final FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
     private static final FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
     private static final InstructorsLogic instructorsLogic = InstructorsLogic.inst();
     private static final StudentsLogic studentsLogic = StudentsLogic.inst();
@@ -83,33 +85,45 @@ public final class FeedbackResponseCommentsLogic {
 
     public List<FeedbackResponseCommentAttributes> getFeedbackResponseCommentForSessionInSection(String courseId,
                                                            String feedbackSessionName, String section) {
+        return getFeedbackResponseCommentForSessionInSectionAsync(courseId, feedbackSessionName, section).get();
+    }
+
+    /**
+     * Starts loading the comments of a section of a feedback session, or of the whole session if {@code section} is null.
+     */
+    public PendingResult<List<FeedbackResponseCommentAttributes>> getFeedbackResponseCommentForSessionInSectionAsync(
+            String courseId, String feedbackSessionName, String section) {
         if (section == null) {
-            return getFeedbackResponseCommentForSession(courseId, feedbackSessionName);
+            return frcDb.getFeedbackResponseCommentsForSessionAsync(courseId, feedbackSessionName);
         }
-        return frcDb.getFeedbackResponseCommentsForSessionInSection(courseId, feedbackSessionName, section);
+        return frcDb.getFeedbackResponseCommentsForSessionInSectionAsync(courseId, feedbackSessionName, section);
     }
 
-    /*
-     * Updates all email fields of feedback response comments with the new email
+    /**
+     * Updates all email fields of feedback response comments with the new email.
+     *
+     * <p>The search documents of the comments are NOT updated.
+     *
+     * @return the IDs of the comments whose giver is changed, whose search documents are to be re-indexed
      */
-    public void updateFeedbackResponseCommentsEmails(String courseId, String oldEmail, String updatedEmail) {
-        frcDb.updateGiverEmailOfFeedbackResponseComments(courseId, oldEmail, updatedEmail);
+    public List<Long> updateFeedbackResponseCommentsEmails(String courseId, String oldEmail, String updatedEmail) {
+        List<Long> commentIds = frcDb.updateGiverEmailOfFeedbackResponseComments(courseId, oldEmail, updatedEmail);
         frcDb.updateLastEditorEmailOfFeedbackResponseComments(courseId, oldEmail, updatedEmail);
+        return commentIds;
     }
 
-    // right now this method only updates comment's giverSection and receiverSection for a given response
-    public void updateFeedbackResponseCommentsForResponse(String feedbackResponseId)
-            throws InvalidParametersException, EntityDoesNotExistException {
-        List<FeedbackResponseCommentAttributes> comments = getFeedbackResponseCommentForResponse(feedbackResponseId);
-        FeedbackResponseAttributes response = frLogic.getFeedbackResponse(feedbackResponseId);
-        for (FeedbackResponseCommentAttributes comment : comments) {
-            frcDb.updateFeedbackResponseComment(
-                    FeedbackResponseCommentAttributes.updateOptionsBuilder(comment.getId())
-                            .withGiverSection(response.giverSection)
-                            .withReceiverSection(response.recipientSection)
-                            .build()
-            );
-        }
+    /**
+     * Updates the response IDs and sections of the comments of responses which are updated, in a single batch.
+     *
+     * <p>The search documents of the comments are NOT updated.
+     *
+     * @param updatedResponses the updated responses, keyed by the IDs of the responses before the update
+     * @return the IDs of all the comments of the responses, whose search documents are to be re-indexed
+     *         as they contain the details of the responses
+     */
+    public List<Long> updateFeedbackResponseCommentsForResponses(
+            Map<String, FeedbackResponseAttributes> updatedResponses) {
+        return frcDb.updateFeedbackResponseCommentsForResponses(updatedResponses);
     }
 
     /**
@@ -140,6 +154,13 @@ public final class FeedbackResponseCommentsLogic {
         frcDb.putDocuments(comments);
     }
 
+    /**
+     * Creates or updates documents for the comments with the given IDs.
+     */
+    public void putDocumentsForIds(List<Long> commentIds) {
+        frcDb.putDocumentsForIds(commentIds);
+    }
+
     public List<FeedbackResponseCommentAttributes> getFeedbackResponseCommentsForGiver(String courseId,
                                                                                        String giverEmail) {
         return frcDb.getFeedbackResponseCommentForGiver(courseId, giverEmail);
@@ -164,6 +185,13 @@ public final class FeedbackResponseCommentsLogic {
         frcDb.deleteFeedbackResponseComments(query);
     }
 
+    /**
+     * Deletes the comments of the given responses together in batches.
+     */
+    public void deleteFeedbackResponseCommentsForResponses(Collection<String> feedbackResponseIds) {
+        frcDb.deleteFeedbackResponseCommentsForResponses(feedbackResponseIds);
+    }
+
     /**
      * Returns true if the comment's giver name is visible to certain user.
      */
@@ -0,0 +1,156 @@
+package teammates.logic.core;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import teammates.common.datatransfer.CourseRoster;
+import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.UserRole;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Const;
+
+/**
+ * Visibility of the responses in a feedback session to a single viewer.
+ *
+ * <p>Checks which depend only on the question (its visibility settings) or only on the section
+ * (the instructor's privileges) are evaluated once per question and once per section respectively,
+ * and reused for every response of the session instead of being re-evaluated for each response.
+ */
+public final class FeedbackResponseVisibilityIndex {
+
+    private static final FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
+
+    private final String userEmail;
+    private final UserRole role;
+    private final StudentAttributes student;
+    private final Set<String> studentsEmailInTeam;
+    private final InstructorAttributes instructor;
+    private final String feedbackSessionName;
+    private final CourseRoster roster;
+
+    private final Map<String, QuestionVisibility> questionVisibilities = new HashMap<>();
+    private final Map<String, Boolean> sectionViewPrivileges = new HashMap<>();
+
+    public FeedbackResponseVisibilityIndex(String userEmail, UserRole role, StudentAttributes student,
+            Set<String> studentsEmailInTeam, InstructorAttributes instructor, String feedbackSessionName,
+            CourseRoster roster) {
+        this.userEmail = userEmail;
+        this.role = role;
+        this.student = student;
+        this.studentsEmailInTeam = studentsEmailInTeam;
+        this.instructor = instructor;
+        this.feedbackSessionName = feedbackSessionName;
+        this.roster = roster;
+    }
+
+    /**
+     * Returns true if the {@code response} to {@code question} is visible to the viewer.
+     */
+    public boolean isResponseVisible(FeedbackResponseAttributes response, FeedbackQuestionAttributes question) {
+        QuestionVisibility questionVisibility = getQuestionVisibility(question);
+
+        boolean isVisibleResponse = false;
+        if (questionVisibility.isVisibleToViewerRole
+                || questionVisibility.isVisibleToReceiver && response.recipient.equals(userEmail)
+                || response.giver.equals(userEmail)) {
+            isVisibleResponse = true;
+        } else if (studentsEmailInTeam != null && role == UserRole.STUDENT) {
+            if (questionVisibility.isVisibleToReceivingTeam && response.recipient.equals(student.team)) {
+                isVisibleResponse = true;
+            } else if (questionVisibility.isVisibleToGiverTeam && studentsEmailInTeam.contains(response.giver)) {
+                isVisibleResponse = true;
+            } else if (questionVisibility.isVisibleToReceiverTeamMembers
+                    && studentsEmailInTeam.contains(response.recipient)) {
+                isVisibleResponse = true;
+            }
+        }
+        if (isVisibleResponse && instructor != null) {
+            boolean isGiverSectionRestricted = !canViewSection(response.giverSection);
+            // If instructors are not restricted to view the giver's section,
+            // they are allowed to view responses to GENERAL, subject to visibility options
+            boolean isRecipientSectionRestricted = questionVisibility.hasRecipient
+                    && !canViewSection(response.recipientSection);
+
+            isVisibleResponse = !isGiverSectionRestricted && !isRecipientSectionRestricted;
+        }
+        return isVisibleResponse;
+    }
+
+    /**
+     * Returns the visibility of the giver's and recipient's names of {@code response} to the viewer,
+     * indexed by {@link Const#VISIBILITY_TABLE_GIVER} and {@link Const#VISIBILITY_TABLE_RECIPIENT}.
+     */
+    public boolean[] getNameVisibility(FeedbackResponseAttributes response, FeedbackQuestionAttributes question) {
+        QuestionVisibility questionVisibility = getQuestionVisibility(question);
+
+        boolean[] visibility = new boolean[2];
+        visibility[Const.VISIBILITY_TABLE_GIVER] = questionVisibility.isGiverNameAlwaysVisible
+                || frLogic.isNameVisibleToUser(question, response, userEmail, role, true, roster);
+        visibility[Const.VISIBILITY_TABLE_RECIPIENT] = questionVisibility.isRecipientNameAlwaysVisible
+                || frLogic.isNameVisibleToUser(question, response, userEmail, role, false, roster);
+        return visibility;
+    }
+
+    /**
+     * Returns true if the viewer is allowed to view the responses of the session in {@code section}.
+     * Always true for viewers who are not instructors.
+     */
+    public boolean canViewSection(String section) {
+        if (instructor == null) {
+            return true;
+        }
+        return sectionViewPrivileges.computeIfAbsent(section,
+                key -> instructor.isAllowedForPrivilege(key, feedbackSessionName,
+                        Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS));
+    }
+
+    private QuestionVisibility getQuestionVisibility(FeedbackQuestionAttributes question) {
+        return questionVisibilities.computeIfAbsent(question.getId(), key -> new QuestionVisibility(question));
+    }
+
+    /**
+     * The parts of the visibility of the responses to a question that do not depend on the response itself.
+     */
+    private final class QuestionVisibility {
+
+        private final boolean isVisibleToViewerRole;
+        private final boolean isVisibleToReceiver;
+        private final boolean isVisibleToReceivingTeam;
+        private final boolean isVisibleToGiverTeam;
+        private final boolean isVisibleToReceiverTeamMembers;
+        private final boolean hasRecipient;
+        private final boolean isGiverNameAlwaysVisible;
+        private final boolean isRecipientNameAlwaysVisible;
+
+        QuestionVisibility(FeedbackQuestionAttributes question) {
+            isVisibleToViewerRole =
+                    role == UserRole.INSTRUCTOR && question.isResponseVisibleTo(FeedbackParticipantType.INSTRUCTORS)
+                    || role == UserRole.STUDENT && question.isResponseVisibleTo(FeedbackParticipantType.STUDENTS);
+            isVisibleToReceiver = question.isResponseVisibleTo(FeedbackParticipantType.RECEIVER);
+            isVisibleToReceivingTeam = question.recipientType == FeedbackParticipantType.TEAMS && isVisibleToReceiver;
+            isVisibleToGiverTeam = question.giverType == FeedbackParticipantType.TEAMS
+                    || question.isResponseVisibleTo(FeedbackParticipantType.OWN_TEAM_MEMBERS);
+            isVisibleToReceiverTeamMembers =
+                    question.isResponseVisibleTo(FeedbackParticipantType.RECEIVER_TEAM_MEMBERS);
+            hasRecipient = question.recipientType != FeedbackParticipantType.NONE;
+            isGiverNameAlwaysVisible = isNameVisibleToViewerRole(question.showGiverNameTo);
+            isRecipientNameAlwaysVisible = isNameVisibleToViewerRole(question.showRecipientNameTo);
+        }
+
+        /**
+         * Returns true if names shown to {@code showNameTo} are visible to the viewer regardless of
+         * which response they belong to.
+         */
+        private boolean isNameVisibleToViewerRole(List<FeedbackParticipantType> showNameTo) {
+            return role == UserRole.INSTRUCTOR && showNameTo.contains(FeedbackParticipantType.INSTRUCTORS)
+                    && roster.getInstructorForEmail(userEmail) != null
+                    || showNameTo.contains(FeedbackParticipantType.STUDENTS) && roster.isStudentInCourse(userEmail);
+        }
+    }
+
+}
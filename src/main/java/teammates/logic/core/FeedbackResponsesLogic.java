@@ -1,6 +1,8 @@
 package teammates.logic.core;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -11,11 +13,11 @@ import java.util.stream.Collectors;
 import teammates.common.datatransfer.AttributesDeletionQuery;
 import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.FeedbackResponsesPage;
 import teammates.common.datatransfer.SectionDetail;
 import teammates.common.datatransfer.UserRole;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
-import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
@@ -131,6 +133,28 @@ public final class FeedbackResponsesLogic {
         return frDb.getFeedbackResponsesForSessionWithinRange(feedbackSessionName, courseId, range);
     }
 
+    /**
+     * Gets a page of the responses of a feedback session, ordered by question, giver and then recipient.
+     *
+     * @see FeedbackResponsesDb#getFeedbackResponsesForSessionInPage(String, String, String, int)
+     */
+    public FeedbackResponsesPage getFeedbackResponsesForSessionInPage(
+            String feedbackSessionName, String courseId, String cursor, int pageSize)
+            throws InvalidParametersException {
+        return frDb.getFeedbackResponsesForSessionInPage(feedbackSessionName, courseId, cursor, pageSize);
+    }
+
+    /**
+     * Gets a page of the responses of a question, ordered by giver and then recipient.
+     *
+     * @see FeedbackResponsesDb#getFeedbackResponsesForQuestionInPage(String, String, int)
+     */
+    public FeedbackResponsesPage getFeedbackResponsesForQuestionInPage(
+            String feedbackQuestionId, String cursor, int pageSize)
+            throws InvalidParametersException {
+        return frDb.getFeedbackResponsesForQuestionInPage(feedbackQuestionId, cursor, pageSize);
+    }
+
     public List<FeedbackResponseAttributes> getFeedbackResponsesForSessionInSectionWithinRange(
             String feedbackSessionName, String courseId, String section, int range) {
         if (section == null) {
@@ -214,7 +238,8 @@ public final class FeedbackResponsesLogic {
      */
     public boolean hasGiverRespondedForSession(String userEmail, String feedbackSessionName, String courseId) {
 
-        return !getFeedbackResponsesFromGiverForSessionWithinRange(userEmail, feedbackSessionName, courseId, 1).isEmpty();
+        return !frDb.getGiversWithResponsesInSession(feedbackSessionName, courseId, Collections.singleton(userEmail))
+                .isEmpty();
     }
 
     public List<FeedbackResponseAttributes> getFeedbackResponsesForReceiverForCourse(
@@ -397,6 +422,26 @@ public final class FeedbackResponsesLogic {
         return frDb.hasFeedbackResponseEntitiesForCourse(courseId);
     }
 
+    /**
+     * Updates a feedback response by {@link FeedbackResponseAttributes.UpdateOptions},
+     * cascading as {@link #updateFeedbackResponseCascade(FeedbackResponseAttributes.UpdateOptions, List)} does.
+     *
+     * <p>The search documents of the comments updated are put before returning.
+     *
+     * @return updated feedback response
+     * @throws InvalidParametersException if attributes to update are not valid
+     * @throws EntityDoesNotExistException if the comment cannot be found
+     * @throws EntityAlreadyExistsException if the response cannot be updated
+     *         by recreation because of an existent response
+     */
+    public FeedbackResponseAttributes updateFeedbackResponseCascade(FeedbackResponseAttributes.UpdateOptions updateOptions)
+            throws InvalidParametersException, EntityDoesNotExistException, EntityAlreadyExistsException {
+        List<Long> commentIdsToIndex = new ArrayList<>();
+        FeedbackResponseAttributes updatedResponse = updateFeedbackResponseCascade(updateOptions, commentIdsToIndex);
+        frcLogic.putDocumentsForIds(commentIdsToIndex);
+        return updatedResponse;
+    }
+
     /**
      * Updates a feedback response by {@link FeedbackResponseAttributes.UpdateOptions}.
      *
@@ -406,46 +451,108 @@ public final class FeedbackResponsesLogic {
      * <p>If the giver/recipient field is changed, the response is updated by recreating the response
      * as question-giver-recipient is the primary key.
      *
+     * @param commentIdsToIndex the list to add the IDs of the comments updated to,
+     *         whose search documents are to be re-indexed
      * @return updated feedback response
      * @throws InvalidParametersException if attributes to update are not valid
      * @throws EntityDoesNotExistException if the comment cannot be found
      * @throws EntityAlreadyExistsException if the response cannot be updated
      *         by recreation because of an existent response
      */
-    public FeedbackResponseAttributes updateFeedbackResponseCascade(FeedbackResponseAttributes.UpdateOptions updateOptions)
+    public FeedbackResponseAttributes updateFeedbackResponseCascade(FeedbackResponseAttributes.UpdateOptions updateOptions,
+            List<Long> commentIdsToIndex)
             throws InvalidParametersException, EntityDoesNotExistException, EntityAlreadyExistsException {
 
         FeedbackResponseAttributes oldResponse = frDb.getFeedbackResponse(updateOptions.getFeedbackResponseId());
         FeedbackResponseAttributes newResponse = frDb.updateFeedbackResponse(updateOptions);
 
-        boolean isResponseIdChanged = !oldResponse.getId().equals(newResponse.getId());
-        boolean isGiverSectionChanged = !oldResponse.giverSection.equals(newResponse.giverSection);
-        boolean isRecipientSectionChanged = !oldResponse.recipientSection.equals(newResponse.recipientSection);
+        commentIdsToIndex.addAll(frcLogic.updateFeedbackResponseCommentsForResponses(
+                Collections.singletonMap(oldResponse.getId(), newResponse)));
 
-        if (isResponseIdChanged || isGiverSectionChanged || isRecipientSectionChanged) {
-            List<FeedbackResponseCommentAttributes> responseComments =
-                    frcLogic.getFeedbackResponseCommentForResponse(oldResponse.getId());
-            for (FeedbackResponseCommentAttributes responseComment : responseComments) {
-                FeedbackResponseCommentAttributes.UpdateOptions.Builder updateOptionsBuilder =
-                        FeedbackResponseCommentAttributes.updateOptionsBuilder(responseComment.getId());
+        return newResponse;
+    }
 
-                if (isResponseIdChanged) {
-                    updateOptionsBuilder.withFeedbackResponseId(newResponse.getId());
-                }
+    /**
+     * Updates the responses of a giver to a question to be the given responses, cascading as
+     * {@link #updateFeedbackResponsesFromGiverForQuestionCascade(String, String, List, List)} does.
+     *
+     * <p>The search documents of the comments updated are put before returning.
+     *
+     * @return the responses of the giver to the question, in the order of {@code responses}
+     * @throws InvalidParametersException if any of the responses is not valid, in which case nothing is updated
+     */
+    public List<FeedbackResponseAttributes> updateFeedbackResponsesFromGiverForQuestionCascade(
+            String feedbackQuestionId, String giver, List<FeedbackResponseAttributes> responses)
+            throws InvalidParametersException {
+        List<Long> commentIdsToIndex = new ArrayList<>();
+        List<FeedbackResponseAttributes> updatedResponses = updateFeedbackResponsesFromGiverForQuestionCascade(
+                feedbackQuestionId, giver, responses, commentIdsToIndex);
+        frcLogic.putDocumentsForIds(commentIdsToIndex);
+        return updatedResponses;
+    }
 
-                if (isGiverSectionChanged) {
-                    updateOptionsBuilder.withGiverSection(newResponse.giverSection);
-                }
+    /**
+     * Updates the responses of a giver to a question to be the given responses, cascading to their comments.
+     *
+     * <p>The responses given to recipients not among the given responses are deleted with their comments.
+     * The responses created or changed are saved in a single batch, and the responses deleted are deleted
+     * in another. The comments of the changed responses are updated in a batch too.
+     * The respondent lists will NOT be updated.
+     *
+     * @param responses the responses of the giver to the question, to different recipients
+     * @param commentIdsToIndex the list to add the IDs of the comments updated to,
+     *         whose search documents are to be re-indexed
+     * @return the responses of the giver to the question, in the order of {@code responses}
+     * @throws InvalidParametersException if any of the responses is not valid, in which case nothing is updated
+     */
+    public List<FeedbackResponseAttributes> updateFeedbackResponsesFromGiverForQuestionCascade(
+            String feedbackQuestionId, String giver, List<FeedbackResponseAttributes> responses,
+            List<Long> commentIdsToIndex)
+            throws InvalidParametersException {
+        Map<String, FeedbackResponseAttributes> oldResponses = new HashMap<>();
+        for (FeedbackResponseAttributes oldResponse
+                : frDb.getFeedbackResponsesFromGiverForQuestion(feedbackQuestionId, giver)) {
+            oldResponses.put(oldResponse.recipient, oldResponse);
+        }
 
-                if (isRecipientSectionChanged) {
-                    updateOptionsBuilder.withReceiverSection(newResponse.recipientSection);
-                }
+        Map<String, FeedbackResponseAttributes> updatedResponses = new HashMap<>();
+        List<FeedbackResponseAttributes> responsesToSave = new ArrayList<>();
+        List<FeedbackResponseAttributes> responsesChanged = new ArrayList<>();
+        for (FeedbackResponseAttributes response : responses) {
+            FeedbackResponseAttributes oldResponse = oldResponses.remove(response.recipient);
+            if (oldResponse == null) {
+                responsesToSave.add(response);
+                continue;
+            }
 
-                frcLogic.updateFeedbackResponseComment(updateOptionsBuilder.build());
+            boolean isSectionChanged = !oldResponse.giverSection.equals(response.giverSection)
+                    || !oldResponse.recipientSection.equals(response.recipientSection);
+            if (isSectionChanged || !oldResponse.getSerializedFeedbackResponseDetail()
+                    .equals(response.getSerializedFeedbackResponseDetail())) {
+                responsesToSave.add(response);
+                responsesChanged.add(response);
+            } else {
+                updatedResponses.put(oldResponse.recipient, oldResponse);
             }
         }
 
-        return newResponse;
+        for (FeedbackResponseAttributes savedResponse : frDb.putFeedbackResponses(responsesToSave)) {
+            updatedResponses.put(savedResponse.recipient, savedResponse);
+        }
+
+        deleteFeedbackResponsesCascade(
+                oldResponses.values().stream().map(FeedbackResponseAttributes::getId).collect(Collectors.toList()));
+
+        Map<String, FeedbackResponseAttributes> responsesToUpdateCommentsOf = new HashMap<>();
+        for (FeedbackResponseAttributes response : responsesChanged) {
+            FeedbackResponseAttributes updatedResponse = updatedResponses.get(response.recipient);
+            responsesToUpdateCommentsOf.put(updatedResponse.getId(), updatedResponse);
+        }
+        commentIdsToIndex.addAll(frcLogic.updateFeedbackResponseCommentsForResponses(responsesToUpdateCommentsOf));
+
+        return responses.stream()
+                .map(response -> updatedResponses.get(response.recipient))
+                .collect(Collectors.toList());
     }
 
     /**
@@ -455,20 +562,42 @@ public final class FeedbackResponsesLogic {
      */
     public void updateFeedbackResponsesForChangingTeam(
             String courseId, String userEmail, String oldTeam, String newTeam) {
-        FeedbackQuestionAttributes question;
+        updateFeedbackResponsesForChangingTeams(courseId, Collections.singletonMap(userEmail, oldTeam));
+    }
+
+    /**
+     * Updates responses for students when their teams change.
+     *
+     * <p>This is done by deleting responses that are no longer relevant to them in their new teams.
+     * Each original team is checked for emptiness, and each affected respondent is updated, only once.
+     * The questions of all the responses are loaded in a single batch, and the responses to delete
+     * are deleted together with their comments in batches.
+     *
+     * @param oldTeams the original team of each student, keyed by email
+     */
+    public void updateFeedbackResponsesForChangingTeams(String courseId, Map<String, String> oldTeams) {
+        List<FeedbackResponseAttributes> responsesFromUsers = new ArrayList<>();
+        List<FeedbackResponseAttributes> responsesToUsers = new ArrayList<>();
+        for (String userEmail : oldTeams.keySet()) {
+            responsesFromUsers.addAll(getFeedbackResponsesFromGiverForCourse(courseId, userEmail));
+            responsesToUsers.addAll(getFeedbackResponsesForReceiverForCourse(courseId, userEmail));
+        }
+
+        Map<String, FeedbackQuestionAttributes> questions =
+                getQuestionsOfResponses(responsesFromUsers, responsesToUsers);
+
+        Set<String> responseIdsToDelete = new HashSet<>();
         // key is feedback session name, value is a set of student emails that need respondents update
         Map<String, Set<String>> studentEmailsNeedRespondentsUpdate = new HashMap<>();
-        // key is feedback session name, value is a set of student emails that need respondents update
+        // key is feedback session name, value is a set of instructor emails that need respondents update
         Map<String, Set<String>> instructorEmailsNeedRespondentsUpdate = new HashMap<>();
 
-        // deletes all responses given by the user to team members or given by the user as a representative of a team.
-        List<FeedbackResponseAttributes> responsesFromUser =
-                getFeedbackResponsesFromGiverForCourse(courseId, userEmail);
-        for (FeedbackResponseAttributes response : responsesFromUser) {
-            question = fqLogic.getFeedbackQuestion(response.feedbackQuestionId);
+        // deletes all responses given by the users to team members or given by the users as representatives of teams
+        for (FeedbackResponseAttributes response : responsesFromUsers) {
+            FeedbackQuestionAttributes question = questions.get(response.feedbackQuestionId);
             if (question.giverType == FeedbackParticipantType.TEAMS
                     || isRecipientTypeTeamMembers(question)) {
-                deleteFeedbackResponseCascade(response.getId());
+                responseIdsToDelete.add(response.getId());
 
                 studentEmailsNeedRespondentsUpdate
                         .computeIfAbsent(response.feedbackSessionName, key -> new HashSet<>())
@@ -476,13 +605,11 @@ public final class FeedbackResponsesLogic {
             }
         }
 
-        // Deletes all responses given by other team members to the user.
-        List<FeedbackResponseAttributes> responsesToUser =
-                getFeedbackResponsesForReceiverForCourse(courseId, userEmail);
-        for (FeedbackResponseAttributes response : responsesToUser) {
-            question = fqLogic.getFeedbackQuestion(response.feedbackQuestionId);
+        // deletes all responses given by other team members to the users
+        for (FeedbackResponseAttributes response : responsesToUsers) {
+            FeedbackQuestionAttributes question = questions.get(response.feedbackQuestionId);
             if (isRecipientTypeTeamMembers(question)) {
-                deleteFeedbackResponseCascade(response.getId());
+                responseIdsToDelete.add(response.getId());
 
                 if (question.getGiverType() == FeedbackParticipantType.STUDENTS) {
                     studentEmailsNeedRespondentsUpdate
@@ -492,24 +619,26 @@ public final class FeedbackResponsesLogic {
             }
         }
 
-        boolean isOldTeamEmpty = studentsLogic.getStudentsForTeam(oldTeam, courseId).isEmpty();
-        if (isOldTeamEmpty) {
-            deleteResponsesInvolvedTeam(courseId, oldTeam,
-                    studentEmailsNeedRespondentsUpdate, instructorEmailsNeedRespondentsUpdate);
+        deleteFeedbackResponsesCascade(responseIdsToDelete);
+
+        for (String oldTeam : new HashSet<>(oldTeams.values())) {
+            boolean isOldTeamEmpty = studentsLogic.getStudentsForTeam(oldTeam, courseId).isEmpty();
+            if (isOldTeamEmpty) {
+                deleteResponsesInvolvedTeam(courseId, oldTeam,
+                        studentEmailsNeedRespondentsUpdate, instructorEmailsNeedRespondentsUpdate);
+            }
         }
 
         // update respondents
-        studentEmailsNeedRespondentsUpdate.forEach((sessionName, emails) -> {
-            deleteStudentFromRespondentsIfNecessary(courseId, sessionName, emails.toArray(new String[0]));
-        });
-        instructorEmailsNeedRespondentsUpdate.forEach((sessionName, emails) -> {
-            deleteInstructorFromRespondentsIfNecessary(courseId, sessionName, emails.toArray(new String[0]));
-        });
+        deleteRespondentsIfNecessary(courseId, studentEmailsNeedRespondentsUpdate, instructorEmailsNeedRespondentsUpdate);
     }
 
     /**
      * Deletes all feedback response involved a team.
      *
+     * <p>The questions of the responses are loaded in a single batch, and the responses are deleted
+     * together with their comments in batches.
+     *
      * @param courseId the course id
      * @param teamName the team name
      * @param studentEmailsNeedRespondentsUpdate map to keep track of deleted response for student respondents update
@@ -518,20 +647,21 @@ public final class FeedbackResponsesLogic {
     private void deleteResponsesInvolvedTeam(String courseId, String teamName,
                                              Map<String, Set<String>> studentEmailsNeedRespondentsUpdate,
                                              Map<String, Set<String>> instructorEmailsNeedRespondentsUpdate) {
+        List<FeedbackResponseAttributes> responsesFromTeam = getFeedbackResponsesFromGiverForCourse(courseId, teamName);
+        List<FeedbackResponseAttributes> responsesToTeam = getFeedbackResponsesForReceiverForCourse(courseId, teamName);
+        Map<String, FeedbackQuestionAttributes> questions = getQuestionsOfResponses(responsesToTeam);
+
+        Set<String> responseIdsToDelete = new HashSet<>();
         // Deletes all responses given by the team.
-        List<FeedbackResponseAttributes> responsesFromOldTeam =
-                getFeedbackResponsesFromGiverForCourse(courseId, teamName);
-        for (FeedbackResponseAttributes response : responsesFromOldTeam) {
-            deleteFeedbackResponseCascade(response.getId());
+        for (FeedbackResponseAttributes response : responsesFromTeam) {
+            responseIdsToDelete.add(response.getId());
         }
 
         // Deletes all responses received by the team.
-        List<FeedbackResponseAttributes> responsesToOldTeam =
-                getFeedbackResponsesForReceiverForCourse(courseId, teamName);
-        for (FeedbackResponseAttributes response : responsesToOldTeam) {
-            deleteFeedbackResponseCascade(response.getId());
+        for (FeedbackResponseAttributes response : responsesToTeam) {
+            responseIdsToDelete.add(response.getId());
 
-            FeedbackQuestionAttributes question = fqLogic.getFeedbackQuestion(response.feedbackQuestionId);
+            FeedbackQuestionAttributes question = questions.get(response.feedbackQuestionId);
             if (question.getGiverType() == FeedbackParticipantType.INSTRUCTORS
                     || question.getGiverType() == FeedbackParticipantType.SELF) {
                 instructorEmailsNeedRespondentsUpdate
@@ -544,85 +674,83 @@ public final class FeedbackResponsesLogic {
                         .add(response.giver);
             }
         }
+
+        deleteFeedbackResponsesCascade(responseIdsToDelete);
     }
 
     /**
-     * Updates responses for a student when his section changes.
+     * Gets the questions of all the given responses in a single batch, keyed by their IDs.
      */
-    public void updateFeedbackResponsesForChangingSection(
-            String courseId, String userEmail, String oldSection, String newSection)
-            throws EntityDoesNotExistException, InvalidParametersException {
-        updateSectionOfResponsesFromUser(courseId, userEmail, newSection);
-        updateSectionOfResponsesToUser(courseId, userEmail, newSection);
-    }
-
-    private void updateSectionOfResponsesToUser(String courseId, String userEmail, String newSection)
-            throws InvalidParametersException, EntityDoesNotExistException {
-        List<FeedbackResponseAttributes> responsesToUser =
-                getFeedbackResponsesForReceiverForCourse(courseId, userEmail);
-
-        for (FeedbackResponseAttributes response : responsesToUser) {
-            try {
-                frDb.updateFeedbackResponse(
-                        FeedbackResponseAttributes.updateOptionsBuilder(response.getId())
-                                .withRecipientSection(newSection)
-                                .build());
-            } catch (EntityAlreadyExistsException e) {
-                Assumption.fail("Not possible to trigger recreating of response");
-            }
-            frcLogic.updateFeedbackResponseCommentsForResponse(response.getId());
+    @SafeVarargs
+    private final Map<String, FeedbackQuestionAttributes> getQuestionsOfResponses(
+            List<FeedbackResponseAttributes>... responseLists) {
+        Set<String> questionIds = new HashSet<>();
+        for (List<FeedbackResponseAttributes> responses : responseLists) {
+            responses.forEach(response -> questionIds.add(response.feedbackQuestionId));
         }
+        return fqLogic.getFeedbackQuestions(questionIds);
     }
 
-    private void updateSectionOfResponsesFromUser(String courseId, String userEmail, String newSection)
-            throws InvalidParametersException, EntityDoesNotExistException {
-        List<FeedbackResponseAttributes> responsesFromUser =
-                getFeedbackResponsesFromGiverForCourse(courseId, userEmail);
-
-        for (FeedbackResponseAttributes response : responsesFromUser) {
-            try {
-                frDb.updateFeedbackResponse(
-                        FeedbackResponseAttributes.updateOptionsBuilder(response.getId())
-                                .withGiverSection(newSection)
-                                .build());
-            } catch (EntityAlreadyExistsException e) {
-                Assumption.fail("Not possible to trigger recreating of response");
-            }
-            frcLogic.updateFeedbackResponseCommentsForResponse(response.getId());
-        }
+    /**
+     * Updates responses for a student when his section changes.
+     *
+     * @return the IDs of the comments updated, whose search documents are to be re-indexed
+     */
+    public List<Long> updateFeedbackResponsesForChangingSection(
+            String courseId, String userEmail, String oldSection, String newSection) {
+        return updateFeedbackResponsesForChangingSections(courseId, Collections.singletonMap(userEmail, newSection));
     }
 
     /**
-     * Delete student from session respondents if he does not have any responses for the session.
+     * Updates responses for students when their sections change.
+     *
+     * <p>The responses given by and to all the students are updated in a single batch.
+     *
+     * @param newSections the new section of each student, keyed by email
+     * @return the IDs of the comments updated, whose search documents are to be re-indexed
      */
-    private void deleteStudentFromRespondentsIfNecessary(String courseId, String sessionName, String... studentEmails) {
-        for (String studentEmail : studentEmails) {
-            try {
-                if (!hasGiverRespondedForSession(studentEmail, sessionName, courseId)) {
-                    fsLogic.deleteStudentFromRespondentList(studentEmail, sessionName, courseId);
-                }
-            } catch (EntityDoesNotExistException | InvalidParametersException e) {
-                log.warning(String.format(
-                        "Cannot adjust response rate for student %s course %s feedbackSession %s because of %s",
-                        studentEmail, courseId, sessionName, TeammatesException.toStringWithStackTrace(e)));
-            }
+    public List<Long> updateFeedbackResponsesForChangingSections(String courseId, Map<String, String> newSections) {
+        Map<String, FeedbackResponseAttributes> updatedResponses = new HashMap<>();
+        for (FeedbackResponseAttributes response : frDb.updateSectionsOfResponsesForUsers(courseId, newSections)) {
+            updatedResponses.put(response.getId(), response);
         }
+        return frcLogic.updateFeedbackResponseCommentsForResponses(updatedResponses);
     }
 
     /**
-     * Delete instructor from session respondents if he does not have any responses for the session.
+     * Deletes the givers from the respondents of each session if they do not have any responses for the session.
+     *
+     * <p>The responses of all the givers of a session are checked concurrently, and the respondents of the session
+     * are then updated in a single batch.
+     *
+     * @param studentEmails the student givers to check, keyed by feedback session name
+     * @param instructorEmails the instructor givers to check, keyed by feedback session name
      */
-    private void deleteInstructorFromRespondentsIfNecessary(
-            String courseId, String sessionName, String... instructorEmails) {
-        for (String instructorEmail : instructorEmails) {
+    private void deleteRespondentsIfNecessary(String courseId,
+            Map<String, Set<String>> studentEmails, Map<String, Set<String>> instructorEmails) {
+        Set<String> sessionNames = new HashSet<>(studentEmails.keySet());
+        sessionNames.addAll(instructorEmails.keySet());
+
+        for (String sessionName : sessionNames) {
+            Set<String> students = new HashSet<>(studentEmails.getOrDefault(sessionName, new HashSet<>()));
+            Set<String> instructors = new HashSet<>(instructorEmails.getOrDefault(sessionName, new HashSet<>()));
+            Set<String> givers = new HashSet<>(students);
+            givers.addAll(instructors);
+
+            Set<String> giversWithResponses = frDb.getGiversWithResponsesInSession(sessionName, courseId, givers);
+            students.removeAll(giversWithResponses);
+            instructors.removeAll(giversWithResponses);
+            if (students.isEmpty() && instructors.isEmpty()) {
+                continue;
+            }
+
             try {
-                if (!hasGiverRespondedForSession(instructorEmail, sessionName, courseId)) {
-                    fsLogic.deleteInstructorRespondent(instructorEmail, sessionName, courseId);
-                }
-            } catch (EntityDoesNotExistException | InvalidParametersException e) {
+                fsLogic.deleteRespondents(sessionName, courseId, students, instructors);
+            } catch (EntityDoesNotExistException e) {
                 log.warning(String.format(
-                        "Cannot adjust response rate for instructor %s course %s feedbackSession %s because of %s",
-                        instructorEmail, courseId, sessionName, TeammatesException.toStringWithStackTrace(e)));
+                        "Cannot adjust response rate for students %s and instructors %s course %s feedbackSession %s "
+                        + "because of %s", students, instructors, courseId, sessionName,
+                        TeammatesException.toStringWithStackTrace(e)));
             }
         }
     }
@@ -634,43 +762,19 @@ public final class FeedbackResponsesLogic {
 
     /**
      * Updates responses for a student when his email changes.
+     *
+     * <p>The responses given by and to the student are re-created in a single batch,
+     * and the comments of the responses are then moved to the re-created responses in another.
+     *
+     * @return the IDs of the comments updated, whose search documents are to be re-indexed
      */
-    public void updateFeedbackResponsesForChangingEmail(
-            String courseId, String oldEmail, String newEmail)
-            throws InvalidParametersException, EntityDoesNotExistException {
-
-        List<FeedbackResponseAttributes> responsesFromUser =
-                getFeedbackResponsesFromGiverForCourse(courseId, oldEmail);
-
-        for (FeedbackResponseAttributes response : responsesFromUser) {
-            try {
-                updateFeedbackResponseCascade(
-                        FeedbackResponseAttributes.updateOptionsBuilder(response.getId())
-                                .withGiver(newEmail)
-                                .build());
-                frcLogic.updateFeedbackResponseCommentsEmails(courseId, oldEmail, newEmail);
-            } catch (EntityAlreadyExistsException e) {
-                Assumption
-                        .fail("Feedback response failed to update successfully"
-                            + "as email was already in use.");
-            }
-        }
-
-        List<FeedbackResponseAttributes> responsesToUser =
-                getFeedbackResponsesForReceiverForCourse(courseId, oldEmail);
-
-        for (FeedbackResponseAttributes response : responsesToUser) {
-            try {
-                updateFeedbackResponseCascade(
-                        FeedbackResponseAttributes.updateOptionsBuilder(response.getId())
-                                .withRecipient(newEmail)
-                                .build());
-            } catch (EntityAlreadyExistsException e) {
-                Assumption
-                        .fail("Feedback response failed to update successfully "
-                            + "as email was already in use.");
-            }
-        }
+    public List<Long> updateFeedbackResponsesForChangingEmail(
+            String courseId, String oldEmail, String newEmail) {
+        Map<String, FeedbackResponseAttributes> updatedResponses =
+                frDb.updateEmailOfResponsesForUser(courseId, oldEmail, newEmail);
+        List<Long> commentIds = new ArrayList<>(frcLogic.updateFeedbackResponseCommentsForResponses(updatedResponses));
+        commentIds.addAll(frcLogic.updateFeedbackResponseCommentsEmails(courseId, oldEmail, newEmail));
+        return commentIds;
     }
 
     /**
@@ -693,10 +797,23 @@ public final class FeedbackResponsesLogic {
         frDb.deleteFeedbackResponse(responseId);
     }
 
+    /**
+     * Deletes feedback responses cascade their associated comments.
+     *
+     * <p>The comments of all the responses are deleted together in batches, and so are the responses.
+     * The respondent lists will NOT be updated.
+     */
+    public void deleteFeedbackResponsesCascade(Collection<String> responseIds) {
+        frcLogic.deleteFeedbackResponseCommentsForResponses(responseIds);
+        frDb.deleteFeedbackResponses(responseIds);
+    }
+
     /**
      * Deletes all feedback responses of a question cascade its associated comments.
      *
-     * <p>The respondent lists will also be updated.
+     * <p>The respondent lists will also be updated, even if the deletion is stopped by an
+     * {@link teammates.common.exception.IncompleteDeletionException}, as the givers whose responses
+     * are all deleted are not known any more when the deletion is repeated.
      */
     public void deleteFeedbackResponsesForQuestionCascade(String feedbackQuestionId) {
         List<FeedbackResponseAttributes> responsesForQuestion =
@@ -712,18 +829,20 @@ public final class FeedbackResponsesLogic {
         AttributesDeletionQuery query = AttributesDeletionQuery.builder()
                 .withQuestionId(feedbackQuestionId)
                 .build();
-        deleteFeedbackResponses(query);
-        frcLogic.deleteFeedbackResponseComments(query);
-
-        FeedbackQuestionAttributes question = fqLogic.getFeedbackQuestion(feedbackQuestionId);
-        if (question.getGiverType() == FeedbackParticipantType.SELF
-                || question.getGiverType() == FeedbackParticipantType.INSTRUCTORS) {
-            deleteInstructorFromRespondentsIfNecessary(
-                    question.getCourseId(), question.getFeedbackSessionName(), emails.toArray(new String[0]));
-        }
-        if (question.getGiverType() == FeedbackParticipantType.STUDENTS) {
-            deleteStudentFromRespondentsIfNecessary(
-                    question.getCourseId(), question.getFeedbackSessionName(), emails.toArray(new String[0]));
+        try {
+            deleteFeedbackResponses(query);
+            frcLogic.deleteFeedbackResponseComments(query);
+        } finally {
+            FeedbackQuestionAttributes question = fqLogic.getFeedbackQuestion(feedbackQuestionId);
+            if (question.getGiverType() == FeedbackParticipantType.SELF
+                    || question.getGiverType() == FeedbackParticipantType.INSTRUCTORS) {
+                deleteRespondentsIfNecessary(question.getCourseId(),
+                        new HashMap<>(), Collections.singletonMap(question.getFeedbackSessionName(), emails));
+            }
+            if (question.getGiverType() == FeedbackParticipantType.STUDENTS) {
+                deleteRespondentsIfNecessary(question.getCourseId(),
+                        Collections.singletonMap(question.getFeedbackSessionName(), emails), new HashMap<>());
+            }
         }
     }
 
@@ -742,12 +861,7 @@ public final class FeedbackResponsesLogic {
                 studentEmailsNeedRespondentsUpdate, instructorEmailsNeedRespondentsUpdate);
 
         // update respondents
-        studentEmailsNeedRespondentsUpdate.forEach((sessionName, emails) -> {
-            deleteStudentFromRespondentsIfNecessary(courseId, sessionName, emails.toArray(new String[0]));
-        });
-        instructorEmailsNeedRespondentsUpdate.forEach((sessionName, emails) -> {
-            deleteInstructorFromRespondentsIfNecessary(courseId, sessionName, emails.toArray(new String[0]));
-        });
+        deleteRespondentsIfNecessary(courseId, studentEmailsNeedRespondentsUpdate, instructorEmailsNeedRespondentsUpdate);
 
         fsLogic.deleteStudentFromRespondentsList(courseId, studentEmail);
     }
@@ -765,12 +879,7 @@ public final class FeedbackResponsesLogic {
                 studentEmailsNeedRespondentsUpdate, instructorEmailsNeedRespondentsUpdate);
 
         // update respondents
-        studentEmailsNeedRespondentsUpdate.forEach((sessionName, emails) -> {
-            deleteStudentFromRespondentsIfNecessary(courseId, sessionName, emails.toArray(new String[0]));
-        });
-        instructorEmailsNeedRespondentsUpdate.forEach((sessionName, emails) -> {
-            deleteInstructorFromRespondentsIfNecessary(courseId, sessionName, emails.toArray(new String[0]));
-        });
+        deleteRespondentsIfNecessary(courseId, studentEmailsNeedRespondentsUpdate, instructorEmailsNeedRespondentsUpdate);
     }
 
     /**
@@ -788,12 +897,7 @@ public final class FeedbackResponsesLogic {
                 studentEmailsNeedRespondentsUpdate, instructorEmailsNeedRespondentsUpdate);
 
         // update respondents
-        studentEmailsNeedRespondentsUpdate.forEach((sessionName, emails) -> {
-            deleteStudentFromRespondentsIfNecessary(courseId, sessionName, emails.toArray(new String[0]));
-        });
-        instructorEmailsNeedRespondentsUpdate.forEach((sessionName, emails) -> {
-            deleteInstructorFromRespondentsIfNecessary(courseId, sessionName, emails.toArray(new String[0]));
-        });
+        deleteRespondentsIfNecessary(courseId, studentEmailsNeedRespondentsUpdate, instructorEmailsNeedRespondentsUpdate);
 
         fsLogic.deleteInstructorFromRespondentsList(courseId, instructorEmail);
     }
@@ -1,26 +1,34 @@
 package teammates.logic.core;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
 import teammates.common.datatransfer.AttributesDeletionQuery;
 import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.FeedbackResponsesPage;
 import teammates.common.datatransfer.FeedbackSessionDetailsBundle;
 import teammates.common.datatransfer.FeedbackSessionQuestionsBundle;
 import teammates.common.datatransfer.FeedbackSessionResponseStatus;
 import teammates.common.datatransfer.FeedbackSessionResultsBundle;
 import teammates.common.datatransfer.SectionDetail;
 import teammates.common.datatransfer.UserRole;
+import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
@@ -40,6 +48,7 @@ import teammates.common.util.SanitizationHelper;
 import teammates.common.util.StringHelper;
 import teammates.common.util.TimeHelper;
 import teammates.storage.api.FeedbackSessionsDb;
+import teammates.storage.api.PendingResult;
 
 /**
  * Handles operations related to feedback sessions.
@@ -65,6 +74,17 @@ public final class FeedbackSessionsLogic {
     private static final String PARAM_TO_SECTION = "toSection";
     private static final String PARAM_VIEW_TYPE = "viewType";
 
+    /**
+     * Maximum number of queries for the questions of sessions which are run ahead of the session being processed,
+     * which bounds the queries in flight however many sessions an instructor has.
+     */
+    private static final int MAX_QUESTION_QUERIES_IN_FLIGHT = 10;
+
+    /**
+     * Number of responses of a question which are loaded at a time when exporting the results of a session.
+     */
+    private static final int EXPORT_RESPONSES_PAGE_SIZE = 500;
+
     private static final String ASSUMPTION_FAIL_DELETE_INSTRUCTOR = "Fail to delete instructor respondent for ";
     private static final String ASSUMPTION_FAIL_RESPONSE_ORIGIN = "Client did not indicate the origin of the response(s)";
     private static final String ERROR_NUMBER_OF_RESPONSES_EXCEEDS_RANGE = "Number of responses exceeds the limited range";
@@ -164,20 +184,60 @@ public final class FeedbackSessionsLogic {
      */
     public List<FeedbackSessionAttributes> getFeedbackSessionsForUserInCourseSkipCheck(
             String courseId, String userEmail) {
-        List<FeedbackSessionAttributes> sessions =
-                getFeedbackSessionsForCourse(courseId);
-        List<FeedbackSessionAttributes> viewableSessions = new ArrayList<>();
-        if (!sessions.isEmpty()) {
-            InstructorAttributes instructor = instructorsLogic.getInstructorForEmail(courseId, userEmail);
-            boolean isInstructorOfCourse = instructor != null;
-            for (FeedbackSessionAttributes session : sessions) {
-                if (isFeedbackSessionViewableTo(session, isInstructorOfCourse)) {
-                    viewableSessions.add(session);
-                }
+        return getFeedbackSessionsForUsersInCoursesSkipCheck(Collections.singletonMap(courseId, userEmail))
+                .get(courseId);
+    }
+
+    /**
+     * Gets the feedback sessions for the specified users in each of the specified courses
+     * without checking for the courses' existence.
+     *
+     * <p>The sessions, and the instructors that the users may be, are loaded for all the courses at once.
+     * The questions of the sessions whose viewability depends on them are loaded concurrently.
+     *
+     * @param userEmailsByCourseId the email of the user in each course
+     * @return the viewable feedback sessions keyed by the ID of their course
+     * @see #getFeedbackSessionsForUserInCourseSkipCheck(String, String)
+     */
+    public Map<String, List<FeedbackSessionAttributes>> getFeedbackSessionsForUsersInCoursesSkipCheck(
+            Map<String, String> userEmailsByCourseId) {
+        Map<String, List<FeedbackSessionAttributes>> sessionsByCourseId =
+                fsDb.getFeedbackSessionsForCourses(userEmailsByCourseId.keySet());
+
+        Map<String, String> userEmailsInCoursesWithSessions = new HashMap<>();
+        sessionsByCourseId.forEach((courseId, sessions) -> {
+            if (!sessions.isEmpty()) {
+                userEmailsInCoursesWithSessions.put(courseId, userEmailsByCourseId.get(courseId));
             }
-        }
+        });
+        Set<String> courseIdsOfInstructors = instructorsLogic.getInstructorsForEmails(userEmailsInCoursesWithSessions)
+                .stream()
+                .map(InstructorAttributes::getCourseId)
+                .collect(Collectors.toSet());
+
+        // sessions are always viewable to instructors, and never viewable to students before they are visible
+        List<FeedbackSessionAttributes> sessionsToCheck = new ArrayList<>();
+        sessionsByCourseId.forEach((courseId, sessions) -> {
+            if (!courseIdsOfInstructors.contains(courseId)) {
+                sessions.stream().filter(FeedbackSessionAttributes::isVisible).forEach(sessionsToCheck::add);
+            }
+        });
+        Set<FeedbackSessionAttributes> sessionsViewableToStudents =
+                Collections.newSetFromMap(new IdentityHashMap<>());
+        forEachFeedbackSessionWithQuestions(sessionsToCheck, (session, questions) -> {
+            if (isFeedbackSessionViewableToStudents(session, questions)) {
+                sessionsViewableToStudents.add(session);
+            }
+        });
 
-        return viewableSessions;
+        Map<String, List<FeedbackSessionAttributes>> viewableSessionsByCourseId = new HashMap<>();
+        sessionsByCourseId.forEach((courseId, sessions) -> {
+            boolean isInstructorOfCourse = courseIdsOfInstructors.contains(courseId);
+            viewableSessionsByCourseId.put(courseId, sessions.stream()
+                    .filter(session -> isInstructorOfCourse || sessionsViewableToStudents.contains(session))
+                    .collect(Collectors.toList()));
+        });
+        return viewableSessionsByCourseId;
     }
 
     /**
@@ -226,17 +286,51 @@ public final class FeedbackSessionsLogic {
             String googleId, boolean omitArchived)
             throws EntityDoesNotExistException {
 
-        List<FeedbackSessionDetailsBundle> fsDetails = new ArrayList<>();
         List<InstructorAttributes> instructors =
                 instructorsLogic.getInstructorsForGoogleId(googleId, omitArchived);
+        Map<String, List<FeedbackSessionAttributes>> sessionsByCourseId = fsDb.getFeedbackSessionsForCourses(
+                instructors.stream().map(InstructorAttributes::getCourseId).collect(Collectors.toList()));
 
-        for (InstructorAttributes instructor : instructors) {
-            fsDetails.addAll(getFeedbackSessionDetailsForCourse(instructor.courseId));
-        }
+        List<FeedbackSessionAttributes> sessions = new ArrayList<>();
+        sessionsByCourseId.values().forEach(sessions::addAll);
+        fsDb.loadRespondents(sessions);
+
+        // the questions of the next sessions are loaded while the members of the course of a session are loaded
+        Map<String, Integer> numbersOfStudents = new HashMap<>();
+        Map<String, List<InstructorAttributes>> instructorsOfCourses = new HashMap<>();
+        List<FeedbackSessionDetailsBundle> fsDetails = new ArrayList<>();
+        forEachFeedbackSessionWithQuestions(sessions, (session, questions) -> {
+            int numberOfStudents = numbersOfStudents.computeIfAbsent(
+                    session.getCourseId(), studentsLogic::getNumberOfStudentsForCourse);
+            List<InstructorAttributes> instructorsOfCourse = instructorsOfCourses.computeIfAbsent(
+                    session.getCourseId(), instructorsLogic::getInstructorsForCourse);
+            fsDetails.add(getFeedbackSessionDetails(session, numberOfStudents, instructorsOfCourse, questions));
+        });
 
         return fsDetails;
     }
 
+    /**
+     * Processes each of the sessions in turn together with its questions.
+     *
+     * <p>The questions of up to {@value #MAX_QUESTION_QUERIES_IN_FLIGHT} sessions are loaded ahead of the session
+     * being processed.
+     */
+    private void forEachFeedbackSessionWithQuestions(List<FeedbackSessionAttributes> sessions,
+            BiConsumer<FeedbackSessionAttributes, List<FeedbackQuestionAttributes>> action) {
+        List<PendingResult<List<FeedbackQuestionAttributes>>> pendingQuestions = new ArrayList<>();
+        for (int i = 0; i < sessions.size(); i++) {
+            int numberOfQueriesToStart = Math.min(sessions.size(), i + MAX_QUESTION_QUERIES_IN_FLIGHT);
+            while (pendingQuestions.size() < numberOfQueriesToStart) {
+                FeedbackSessionAttributes sessionToQuery = sessions.get(pendingQuestions.size());
+                pendingQuestions.add(fqLogic.getFeedbackQuestionsForSessionAsync(
+                        sessionToQuery.getFeedbackSessionName(), sessionToQuery.getCourseId()));
+            }
+
+            action.accept(sessions.get(i), pendingQuestions.get(i).get());
+        }
+    }
+
     /**
      * Returns a {@code List} of all feedback sessions WITHOUT their response
      * statistics for a instructor given by his googleId.<br>
@@ -255,14 +349,24 @@ public final class FeedbackSessionsLogic {
     public List<FeedbackSessionAttributes> getFeedbackSessionsListForInstructor(
             List<InstructorAttributes> instructorList) {
 
-        List<InstructorAttributes> courseNotDeletedInstructorList = instructorList.stream()
-                .filter(instructor -> !coursesLogic.getCourse(instructor.courseId).isCourseDeleted())
+        List<String> courseIds = instructorList.stream()
+                .map(InstructorAttributes::getCourseId)
+                .distinct()
                 .collect(Collectors.toList());
+        // the courses are loaded in a single batch while the sessions of all the courses are queried
+        PendingResult<List<CourseAttributes>> pendingCourses = coursesLogic.getCoursesAsync(courseIds);
+        Map<String, List<FeedbackSessionAttributes>> sessionsByCourseId = fsDb.getFeedbackSessionsForCourses(courseIds);
+        Set<String> deletedCourseIds = pendingCourses.get().stream()
+                .filter(CourseAttributes::isCourseDeleted)
+                .map(CourseAttributes::getId)
+                .collect(Collectors.toSet());
 
         List<FeedbackSessionAttributes> fsList = new ArrayList<>();
 
-        for (InstructorAttributes instructor : courseNotDeletedInstructorList) {
-            fsList.addAll(getFeedbackSessionsListForCourse(instructor.courseId));
+        for (InstructorAttributes instructor : instructorList) {
+            if (!deletedCourseIds.contains(instructor.courseId)) {
+                fsList.addAll(sessionsByCourseId.get(instructor.courseId));
+            }
         }
 
         return fsList;
@@ -344,8 +448,8 @@ public final class FeedbackSessionsLogic {
 
         for (FeedbackQuestionAttributes question : questions) {
 
-            updateBundleAndRecipientListWithResponsesForInstructor(courseId,
-                    userEmail, fsa, instructor, bundle, recipientList,
+            updateBundleAndRecipientListWithResponsesForInstructor(
+                    userEmail, instructor, bundle, recipientList,
                     question, instructor, null);
             updateBundleWithCommentsForResponses(bundle.get(question), commentsForResponses);
         }
@@ -354,9 +458,7 @@ public final class FeedbackSessionsLogic {
     }
 
     private void updateBundleAndRecipientListWithResponsesForInstructor(
-            String courseId,
             String userEmail,
-            FeedbackSessionAttributes fsa,
             InstructorAttributes instructor,
             Map<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> bundle,
             Map<String, Map<String, String>> recipientList,
@@ -368,22 +470,8 @@ public final class FeedbackSessionsLogic {
                         question.getId(), userEmail);
         Map<String, String> recipients =
                 fqLogic.getRecipientsForQuestion(question, userEmail, instructorGiver, studentGiver);
-        // instructor can only see students in allowed sections for him/her
-        if (question.recipientType.equals(FeedbackParticipantType.STUDENTS)) {
-            recipients.entrySet().removeIf(studentEntry -> {
-                StudentAttributes student = studentsLogic.getStudentForEmail(courseId, studentEntry.getKey());
-                return !instructor.isAllowedForPrivilege(student.section,
-                        fsa.getFeedbackSessionName(), Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS);
-            });
-        }
-        // instructor can only see teams in allowed sections for him/her
-        if (question.recipientType.equals(FeedbackParticipantType.TEAMS)) {
-            recipients.entrySet().removeIf(teamEntry -> {
-                String teamSection = studentsLogic.getSectionForTeam(courseId, teamEntry.getKey());
-                return !instructor.isAllowedForPrivilege(teamSection,
-                        fsa.getFeedbackSessionName(), Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS);
-            });
-        }
+        // instructor can only see students and teams in allowed sections for him/her
+        fqLogic.removeRecipientsInSectionsNotAllowedForInstructor(question, instructor, recipients);
         normalizeMaximumResponseEntities(question, recipients);
 
         bundle.put(question, responses);
@@ -562,35 +650,32 @@ public final class FeedbackSessionsLogic {
         List<FeedbackQuestionAttributes> studentQns = fqLogic
                 .getFeedbackQuestionsForStudents(questions);
 
-        List<String> studentNoResponses = new ArrayList<>();
-        List<String> studentResponded = new ArrayList<>();
-        List<String> instructorNoResponses = new ArrayList<>();
+        Set<String> respondingStudents = fsa.getRespondingStudentList();
+        Set<String> respondingInstructors = fsa.getRespondingInstructorList();
 
         if (!studentQns.isEmpty()) {
             for (StudentAttributes student : students) {
-                studentNoResponses.add(student.email);
+                if (!respondingStudents.contains(student.email)) {
+                    responseStatus.studentsWhoDidNotRespond.add(student.email);
+                }
                 responseStatus.emailNameTable.put(student.email, student.name);
                 responseStatus.emailSectionTable.put(student.email, student.section);
                 responseStatus.emailTeamNameTable.put(student.email, student.team);
             }
         }
-        studentNoResponses.removeAll(fsa.getRespondingStudentList());
-        studentResponded.addAll(fsa.getRespondingStudentList());
+        responseStatus.studentsWhoResponded.addAll(respondingStudents);
 
         for (InstructorAttributes instructor : instructors) {
             List<FeedbackQuestionAttributes> instructorQns = fqLogic
                     .getFeedbackQuestionsForInstructor(questions,
                             fsa.isCreator(instructor.email));
             if (!instructorQns.isEmpty() && responseStatus.emailNameTable.get(instructor.email) == null) {
-                instructorNoResponses.add(instructor.email);
+                if (!respondingInstructors.contains(instructor.email)) {
+                    responseStatus.studentsWhoDidNotRespond.add(instructor.email);
+                }
                 responseStatus.emailNameTable.put(instructor.email, instructor.name);
             }
         }
-        instructorNoResponses.removeAll(fsa.getRespondingInstructorList());
-
-        responseStatus.studentsWhoDidNotRespond.addAll(studentNoResponses);
-        responseStatus.studentsWhoResponded.addAll(studentResponded);
-        responseStatus.studentsWhoDidNotRespond.addAll(instructorNoResponses);
 
         return responseStatus;
     }
@@ -655,6 +740,56 @@ public final class FeedbackSessionsLogic {
                 range, viewType);
     }
 
+    /**
+     * Gets one page of the results of a feedback session to show to an instructor.
+     *
+     * <p>Pages are ordered by question, giver and then recipient. The cursor to fetch the next page with is
+     * given by {@link FeedbackSessionResultsBundle#getNextPageCursor()}, which is null for the last page.
+     *
+     * @param cursor the cursor returned with the previous page, or null to get the first page
+     * @param pageSize the maximum number of responses to fetch for the page
+     * @throws InvalidParametersException if the cursor is malformed
+     */
+    @SuppressWarnings("PMD.PrematureDeclaration")
+    public FeedbackSessionResultsBundle getFeedbackSessionResultsForInstructorInPage(
+            String feedbackSessionName, String courseId, String userEmail, String cursor, int pageSize)
+            throws EntityDoesNotExistException, InvalidParametersException {
+
+        PendingResult<FeedbackSessionAttributes> pendingSession =
+                fsDb.getFeedbackSessionAsync(courseId, feedbackSessionName);
+        PendingResult<List<FeedbackQuestionAttributes>> pendingQuestions =
+                fqLogic.getFeedbackQuestionsForSessionAsync(feedbackSessionName, courseId);
+        PendingResult<List<FeedbackResponseCommentAttributes>> pendingComments =
+                frcLogic.getFeedbackResponseCommentForSessionInSectionAsync(courseId, feedbackSessionName, null);
+
+        CourseRoster roster = new CourseRoster(
+                studentsLogic.getStudentsForCourse(courseId),
+                instructorsLogic.getInstructorsForCourse(courseId));
+
+        FeedbackSessionAttributes session = pendingSession.get();
+
+        if (session == null) {
+            throw new EntityDoesNotExistException(ERROR_NON_EXISTENT_FS_VIEW + courseId + "/" + feedbackSessionName);
+        }
+
+        FeedbackResponsesPage page =
+                frLogic.getFeedbackResponsesForSessionInPage(feedbackSessionName, courseId, cursor, pageSize);
+
+        List<FeedbackQuestionAttributes> allQuestions = pendingQuestions.get();
+        Map<String, FeedbackQuestionAttributes> relevantQuestions = new HashMap<>();
+        putQuestionsIntoMap(allQuestions, relevantQuestions);
+
+        // response status is only included with the first page as it does not depend on the page
+        FeedbackSessionResponseStatus responseStatus = cursor == null
+                                                     ? getFeedbackSessionResponseStatus(session, roster, allQuestions)
+                                                     : null;
+        FeedbackSessionResultsBundle results = getFeedbackSessionResultsForResponses(
+                session, userEmail, UserRole.INSTRUCTOR, roster, allQuestions, relevantQuestions,
+                page.getResponses(), pendingComments.get(), responseStatus, null, page.isLastPage());
+        results.nextPageCursor = page.getNextPageCursor();
+        return results;
+    }
+
     /**
      * Gets results of a feedback session to show to an instructor in a section in an indicated range.
      */
@@ -807,13 +942,150 @@ public final class FeedbackSessionsLogic {
         // sort responses by giver > recipient > qnNumber
         results.responses.sort(results.compareByGiverRecipientQuestion);
 
+        StringBuilder exportBuilder = getCsvHeader(results.feedbackSession, section, sectionDetail);
+
+        Set<Entry<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>>> entrySet =
+                results.getQuestionResponseMap().entrySet();
+
+        for (Map.Entry<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> entry : entrySet) {
+            exportBuilder.append(getFeedbackSessionResultsForQuestionInCsvFormat(
+                    results, entry, isMissingResponsesShown, isStatsShown, section));
+        }
+
+        return exportBuilder.toString();
+    }
+
+    /**
+     * Writes the results of a feedback session in CSV format to {@code writer}.
+     *
+     * <p>The results are loaded and written one question at a time, so only the responses of a single question
+     * are held in memory at any point, and the responses of each question are loaded in pages.
+     * Hence, unlike
+     * {@link #getFeedbackSessionResultsSummaryInSectionAsCsv(String, String, String, String, SectionDetail,
+     * String, boolean, boolean)}, there is no limit on the number of responses that can be exported.
+     * The session, its questions and comments, the course roster and the response status are loaded
+     * once for all the questions.
+     *
+     * @param section the section to export, or null for all sections
+     * @param questionId the question to export, or null for all questions
+     */
+    @SuppressWarnings("PMD.PrematureDeclaration")
+    public void writeFeedbackSessionResultsSummaryInSectionAsCsv(
+            String feedbackSessionName, String courseId, String userEmail, String section,
+            SectionDetail sectionDetail, String questionId, boolean isMissingResponsesShown, boolean isStatsShown,
+            Writer writer)
+            throws EntityDoesNotExistException, IOException {
+
+        PendingResult<FeedbackSessionAttributes> pendingSession =
+                fsDb.getFeedbackSessionAsync(courseId, feedbackSessionName);
+        PendingResult<List<FeedbackQuestionAttributes>> pendingQuestions =
+                fqLogic.getFeedbackQuestionsForSessionAsync(feedbackSessionName, courseId);
+        PendingResult<List<FeedbackResponseCommentAttributes>> pendingComments =
+                frcLogic.getFeedbackResponseCommentForSessionInSectionAsync(courseId, feedbackSessionName, section);
+
+        CourseRoster roster = new CourseRoster(
+                studentsLogic.getStudentsForCourse(courseId),
+                instructorsLogic.getInstructorsForCourse(courseId));
+
+        FeedbackSessionAttributes session = pendingSession.get();
+
+        if (session == null) {
+            throw new EntityDoesNotExistException(ERROR_NON_EXISTENT_FS_VIEW + courseId + "/" + feedbackSessionName);
+        }
+
+        List<FeedbackQuestionAttributes> allQuestions = pendingQuestions.get();
+        Map<String, List<FeedbackResponseCommentAttributes>> commentsByQuestion = new HashMap<>();
+        for (FeedbackResponseCommentAttributes comment : pendingComments.get()) {
+            commentsByQuestion.computeIfAbsent(comment.feedbackQuestionId, key -> new ArrayList<>()).add(comment);
+        }
+        FeedbackSessionResponseStatus responseStatus = section == null
+                                                     ? getFeedbackSessionResponseStatus(session, roster, allQuestions)
+                                                     : null;
+
+        writer.append(getCsvHeader(session, section, sectionDetail));
+
+        for (FeedbackQuestionAttributes question : allQuestions) {
+            if (questionId != null && !questionId.equals(question.getId())) {
+                continue;
+            }
+
+            Map<String, FeedbackQuestionAttributes> relevantQuestions = new HashMap<>();
+            relevantQuestions.put(question.getId(), question);
+            FeedbackSessionResultsBundle results = getFeedbackSessionResultsForResponses(
+                    session, userEmail, UserRole.INSTRUCTOR, roster, allQuestions, relevantQuestions,
+                    getFeedbackResponsesForQuestionInSection(question.getId(), section, sectionDetail),
+                    commentsByQuestion.getOrDefault(question.getId(), Collections.emptyList()),
+                    responseStatus, section, true);
+            // sort responses by giver > recipient > qnNumber
+            results.responses.sort(results.compareByGiverRecipientQuestion);
+
+            Set<Entry<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>>> entrySet =
+                    results.getQuestionResponseMap().entrySet();
+
+            for (Map.Entry<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> entry : entrySet) {
+                writer.append(getFeedbackSessionResultsForQuestionInCsvFormat(
+                        results, entry, isMissingResponsesShown, isStatsShown, section));
+            }
+            writer.flush();
+        }
+    }
+
+    /**
+     * Gets the responses of a question in a section, loading them in pages.
+     *
+     * @param section the section of the responses, or null for all sections
+     */
+    private List<FeedbackResponseAttributes> getFeedbackResponsesForQuestionInSection(
+            String questionId, String section, SectionDetail sectionDetail) {
+        List<FeedbackResponseAttributes> responses = new ArrayList<>();
+        String cursor = null;
+        do {
+            FeedbackResponsesPage page;
+            try {
+                page = frLogic.getFeedbackResponsesForQuestionInPage(questionId, cursor, EXPORT_RESPONSES_PAGE_SIZE);
+            } catch (InvalidParametersException e) {
+                Assumption.fail("Cursor returned with the previous page is invalid: " + e.getMessage());
+                return responses;
+            }
+            for (FeedbackResponseAttributes response : page.getResponses()) {
+                if (section == null || isResponseInSection(response, section, sectionDetail)) {
+                    responses.add(response);
+                }
+            }
+            cursor = page.getNextPageCursor();
+        } while (cursor != null);
+        return responses;
+    }
+
+    private boolean isResponseInSection(FeedbackResponseAttributes response, String section, SectionDetail sectionDetail) {
+        boolean isGiverInSection = section.equals(response.giverSection);
+        boolean isRecipientInSection = section.equals(response.recipientSection);
+
+        switch (sectionDetail) {
+        case GIVER:
+            return isGiverInSection;
+        case EVALUEE:
+            return isRecipientInSection;
+        case BOTH:
+            // responses in section with giver or recipient as None are added to respective section selected
+            return (isGiverInSection || Const.DEFAULT_SECTION.equals(response.giverSection))
+                    && (isRecipientInSection || Const.DEFAULT_SECTION.equals(response.recipientSection))
+                    && (isGiverInSection || isRecipientInSection);
+        default:
+            // default for 'all' section selected will be EITHER case
+            return isGiverInSection || isRecipientInSection;
+        }
+    }
+
+    private StringBuilder getCsvHeader(
+            FeedbackSessionAttributes session, String section, SectionDetail sectionDetail) {
         StringBuilder exportBuilder = new StringBuilder(100);
 
         exportBuilder.append(String.format("Course,%s",
-                             SanitizationHelper.sanitizeForCsv(results.feedbackSession.getCourseId())))
+                             SanitizationHelper.sanitizeForCsv(session.getCourseId())))
                      .append(System.lineSeparator())
                      .append(String.format("Session Name,%s",
-                             SanitizationHelper.sanitizeForCsv(results.feedbackSession.getFeedbackSessionName())))
+                             SanitizationHelper.sanitizeForCsv(session.getFeedbackSessionName())))
                      .append(System.lineSeparator());
 
         if (section != null) {
@@ -827,15 +1099,7 @@ public final class FeedbackSessionsLogic {
 
         exportBuilder.append(System.lineSeparator()).append(System.lineSeparator());
 
-        Set<Entry<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>>> entrySet =
-                results.getQuestionResponseMap().entrySet();
-
-        for (Map.Entry<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> entry : entrySet) {
-            exportBuilder.append(getFeedbackSessionResultsForQuestionInCsvFormat(
-                    results, entry, isMissingResponsesShown, isStatsShown, section));
-        }
-
-        return exportBuilder.toString();
+        return exportBuilder;
     }
 
     private StringBuilder getFeedbackSessionResultsForQuestionInCsvFormat(
@@ -1091,6 +1355,50 @@ public final class FeedbackSessionsLogic {
         return allQuestions.isEmpty();
     }
 
+    /**
+     * Gets the students among {@code students} who have yet to respond to a session
+     * that has questions for students to answer.
+     *
+     * <p>The questions of the session are loaded once for all the students.
+     */
+    public List<StudentAttributes> getStudentsYetToRespond(FeedbackSessionAttributes fsa,
+            List<StudentAttributes> students) {
+        List<StudentAttributes> studentsYetToRespond = new ArrayList<>();
+        if (fqLogic.getFeedbackQuestionsForStudents(fsa.getFeedbackSessionName(), fsa.getCourseId()).isEmpty()) {
+            return studentsYetToRespond;
+        }
+
+        Set<String> respondingStudents = fsa.getRespondingStudentList();
+        for (StudentAttributes student : students) {
+            if (!respondingStudents.contains(student.email)) {
+                studentsYetToRespond.add(student);
+            }
+        }
+        return studentsYetToRespond;
+    }
+
+    /**
+     * Gets the instructors among {@code instructors} who have yet to respond to a session
+     * that has questions for them to answer.
+     *
+     * <p>The questions of the session are loaded once for all the instructors.
+     */
+    public List<InstructorAttributes> getInstructorsYetToRespond(FeedbackSessionAttributes fsa,
+            List<InstructorAttributes> instructors) {
+        List<FeedbackQuestionAttributes> questions =
+                fqLogic.getFeedbackQuestionsForSession(fsa.getFeedbackSessionName(), fsa.getCourseId());
+
+        List<InstructorAttributes> instructorsYetToRespond = new ArrayList<>();
+        Set<String> respondingInstructors = fsa.getRespondingInstructorList();
+        for (InstructorAttributes instructor : instructors) {
+            if (!respondingInstructors.contains(instructor.email)
+                    && !fqLogic.getFeedbackQuestionsForInstructor(questions, fsa.isCreator(instructor.email)).isEmpty()) {
+                instructorsYetToRespond.add(instructor);
+            }
+        }
+        return instructorsYetToRespond;
+    }
+
     public boolean isFeedbackSessionCompletedByInstructor(FeedbackSessionAttributes fsa, String userEmail)
             throws EntityDoesNotExistException {
         if (fsa.getRespondingInstructorList().contains(userEmail)) {
@@ -1253,10 +1561,8 @@ public final class FeedbackSessionsLogic {
         Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, courseId);
         Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, email);
 
-        fsDb.updateFeedbackSession(
-                FeedbackSessionAttributes.updateOptionsBuilder(feedbackSessionName, courseId)
-                        .withAddingInstructorRespondent(email)
-                        .build());
+        fsDb.addRespondents(feedbackSessionName, courseId,
+                Collections.emptySet(), Collections.singleton(email));
     }
 
     /**
@@ -1269,10 +1575,8 @@ public final class FeedbackSessionsLogic {
         Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, courseId);
         Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, email);
 
-        fsDb.updateFeedbackSession(
-                FeedbackSessionAttributes.updateOptionsBuilder(feedbackSessionName, courseId)
-                        .withAddingStudentRespondent(email)
-                        .build());
+        fsDb.addRespondents(feedbackSessionName, courseId,
+                Collections.singleton(email), Collections.emptySet());
     }
 
     /**
@@ -1285,10 +1589,8 @@ public final class FeedbackSessionsLogic {
         Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, courseId);
         Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, email);
 
-        fsDb.updateFeedbackSession(
-                FeedbackSessionAttributes.updateOptionsBuilder(feedbackSessionName, courseId)
-                        .withRemovingInstructorRespondent(email)
-                        .build());
+        fsDb.removeRespondents(feedbackSessionName, courseId,
+                Collections.emptySet(), Collections.singleton(email));
     }
 
     /**
@@ -1301,10 +1603,23 @@ public final class FeedbackSessionsLogic {
         Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, courseId);
         Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, email);
 
-        fsDb.updateFeedbackSession(
-                FeedbackSessionAttributes.updateOptionsBuilder(feedbackSessionName, courseId)
-                        .withRemovingStudentRespondent(email)
-                        .build());
+        fsDb.removeRespondents(feedbackSessionName, courseId,
+                Collections.singleton(email), Collections.emptySet());
+    }
+
+    /**
+     * Deletes students and instructors from the respondent sets of a feedback session in a single batch.
+     */
+    public void deleteRespondents(String feedbackSessionName, String courseId,
+            Collection<String> studentEmails, Collection<String> instructorEmails)
+            throws EntityDoesNotExistException {
+
+        Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, studentEmails);
+        Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, instructorEmails);
+
+        fsDb.removeRespondents(feedbackSessionName, courseId, studentEmails, instructorEmails);
     }
 
     /**
@@ -1392,6 +1707,10 @@ public final class FeedbackSessionsLogic {
 
     /**
      * Deletes a feedback session cascade to its associated questions, responses and comments.
+     *
+     * <p>The session itself is deleted last. If the deletion is stopped by an
+     * {@link teammates.common.exception.IncompleteDeletionException}, the session thus remains
+     * and deleting it again continues from where the deletion stopped.
      */
     public void deleteFeedbackSessionCascade(String feedbackSessionName, String courseId) {
         AttributesDeletionQuery query = AttributesDeletionQuery.builder()
@@ -1454,6 +1773,17 @@ public final class FeedbackSessionsLogic {
     }
 
     public FeedbackSessionDetailsBundle getFeedbackSessionDetails(FeedbackSessionAttributes fsa) {
+        // the questions are loaded while the members of the course are loaded
+        PendingResult<List<FeedbackQuestionAttributes>> pendingQuestions =
+                fqLogic.getFeedbackQuestionsForSessionAsync(fsa.getFeedbackSessionName(), fsa.getCourseId());
+        int numberOfStudents = studentsLogic.getNumberOfStudentsForCourse(fsa.getCourseId());
+        List<InstructorAttributes> instructors = instructorsLogic.getInstructorsForCourse(fsa.getCourseId());
+
+        return getFeedbackSessionDetails(fsa, numberOfStudents, instructors, pendingQuestions.get());
+    }
+
+    private FeedbackSessionDetailsBundle getFeedbackSessionDetails(FeedbackSessionAttributes fsa, int numberOfStudents,
+            List<InstructorAttributes> instructors, List<FeedbackQuestionAttributes> questions) {
 
         FeedbackSessionDetailsBundle details =
                 new FeedbackSessionDetailsBundle(fsa);
@@ -1461,14 +1791,10 @@ public final class FeedbackSessionsLogic {
         details.stats.expectedTotal = 0;
         details.stats.submittedTotal = 0;
 
-        List<StudentAttributes> students = studentsLogic.getStudentsForCourse(fsa.getCourseId());
-        List<InstructorAttributes> instructors = instructorsLogic.getInstructorsForCourse(fsa.getCourseId());
-        List<FeedbackQuestionAttributes> questions =
-                fqLogic.getFeedbackQuestionsForSession(fsa.getFeedbackSessionName(), fsa.getCourseId());
         List<FeedbackQuestionAttributes> studentQns = fqLogic.getFeedbackQuestionsForStudents(questions);
 
         if (!studentQns.isEmpty()) {
-            details.stats.expectedTotal += students.size();
+            details.stats.expectedTotal += numberOfStudents;
         }
 
         for (InstructorAttributes instructor : instructors) {
@@ -1527,6 +1853,10 @@ public final class FeedbackSessionsLogic {
 
         List<FeedbackQuestionAttributes> allQuestions = fqLogic.getFeedbackQuestionsForSession(
                                                                     feedbackSessionName, courseId);
+        InstructorAttributes instructor = getInstructor(courseId, userEmail, role);
+        FeedbackResponseVisibilityIndex visibilityIndex = new FeedbackResponseVisibilityIndex(
+                userEmail, role, null, null, instructor, feedbackSessionName, roster);
+
         Map<String, FeedbackResponseAttributes> relevantResponse = new HashMap<>();
         for (FeedbackQuestionAttributes question : allQuestions) {
 
@@ -1541,14 +1871,9 @@ public final class FeedbackSessionsLogic {
                 responses.addAll(responsesForThisQn);
                 for (FeedbackResponseAttributes response : responsesForThisQn) {
                     relevantResponse.put(response.getId(), response);
-                    addEmailNamePairsToTable(emailNameTable, response,
-                            question, roster);
-                    addEmailLastNamePairsToTable(emailLastNameTable, response,
-                            question, roster);
-                    addEmailTeamNamePairsToTable(emailTeamNameTable, response,
-                            question, roster);
-                    addVisibilityToTable(visibilityTable, question, response,
-                            userEmail, role, roster);
+                    addEmailNamePairsToTables(emailNameTable, emailLastNameTable, emailTeamNameTable,
+                            response, question, roster);
+                    visibilityTable.put(response.getId(), visibilityIndex.getNameVisibility(response, question));
                 }
             }
         }
@@ -1587,7 +1912,7 @@ public final class FeedbackSessionsLogic {
             sortByCreatedDate(responseCommentList);
         }
 
-        addSectionTeamNamesToTable(sectionTeamNameTable, roster, courseId, userEmail, role, feedbackSessionName, section);
+        addSectionTeamNamesToTable(sectionTeamNameTable, roster, instructor, visibilityIndex, section);
 
         return new FeedbackSessionResultsBundle(
                         session, responses, relevantQuestions, emailNameTable,
@@ -1632,37 +1957,43 @@ public final class FeedbackSessionsLogic {
         return params;
     }
 
+    @SuppressWarnings("PMD.PrematureDeclaration")
     private FeedbackSessionResultsBundle getFeedbackSessionResultsForUserWithParams(
             String feedbackSessionName, String courseId, String userEmail,
             UserRole role, CourseRoster roster, Map<String, String> params, SectionDetail sectionDetail)
             throws EntityDoesNotExistException {
 
-        FeedbackSessionAttributes session = fsDb.getFeedbackSession(courseId, feedbackSessionName);
+        PendingResult<FeedbackSessionAttributes> pendingSession =
+                fsDb.getFeedbackSessionAsync(courseId, feedbackSessionName);
+        PendingResult<List<FeedbackQuestionAttributes>> pendingQuestions =
+                fqLogic.getFeedbackQuestionsForSessionAsync(feedbackSessionName, courseId);
+
+        FeedbackSessionAttributes session = pendingSession.get();
 
         if (session == null) {
             throw new EntityDoesNotExistException(ERROR_NON_EXISTENT_FS_VIEW + courseId + "/" + feedbackSessionName);
         }
 
-        List<FeedbackQuestionAttributes> allQuestions =
-                fqLogic.getFeedbackQuestionsForSession(feedbackSessionName, courseId);
-
-        //Show all questions even if no responses, unless is an ajax request for a specific question.
-        Map<String, FeedbackQuestionAttributes> relevantQuestions = getAllQuestions(role, params, allQuestions);
-
         boolean isIncludeResponseStatus = Boolean.parseBoolean(params.get(PARAM_IS_INCLUDE_RESPONSE_STATUS));
 
         String section = params.get(PARAM_SECTION);
         String questionId = params.get(PARAM_QUESTION_ID);
 
         if (questionId != null) {
+            List<FeedbackQuestionAttributes> allQuestions = pendingQuestions.get();
             return getFeedbackSessionResultsForQuestionId(feedbackSessionName, courseId, userEmail, role, roster, session,
-                    allQuestions, relevantQuestions, isIncludeResponseStatus, section, sectionDetail, questionId);
+                    allQuestions, getAllQuestions(role, params, allQuestions), isIncludeResponseStatus, section,
+                    sectionDetail, questionId);
         }
 
-        Map<String, FeedbackQuestionAttributes> allQuestionsMap = new HashMap<>();
-        putQuestionsIntoMap(allQuestions, allQuestionsMap);
-
+        // the comments and questions are loaded while the responses are queried
+        PendingResult<List<FeedbackResponseCommentAttributes>> pendingComments =
+                frcLogic.getFeedbackResponseCommentForSessionInSectionAsync(courseId, feedbackSessionName, section);
         List<FeedbackResponseAttributes> allResponses = getAllResponses(feedbackSessionName, courseId, params, section);
+        List<FeedbackQuestionAttributes> allQuestions = pendingQuestions.get();
+
+        //Show all questions even if no responses, unless is an ajax request for a specific question.
+        Map<String, FeedbackQuestionAttributes> relevantQuestions = getAllQuestions(role, params, allQuestions);
 
         String rangeString = params.get(PARAM_RANGE);
         boolean isComplete = rangeString == null || allResponses.size() <= Integer.parseInt(rangeString);
@@ -1671,6 +2002,30 @@ public final class FeedbackSessionsLogic {
             putQuestionsIntoMap(allQuestions, relevantQuestions);
         }
 
+        FeedbackSessionResponseStatus responseStatus = section == null && isIncludeResponseStatus
+                                                     ? getFeedbackSessionResponseStatus(session, roster, allQuestions)
+                                                     : null;
+
+        return getFeedbackSessionResultsForResponses(session, userEmail, role, roster, allQuestions,
+                relevantQuestions, allResponses, pendingComments.get(), responseStatus, section, isComplete);
+    }
+
+    /**
+     * Gets the results of the visible ones among {@code allResponses} of a feedback session,
+     * with the visible ones among {@code allResponseComments} on them.
+     */
+    private FeedbackSessionResultsBundle getFeedbackSessionResultsForResponses(
+            FeedbackSessionAttributes session, String userEmail, UserRole role, CourseRoster roster,
+            List<FeedbackQuestionAttributes> allQuestions,
+            Map<String, FeedbackQuestionAttributes> relevantQuestions, List<FeedbackResponseAttributes> allResponses,
+            List<FeedbackResponseCommentAttributes> allResponseComments,
+            FeedbackSessionResponseStatus responseStatus, String section, boolean isComplete) {
+        String feedbackSessionName = session.getFeedbackSessionName();
+        String courseId = session.getCourseId();
+
+        Map<String, FeedbackQuestionAttributes> allQuestionsMap = new HashMap<>();
+        putQuestionsIntoMap(allQuestions, allQuestionsMap);
+
         // create empty data containers to store results
         List<FeedbackResponseAttributes> responses = new ArrayList<>();
         Map<String, String> emailNameTable = new HashMap<>();
@@ -1678,37 +2033,31 @@ public final class FeedbackSessionsLogic {
         Map<String, String> emailTeamNameTable = new HashMap<>();
         Map<String, Set<String>> sectionTeamNameTable = new HashMap<>();
         Map<String, boolean[]> visibilityTable = new HashMap<>();
-        FeedbackSessionResponseStatus responseStatus = section == null && isIncludeResponseStatus
-                                                     ? getFeedbackSessionResponseStatus(session, roster, allQuestions)
-                                                     : null;
 
         StudentAttributes student = getStudent(courseId, userEmail, role);
         Set<String> studentsEmailInTeam = getTeammateEmails(courseId, student);
 
         InstructorAttributes instructor = getInstructor(courseId, userEmail, role);
+        FeedbackResponseVisibilityIndex visibilityIndex = new FeedbackResponseVisibilityIndex(
+                userEmail, role, student, studentsEmailInTeam, instructor, feedbackSessionName, roster);
 
         Map<String, FeedbackResponseAttributes> relevantResponse = new HashMap<>();
         for (FeedbackResponseAttributes response : allResponses) {
             FeedbackQuestionAttributes relatedQuestion = allQuestionsMap.get(response.feedbackQuestionId);
-            if (relatedQuestion != null) {
-                boolean isVisibleResponse = isResponseVisibleForUser(
-                        userEmail, role, student, studentsEmailInTeam, response, relatedQuestion, instructor);
-                if (isVisibleResponse) {
-                    responses.add(response);
-                    relevantResponse.put(response.getId(), response);
-                    relevantQuestions.put(relatedQuestion.getId(), relatedQuestion);
-                    addEmailNamePairsToTable(emailNameTable, response, relatedQuestion, roster);
-                    addEmailLastNamePairsToTable(emailLastNameTable, response, relatedQuestion, roster);
-                    addEmailTeamNamePairsToTable(emailTeamNameTable, response, relatedQuestion, roster);
-                    addVisibilityToTable(visibilityTable, relatedQuestion, response, userEmail, role, roster);
-                }
+            if (relatedQuestion != null && visibilityIndex.isResponseVisible(response, relatedQuestion)) {
+                responses.add(response);
+                relevantResponse.put(response.getId(), response);
+                relevantQuestions.put(relatedQuestion.getId(), relatedQuestion);
+                addEmailNamePairsToTables(emailNameTable, emailLastNameTable, emailTeamNameTable,
+                        response, relatedQuestion, roster);
+                visibilityTable.put(response.getId(), visibilityIndex.getNameVisibility(response, relatedQuestion));
             }
         }
         Map<String, List<FeedbackResponseCommentAttributes>> responseComments = getResponseComments(
-                feedbackSessionName, courseId, userEmail, role, roster, relevantQuestions, section, student,
+                allResponseComments, userEmail, role, roster, relevantQuestions, student,
                 studentsEmailInTeam, relevantResponse);
 
-        addSectionTeamNamesToTable(sectionTeamNameTable, roster, courseId, userEmail, role, feedbackSessionName, section);
+        addSectionTeamNamesToTable(sectionTeamNameTable, roster, instructor, visibilityIndex, section);
 
         return new FeedbackSessionResultsBundle(
                 session, responses, relevantQuestions, emailNameTable,
@@ -1717,13 +2066,11 @@ public final class FeedbackSessionsLogic {
     }
 
     private Map<String, List<FeedbackResponseCommentAttributes>> getResponseComments(
-            String feedbackSessionName, String courseId, String userEmail, UserRole role, CourseRoster roster,
-            Map<String, FeedbackQuestionAttributes> relevantQuestions, String section, StudentAttributes student,
+            List<FeedbackResponseCommentAttributes> allResponseComments, String userEmail, UserRole role,
+            CourseRoster roster, Map<String, FeedbackQuestionAttributes> relevantQuestions, StudentAttributes student,
             Set<String> studentsEmailInTeam, Map<String, FeedbackResponseAttributes> relevantResponse) {
 
         Map<String, List<FeedbackResponseCommentAttributes>> responseComments = new HashMap<>();
-        List<FeedbackResponseCommentAttributes> allResponseComments =
-                frcLogic.getFeedbackResponseCommentForSessionInSection(courseId, feedbackSessionName, section);
         for (FeedbackResponseCommentAttributes frc : allResponseComments) {
             FeedbackResponseAttributes relatedResponse = relevantResponse.get(frc.feedbackResponseId);
             FeedbackQuestionAttributes relatedQuestion = relevantQuestions.get(frc.feedbackQuestionId);
@@ -1799,6 +2146,9 @@ public final class FeedbackSessionsLogic {
         Map<String, List<FeedbackResponseCommentAttributes>> responseComments = new HashMap<>();
         FeedbackSessionResponseStatus responseStatus = new FeedbackSessionResponseStatus();
         boolean isQueryingResponseRateStatus = questionId.equals(QUESTION_ID_FOR_RESPONSE_RATE);
+        InstructorAttributes instructor = getInstructor(courseId, userEmail, role);
+        FeedbackResponseVisibilityIndex visibilityIndex = new FeedbackResponseVisibilityIndex(
+                userEmail, role, null, null, instructor, feedbackSessionName, roster);
 
         if (isQueryingResponseRateStatus) {
             responseStatus = section == null && isIncludeResponseStatus
@@ -1819,27 +2169,22 @@ public final class FeedbackSessionsLogic {
                 if (hasResponses) {
                     Map<String, FeedbackResponseAttributes> relevantResponse = new HashMap<>();
                     for (FeedbackResponseAttributes response : responsesForThisQn) {
-                        InstructorAttributes instructor = getInstructor(courseId, userEmail, role);
-                        boolean isVisibleResponse = isResponseVisibleForUser(userEmail, role, null, null, response,
-                                                                             question, instructor);
-                        if (isVisibleResponse) {
+                        if (visibilityIndex.isResponseVisible(response, question)) {
                             relevantResponse.put(response.getId(), response);
                             relevantQuestions.put(question.getId(), question);
                             responses.add(response);
-                            addEmailNamePairsToTable(emailNameTable, response, question, roster);
-                            addEmailLastNamePairsToTable(emailLastNameTable, response, question, roster);
-                            addEmailTeamNamePairsToTable(emailTeamNameTable, response, question, roster);
-                            addVisibilityToTable(visibilityTable, question, response, userEmail, role, roster);
+                            addEmailNamePairsToTables(emailNameTable, emailLastNameTable, emailTeamNameTable,
+                                    response, question, roster);
+                            visibilityTable.put(response.getId(), visibilityIndex.getNameVisibility(response, question));
                         }
                     }
                     responseComments = getResponseComments(
-                            feedbackSessionName, courseId, userEmail, role, roster, relevantQuestions, section, student,
-                            studentsEmailInTeam, relevantResponse);
+                            frcLogic.getFeedbackResponseCommentForSessionInSection(courseId, feedbackSessionName, section),
+                            userEmail, role, roster, relevantQuestions, student, studentsEmailInTeam, relevantResponse);
                 }
             }
         }
-        addSectionTeamNamesToTable(
-                sectionTeamNameTable, roster, courseId, userEmail, role, feedbackSessionName, section);
+        addSectionTeamNamesToTable(sectionTeamNameTable, roster, instructor, visibilityIndex, section);
 
         return new FeedbackSessionResultsBundle(
                 session, responses, relevantQuestions, emailNameTable,
@@ -1903,16 +2248,11 @@ public final class FeedbackSessionsLogic {
     }
 
     private void addSectionTeamNamesToTable(Map<String, Set<String>> sectionTeamNameTable,
-                                    CourseRoster roster, String courseId, String userEmail, UserRole role,
-                                    String feedbackSessionName, String sectionToView) {
-        InstructorAttributes instructor = getInstructor(courseId, userEmail, role);
+                                    CourseRoster roster, InstructorAttributes instructor,
+                                    FeedbackResponseVisibilityIndex visibilityIndex, String sectionToView) {
         if (instructor != null) {
             for (StudentAttributes student : roster.getStudents()) {
-                boolean isVisibleResponse =
-                        instructor.isAllowedForPrivilege(
-                                           student.section,
-                                           feedbackSessionName,
-                                           Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS);
+                boolean isVisibleResponse = visibilityIndex.canViewSection(student.section);
                 boolean isStudentInSelectedSection = student.section.equals(sectionToView);
                 boolean isViewingAllSections = sectionToView == null;
 
@@ -1928,106 +2268,30 @@ public final class FeedbackSessionsLogic {
         }
     }
 
-    private boolean isResponseVisibleForUser(String userEmail,
-            UserRole role, StudentAttributes student,
-            Set<String> studentsEmailInTeam,
-            FeedbackResponseAttributes response,
-            FeedbackQuestionAttributes relatedQuestion, InstructorAttributes instructor) {
-
-        boolean isVisibleResponse = false;
-        if (isInstructor(role) && relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.INSTRUCTORS)
-                || response.recipient.equals(userEmail)
-                        && relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.RECEIVER)
-                || response.giver.equals(userEmail)
-                || isStudent(role) && relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.STUDENTS)) {
-            isVisibleResponse = true;
-        } else if (studentsEmailInTeam != null && isStudent(role)) {
-            if (relatedQuestion.recipientType == FeedbackParticipantType.TEAMS
-                    && relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.RECEIVER)
-                    && response.recipient.equals(student.team)) {
-                isVisibleResponse = true;
-            } else if (relatedQuestion.giverType == FeedbackParticipantType.TEAMS
-                       && studentsEmailInTeam.contains(response.giver)) {
-                isVisibleResponse = true;
-            } else if (relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.OWN_TEAM_MEMBERS)
-                       && studentsEmailInTeam.contains(response.giver)) {
-                isVisibleResponse = true;
-            } else if (relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.RECEIVER_TEAM_MEMBERS)
-                       && studentsEmailInTeam.contains(response.recipient)) {
-                isVisibleResponse = true;
-            }
-        }
-        if (isVisibleResponse && instructor != null) {
-            boolean isGiverSectionRestricted =
-                    !instructor.isAllowedForPrivilege(response.giverSection,
-                                                      response.feedbackSessionName,
-                                                      Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS);
-            // If instructors are not restricted to view the giver's section,
-            // they are allowed to view responses to GENERAL, subject to visibility options
-            boolean isRecipientSectionRestricted =
-                    relatedQuestion.recipientType != FeedbackParticipantType.NONE
-                    && !instructor.isAllowedForPrivilege(response.recipientSection,
-                                                         response.feedbackSessionName,
-                                                         Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS);
-
-            boolean isNotAllowedForInstructor = isGiverSectionRestricted || isRecipientSectionRestricted;
-            if (isNotAllowedForInstructor) {
-                isVisibleResponse = false;
-            }
-        }
-        return isVisibleResponse;
-    }
-
     private void sortByCreatedDate(List<FeedbackResponseCommentAttributes> responseCommentList) {
         responseCommentList.sort(Comparator.comparing(responseComment -> responseComment.createdAt));
     }
 
-    private void addVisibilityToTable(Map<String, boolean[]> visibilityTable,
-            FeedbackQuestionAttributes question,
-            FeedbackResponseAttributes response,
-            String userEmail,
-            UserRole role,
-            CourseRoster roster) {
-        boolean[] visibility = new boolean[2];
-        visibility[Const.VISIBILITY_TABLE_GIVER] = frLogic.isNameVisibleToUser(
-                question, response, userEmail, role, true, roster);
-        visibility[Const.VISIBILITY_TABLE_RECIPIENT] = frLogic.isNameVisibleToUser(
-                question, response, userEmail, role, false, roster);
-        visibilityTable.put(response.getId(), visibility);
-    }
-
-    private void addEmailNamePairsToTable(Map<String, String> emailNameTable,
+    private void addEmailNamePairsToTables(Map<String, String> emailNameTable,
+            Map<String, String> emailLastNameTable, Map<String, String> emailTeamNameTable,
             FeedbackResponseAttributes response,
             FeedbackQuestionAttributes question, CourseRoster roster) {
-        // keys of emailNameTable are participantIdentifiers,
+        // keys of the tables are participantIdentifiers,
         // which consists of students' email, instructors' email, team names, or %GENERAL%.
         // participants identifiers of anonymous responses are not anonymised in the tables
-        addEmailNamePairsToTable(emailNameTable, response, question, roster,
-                EMAIL_NAME_PAIR);
-    }
-
-    private void addEmailNamePairsToTable(Map<String, String> emailNameTable,
-            FeedbackResponseAttributes response,
-            FeedbackQuestionAttributes question, CourseRoster roster,
-            int pairType) {
         if (question.giverType == FeedbackParticipantType.TEAMS
                 && roster.isStudentInCourse(response.giver)) {
-            emailNameTable.putIfAbsent(
-                        response.giver + Const.TEAM_OF_EMAIL_OWNER,
-                        getNameTeamNamePairForEmail(question.giverType,
-                                response.giver, roster)[pairType]);
+            addEmailNamePairsToTables(emailNameTable, emailLastNameTable, emailTeamNameTable,
+                    response.giver + Const.TEAM_OF_EMAIL_OWNER, question.giverType, response.giver, roster);
 
             StudentAttributes studentGiver = roster.getStudentForEmail(response.giver);
             if (studentGiver != null) {
-                emailNameTable.putIfAbsent(studentGiver.team, getNameTeamNamePairForEmail(
-                        question.giverType,
-                        response.giver, roster)[pairType]);
+                addEmailNamePairsToTables(emailNameTable, emailLastNameTable, emailTeamNameTable,
+                        studentGiver.team, question.giverType, response.giver, roster);
             }
         } else {
-            emailNameTable.putIfAbsent(
-                    response.giver,
-                    getNameTeamNamePairForEmail(question.giverType,
-                            response.giver, roster)[pairType]);
+            addEmailNamePairsToTables(emailNameTable, emailLastNameTable, emailTeamNameTable,
+                    response.giver, question.giverType, response.giver, roster);
         }
 
         FeedbackParticipantType recipientType = null;
@@ -2037,38 +2301,22 @@ public final class FeedbackSessionsLogic {
             recipientType = question.recipientType;
         }
 
-        emailNameTable.putIfAbsent(
-                    response.recipient,
-                    getNameTeamNamePairForEmail(recipientType,
-                            response.recipient, roster)[pairType]);
+        addEmailNamePairsToTables(emailNameTable, emailLastNameTable, emailTeamNameTable,
+                response.recipient, recipientType, response.recipient, roster);
     }
 
-    private void addEmailLastNamePairsToTable(Map<String, String> emailLastNameTable,
-            FeedbackResponseAttributes response,
-            FeedbackQuestionAttributes question, CourseRoster roster) {
-        addEmailNamePairsToTable(emailLastNameTable, response, question, roster,
-                EMAIL_LASTNAME_PAIR);
-    }
-
-    private void addEmailTeamNamePairsToTable(
-            Map<String, String> emailTeamNameTable,
-            FeedbackResponseAttributes response,
-            FeedbackQuestionAttributes question, CourseRoster roster) {
-        addEmailNamePairsToTable(emailTeamNameTable, response, question,
-                roster, EMAIL_TEAMNAME_PAIR);
-    }
-
-    private List<FeedbackSessionDetailsBundle> getFeedbackSessionDetailsForCourse(String courseId)
-            throws EntityDoesNotExistException {
-        List<FeedbackSessionDetailsBundle> fsDetails = new ArrayList<>();
-        List<FeedbackSessionAttributes> fsInCourse =
-                fsDb.getFeedbackSessionsForCourse(courseId);
-
-        for (FeedbackSessionAttributes fsa : fsInCourse) {
-            fsDetails.add(getFeedbackSessionDetails(fsa));
+    private void addEmailNamePairsToTables(Map<String, String> emailNameTable,
+            Map<String, String> emailLastNameTable, Map<String, String> emailTeamNameTable,
+            String participantIdentifier, FeedbackParticipantType type, String email, CourseRoster roster) {
+        if (emailNameTable.containsKey(participantIdentifier)
+                && emailLastNameTable.containsKey(participantIdentifier)
+                && emailTeamNameTable.containsKey(participantIdentifier)) {
+            return;
         }
-
-        return fsDetails;
+        String[] nameTeamNamePair = getNameTeamNamePairForEmail(type, email, roster);
+        emailNameTable.putIfAbsent(participantIdentifier, nameTeamNamePair[EMAIL_NAME_PAIR]);
+        emailLastNameTable.putIfAbsent(participantIdentifier, nameTeamNamePair[EMAIL_LASTNAME_PAIR]);
+        emailTeamNameTable.putIfAbsent(participantIdentifier, nameTeamNamePair[EMAIL_TEAMNAME_PAIR]);
     }
 
     private List<FeedbackSessionAttributes> getFeedbackSessionsListForCourse(String courseId) {
@@ -2164,43 +2412,35 @@ public final class FeedbackSessionsLogic {
     /**
      * Checks whether the feedback session is viewable to the specified user.
      */
-    private boolean isFeedbackSessionViewableTo(
-            FeedbackSessionAttributes session,
-            boolean isInstructorOfCourse) {
-
-        // Allow all instructors to view always
-        if (isInstructorOfCourse) {
-            return true;
+    public boolean isFeedbackSessionViewableToStudents(
+            FeedbackSessionAttributes session) {
+        if (!session.isVisible()) {
+            return false;
         }
 
-        // Allow viewing if session is viewable to students
-        return isFeedbackSessionViewableToStudents(session);
+        return isFeedbackSessionViewableToStudents(session,
+                fqLogic.getFeedbackQuestionsForSession(session.getFeedbackSessionName(), session.getCourseId()));
     }
 
-    public boolean isFeedbackSessionViewableToStudents(
-            FeedbackSessionAttributes session) {
-        // Allow students to view the feedback session if there are questions for them
-        List<FeedbackQuestionAttributes> questionsToAnswer =
-                fqLogic.getFeedbackQuestionsForStudents(
-                        session.getFeedbackSessionName(), session.getCourseId());
+    /**
+     * Checks whether a session is viewable to students, given all the questions of the session.
+     */
+    private boolean isFeedbackSessionViewableToStudents(
+            FeedbackSessionAttributes session, List<FeedbackQuestionAttributes> questions) {
+        if (!session.isVisible()) {
+            return false;
+        }
 
-        if (session.isVisible() && !questionsToAnswer.isEmpty()) {
+        // Allow students to view the feedback session if there are questions for them
+        if (!fqLogic.getFeedbackQuestionsForStudents(questions).isEmpty()) {
             return true;
         }
 
         // Allow students to view the feedback session
         // if there are any questions for instructors to answer
         // where the responses of the questions are visible to the students
-        List<FeedbackQuestionAttributes> questionsWithVisibleResponses = new ArrayList<>();
-        List<FeedbackQuestionAttributes> questionsForInstructors =
-                                        fqLogic.getFeedbackQuestionsForCreatorInstructor(session);
-        for (FeedbackQuestionAttributes question : questionsForInstructors) {
-            if (frLogic.isResponseOfFeedbackQuestionVisibleToStudent(question)) {
-                questionsWithVisibleResponses.add(question);
-            }
-        }
-
-        return session.isVisible() && !questionsWithVisibleResponses.isEmpty();
+        return fqLogic.getFeedbackQuestionsForInstructor(questions, true).stream()
+                .anyMatch(frLogic::isResponseOfFeedbackQuestionVisibleToStudent);
     }
 
     /**
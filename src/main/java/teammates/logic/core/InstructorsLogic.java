@@ -2,6 +2,7 @@ package teammates.logic.core;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import teammates.common.datatransfer.AttributesDeletionQuery;
 import teammates.common.datatransfer.FeedbackParticipantType;
@@ -103,6 +104,16 @@ public final class InstructorsLogic {
         return instructorsDb.getInstructorForEmail(courseId, email);
     }
 
+    /**
+     * Gets the instructor with the given email in each of the given courses.
+     *
+     * @param emailsByCourseId the email of the instructor to get in each course
+     * @return the instructors that exist
+     */
+    public List<InstructorAttributes> getInstructorsForEmails(Map<String, String> emailsByCourseId) {
+        return instructorsDb.getInstructorsForEmails(emailsByCourseId);
+    }
+
     public InstructorAttributes getInstructorById(String courseId, String email) {
 
         return instructorsDb.getInstructorById(courseId, email);
@@ -199,17 +210,38 @@ public final class InstructorsLogic {
         }
     }
 
+    /**
+     * Updates an instructor by {@link InstructorAttributes.UpdateOptionsWithGoogleId},
+     * cascading as {@link #updateInstructorByGoogleIdCascade(InstructorAttributes.UpdateOptionsWithGoogleId, List)} does.
+     *
+     * <p>The search documents of the comments updated by the cascade are put before returning.
+     *
+     * @return updated instructor
+     * @throws InvalidParametersException if attributes to update are not valid
+     * @throws EntityDoesNotExistException if the instructor cannot be found
+     */
+    public InstructorAttributes updateInstructorByGoogleIdCascade(
+            InstructorAttributes.UpdateOptionsWithGoogleId updateOptions)
+            throws InvalidParametersException, EntityDoesNotExistException {
+        List<Long> commentIdsToIndex = new ArrayList<>();
+        InstructorAttributes updatedInstructor = updateInstructorByGoogleIdCascade(updateOptions, commentIdsToIndex);
+        frcLogic.putDocumentsForIds(commentIdsToIndex);
+        return updatedInstructor;
+    }
+
     /**
      * Updates an instructor by {@link InstructorAttributes.UpdateOptionsWithGoogleId}.
      *
      * <p>Cascade update the comments and responses given by the instructor.
      *
+     * @param commentIdsToIndex the list to add the IDs of the comments updated by the cascade to,
+     *         whose search documents are to be re-indexed
      * @return updated instructor
      * @throws InvalidParametersException if attributes to update are not valid
      * @throws EntityDoesNotExistException if the instructor cannot be found
      */
     public InstructorAttributes updateInstructorByGoogleIdCascade(
-            InstructorAttributes.UpdateOptionsWithGoogleId updateOptions)
+            InstructorAttributes.UpdateOptionsWithGoogleId updateOptions, List<Long> commentIdsToIndex)
             throws InvalidParametersException, EntityDoesNotExistException {
 
         InstructorAttributes originalInstructor =
@@ -241,7 +273,8 @@ public final class InstructorsLogic {
                         frLogic.updateFeedbackResponseCascade(
                                 FeedbackResponseAttributes.updateOptionsBuilder(responseFromUser.getId())
                                         .withGiver(updatedInstructor.getEmail())
-                                        .build());
+                                        .build(),
+                                commentIdsToIndex);
                     } catch (EntityAlreadyExistsException e) {
                         log.severe("Fail to adjust 'from' responses when updating instructor: " + e.getMessage());
                     }
@@ -259,15 +292,16 @@ public final class InstructorsLogic {
                         frLogic.updateFeedbackResponseCascade(
                                 FeedbackResponseAttributes.updateOptionsBuilder(responseToUser.getId())
                                         .withRecipient(updatedInstructor.getEmail())
-                                        .build());
+                                        .build(),
+                                commentIdsToIndex);
                     } catch (EntityAlreadyExistsException e) {
                         log.severe("Fail to adjust 'to' responses when updating instructor: " + e.getMessage());
                     }
                 }
             }
             // cascade comments
-            frcLogic.updateFeedbackResponseCommentsEmails(
-                    updatedInstructor.courseId, originalInstructor.email, updatedInstructor.email);
+            commentIdsToIndex.addAll(frcLogic.updateFeedbackResponseCommentsEmails(
+                    updatedInstructor.courseId, originalInstructor.email, updatedInstructor.email));
             // cascade respondents
             fsLogic.updateRespondentsForInstructor(
                     originalInstructor.email, updatedInstructor.email, updatedInstructor.courseId);
@@ -1,5 +1,10 @@
 package teammates.logic.core;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.http.HttpStatus;
 import org.json.JSONArray;
 import org.json.JSONObject;
 import org.jsoup.Jsoup;
@@ -25,27 +30,53 @@ import teammates.common.util.EmailWrapper;
  */
 public class MailjetService extends EmailSenderService {
 
+    /**
+     * Maximum number of emails that can be sent in one request.
+     */
+    private static final int MAX_EMAILS_PER_REQUEST = 50;
+
     /**
      * {@inheritDoc}
      */
     @Override
     public MailjetRequest parseToEmail(EmailWrapper wrapper) {
         MailjetRequest request = new MailjetRequest(Email.resource);
-        request.property(Email.FROMEMAIL, wrapper.getSenderEmail());
+        JSONObject message = parseToMessage(wrapper);
+        for (String key : JSONObject.getNames(message)) {
+            request.property(key, message.get(key));
+        }
+        return request;
+    }
+
+    /**
+     * Parses the {@code wrappers} email objects to a request which sends all of them at once.
+     */
+    public MailjetRequest parseToEmails(List<EmailWrapper> wrappers) {
+        JSONArray messages = new JSONArray();
+        for (EmailWrapper wrapper : wrappers) {
+            messages.put(parseToMessage(wrapper));
+        }
+        return new MailjetRequest(Email.resource).property(Email.MESSAGES, messages);
+    }
+
+    private JSONObject parseToMessage(EmailWrapper wrapper) {
+        JSONObject message = new JSONObject();
+        message.put(Email.FROMEMAIL, wrapper.getSenderEmail());
         if (wrapper.getSenderName() != null && !wrapper.getSenderName().isEmpty()) {
-            request.property(Email.FROMNAME, wrapper.getSenderName());
+            message.put(Email.FROMNAME, wrapper.getSenderName());
         }
 
-        request.property(Email.RECIPIENTS, new JSONArray().put(new JSONObject().put("Email", wrapper.getRecipient())));
+        JSONArray recipients = new JSONArray().put(new JSONObject().put("Email", wrapper.getRecipient()));
         if (wrapper.getBcc() != null && !wrapper.getBcc().isEmpty()) {
-            request.append(Email.RECIPIENTS, new JSONObject().put("Email", wrapper.getBcc()));
+            recipients.put(new JSONObject().put("Email", wrapper.getBcc()));
         }
+        message.put(Email.RECIPIENTS, recipients);
 
-        request.property(Email.HEADERS, new JSONObject().put("Reply-To", wrapper.getReplyTo()));
-        request.property(Email.SUBJECT, wrapper.getSubject());
-        request.property(Email.HTMLPART, wrapper.getContent());
-        request.property(Email.TEXTPART, Jsoup.parse(wrapper.getContent()).text());
-        return request;
+        message.put(Email.HEADERS, new JSONObject().put("Reply-To", wrapper.getReplyTo()));
+        message.put(Email.SUBJECT, wrapper.getSubject());
+        message.put(Email.HTMLPART, wrapper.getContent());
+        message.put(Email.TEXTPART, Jsoup.parse(wrapper.getContent()).text());
+        return message;
     }
 
     @Override
@@ -56,4 +87,28 @@ public class MailjetService extends EmailSenderService {
         return new EmailSendingStatus(response.getStatus(), response.getData().toString());
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The emails are sent in batches of up to {@value #MAX_EMAILS_PER_REQUEST} emails per request.
+     * The status of each email is the status of the request it is sent in.
+     */
+    @Override
+    public List<EmailSendingStatus> sendEmails(List<EmailWrapper> wrappers) {
+        MailjetClient mailjet = new MailjetClient(Config.MAILJET_APIKEY, Config.MAILJET_SECRETKEY);
+        List<EmailSendingStatus> statuses = new ArrayList<>();
+        for (int i = 0; i < wrappers.size(); i += MAX_EMAILS_PER_REQUEST) {
+            List<EmailWrapper> batch = wrappers.subList(i, Math.min(i + MAX_EMAILS_PER_REQUEST, wrappers.size()));
+            EmailSendingStatus status;
+            try {
+                MailjetResponse response = mailjet.post(parseToEmails(batch));
+                status = new EmailSendingStatus(response.getStatus(), response.getData().toString());
+            } catch (MailjetException | MailjetSocketTimeoutException e) {
+                status = new EmailSendingStatus(HttpStatus.SC_INTERNAL_SERVER_ERROR, e.getMessage());
+            }
+            statuses.addAll(Collections.nCopies(batch.size(), status));
+        }
+        return statuses;
+    }
+
 }
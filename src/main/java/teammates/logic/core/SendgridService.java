@@ -1,7 +1,15 @@
 package teammates.logic.core;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
+import org.apache.http.HttpStatus;
 import org.jsoup.Jsoup;
 
 import com.sendgrid.Method;
@@ -25,6 +33,19 @@ import teammates.common.util.EmailWrapper;
  */
 public class SendgridService extends EmailSenderService {
 
+    /**
+     * Maximum number of personalizations, i.e. emails, in one request.
+     */
+    private static final int MAX_PERSONALIZATIONS_PER_REQUEST = 1000;
+
+    /**
+     * Maximum total size in bytes of the substitutions of a personalization.
+     */
+    private static final int MAX_SUBSTITUTIONS_SIZE = 10000;
+
+    private static final String TEXT_CONTENT_TAG = "-teammatesTextContent-";
+    private static final String HTML_CONTENT_TAG = "-teammatesHtmlContent-";
+
     /**
      * {@inheritDoc}
      */
@@ -51,9 +72,82 @@ public class SendgridService extends EmailSenderService {
         return email;
     }
 
+    /**
+     * Parses the {@code wrappers} email objects, which must have the same sender and reply-to address,
+     * to a single email with one personalization per email object.
+     *
+     * <p>The subject and content of each email object are given as substitutions of its personalization.
+     */
+    public Mail parseToEmails(List<EmailWrapper> wrappers) {
+        Mail email = parseToEmail(wrappers.get(0));
+        email.personalization.clear();
+        email.getContent().clear();
+        for (EmailWrapper wrapper : wrappers) {
+            Personalization personalization = new Personalization();
+            personalization.addTo(new Email(wrapper.getRecipient()));
+            if (wrapper.getBcc() != null && !wrapper.getBcc().isEmpty()) {
+                personalization.addBcc(new Email(wrapper.getBcc()));
+            }
+            personalization.setSubject(wrapper.getSubject());
+            personalization.addSubstitution(TEXT_CONTENT_TAG, Jsoup.parse(wrapper.getContent()).text());
+            personalization.addSubstitution(HTML_CONTENT_TAG, wrapper.getContent());
+            email.addPersonalization(personalization);
+        }
+        email.addContent(new Content("text/plain", TEXT_CONTENT_TAG));
+        email.addContent(new Content("text/html", HTML_CONTENT_TAG));
+        return email;
+    }
+
     @Override
     public EmailSendingStatus sendEmail(EmailWrapper wrapper) throws IOException {
-        Mail email = parseToEmail(wrapper);
+        return send(parseToEmail(wrapper));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Emails with the same sender and reply-to address are sent together in one request,
+     * up to {@value #MAX_PERSONALIZATIONS_PER_REQUEST} emails per request.
+     * Emails whose content is too large to be substituted are sent one by one.
+     * The status of each email is the status of the request it is sent in.
+     */
+    @Override
+    public List<EmailSendingStatus> sendEmails(List<EmailWrapper> wrappers) {
+        Map<String, List<Integer>> indexesBySender = new LinkedHashMap<>();
+        EmailSendingStatus[] statuses = new EmailSendingStatus[wrappers.size()];
+        for (int i = 0; i < wrappers.size(); i++) {
+            EmailWrapper wrapper = wrappers.get(i);
+            if (getSubstitutionsSize(wrapper) > MAX_SUBSTITUTIONS_SIZE) {
+                statuses[i] = sendEmailWithStatus(wrapper);
+                continue;
+            }
+            String sender = String.join("|", wrapper.getSenderEmail(), wrapper.getSenderName(), wrapper.getReplyTo());
+            indexesBySender.computeIfAbsent(sender, key -> new ArrayList<>()).add(i);
+        }
+
+        for (List<Integer> indexes : indexesBySender.values()) {
+            for (int i = 0; i < indexes.size(); i += MAX_PERSONALIZATIONS_PER_REQUEST) {
+                List<Integer> batch = indexes.subList(i, Math.min(i + MAX_PERSONALIZATIONS_PER_REQUEST, indexes.size()));
+                EmailSendingStatus status;
+                try {
+                    status = send(parseToEmails(batch.stream().map(wrappers::get).collect(Collectors.toList())));
+                } catch (IOException e) {
+                    status = new EmailSendingStatus(HttpStatus.SC_INTERNAL_SERVER_ERROR, e.getMessage());
+                }
+                for (int index : batch) {
+                    statuses[index] = status;
+                }
+            }
+        }
+        return Arrays.asList(statuses);
+    }
+
+    private static int getSubstitutionsSize(EmailWrapper wrapper) {
+        return Jsoup.parse(wrapper.getContent()).text().getBytes(StandardCharsets.UTF_8).length
+                + wrapper.getContent().getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private EmailSendingStatus send(Mail email) throws IOException {
         SendGrid sendgrid = new SendGrid(Config.SENDGRID_APIKEY);
         Request request = new Request();
         request.setMethod(Method.POST);
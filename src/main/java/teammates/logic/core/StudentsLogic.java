@@ -1,10 +1,14 @@
 package teammates.logic.core;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.StringJoiner;
 
 import teammates.common.datatransfer.AttributesDeletionQuery;
+import teammates.common.datatransfer.CourseStructure;
+import teammates.common.datatransfer.StudentEnrollDetails;
 import teammates.common.datatransfer.StudentSearchResultBundle;
 import teammates.common.datatransfer.TeamDetailsBundle;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
@@ -17,6 +21,7 @@ import teammates.common.util.Assumption;
 import teammates.common.util.Const;
 import teammates.common.util.SanitizationHelper;
 import teammates.common.util.StringHelper;
+import teammates.storage.api.RequestCache;
 import teammates.storage.api.StudentsDb;
 
 /**
@@ -31,6 +36,7 @@ public final class StudentsLogic {
     private static final StudentsDb studentsDb = new StudentsDb();
 
     private static final FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
+    private static final FeedbackResponseCommentsLogic frcLogic = FeedbackResponseCommentsLogic.inst();
     private static final FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
 
     private StudentsLogic() {
@@ -77,6 +83,38 @@ public final class StudentsLogic {
         return studentsDb.getStudentsForCourse(courseId);
     }
 
+    /**
+     * Gets the sections, teams and students of a course.
+     */
+    public CourseStructure getCourseStructure(String courseId) {
+        return studentsDb.getCourseStructure(courseId);
+    }
+
+    /**
+     * Starts caching the course structures built in the current thread.
+     *
+     * @see RequestCache#begin()
+     */
+    public void beginRequestCache() {
+        RequestCache.begin();
+    }
+
+    /**
+     * Stops caching the course structures built in the current thread.
+     *
+     * @see RequestCache#end()
+     */
+    public void endRequestCache() {
+        RequestCache.end();
+    }
+
+    /**
+     * Gets the number of students of a course.
+     */
+    public int getNumberOfStudentsForCourse(String courseId) {
+        return studentsDb.getNumberOfStudentsForCourse(courseId);
+    }
+
     /**
      * Gets all students of a team.
      */
@@ -149,6 +187,26 @@ public final class StudentsLogic {
         return isStudentInTeam(courseId, student1.team, student2Email);
     }
 
+    /**
+     * Updates a student by {@link StudentAttributes.UpdateOptions},
+     * cascading as {@link #updateStudentCascade(StudentAttributes.UpdateOptions, List)} does.
+     *
+     * <p>The search documents of the comments updated by the cascade are put before returning.
+     *
+     * @return updated student
+     * @throws InvalidParametersException if attributes to update are not valid
+     * @throws EntityDoesNotExistException if the student cannot be found
+     * @throws EntityAlreadyExistsException if the student cannot be updated
+     *         by recreation because of an existent student
+     */
+    public StudentAttributes updateStudentCascade(StudentAttributes.UpdateOptions updateOptions)
+            throws InvalidParametersException, EntityDoesNotExistException, EntityAlreadyExistsException {
+        List<Long> commentIdsToIndex = new ArrayList<>();
+        StudentAttributes updatedStudent = updateStudentCascade(updateOptions, commentIdsToIndex);
+        frcLogic.putDocumentsForIds(commentIdsToIndex);
+        return updatedStudent;
+    }
+
     /**
      * Updates a student by {@link StudentAttributes.UpdateOptions}.
      *
@@ -158,21 +216,24 @@ public final class StudentsLogic {
      *
      * <p>If section changed, cascade update all responses the student gives/receives.
      *
+     * @param commentIdsToIndex the list to add the IDs of the comments updated by the cascade to,
+     *         whose search documents are to be re-indexed
      * @return updated student
      * @throws InvalidParametersException if attributes to update are not valid
      * @throws EntityDoesNotExistException if the student cannot be found
      * @throws EntityAlreadyExistsException if the student cannot be updated
      *         by recreation because of an existent student
      */
-    public StudentAttributes updateStudentCascade(StudentAttributes.UpdateOptions updateOptions)
+    public StudentAttributes updateStudentCascade(StudentAttributes.UpdateOptions updateOptions,
+            List<Long> commentIdsToIndex)
             throws InvalidParametersException, EntityDoesNotExistException, EntityAlreadyExistsException {
         StudentAttributes originalStudent = getStudentForEmail(updateOptions.getCourseId(), updateOptions.getEmail());
         StudentAttributes updatedStudent = studentsDb.updateStudent(updateOptions);
 
         // cascade email change, if any
         if (!originalStudent.email.equals(updatedStudent.email)) {
-            frLogic.updateFeedbackResponsesForChangingEmail(
-                    updatedStudent.course, originalStudent.email, updatedStudent.email);
+            commentIdsToIndex.addAll(frLogic.updateFeedbackResponsesForChangingEmail(
+                    updatedStudent.course, originalStudent.email, updatedStudent.email));
             fsLogic.updateRespondentsForStudent(originalStudent.email, updatedStudent.email, updatedStudent.course);
         }
 
@@ -184,8 +245,8 @@ public final class StudentsLogic {
 
         // update the new section name in responses
         if (isSectionChanged(originalStudent.section, updatedStudent.section)) {
-            frLogic.updateFeedbackResponsesForChangingSection(updatedStudent.course, updatedStudent.email,
-                    originalStudent.section, updatedStudent.section);
+            commentIdsToIndex.addAll(frLogic.updateFeedbackResponsesForChangingSection(updatedStudent.course,
+                    updatedStudent.email, originalStudent.section, updatedStudent.section));
         }
 
         // TODO: check to delete comments for this section/team if the section/team is no longer existent in the course
@@ -193,6 +254,72 @@ public final class StudentsLogic {
         return updatedStudent;
     }
 
+    /**
+     * Enrolls students in a course in batch,
+     * cascading as {@link #enrollStudentsCascade(String, List, List)} does.
+     *
+     * <p>The search documents of the comments updated by the cascade are put before returning.
+     *
+     * @return details of the enrollment of each student, in the same order as {@code studentsToEnroll}
+     * @throws InvalidParametersException if the responses cannot be updated
+     * @throws EntityDoesNotExistException if the responses to update cannot be found
+     */
+    public List<StudentEnrollDetails> enrollStudentsCascade(String courseId, List<StudentAttributes> studentsToEnroll)
+            throws InvalidParametersException, EntityDoesNotExistException {
+        List<Long> commentIdsToIndex = new ArrayList<>();
+        List<StudentEnrollDetails> enrollDetails = enrollStudentsCascade(courseId, studentsToEnroll, commentIdsToIndex);
+        frcLogic.putDocumentsForIds(commentIdsToIndex);
+        return enrollDetails;
+    }
+
+    /**
+     * Enrolls students in a course in batch, creating the new students and updating the existing ones.
+     *
+     * <p>The responses of all students whose teams or sections change are cascade updated together,
+     * in the same way as {@link #updateStudentCascade(StudentAttributes.UpdateOptions)}.
+     * A student whose email appears earlier in {@code studentsToEnroll} is not enrolled again,
+     * so that the responses of each student are updated at most once.
+     *
+     * @param commentIdsToIndex the list to add the IDs of the comments updated by the cascade to,
+     *         whose search documents are to be re-indexed
+     * @return details of the enrollment of each student, in the same order as {@code studentsToEnroll}
+     * @throws InvalidParametersException if the responses cannot be updated
+     * @throws EntityDoesNotExistException if the responses to update cannot be found
+     */
+    public List<StudentEnrollDetails> enrollStudentsCascade(String courseId, List<StudentAttributes> studentsToEnroll,
+            List<Long> commentIdsToIndex)
+            throws InvalidParametersException, EntityDoesNotExistException {
+        List<StudentEnrollDetails> enrollDetails = studentsDb.enrollStudents(courseId, studentsToEnroll);
+
+        Map<String, String> oldTeams = new HashMap<>();
+        Map<String, String> newSections = new HashMap<>();
+        for (StudentEnrollDetails details : enrollDetails) {
+            if (details.getUpdateStatus() != StudentEnrollDetails.UpdateStatus.MODIFIED) {
+                continue;
+            }
+            StudentAttributes originalStudent = details.getOriginalStudent();
+            StudentAttributes updatedStudent = details.getStudent();
+            if (isTeamChanged(originalStudent.team, updatedStudent.team)) {
+                oldTeams.put(updatedStudent.email, originalStudent.team);
+            }
+            if (isSectionChanged(originalStudent.section, updatedStudent.section)) {
+                newSections.put(updatedStudent.email, updatedStudent.section);
+            }
+        }
+
+        // adjust submissions of the students moving to different teams
+        if (!oldTeams.isEmpty()) {
+            frLogic.updateFeedbackResponsesForChangingTeams(courseId, oldTeams);
+        }
+
+        // update the new section names in responses
+        if (!newSections.isEmpty()) {
+            commentIdsToIndex.addAll(frLogic.updateFeedbackResponsesForChangingSections(courseId, newSections));
+        }
+
+        return enrollDetails;
+    }
+
     /**
      * Resets the googleId associated with the student.
      */
@@ -264,12 +391,7 @@ public final class StudentsLogic {
     }
 
     public String getSectionForTeam(String courseId, String teamName) {
-
-        List<StudentAttributes> students = getStudentsForTeam(teamName, courseId);
-        if (students.isEmpty()) {
-            return Const.DEFAULT_SECTION;
-        }
-        return students.get(0).section;
+        return getCourseStructure(courseId).getSectionOfTeam(teamName);
     }
 
     private String getSectionInvalidityInfo(List<StudentAttributes> mergedList) {
@@ -394,6 +516,13 @@ public final class StudentsLogic {
         studentsDb.putDocuments(students);
     }
 
+    /**
+     * Batch creates or updates documents for the students with the given IDs.
+     */
+    public void putDocumentsForIds(List<String> studentIds) {
+        studentsDb.putDocumentsForIds(studentIds);
+    }
+
     private boolean isInEnrollList(StudentAttributes student,
             List<StudentAttributes> studentInfoList) {
         for (StudentAttributes studentInfo : studentInfoList) {
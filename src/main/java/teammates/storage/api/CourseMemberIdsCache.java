@@ -0,0 +1,104 @@
+package teammates.storage.api;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import com.google.appengine.api.memcache.Expiration;
+import com.google.appengine.api.memcache.MemcacheService;
+import com.google.appengine.api.memcache.MemcacheServiceFactory;
+
+/**
+ * Caches the IDs of the entities of a kind (e.g. students) that belong to each course in Memcache.
+ *
+ * <p>Only the IDs are cached; the entities themselves are always loaded by key, which is strongly consistent
+ * and served from the Objectify session cache when loaded again within the same request.
+ * Hence, the cache only needs to be invalidated when entities are added to or removed from a course.
+ *
+ * <p>The cached IDs of a course are stored under a version of the course which is bumped by
+ * {@link #invalidate(String)}, so that IDs cached by a read racing with a write are never served after the write.
+ * As the query that loads the IDs is only eventually consistent, IDs loaded within a short window after
+ * an invalidation may still miss the write that caused it; such IDs are not cached, so that a stale list of IDs
+ * is not cached under the new version. Cached IDs also expire after some time regardless.
+ * Values derived from the entities themselves can also be cached under {@link #getVersion(String)},
+ * in which case the cache must also be invalidated when the entities are updated.
+ */
+class CourseMemberIdsCache {
+
+    private static final Expiration EXPIRATION = Expiration.byDeltaSeconds(5 * 60);
+
+    /**
+     * Time after an invalidation in which the query that loads the IDs may not reflect the write that caused it.
+     */
+    private static final Expiration CONSISTENCY_WINDOW = Expiration.byDeltaSeconds(30);
+
+    private final MemcacheService memcache;
+
+    /**
+     * Creates a cache for the IDs of entities of {@code kind}.
+     */
+    CourseMemberIdsCache(String kind) {
+        this.memcache = MemcacheServiceFactory.getMemcacheService(kind);
+    }
+
+    /**
+     * Gets the IDs of the entities in a course, loading them with {@code loader} if they are not cached.
+     */
+    @SuppressWarnings("unchecked")
+    List<String> getIds(String courseId, Supplier<List<String>> loader) {
+        Long version = getVersion(courseId);
+        if (version == null) {
+            // Memcache is unavailable
+            return loader.get();
+        }
+
+        String idsKey = courseId + "@" + version;
+        List<String> ids = (List<String>) memcache.get(idsKey);
+        if (ids == null) {
+            ids = new ArrayList<>(loader.get());
+            if (!memcache.contains(getInvalidatedKey(courseId))) {
+                memcache.put(idsKey, ids, EXPIRATION);
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Invalidates the cached IDs of a course.
+     * Must be called after entities are added to or removed from the course.
+     */
+    void invalidate(String courseId) {
+        // the invalidation is marked before the version is bumped, so that IDs loaded under the new version
+        // are not cached until the query that loads them has caught up with the write
+        memcache.put(getInvalidatedKey(courseId), Boolean.TRUE, CONSISTENCY_WINDOW);
+        memcache.increment(getVersionKey(courseId), 1L);
+    }
+
+    /**
+     * Gets the version of the entities in a course, which changes whenever {@link #invalidate(String)} is called.
+     *
+     * @return null if Memcache is unavailable
+     */
+    Long getVersion(String courseId) {
+        String versionKey = getVersionKey(courseId);
+        Long version = (Long) memcache.get(versionKey);
+        if (version == null) {
+            // starts from a random number instead of 0, so that values cached under versions
+            // that have been evicted from Memcache are not served again
+            memcache.put(versionKey, ThreadLocalRandom.current().nextLong(Long.MAX_VALUE / 2), null,
+                    MemcacheService.SetPolicy.ADD_ONLY_IF_NOT_PRESENT);
+            version = (Long) memcache.get(versionKey);
+        }
+        return version;
+    }
+
+    private static String getVersionKey(String courseId) {
+        return "version@" + courseId;
+    }
+
+    private static String getInvalidatedKey(String courseId) {
+        return "invalidated@" + courseId;
+    }
+
+}
@@ -5,6 +5,7 @@ import static com.googlecode.objectify.ObjectifyService.ofy;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import com.googlecode.objectify.Key;
 import com.googlecode.objectify.cmd.LoadType;
@@ -28,19 +29,41 @@ public class CoursesDb extends EntitiesDb<Course, CourseAttributes> {
      * Gets a course.
      */
     public CourseAttributes getCourse(String courseId) {
+        return getCourseAsync(courseId).get();
+    }
+
+    /**
+     * Starts loading a course.
+     *
+     * @see #getCourse(String)
+     */
+    public PendingResult<CourseAttributes> getCourseAsync(String courseId) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
 
-        return makeAttributesOrNull(getCourseEntity(courseId));
+        return loadAttributesOrNullAsync(Key.create(Course.class, courseId));
     }
 
     /**
      * Gets a list of courses.
      */
     public List<CourseAttributes> getCourses(List<String> courseIds) {
+        return getCoursesAsync(courseIds).get();
+    }
+
+    /**
+     * Starts loading a list of courses in a single batch.
+     *
+     * @see #getCourses(List)
+     */
+    public PendingResult<List<CourseAttributes>> getCoursesAsync(List<String> courseIds) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseIds);
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseIds.toArray());
 
-        return makeAttributes(getCourseEntities(courseIds));
+        if (courseIds.isEmpty()) {
+            return PendingResult.of(ArrayList::new);
+        }
+        Map<String, Course> courses = load().ids(courseIds);
+        return PendingResult.of(() -> makeAttributes(courses.values()));
     }
 
     /**
@@ -142,15 +165,6 @@ public class CoursesDb extends EntitiesDb<Course, CourseAttributes> {
         return load().id(courseId).now();
     }
 
-    private List<Course> getCourseEntities(List<String> courseIds) {
-        if (courseIds.isEmpty()) {
-            return new ArrayList<>();
-        }
-
-        return new ArrayList<>(
-                load().ids(courseIds).values());
-    }
-
     @Override
     protected CourseAttributes makeAttributes(Course entity) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, entity);
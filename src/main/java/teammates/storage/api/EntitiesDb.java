@@ -2,26 +2,35 @@ package teammates.storage.api;
 
 import static com.googlecode.objectify.ObjectifyService.ofy;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import com.google.appengine.api.search.Document;
 import com.google.appengine.api.search.Results;
 import com.google.appengine.api.search.ScoredDocument;
 import com.google.appengine.api.search.SearchQueryException;
+import com.google.apphosting.api.ApiProxy;
 import com.google.common.base.Objects;
 import com.googlecode.objectify.Key;
+import com.googlecode.objectify.Result;
 import com.googlecode.objectify.cmd.LoadType;
+import com.googlecode.objectify.cmd.Query;
 
 import teammates.common.datatransfer.attributes.EntityAttributes;
 import teammates.common.exception.EntityAlreadyExistsException;
+import teammates.common.exception.IncompleteDeletionException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Assumption;
 import teammates.common.util.Const;
-import teammates.common.util.JsonUtils;
 import teammates.common.util.Logger;
 import teammates.storage.entity.BaseEntity;
 import teammates.storage.search.SearchDocument;
@@ -31,6 +40,16 @@ import teammates.storage.search.SearchQuery;
 /**
  * Base class for all classes performing CRUD operations against the Datastore.
  *
+ * <p>Loads from the Datastore by Objectify are asynchronous. A query run by {@code list()} and a batch get by
+ * {@code ids(...)} or {@code keys(...)} are sent to the Datastore at once, and only the first access of their
+ * results waits for them. A single get by {@code id(...)} or {@code key(...)} is however not sent until its result
+ * is asked for by {@code now()}. Independent queries and batch gets can thus be started one after another before
+ * any of their results are accessed, so that they run concurrently.
+ *
+ * <p>Callers which start such loads before checking whether their results are needed, e.g. before checking that
+ * the session they belong to exists, suppress {@code PMD.PrematureDeclaration}, as declaring them early is what
+ * lets them run while the check waits for its own load.
+ *
  * @param <E> Specific entity class
  * @param <A> Specific attributes class
  */
@@ -54,6 +73,22 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
 
     protected static final Logger log = Logger.getLogger();
 
+    /**
+     * Maximum number of entities deleted in a single call to the Datastore, which limits the size of each call.
+     */
+    private static final int DELETION_BATCH_SIZE = 500;
+
+    /**
+     * Maximum number of batches of a deletion sent to the Datastore and not yet completed,
+     * which bounds the calls in flight however many entities are deleted.
+     */
+    private static final int MAX_DELETION_BATCHES_IN_FLIGHT = 10;
+
+    /**
+     * Time which must remain for the current request for another batch of a deletion to be started.
+     */
+    private static final long MIN_REMAINING_MILLIS_FOR_DELETION = 10_000;
+
     /**
      * Creates the entity in the Datastore.
      *
@@ -83,7 +118,7 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
         E entity = entityToAdd.toEntity();
 
         ofy().save().entity(entity).now();
-        log.info("Entity created: " + JsonUtils.toJson(entityToAdd));
+        EntityWriteAuditor.inst().audit("created", entity);
 
         return makeAttributes(entity);
     }
@@ -134,10 +169,8 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
             entities.add(entity);
         }
 
-        for (A attributes : entitiesToAdd) {
-            log.info("Entity created: " + JsonUtils.toJson(attributes));
-        }
         ofy().save().entities(entities).now();
+        EntityWriteAuditor.inst().audit("created", entities);
 
         return makeAttributes(entities);
     }
@@ -155,20 +188,16 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
     protected void saveEntity(E entityToSave) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, entityToSave);
 
-        log.info("Entity saved: " + JsonUtils.toJson(entityToSave));
-
         ofy().save().entity(entityToSave).now();
+        EntityWriteAuditor.inst().audit("saved", entityToSave);
     }
 
     /**
      * Saves a collection of entities.
      */
     protected void saveEntities(Collection<E> entitiesToSave) {
-        for (E entityToSave : entitiesToSave) {
-            log.info("Entity saved: " + JsonUtils.toJson(entityToSave));
-        }
-
         ofy().save().entities(entitiesToSave).now();
+        EntityWriteAuditor.inst().audit("saved", entitiesToSave);
     }
 
     /**
@@ -178,11 +207,92 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, (Object) keys);
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, (Object[]) keys);
 
-        for (Key<?> key : keys) {
-            log.info(String.format("Delete entity %s of key (id: %d, name: %s)",
-                    key.getKind(), key.getId(), key.getName()));
+        deleteInBatches(Arrays.asList(keys), batch -> { });
+    }
+
+    /**
+     * Deletes the entities matching a query.
+     *
+     * @see #deleteEntities(Query, Consumer)
+     */
+    protected void deleteEntities(Query<E> query) {
+        deleteEntities(query, batch -> { });
+    }
+
+    /**
+     * Deletes the entities matching a query.
+     *
+     * <p>The keys of the entities are fetched in batches, each of which is deleted once it is fetched,
+     * so that the keys of all the entities are never held at once and no single delete grows with their number.
+     *
+     * @param beforeDeletingBatch called with each batch of keys before the batch is deleted
+     */
+    protected void deleteEntities(Query<E> query, Consumer<List<Key<E>>> beforeDeletingBatch) {
+        deleteInBatches(query.chunk(DELETION_BATCH_SIZE).keys().iterable(), beforeDeletingBatch);
+    }
+
+    /**
+     * Deletes the entities with the given keys.
+     *
+     * @param beforeDeletingBatch called with each batch of keys before the batch is deleted
+     */
+    protected void deleteEntities(Collection<Key<E>> keys, Consumer<List<Key<E>>> beforeDeletingBatch) {
+        deleteInBatches(keys, beforeDeletingBatch);
+    }
+
+    /**
+     * Deletes entities in batches of {@link #DELETION_BATCH_SIZE}.
+     * Up to {@link #MAX_DELETION_BATCHES_IN_FLIGHT} batches are deleted concurrently
+     * and this method returns once all of them are deleted.
+     * The number of entities deleted is logged so that the progress of a long deletion can be followed.
+     *
+     * @throws IncompleteDeletionException if the request runs out of time after some batches are deleted;
+     *         the deletion can be completed by repeating it
+     */
+    private <K extends Key<?>> void deleteInBatches(Iterable<K> keys, Consumer<List<K>> beforeDeletingBatch) {
+        Deque<Result<Void>> pendingDeletions = new ArrayDeque<>();
+        List<K> batch = new ArrayList<>();
+        int numberOfEntitiesDeleted = 0;
+        String kind = null;
+        for (K key : keys) {
+            kind = key.getKind();
+            batch.add(key);
+            if (batch.size() == DELETION_BATCH_SIZE) {
+                deleteBatch(batch, beforeDeletingBatch, pendingDeletions, numberOfEntitiesDeleted);
+                numberOfEntitiesDeleted += batch.size();
+                batch = new ArrayList<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            deleteBatch(batch, beforeDeletingBatch, pendingDeletions, numberOfEntitiesDeleted);
+            numberOfEntitiesDeleted += batch.size();
+        }
+        pendingDeletions.forEach(Result::now);
+        if (kind != null) {
+            log.info(String.format("Deleted %d %s entities", numberOfEntitiesDeleted, kind));
+        }
+    }
+
+    private <K extends Key<?>> void deleteBatch(List<K> batch, Consumer<List<K>> beforeDeletingBatch,
+            Deque<Result<Void>> pendingDeletions, int numberOfEntitiesDeleted) {
+        // the first batch is always deleted so that every attempt of a deletion makes progress
+        boolean isFirstBatch = pendingDeletions.isEmpty();
+        if (!isFirstBatch && isRequestRunningOutOfTime()) {
+            pendingDeletions.forEach(Result::now);
+            throw new IncompleteDeletionException(String.format(
+                    "Deletion of %s entities stopped after %d were deleted as the request is running out of time",
+                    batch.get(0).getKind(), numberOfEntitiesDeleted));
         }
-        ofy().delete().keys(keys).now();
+        if (pendingDeletions.size() == MAX_DELETION_BATCHES_IN_FLIGHT) {
+            pendingDeletions.remove().now();
+        }
+        beforeDeletingBatch.accept(batch);
+        pendingDeletions.add(ofy().delete().keys(batch));
+    }
+
+    private static boolean isRequestRunningOutOfTime() {
+        ApiProxy.Environment environment = ApiProxy.getCurrentEnvironment();
+        return environment != null && environment.getRemainingMillis() < MIN_REMAINING_MILLIS_FOR_DELETION;
     }
 
     protected abstract LoadType<E> load();
@@ -215,6 +325,27 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
         return null;
     }
 
+    /**
+     * Starts loading the entity with the given key, which is converted to attributes once it is needed.
+     *
+     * <p>The entity is loaded by a batch get of the single key, which unlike a single get is sent at once.
+     *
+     * @return the pending attributes, which are null if the entity does not exist
+     */
+    protected PendingResult<A> loadAttributesOrNullAsync(Key<E> key) {
+        Map<Key<E>, E> entities = ofy().load().keys(Collections.singleton(key));
+        return PendingResult.of(() -> makeAttributesOrNull(entities.get(key)));
+    }
+
+    /**
+     * Converts entities being queried to a list of attributes once the entities are needed.
+     *
+     * @param entities a list returned by an Objectify query, whose query may still be running
+     */
+    protected PendingResult<List<A>> makeAttributesAsync(List<E> entities) {
+        return PendingResult.of(() -> makeAttributes(entities));
+    }
+
     /**
      * Creates a key from a web safe string.
      */
@@ -0,0 +1,193 @@
+package teammates.storage.api;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.googlecode.objectify.Key;
+
+import teammates.common.util.JsonUtils;
+import teammates.common.util.Logger;
+import teammates.storage.entity.FeedbackResponse;
+
+/**
+ * Logs the entities written to the Datastore for auditing.
+ *
+ * <p>Every write is logged with the kind and the key of the entity. The content of the entity is logged as JSON
+ * only for a sample of the writes of each kind, and only up to a maximum length of it is serialized,
+ * so that writes of many or large entities are not slowed down by logging them.
+ */
+public final class EntityWriteAuditor {
+
+    /** Fraction of the writes of each kind whose content is logged, for kinds other than the default rate. */
+    private static final Map<String, Double> CONTENT_SAMPLING_RATES = new HashMap<>();
+
+    static {
+        // responses are by far the most written entities and their answers can be large
+        CONTENT_SAMPLING_RATES.put(FeedbackResponse.class.getSimpleName(), 0.1);
+    }
+
+    private static final int MAX_CONTENT_LENGTH = 2000;
+
+    /** Maximum number of entities whose content is logged for each batch of entities written. */
+    private static final int MAX_CONTENTS_PER_BATCH = 10;
+
+    private static final Logger log = Logger.getLogger();
+
+    private static final EntityWriteAuditor INSTANCE =
+            new EntityWriteAuditor(CONTENT_SAMPLING_RATES, 1.0, MAX_CONTENT_LENGTH);
+
+    private final Map<String, Double> contentSamplingRates;
+    private final double defaultContentSamplingRate;
+    private final int maxContentLength;
+
+    /**
+     * Creates an auditor.
+     *
+     * @param contentSamplingRates fraction of the writes of each kind whose content is logged
+     * @param defaultContentSamplingRate fraction of the writes of kinds not in {@code contentSamplingRates}
+     *                                   whose content is logged
+     * @param maxContentLength maximum number of characters of the content of an entity logged
+     */
+    public EntityWriteAuditor(Map<String, Double> contentSamplingRates, double defaultContentSamplingRate,
+                              int maxContentLength) {
+        this.contentSamplingRates = contentSamplingRates;
+        this.defaultContentSamplingRate = defaultContentSamplingRate;
+        this.maxContentLength = maxContentLength;
+    }
+
+    /**
+     * Returns the auditor used for all writes to the Datastore.
+     */
+    public static EntityWriteAuditor inst() {
+        return INSTANCE;
+    }
+
+    /**
+     * Logs an entity written to the Datastore.
+     *
+     * @param action the write done, e.g. "created"
+     */
+    public void audit(String action, Object entity) {
+        log.info(describe(action, entity, isContentSampled(entity)));
+    }
+
+    /**
+     * Logs a batch of entities written to the Datastore.
+     *
+     * @param action the write done, e.g. "created"
+     */
+    public void audit(String action, Collection<?> entities) {
+        if (entities.isEmpty()) {
+            return;
+        }
+        StringBuilder message = new StringBuilder()
+                .append(entities.size()).append(" entities ").append(action).append(':');
+        int contentsLogged = 0;
+        for (Object entity : entities) {
+            boolean isContentLogged = contentsLogged < MAX_CONTENTS_PER_BATCH && isContentSampled(entity);
+            if (isContentLogged) {
+                contentsLogged++;
+            }
+            message.append(System.lineSeparator()).append(describe(action, entity, isContentLogged));
+        }
+        log.info(message.toString());
+    }
+
+    /**
+     * Describes an entity written, including its content as JSON if {@code isContentIncluded}.
+     */
+    public String describe(String action, Object entity, boolean isContentIncluded) {
+        StringBuilder description = new StringBuilder()
+                .append("Entity ").append(action).append(": ").append(entity.getClass().getSimpleName());
+        Key<Object> key = getKeyOrNull(entity);
+        if (key != null) {
+            description.append(" (id: ").append(key.getId()).append(", name: ").append(key.getName()).append(')');
+        }
+        if (isContentIncluded) {
+            description.append(' ');
+            appendContent(description, entity);
+        }
+        return description.toString();
+    }
+
+    private boolean isContentSampled(Object entity) {
+        double rate = contentSamplingRates.getOrDefault(entity.getClass().getSimpleName(), defaultContentSamplingRate);
+        return rate >= 1.0 || ThreadLocalRandom.current().nextDouble() < rate;
+    }
+
+    private static Key<Object> getKeyOrNull(Object entity) {
+        try {
+            return Key.create(entity);
+        } catch (RuntimeException e) {
+            // the entity is not registered or its ID has not been generated
+            return null;
+        }
+    }
+
+    /**
+     * Appends the content of the entity as JSON, stopping the serialization once the maximum length is reached.
+     */
+    private void appendContent(StringBuilder description, Object entity) {
+        LimitedWriter writer = new LimitedWriter(description, maxContentLength);
+        try {
+            JsonUtils.toCompactJson(entity, writer);
+        } catch (IOException e) {
+            if (!writer.isLimitReached()) {
+                description.append("(content cannot be serialized: ").append(e.getMessage()).append(')');
+                return;
+            }
+        }
+        if (writer.isLimitReached()) {
+            description.append("...(truncated)");
+        }
+    }
+
+    /**
+     * Appends to a {@link StringBuilder} until a maximum number of characters has been written.
+     */
+    private static class LimitedWriter extends Writer {
+
+        // PMD.AvoidStringBufferField is suppressed as the writer is discarded once the entity is serialized
+        @SuppressWarnings("PMD.AvoidStringBufferField")
+        private final StringBuilder builder;
+        private int remaining;
+        private boolean isLimitReached;
+
+        LimitedWriter(StringBuilder builder, int limit) {
+            this.builder = builder;
+            this.remaining = limit;
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) throws IOException {
+            if (len > remaining) {
+                builder.append(cbuf, off, remaining);
+                remaining = 0;
+                isLimitReached = true;
+                throw new IOException("Maximum length reached");
+            }
+            builder.append(cbuf, off, len);
+            remaining -= len;
+        }
+
+        @Override
+        public void flush() {
+            // nothing to flush
+        }
+
+        @Override
+        public void close() {
+            // nothing to close
+        }
+
+        boolean isLimitReached() {
+            return isLimitReached;
+        }
+
+    }
+
+}
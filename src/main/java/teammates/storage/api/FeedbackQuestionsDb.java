@@ -2,7 +2,12 @@ package teammates.storage.api;
 
 import static com.googlecode.objectify.ObjectifyService.ofy;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 import com.googlecode.objectify.Key;
 import com.googlecode.objectify.cmd.LoadType;
@@ -29,9 +34,7 @@ public class FeedbackQuestionsDb extends EntitiesDb<FeedbackQuestion, FeedbackQu
      * Gets a feedback question by using {@code feedbackQuestionId}.
      */
     public FeedbackQuestionAttributes getFeedbackQuestion(String feedbackQuestionId) {
-        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackQuestionId);
-
-        return makeAttributesOrNull(getFeedbackQuestionEntity(feedbackQuestionId));
+        return getFeedbackQuestionAsync(feedbackQuestionId).get();
     }
 
     /**
@@ -46,15 +49,60 @@ public class FeedbackQuestionsDb extends EntitiesDb<FeedbackQuestion, FeedbackQu
         return makeAttributesOrNull(getFeedbackQuestionEntity(feedbackSessionName, courseId, questionNumber));
     }
 
+    /**
+     * Starts loading a feedback question.
+     *
+     * @see #getFeedbackQuestion(String)
+     */
+    public PendingResult<FeedbackQuestionAttributes> getFeedbackQuestionAsync(String feedbackQuestionId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackQuestionId);
+
+        return makeKeyFromWebSafeString(feedbackQuestionId)
+                .map(this::loadAttributesOrNullAsync)
+                .orElseGet(() -> PendingResult.of(() -> null));
+    }
+
+    /**
+     * Gets the feedback questions with the given IDs in a single batch.
+     *
+     * @return the questions found, keyed by their IDs
+     */
+    public Map<String, FeedbackQuestionAttributes> getFeedbackQuestions(Collection<String> feedbackQuestionIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackQuestionIds);
+
+        List<Key<FeedbackQuestion>> keys = feedbackQuestionIds.stream()
+                .distinct()
+                .map(this::makeKeyFromWebSafeString)
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .collect(Collectors.toList());
+
+        Map<String, FeedbackQuestionAttributes> questions = new HashMap<>();
+        for (FeedbackQuestionAttributes question : makeAttributes(ofy().load().keys(keys).values())) {
+            questions.put(question.getId(), question);
+        }
+        return questions;
+    }
+
     /**
      * Gets all feedback questions of a session.
      */
     public List<FeedbackQuestionAttributes> getFeedbackQuestionsForSession(
             String feedbackSessionName, String courseId) {
+        return getFeedbackQuestionsForSessionAsync(feedbackSessionName, courseId).get();
+    }
+
+    /**
+     * Starts loading all feedback questions of a session.
+     *
+     * @see #getFeedbackQuestionsForSession(String, String)
+     */
+    public PendingResult<List<FeedbackQuestionAttributes>> getFeedbackQuestionsForSessionAsync(
+            String feedbackSessionName, String courseId) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
 
-        return makeAttributes(getFeedbackQuestionEntitiesForSession(feedbackSessionName, courseId));
+        return makeAttributesAsync(getFeedbackQuestionEntitiesForSession(feedbackSessionName, courseId));
     }
 
     /**
@@ -153,7 +201,7 @@ public class FeedbackQuestionsDb extends EntitiesDb<FeedbackQuestion, FeedbackQu
             entitiesToDelete = entitiesToDelete.filter("feedbackSessionName =", query.getFeedbackSessionName());
         }
 
-        deleteEntity(entitiesToDelete.keys().list().toArray(new Key<?>[0]));
+        deleteEntities(entitiesToDelete);
     }
 
     /**
@@ -4,10 +4,13 @@ import static com.googlecode.objectify.ObjectifyService.ofy;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import com.google.appengine.api.search.Results;
 import com.google.appengine.api.search.ScoredDocument;
@@ -18,15 +21,19 @@ import com.googlecode.objectify.cmd.Query;
 import teammates.common.datatransfer.AttributesDeletionQuery;
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.FeedbackResponseCommentSearchResultBundle;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
-import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Assumption;
 import teammates.common.util.Const;
 import teammates.common.util.Logger;
+import teammates.storage.entity.Course;
+import teammates.storage.entity.FeedbackQuestion;
+import teammates.storage.entity.FeedbackResponse;
 import teammates.storage.entity.FeedbackResponseComment;
+import teammates.storage.entity.FeedbackSession;
 import teammates.storage.search.FeedbackResponseCommentSearchDocument;
 import teammates.storage.search.FeedbackResponseCommentSearchQuery;
 import teammates.storage.search.SearchDocument;
@@ -41,22 +48,6 @@ public class FeedbackResponseCommentsDb extends EntitiesDb<FeedbackResponseComme
 
     private static final Logger log = Logger.getLogger();
 
-    /**
-     * Creates a feedback response comment.
-     *
-     * @return the created comment
-     * @throws InvalidParametersException if the comment is not valid
-     * @throws EntityAlreadyExistsException if the comment already exists in the Datastore
-     */
-    @Override
-    public FeedbackResponseCommentAttributes createEntity(FeedbackResponseCommentAttributes entityToAdd)
-            throws InvalidParametersException, EntityAlreadyExistsException {
-        FeedbackResponseCommentAttributes createdComment = super.createEntity(entityToAdd);
-        putDocument(createdComment);
-
-        return createdComment;
-    }
-
     /**
      * Removes search document for the comment with given id.
      *
@@ -127,27 +118,50 @@ public class FeedbackResponseCommentsDb extends EntitiesDb<FeedbackResponseComme
      */
     public List<FeedbackResponseCommentAttributes> getFeedbackResponseCommentsForSession(
             String courseId, String feedbackSessionName) {
+        return getFeedbackResponseCommentsForSessionAsync(courseId, feedbackSessionName).get();
+    }
+
+    /**
+     * Gets all comments which have its corresponding response given to/from a section of a feedback session of a course.
+     */
+    public List<FeedbackResponseCommentAttributes> getFeedbackResponseCommentsForSessionInSection(
+            String courseId, String feedbackSessionName, String section) {
+        return getFeedbackResponseCommentsForSessionInSectionAsync(courseId, feedbackSessionName, section).get();
+    }
+
+    /**
+     * Starts loading all comments of a feedback session of a course.
+     *
+     * @see #getFeedbackResponseCommentsForSession(String, String)
+     */
+    public PendingResult<List<FeedbackResponseCommentAttributes>> getFeedbackResponseCommentsForSessionAsync(
+            String courseId, String feedbackSessionName) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
 
-        return makeAttributes(getFeedbackResponseCommentEntitiesForSession(courseId, feedbackSessionName));
+        return makeAttributesAsync(getFeedbackResponseCommentEntitiesForSession(courseId, feedbackSessionName));
     }
 
     /**
-     * Gets all comments which have its corresponding response given to/from a section of a feedback session of a course.
+     * Starts loading all comments of a section of a feedback session of a course.
+     *
+     * @see #getFeedbackResponseCommentsForSessionInSection(String, String, String)
      */
-    public List<FeedbackResponseCommentAttributes> getFeedbackResponseCommentsForSessionInSection(
+    public PendingResult<List<FeedbackResponseCommentAttributes>> getFeedbackResponseCommentsForSessionInSectionAsync(
             String courseId, String feedbackSessionName, String section) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, section);
 
-        return makeAttributes(getFeedbackResponseCommentEntitiesForSessionInSection(courseId, feedbackSessionName, section));
+        return getFeedbackResponseCommentEntitiesForSessionInSection(courseId, feedbackSessionName, section)
+                .map(this::makeAttributes);
     }
 
     /**
      * Updates a feedback response comment by {@link FeedbackResponseCommentAttributes.UpdateOptions}.
      *
+     * <p>The search document of the comment WILL NOT be updated.
+     *
      * @return updated comment
      * @throws InvalidParametersException if attributes to update are not valid
      * @throws EntityDoesNotExistException if the comment cannot be found
@@ -198,32 +212,79 @@ public class FeedbackResponseCommentsDb extends EntitiesDb<FeedbackResponseComme
 
         saveEntity(frc);
 
-        newAttributes = makeAttributes(frc);
-        putDocument(newAttributes);
+        return makeAttributes(frc);
+    }
+
+    /**
+     * Updates the comments of responses which are re-created or whose sections are changed.
+     *
+     * <p>The response ID and the sections of each comment are set to those of its updated response.
+     * The comments of all the responses are queried concurrently and saved in a single batch.
+     * The search documents of the comments WILL NOT be updated.
+     *
+     * @param updatedResponses the updated responses, keyed by the IDs of the responses before the update
+     * @return the IDs of all the comments of the responses, whether they are changed or not
+     */
+    public List<Long> updateFeedbackResponseCommentsForResponses(
+            Map<String, FeedbackResponseAttributes> updatedResponses) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, updatedResponses);
+
+        Map<String, List<FeedbackResponseComment>> commentsOfResponses = new HashMap<>();
+        for (String oldResponseId : updatedResponses.keySet()) {
+            commentsOfResponses.put(oldResponseId, getFeedbackResponseCommentEntitiesForResponse(oldResponseId));
+        }
 
-        return newAttributes;
+        List<Long> commentIds = new ArrayList<>();
+        List<FeedbackResponseComment> commentsToSave = new ArrayList<>();
+        commentsOfResponses.forEach((oldResponseId, comments) -> {
+            FeedbackResponseAttributes response = updatedResponses.get(oldResponseId);
+            for (FeedbackResponseComment comment : comments) {
+                commentIds.add(comment.getFeedbackResponseCommentId());
+                if (this.<String>hasSameValue(comment.getFeedbackResponseId(), response.getId())
+                        && this.<String>hasSameValue(comment.getGiverSection(), response.getGiverSection())
+                        && this.<String>hasSameValue(comment.getReceiverSection(), response.getRecipientSection())) {
+                    continue;
+                }
+                comment.setFeedbackResponseId(response.getId());
+                comment.setGiverSection(response.getGiverSection());
+                comment.setReceiverSection(response.getRecipientSection());
+                commentsToSave.add(comment);
+            }
+        });
+
+        if (!commentsToSave.isEmpty()) {
+            saveEntities(commentsToSave);
+        }
+        return commentIds;
     }
 
     /**
      * Updates the giver email to a new one for all comments in a course.
+     *
+     * <p>The search documents of the comments WILL NOT be updated.
+     *
+     * @return the IDs of the updated comments
      */
-    public void updateGiverEmailOfFeedbackResponseComments(String courseId, String oldEmail, String updatedEmail) {
+    public List<Long> updateGiverEmailOfFeedbackResponseComments(String courseId, String oldEmail, String updatedEmail) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, oldEmail);
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, updatedEmail);
 
         if (oldEmail.equals(updatedEmail)) {
-            return;
+            return new ArrayList<>();
         }
 
         List<FeedbackResponseComment> responseComments =
                 getFeedbackResponseCommentEntitiesForGiverInCourse(courseId, oldEmail);
 
+        List<Long> commentIds = new ArrayList<>();
         for (FeedbackResponseComment responseComment : responseComments) {
             responseComment.setGiverEmail(updatedEmail);
+            commentIds.add(responseComment.getFeedbackResponseCommentId());
         }
 
         saveEntities(responseComments);
+        return commentIds;
     }
 
     /**
@@ -268,6 +329,45 @@ public class FeedbackResponseCommentsDb extends EntitiesDb<FeedbackResponseComme
         putDocument(Const.SearchIndex.FEEDBACK_RESPONSE_COMMENT, frcSearchDocuments.toArray(new SearchDocument[0]));
     }
 
+    /**
+     * Batch creates or updates search documents for the comments with the given IDs.
+     *
+     * <p>Comments which do not exist are skipped.
+     */
+    public void putDocumentsForIds(List<Long> commentIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, commentIds);
+
+        List<FeedbackResponseCommentAttributes> comments = makeAttributes(load().ids(commentIds).values());
+        loadEntitiesRelatedToComments(comments);
+        putDocuments(comments);
+    }
+
+    /**
+     * Loads the sessions, questions, responses and courses of the comments in a single batch.
+     *
+     * <p>The loaded entities are kept in the Objectify session cache, from which they are read again
+     * when the search documents of the comments are built, instead of being read one by one from the Datastore.
+     */
+    private void loadEntitiesRelatedToComments(List<FeedbackResponseCommentAttributes> comments) {
+        Set<String> courseIds = new HashSet<>();
+        Set<String> feedbackSessionIds = new HashSet<>();
+        Set<Key<FeedbackQuestion>> feedbackQuestionKeys = new HashSet<>();
+        Set<String> feedbackResponseIds = new HashSet<>();
+        for (FeedbackResponseCommentAttributes comment : comments) {
+            courseIds.add(comment.courseId);
+            feedbackSessionIds.add(FeedbackSession.generateId(comment.feedbackSessionName, comment.courseId));
+            feedbackQuestionKeys.add(Key.create(comment.feedbackQuestionId));
+            feedbackResponseIds.add(comment.feedbackResponseId);
+        }
+
+        List<Map<?, ?>> relatedEntities = Arrays.asList(
+                ofy().load().type(Course.class).ids(courseIds),
+                ofy().load().type(FeedbackSession.class).ids(feedbackSessionIds),
+                ofy().load().keys(feedbackQuestionKeys),
+                ofy().load().type(FeedbackResponse.class).ids(feedbackResponseIds));
+        relatedEntities.forEach(Map::size);
+    }
+
     /**
      * Searches for comments, using a list of instructors as a constraint.
      */
@@ -310,11 +410,31 @@ public class FeedbackResponseCommentsDb extends EntitiesDb<FeedbackResponseComme
             entitiesToDelete = entitiesToDelete.filter("feedbackResponseId =", query.getResponseId());
         }
 
-        List<Key<FeedbackResponseComment>> keysToDelete = entitiesToDelete.keys().list();
+        deleteEntities(entitiesToDelete, this::deleteDocumentsOfKeys);
+    }
+
+    /**
+     * Deletes the comments of the given responses.
+     *
+     * <p>The comments of all the responses are queried concurrently and deleted together in batches,
+     * along with their search documents.
+     */
+    public void deleteFeedbackResponseCommentsForResponses(Collection<String> feedbackResponseIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackResponseIds);
+
+        List<List<Key<FeedbackResponseComment>>> keysOfResponses = new ArrayList<>();
+        for (String feedbackResponseId : feedbackResponseIds) {
+            keysOfResponses.add(load().filter("feedbackResponseId =", feedbackResponseId).keys().list());
+        }
+
+        List<Key<FeedbackResponseComment>> keysToDelete = new ArrayList<>();
+        keysOfResponses.forEach(keysToDelete::addAll);
+        deleteEntities(keysToDelete, this::deleteDocumentsOfKeys);
+    }
 
+    private void deleteDocumentsOfKeys(List<Key<FeedbackResponseComment>> keys) {
         deleteDocument(Const.SearchIndex.FEEDBACK_RESPONSE_COMMENT,
-                keysToDelete.stream().map(key -> String.valueOf(key.getId())).toArray(String[]::new));
-        deleteEntity(keysToDelete.toArray(new Key<?>[0]));
+                keys.stream().map(key -> String.valueOf(key.getId())).toArray(String[]::new));
     }
 
     private FeedbackResponseComment getFeedbackResponseCommentEntity(String courseId, Instant createdAt, String giverEmail) {
@@ -373,31 +493,29 @@ public class FeedbackResponseCommentsDb extends EntitiesDb<FeedbackResponseComme
                 .list();
     }
 
-    private Collection<FeedbackResponseComment> getFeedbackResponseCommentEntitiesForSessionInSection(
+    private PendingResult<Collection<FeedbackResponseComment>> getFeedbackResponseCommentEntitiesForSessionInSection(
             String courseId, String feedbackSessionName, String section) {
-        Map<Long, FeedbackResponseComment> comments = new HashMap<>();
-
         List<FeedbackResponseComment> firstQueryResponseComments = load()
                 .filter("courseId =", courseId)
                 .filter("feedbackSessionName =", feedbackSessionName)
                 .filter("giverSection =", section)
                 .list();
-
-        for (FeedbackResponseComment comment : firstQueryResponseComments) {
-            comments.put(comment.getFeedbackResponseCommentId(), comment);
-        }
-
         List<FeedbackResponseComment> secondQueryResponseComments = load()
                 .filter("courseId =", courseId)
                 .filter("feedbackSessionName =", feedbackSessionName)
                 .filter("receiverSection =", section)
                 .list();
 
-        for (FeedbackResponseComment comment : secondQueryResponseComments) {
-            comments.put(comment.getFeedbackResponseCommentId(), comment);
-        }
-
-        return comments.values();
+        return PendingResult.of(() -> {
+            Map<Long, FeedbackResponseComment> comments = new HashMap<>();
+            for (FeedbackResponseComment comment : firstQueryResponseComments) {
+                comments.put(comment.getFeedbackResponseCommentId(), comment);
+            }
+            for (FeedbackResponseComment comment : secondQueryResponseComments) {
+                comments.put(comment.getFeedbackResponseCommentId(), comment);
+            }
+            return comments.values();
+        });
     }
 
     @Override
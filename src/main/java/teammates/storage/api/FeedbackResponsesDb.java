@@ -3,18 +3,25 @@ package teammates.storage.api;
 import static com.googlecode.objectify.ObjectifyService.ofy;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
+import com.google.appengine.api.datastore.Cursor;
+import com.google.appengine.api.datastore.QueryResultIterator;
 import com.googlecode.objectify.Key;
 import com.googlecode.objectify.cmd.LoadType;
 import com.googlecode.objectify.cmd.Query;
 
 import teammates.common.datatransfer.AttributesDeletionQuery;
+import teammates.common.datatransfer.FeedbackResponsesPage;
 import teammates.common.datatransfer.SectionDetail;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.exception.EntityAlreadyExistsException;
@@ -62,11 +69,7 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
      * Gets a feedback response.
      */
     public FeedbackResponseAttributes getFeedbackResponse(String feedbackResponseId) {
-        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackResponseId);
-
-        FeedbackResponse fr = getFeedbackResponseEntity(feedbackResponseId);
-
-        return makeAttributesOrNull(fr);
+        return getFeedbackResponseAsync(feedbackResponseId).get();
     }
 
     /**
@@ -84,6 +87,17 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
         return makeAttributesOrNull(fr);
     }
 
+    /**
+     * Starts loading a feedback response.
+     *
+     * @see #getFeedbackResponse(String)
+     */
+    public PendingResult<FeedbackResponseAttributes> getFeedbackResponseAsync(String feedbackResponseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackResponseId);
+
+        return loadAttributesOrNullAsync(Key.create(FeedbackResponse.class, feedbackResponseId));
+    }
+
     /**
      * Gets all feedback responses of a question in a specific section.
      *
@@ -142,6 +156,73 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
         return makeAttributes(getFeedbackResponseEntitiesForSessionWithinRange(feedbackSessionName, courseId, range));
     }
 
+    /**
+     * Gets a page of the responses of a feedback session in a course.
+     *
+     * <p>Responses are returned in the order of their IDs, i.e. by question, giver and then recipient,
+     * so that consecutive pages neither overlap nor skip responses.</p>
+     *
+     * @param cursor the cursor returned with the previous page, or null to get the first page
+     * @param pageSize the maximum number of responses in the page
+     * @throws InvalidParametersException if the cursor is malformed
+     */
+    public FeedbackResponsesPage getFeedbackResponsesForSessionInPage(
+            String feedbackSessionName, String courseId, String cursor, int pageSize)
+            throws InvalidParametersException {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        return getFeedbackResponsesInPage(load()
+                .filter("feedbackSessionName =", feedbackSessionName)
+                .filter("courseId =", courseId), cursor, pageSize);
+    }
+
+    /**
+     * Gets a page of the responses of a question.
+     *
+     * <p>Responses are returned in the order of their IDs, i.e. by giver and then recipient,
+     * so that consecutive pages neither overlap nor skip responses.</p>
+     *
+     * @param cursor the cursor returned with the previous page, or null to get the first page
+     * @param pageSize the maximum number of responses in the page
+     * @throws InvalidParametersException if the cursor is malformed
+     */
+    public FeedbackResponsesPage getFeedbackResponsesForQuestionInPage(
+            String feedbackQuestionId, String cursor, int pageSize)
+            throws InvalidParametersException {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackQuestionId);
+
+        return getFeedbackResponsesInPage(load().filter("feedbackQuestionId =", feedbackQuestionId), cursor, pageSize);
+    }
+
+    private FeedbackResponsesPage getFeedbackResponsesInPage(
+            Query<FeedbackResponse> responsesQuery, String cursor, int pageSize)
+            throws InvalidParametersException {
+        Assumption.assertTrue(pageSize > 0);
+
+        Query<FeedbackResponse> query = responsesQuery.limit(pageSize + 1);
+
+        List<FeedbackResponse> feedbackResponses = new ArrayList<>();
+        String nextPageCursor;
+        try {
+            if (cursor != null) {
+                query = query.startAt(Cursor.fromWebSafeString(cursor));
+            }
+
+            // one more entity than the page size is queried to tell whether there is a next page
+            QueryResultIterator<FeedbackResponse> iterator = query.iterator();
+            while (feedbackResponses.size() < pageSize && iterator.hasNext()) {
+                feedbackResponses.add(iterator.next());
+            }
+            nextPageCursor = iterator.hasNext() ? iterator.getCursor().toWebSafeString() : null;
+        } catch (IllegalArgumentException e) {
+            // thrown when the cursor cannot be decoded, or does not belong to the query
+            throw new InvalidParametersException("Invalid cursor: " + cursor, e);
+        }
+
+        return new FeedbackResponsesPage(makeAttributes(feedbackResponses), nextPageCursor);
+    }
+
     /**
      * Gets all responses given to/from a section in a feedback session in a course.
      */
@@ -294,6 +375,35 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
                 giverEmail, feedbackSessionName, courseId, range));
     }
 
+    /**
+     * Gets the givers among {@code giverEmails} who have given at least one response in a feedback session.
+     *
+     * <p>A keys-only query is run for each giver, and the queries of all the givers are run concurrently.
+     */
+    public Set<String> getGiversWithResponsesInSession(
+            String feedbackSessionName, String courseId, Collection<String> giverEmails) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, giverEmails);
+
+        Map<String, List<Key<FeedbackResponse>>> queryResults = new LinkedHashMap<>();
+        for (String giverEmail : giverEmails) {
+            queryResults.put(giverEmail, load()
+                    .filter("giverEmail =", giverEmail)
+                    .filter("feedbackSessionName =", feedbackSessionName)
+                    .filter("courseId =", courseId)
+                    .limit(1).keys().list());
+        }
+
+        Set<String> giversWithResponses = new HashSet<>();
+        queryResults.forEach((giverEmail, keys) -> {
+            if (!keys.isEmpty()) {
+                giversWithResponses.add(giverEmail);
+            }
+        });
+        return giversWithResponses;
+    }
+
     /**
      * Gets all responses given to a user in a course.
      */
@@ -385,6 +495,151 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
         }
     }
 
+    /**
+     * Updates the giver and recipient sections of all responses in a course given by or to the users.
+     *
+     * <p>The responses of all the users are queried concurrently and the updated responses are saved in a single batch.
+     *
+     * @param newSections the new section of each user, keyed by email
+     * @return the responses which are updated
+     */
+    public List<FeedbackResponseAttributes> updateSectionsOfResponsesForUsers(
+            String courseId, Map<String, String> newSections) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, newSections);
+
+        List<List<FeedbackResponse>> queryResults = new ArrayList<>();
+        for (String email : newSections.keySet()) {
+            queryResults.add(getFeedbackResponseEntitiesFromGiverForCourse(courseId, email));
+            queryResults.add(getFeedbackResponseEntitiesForReceiverForCourse(courseId, email));
+        }
+
+        // a response can be both given by and given to users whose sections change
+        Map<String, FeedbackResponse> responses = new LinkedHashMap<>();
+        queryResults.forEach(queryResult ->
+                queryResult.forEach(response -> responses.putIfAbsent(response.getId(), response)));
+
+        List<FeedbackResponse> responsesToSave = new ArrayList<>();
+        for (FeedbackResponse response : responses.values()) {
+            String newGiverSection = newSections.getOrDefault(response.getGiverEmail(), response.getGiverSection());
+            String newRecipientSection =
+                    newSections.getOrDefault(response.getRecipientEmail(), response.getRecipientSection());
+            if (this.<String>hasSameValue(response.getGiverSection(), newGiverSection)
+                    && this.<String>hasSameValue(response.getRecipientSection(), newRecipientSection)) {
+                continue;
+            }
+
+            response.setGiverSection(newGiverSection);
+            response.setRecipientSection(newRecipientSection);
+            responsesToSave.add(response);
+        }
+
+        if (!responsesToSave.isEmpty()) {
+            saveEntities(responsesToSave);
+        }
+        return makeAttributes(responsesToSave);
+    }
+
+    /**
+     * Changes the email of a user in all responses in a course given by or to the user.
+     *
+     * <p>As the ID of a response contains the emails of its giver and recipient, each response is re-created
+     * with a new ID. The re-created responses are saved in a single batch and the old responses are then
+     * deleted in another, so that the responses are not lost if the deletion fails.
+     *
+     * <p>Fails without updating any response if a response with the ID of a re-created response already exists,
+     * as it would be overwritten.
+     *
+     * @return the re-created responses, keyed by the IDs of the responses they replace
+     */
+    public Map<String, FeedbackResponseAttributes> updateEmailOfResponsesForUser(
+            String courseId, String oldEmail, String newEmail) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, oldEmail);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, newEmail);
+
+        Map<String, FeedbackResponseAttributes> updatedResponses = new LinkedHashMap<>();
+        if (oldEmail.equals(newEmail)) {
+            return updatedResponses;
+        }
+
+        List<FeedbackResponse> responsesFromUser = getFeedbackResponseEntitiesFromGiverForCourse(courseId, oldEmail);
+        List<FeedbackResponse> responsesToUser = getFeedbackResponseEntitiesForReceiverForCourse(courseId, oldEmail);
+
+        // a response to self is both given by and given to the user
+        Map<String, FeedbackResponse> oldResponses = new LinkedHashMap<>();
+        responsesFromUser.forEach(response -> oldResponses.putIfAbsent(response.getId(), response));
+        responsesToUser.forEach(response -> oldResponses.putIfAbsent(response.getId(), response));
+
+        List<FeedbackResponse> responsesToSave = new ArrayList<>();
+        List<Key<FeedbackResponse>> keysToDelete = new ArrayList<>();
+        for (FeedbackResponse oldResponse : oldResponses.values()) {
+            FeedbackResponse newResponse = new FeedbackResponse(oldResponse.getFeedbackSessionName(),
+                    oldResponse.getCourseId(), oldResponse.getFeedbackQuestionId(), oldResponse.getFeedbackQuestionType(),
+                    oldEmail.equals(oldResponse.getGiverEmail()) ? newEmail : oldResponse.getGiverEmail(),
+                    oldResponse.getGiverSection(),
+                    oldEmail.equals(oldResponse.getRecipientEmail()) ? newEmail : oldResponse.getRecipientEmail(),
+                    oldResponse.getRecipientSection(), oldResponse.getResponseMetaData());
+            newResponse.setCreatedAt(oldResponse.getCreatedAt());
+
+            responsesToSave.add(newResponse);
+            keysToDelete.add(Key.create(FeedbackResponse.class, oldResponse.getId()));
+            updatedResponses.put(oldResponse.getId(), makeAttributes(newResponse));
+        }
+
+        if (responsesToSave.isEmpty()) {
+            return updatedResponses;
+        }
+
+        Map<String, FeedbackResponse> existingResponses = load().ids(
+                responsesToSave.stream().map(FeedbackResponse::getId).collect(Collectors.toList()));
+        if (!existingResponses.isEmpty()) {
+            Assumption.fail("Feedback response failed to update successfully as email was already in use: "
+                    + existingResponses.keySet());
+        }
+
+        saveEntities(responsesToSave);
+        deleteEntity(keysToDelete.toArray(new Key<?>[0]));
+        return updatedResponses;
+    }
+
+    /**
+     * Creates or updates feedback responses in a single batch.
+     *
+     * <p>Responses which already exist keep their creation time.
+     *
+     * @return the responses saved
+     * @throws InvalidParametersException if any of the responses is not valid, in which case none of them is saved
+     */
+    public List<FeedbackResponseAttributes> putFeedbackResponses(Collection<FeedbackResponseAttributes> responses)
+            throws InvalidParametersException {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, responses);
+
+        List<FeedbackResponse> responsesToSave = new ArrayList<>();
+        for (FeedbackResponseAttributes response : responses) {
+            response.sanitizeForSaving();
+            if (!response.isValid()) {
+                throw new InvalidParametersException(response.getInvalidityInfo());
+            }
+            responsesToSave.add(response.toEntity());
+        }
+        if (responsesToSave.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<String, FeedbackResponse> existingResponses = load().ids(
+                responsesToSave.stream().map(FeedbackResponse::getId).collect(Collectors.toList()));
+        for (FeedbackResponse response : responsesToSave) {
+            FeedbackResponse existingResponse = existingResponses.get(response.getId());
+            if (existingResponse != null) {
+                response.setCreatedAt(existingResponse.getCreatedAt());
+            }
+        }
+
+        saveEntities(responsesToSave);
+        return makeAttributes(responsesToSave);
+    }
+
     /**
      * Deletes a feedback response.
      */
@@ -394,6 +649,17 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
         deleteEntity(Key.create(FeedbackResponse.class, responseId));
     }
 
+    /**
+     * Deletes feedback responses in a single batch.
+     */
+    public void deleteFeedbackResponses(Collection<String> responseIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, responseIds);
+
+        deleteEntity(responseIds.stream()
+                .map(responseId -> Key.create(FeedbackResponse.class, responseId))
+                .toArray(Key<?>[]::new));
+    }
+
     /**
      * Deletes responses using {@link AttributesDeletionQuery}.
      */
@@ -411,7 +677,7 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
             entitiesToDelete = entitiesToDelete.filter("feedbackQuestionId =", query.getQuestionId());
         }
 
-        deleteEntity(entitiesToDelete.keys().list().toArray(new Key<?>[0]));
+        deleteEntities(entitiesToDelete);
     }
 
     /**
@@ -426,46 +692,11 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
         return load().id(feedbackResponseId).now();
     }
 
-    private Set<FeedbackResponse> getFeedbackResponseEntitiesForQuestionInSection(
+    private List<FeedbackResponse> getFeedbackResponseEntitiesForQuestionInSection(
                 String feedbackQuestionId, String section, SectionDetail sectionDetail) {
-        Set<FeedbackResponse> feedbackResponses = new HashSet<>();
-        if (sectionDetail == SectionDetail.BOTH) {
-            // responses in section with giver or recipient as None are added to respective section selected
-            feedbackResponses.addAll(load()
-                    .filter("feedbackQuestionId =", feedbackQuestionId)
-                    .filter("giverSection =", section)
-                    .filter("receiverSection =", "None")
-                    .list());
-
-            feedbackResponses.addAll(load()
-                    .filter("feedbackQuestionId =", feedbackQuestionId)
-                    .filter("giverSection =", "None")
-                    .filter("receiverSection =", section)
-                    .list());
-
-            feedbackResponses.addAll(load()
-                    .filter("feedbackQuestionId =", feedbackQuestionId)
-                    .filter("giverSection =", section)
-                    .filter("receiverSection =", section)
-                    .list());
-
-        }
-        if (sectionDetail == SectionDetail.GIVER || sectionDetail == SectionDetail.EITHER) {
-            feedbackResponses.addAll(load()
-                    .filter("feedbackQuestionId =", feedbackQuestionId)
-                    .filter("giverSection =", section)
-                    .list());
-
-        }
-        if (sectionDetail == SectionDetail.EVALUEE || sectionDetail == SectionDetail.EITHER) {
-            feedbackResponses.addAll(load()
-                    .filter("feedbackQuestionId =", feedbackQuestionId)
-                    .filter("receiverSection =", section)
-                    .list());
+        Query<FeedbackResponse> query = load().filter("feedbackQuestionId =", feedbackQuestionId);
 
-        }
-
-        return feedbackResponses;
+        return getFeedbackResponseEntitiesMatchingAnyOf(planSectionQueries(query, section, sectionDetail));
     }
 
     private List<FeedbackResponse> getFeedbackResponseEntitiesForQuestion(String feedbackQuestionId) {
@@ -486,43 +717,22 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
                 .limit(range + 1).list();
     }
 
-    private Collection<FeedbackResponse> getFeedbackResponseEntitiesForSessionInSection(
+    private List<FeedbackResponse> getFeedbackResponseEntitiesForSessionInSection(
             String feedbackSessionName, String courseId, String section) {
-        Map<String, FeedbackResponse> feedbackResponses = new HashMap<>();
-
-        for (FeedbackResponse result : getFeedbackResponseEntitiesForSessionFromSection(
-                feedbackSessionName, courseId, section)) {
-            feedbackResponses.put(result.getId(), result);
-        }
-
-        for (FeedbackResponse result : getFeedbackResponseEntitiesForSessionToSection(
-                feedbackSessionName, courseId, section)) {
-            feedbackResponses.put(result.getId(), result);
-        }
-
-        return feedbackResponses.values();
+        return getFeedbackResponseEntitiesForSessionInSectionWithinRange(feedbackSessionName, courseId, section, -1);
     }
 
     private List<FeedbackResponse> getFeedbackResponseEntitiesForSessionInGiverAndRecipientSection(
             String feedbackSessionName, String courseId, String section) {
-        List<FeedbackResponse> feedbackResponses = new ArrayList<>();
-
-        feedbackResponses.addAll(load()
-                .filter("feedbackSessionName = ", feedbackSessionName)
+        Query<FeedbackResponse> query = load()
+                .filter("feedbackSessionName =", feedbackSessionName)
                 .filter("courseId =", courseId)
-                .filter("giverSection =", section)
-                .filter("receiverSection =", section)
-                .list());
+                .filter("giverSection =", section);
 
         // also show responses in section with giver but without recipient
-        feedbackResponses.addAll(load()
-                .filter("feedbackSessionName = ", feedbackSessionName)
-                .filter("courseId =", courseId)
-                .filter("giverSection =", section)
-                .filter("receiverSection =", "None")
-                .list());
-
-        return feedbackResponses;
+        return getFeedbackResponseEntitiesMatchingAnyOf(Arrays.asList(
+                query.filter("receiverSection =", section),
+                query.filter("receiverSection =", Const.DEFAULT_SECTION)));
     }
 
     private List<FeedbackResponse> getFeedbackResponseEntitiesForSessionFromSection(
@@ -535,21 +745,14 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
         return getFeedbackResponseEntitiesForSessionToSectionWithinRange(feedbackSessionName, courseId, section, -1);
     }
 
-    private Collection<FeedbackResponse> getFeedbackResponseEntitiesForSessionInSectionWithinRange(
+    private List<FeedbackResponse> getFeedbackResponseEntitiesForSessionInSectionWithinRange(
             String feedbackSessionName, String courseId, String section, int range) {
-        Map<String, FeedbackResponse> feedbackResponses = new HashMap<>();
-
-        for (FeedbackResponse result : getFeedbackResponseEntitiesForSessionFromSectionWithinRange(
-                feedbackSessionName, courseId, section, range)) {
-            feedbackResponses.put(result.getId(), result);
-        }
-
-        for (FeedbackResponse result : getFeedbackResponseEntitiesForSessionToSectionWithinRange(
-                feedbackSessionName, courseId, section, range)) {
-            feedbackResponses.put(result.getId(), result);
-        }
+        Query<FeedbackResponse> query = load()
+                .filter("feedbackSessionName =", feedbackSessionName)
+                .filter("courseId =", courseId)
+                .limit(range + 1);
 
-        return feedbackResponses.values();
+        return getFeedbackResponseEntitiesMatchingAnyOf(planSectionQueries(query, section, SectionDetail.EITHER));
     }
 
     private List<FeedbackResponse> getFeedbackResponseEntitiesForSessionFromSectionWithinRange(
@@ -578,31 +781,13 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
                 .list();
     }
 
-    private Collection<FeedbackResponse> getFeedbackResponseEntitiesForReceiverForQuestionInSection(
+    private List<FeedbackResponse> getFeedbackResponseEntitiesForReceiverForQuestionInSection(
             String feedbackQuestionId, String receiver, String section) {
-        Map<String, FeedbackResponse> feedbackResponses = new HashMap<>();
-
-        List<FeedbackResponse> firstQueryResponses = load()
-                .filter("feedbackQuestionId =", feedbackQuestionId)
-                .filter("receiver =", receiver)
-                .filter("giverSection =", section)
-                .list();
-
-        for (FeedbackResponse response : firstQueryResponses) {
-            feedbackResponses.put(response.getId(), response);
-        }
-
-        List<FeedbackResponse> secondQueryResponses = load()
+        Query<FeedbackResponse> query = load()
                 .filter("feedbackQuestionId =", feedbackQuestionId)
-                .filter("receiver =", receiver)
-                .filter("receiverSection =", section)
-                .list();
+                .filter("receiver =", receiver);
 
-        for (FeedbackResponse response : secondQueryResponses) {
-            feedbackResponses.put(response.getId(), response);
-        }
-
-        return feedbackResponses.values();
+        return getFeedbackResponseEntitiesMatchingAnyOf(planSectionQueries(query, section, SectionDetail.EITHER));
     }
 
     private List<FeedbackResponse> getFeedbackResponseEntitiesFromGiverForQuestion(
@@ -613,31 +798,64 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
                 .list();
     }
 
-    private Collection<FeedbackResponse> getFeedbackResponseEntitiesFromGiverForQuestionInSection(
+    private List<FeedbackResponse> getFeedbackResponseEntitiesFromGiverForQuestionInSection(
             String feedbackQuestionId, String giverEmail, String section) {
-        Map<String, FeedbackResponse> feedbackResponses = new HashMap<>();
-
-        List<FeedbackResponse> firstQueryResponses = load()
+        Query<FeedbackResponse> query = load()
                 .filter("feedbackQuestionId =", feedbackQuestionId)
-                .filter("giverEmail =", giverEmail)
-                .filter("giverSection =", section)
-                .list();
+                .filter("giverEmail =", giverEmail);
+
+        return getFeedbackResponseEntitiesMatchingAnyOf(planSectionQueries(query, section, SectionDetail.EITHER));
+    }
 
-        for (FeedbackResponse response : firstQueryResponses) {
-            feedbackResponses.put(response.getId(), response);
+    /**
+     * Plans the minimal set of queries, refined from {@code query}, which together match the responses
+     * in {@code section} according to {@code sectionDetail}.
+     */
+    private List<Query<FeedbackResponse>> planSectionQueries(
+            Query<FeedbackResponse> query, String section, SectionDetail sectionDetail) {
+        switch (sectionDetail) {
+        case GIVER:
+            return Collections.singletonList(query.filter("giverSection =", section));
+        case EVALUEE:
+            return Collections.singletonList(query.filter("receiverSection =", section));
+        case EITHER:
+            return Arrays.asList(
+                    query.filter("giverSection =", section),
+                    query.filter("receiverSection =", section));
+        case BOTH:
+            // responses in section with giver or recipient as None are added to respective section selected
+            return Arrays.asList(
+                    query.filter("giverSection =", section).filter("receiverSection =", section),
+                    query.filter("giverSection =", section).filter("receiverSection =", Const.DEFAULT_SECTION),
+                    query.filter("giverSection =", Const.DEFAULT_SECTION).filter("receiverSection =", section));
+        default:
+            return Collections.emptyList();
         }
+    }
 
-        List<FeedbackResponse> secondQueryResponses = load()
-                .filter("feedbackQuestionId =", feedbackQuestionId)
-                .filter("giverEmail =", giverEmail)
-                .filter("receiverSection =", section)
-                .list();
+    /**
+     * Gets the responses matched by any of {@code queries}.
+     *
+     * <p>Only the keys of the responses are queried, concurrently for all the queries.
+     * The keys are merged before the responses are fetched, so that responses matched by
+     * more than one query are fetched once only.
+     */
+    private List<FeedbackResponse> getFeedbackResponseEntitiesMatchingAnyOf(List<Query<FeedbackResponse>> queries) {
+        if (queries.size() == 1) {
+            return queries.get(0).list();
+        }
+
+        List<List<Key<FeedbackResponse>>> keysOfQueries = new ArrayList<>();
+        for (Query<FeedbackResponse> query : queries) {
+            keysOfQueries.add(query.keys().list());
+        }
 
-        for (FeedbackResponse response : secondQueryResponses) {
-            feedbackResponses.put(response.getId(), response);
+        Set<Key<FeedbackResponse>> keys = new LinkedHashSet<>();
+        for (List<Key<FeedbackResponse>> keysOfQuery : keysOfQueries) {
+            keys.addAll(keysOfQuery);
         }
 
-        return feedbackResponses.values();
+        return new ArrayList<>(ofy().load().keys(keys).values());
     }
 
     private List<FeedbackResponse> getFeedbackResponseEntitiesFromGiverForSessionWithinRange(
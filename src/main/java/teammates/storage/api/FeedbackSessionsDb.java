@@ -3,9 +3,16 @@ package teammates.storage.api;
 import static com.googlecode.objectify.ObjectifyService.ofy;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -22,15 +29,30 @@ import teammates.common.util.Assumption;
 import teammates.common.util.Const;
 import teammates.common.util.TimeHelper;
 import teammates.storage.entity.FeedbackSession;
+import teammates.storage.entity.FeedbackSessionRespondentShard;
 
 /**
  * Handles CRUD operations for feedback sessions.
  *
+ * <p>The respondents of a session are kept in {@link FeedbackSessionRespondentShard}s rather than in the session
+ * itself, so that concurrent submissions do not contend on the session entity. They are merged into
+ * {@link FeedbackSessionAttributes} when a single session is read; sessions read in lists only come with
+ * the respondents stored in the session entity, and the respondents in the shards are merged into them
+ * by {@link #loadRespondents(Collection)} where they are needed. Respondents stored in the session entity by
+ * earlier versions, or put together with the session, are still read.
+ *
  * @see FeedbackSession
+ * @see FeedbackSessionRespondentShard
  * @see FeedbackSessionAttributes
  */
 public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSessionAttributes> {
 
+    /**
+     * The number of shards the respondents of a session are spread across.
+     * Changing it will lose the respondents recorded in existing shards.
+     */
+    private static final int NUMBER_OF_RESPONDENT_SHARDS = 10;
+
     /**
      * Gets a list of feedback sessions that is ongoing, i.e. starting before {@code rangeEnd}
      * and ending after {@code rangeStart}.
@@ -65,17 +87,27 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
      * @return null if not found or soft-deleted.
      */
     public FeedbackSessionAttributes getFeedbackSession(String courseId, String feedbackSessionName) {
+        return getFeedbackSessionAsync(courseId, feedbackSessionName).get();
+    }
+
+    /**
+     * Starts loading a feedback session.
+     *
+     * @see #getFeedbackSession(String, String)
+     */
+    public PendingResult<FeedbackSessionAttributes> getFeedbackSessionAsync(String courseId, String feedbackSessionName) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
 
-        FeedbackSessionAttributes feedbackSession =
-                makeAttributesOrNull(getFeedbackSessionEntity(feedbackSessionName, courseId));
-
-        if (feedbackSession != null && feedbackSession.isSessionDeleted()) {
-            log.info("Trying to access soft-deleted session: " + feedbackSessionName + "/" + courseId);
-            return null;
-        }
-        return feedbackSession;
+        return loadAttributesOrNullAsync(
+                Key.create(FeedbackSession.class, FeedbackSession.generateId(feedbackSessionName, courseId)))
+                .map(feedbackSession -> {
+                    if (feedbackSession != null && feedbackSession.isSessionDeleted()) {
+                        log.info("Trying to access soft-deleted session: " + feedbackSessionName + "/" + courseId);
+                        return null;
+                    }
+                    return feedbackSession;
+                });
     }
 
     /**
@@ -143,6 +175,35 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Gets the sessions of each of the given courses except those that are soft-deleted.
+     *
+     * <p>The sessions of all the courses are queried concurrently.
+     *
+     * @return the sessions keyed by the ID of their course, in the order of {@code courseIds}
+     */
+    public Map<String, List<FeedbackSessionAttributes>> getFeedbackSessionsForCourses(Collection<String> courseIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseIds);
+
+        List<List<FeedbackSession>> entitiesOfCourses = new ArrayList<>();
+        for (String courseId : courseIds) {
+            entitiesOfCourses.add(getFeedbackSessionEntitiesForCourse(courseId));
+        }
+        List<FeedbackSession> entities = new ArrayList<>();
+        entitiesOfCourses.forEach(entities::addAll);
+
+        Map<String, List<FeedbackSessionAttributes>> sessionsByCourseId = new LinkedHashMap<>();
+        for (String courseId : courseIds) {
+            sessionsByCourseId.put(courseId, new ArrayList<>());
+        }
+        for (FeedbackSessionAttributes session : makeAttributes(entities)) {
+            if (!session.isSessionDeleted()) {
+                sessionsByCourseId.get(session.getCourseId()).add(session);
+            }
+        }
+        return sessionsByCourseId;
+    }
+
     /**
      * Gets a list of sessions for the given course that are soft-deleted.
      */
@@ -197,18 +258,26 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
     /**
      * Update a feedback session by {@link FeedbackSessionAttributes.UpdateOptions}.
      *
-     * <p>The update will be done in a transaction.
+     * <p>The update of the session will be done in a transaction. Changes to the respondents are then
+     * written to the shards they belong to, each in its own transaction.
      *
      * @return updated feedback session
      * @throws InvalidParametersException if attributes to update are not valid
      * @throws EntityDoesNotExistException if the feedback session cannot be found
      */
-    @SuppressWarnings("PMD.AvoidThrowingRawExceptionTypes")
+    @SuppressWarnings({"PMD.AvoidThrowingRawExceptionTypes", "PMD.PrematureDeclaration"})
     // The objectify library does not support throwing checked exceptions inside transactions
+    // PMD.PrematureDeclaration is suppressed as the respondent shards are loaded while the session is updated
     public FeedbackSessionAttributes updateFeedbackSession(FeedbackSessionAttributes.UpdateOptions updateOptions)
             throws InvalidParametersException, EntityDoesNotExistException {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, updateOptions);
 
+        // the respondent shards are loaded while the session is updated
+        Map<Key<FeedbackSessionRespondentShard>, FeedbackSessionRespondentShard> shards =
+                ofy().load().keys(getRespondentShardKeys(
+                        FeedbackSession.generateId(updateOptions.getFeedbackSessionName(), updateOptions.getCourseId())));
+
+        FeedbackSessionAttributes[] oldAttributesFinal = new FeedbackSessionAttributes[] { null };
         FeedbackSessionAttributes[] newAttributesFinal = new FeedbackSessionAttributes[] { null };
         try {
             FeedbackSessionsDb thisDb = this;
@@ -222,9 +291,15 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
                                 new EntityDoesNotExistException(ERROR_UPDATE_NON_EXISTENT + updateOptions));
                     }
 
-                    newAttributesFinal[0] = makeAttributes(feedbackSession);
+                    oldAttributesFinal[0] = FeedbackSessionAttributes.valueOf(feedbackSession);
+                    newAttributesFinal[0] = FeedbackSessionAttributes.valueOf(feedbackSession);
                     FeedbackSessionAttributes newAttributes = newAttributesFinal[0];
+                    Set<String> storedStudentRespondents = new HashSet<>(newAttributes.getRespondingStudentList());
+                    Set<String> storedInstructorRespondents = new HashSet<>(newAttributes.getRespondingInstructorList());
                     newAttributes.update(updateOptions);
+                    // respondents can only be removed from the session entity; new respondents go to the shards
+                    newAttributes.getRespondingStudentList().retainAll(storedStudentRespondents);
+                    newAttributes.getRespondingInstructorList().retainAll(storedInstructorRespondents);
 
                     newAttributes.sanitizeForSaving();
                     if (!newAttributes.isValid()) {
@@ -265,7 +340,7 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
                     if (hasSameAttributes) {
                         log.info(String.format(
                                 OPTIMIZED_SAVING_POLICY_APPLIED, FeedbackSession.class.getSimpleName(), updateOptions));
-                        newAttributesFinal[0] = makeAttributes(feedbackSession);
+                        newAttributesFinal[0] = FeedbackSessionAttributes.valueOf(feedbackSession);
                         return;
                     }
 
@@ -288,7 +363,7 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
 
                     saveEntity(feedbackSession);
 
-                    newAttributesFinal[0] = makeAttributes(feedbackSession);
+                    newAttributesFinal[0] = FeedbackSessionAttributes.valueOf(feedbackSession);
                 }
             });
         } catch (RuntimeException e) {
@@ -300,7 +375,157 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
                 throw e;
             }
         }
-        return newAttributesFinal[0];
+
+        FeedbackSessionAttributes oldAttributes = oldAttributesFinal[0];
+        mergeRespondentShards(oldAttributes, shards);
+        FeedbackSessionAttributes expectedAttributes = oldAttributes.getCopy();
+        expectedAttributes.update(updateOptions);
+        updateRespondentShards(oldAttributes, expectedAttributes);
+
+        FeedbackSessionAttributes newAttributes = newAttributesFinal[0];
+        newAttributes.setRespondingStudentList(expectedAttributes.getRespondingStudentList());
+        newAttributes.setRespondingInstructorList(expectedAttributes.getRespondingInstructorList());
+        return newAttributes;
+    }
+
+    /**
+     * Adds students and instructors to the respondents of a session.
+     *
+     * <p>Unlike {@link #updateFeedbackSession}, the session entity is not updated in a transaction. Only the
+     * respondent shards of the added respondents are written, each in its own transaction, so respondents
+     * recorded together cost one write per shard touched.
+     *
+     * @throws EntityDoesNotExistException if the feedback session cannot be found
+     */
+    public void addRespondents(String feedbackSessionName, String courseId,
+            Collection<String> studentEmails, Collection<String> instructorEmails)
+            throws EntityDoesNotExistException {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, studentEmails);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, instructorEmails);
+        verifyFeedbackSessionExists(feedbackSessionName, courseId);
+
+        updateRespondentShards(feedbackSessionName, courseId,
+                groupRespondentsByShard(studentEmails, Collections.emptySet()), new HashMap<>(),
+                groupRespondentsByShard(instructorEmails, Collections.emptySet()), new HashMap<>());
+    }
+
+    /**
+     * Removes students and instructors from the respondents of a session.
+     *
+     * <p>The respondent shards of the removed respondents are written, each in its own transaction.
+     * The session entity is only updated if some of the respondents are stored in it by earlier versions.
+     *
+     * @throws EntityDoesNotExistException if the feedback session cannot be found
+     */
+    public void removeRespondents(String feedbackSessionName, String courseId,
+            Collection<String> studentEmails, Collection<String> instructorEmails)
+            throws EntityDoesNotExistException {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, studentEmails);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, instructorEmails);
+        FeedbackSession feedbackSession = verifyFeedbackSessionExists(feedbackSessionName, courseId);
+
+        boolean isStoredInSession =
+                !Collections.disjoint(feedbackSession.getRespondingStudentList(), studentEmails)
+                || !Collections.disjoint(feedbackSession.getRespondingInstructorList(), instructorEmails);
+        if (isStoredInSession) {
+            ofy().transact(new VoidWork() {
+                @Override
+                public void vrun() {
+                    FeedbackSession storedSession = getFeedbackSessionEntity(feedbackSessionName, courseId);
+                    if (storedSession == null) {
+                        return;
+                    }
+                    storedSession.getRespondingStudentList().removeAll(studentEmails);
+                    storedSession.getRespondingInstructorList().removeAll(instructorEmails);
+                    saveEntity(storedSession);
+                }
+            });
+        }
+
+        updateRespondentShards(feedbackSessionName, courseId,
+                new HashMap<>(), groupRespondentsByShard(studentEmails, Collections.emptySet()),
+                new HashMap<>(), groupRespondentsByShard(instructorEmails, Collections.emptySet()));
+    }
+
+    private FeedbackSession verifyFeedbackSessionExists(String feedbackSessionName, String courseId)
+            throws EntityDoesNotExistException {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        FeedbackSession feedbackSession = getFeedbackSessionEntity(feedbackSessionName, courseId);
+        if (feedbackSession == null) {
+            throw new EntityDoesNotExistException(
+                    ERROR_UPDATE_NON_EXISTENT + "FeedbackSession [" + feedbackSessionName + "/" + courseId + "]");
+        }
+        return feedbackSession;
+    }
+
+    /**
+     * Writes the difference between the respondents of {@code oldAttributes} and {@code newAttributes}
+     * to the respondent shards of the session.
+     */
+    private void updateRespondentShards(FeedbackSessionAttributes oldAttributes,
+            FeedbackSessionAttributes newAttributes) {
+        updateRespondentShards(newAttributes.getFeedbackSessionName(), newAttributes.getCourseId(),
+                groupRespondentsByShard(
+                        newAttributes.getRespondingStudentList(), oldAttributes.getRespondingStudentList()),
+                groupRespondentsByShard(
+                        oldAttributes.getRespondingStudentList(), newAttributes.getRespondingStudentList()),
+                groupRespondentsByShard(
+                        newAttributes.getRespondingInstructorList(), oldAttributes.getRespondingInstructorList()),
+                groupRespondentsByShard(
+                        oldAttributes.getRespondingInstructorList(), newAttributes.getRespondingInstructorList()));
+    }
+
+    /**
+     * Adds and removes respondents, grouped by their shards, in the respondent shards of the session.
+     */
+    private void updateRespondentShards(String feedbackSessionName, String courseId,
+            Map<Integer, Set<String>> addedStudents, Map<Integer, Set<String>> removedStudents,
+            Map<Integer, Set<String>> addedInstructors, Map<Integer, Set<String>> removedInstructors) {
+        Set<Integer> shardIndexes = new HashSet<>(addedStudents.keySet());
+        shardIndexes.addAll(removedStudents.keySet());
+        shardIndexes.addAll(addedInstructors.keySet());
+        shardIndexes.addAll(removedInstructors.keySet());
+
+        String feedbackSessionId = FeedbackSession.generateId(feedbackSessionName, courseId);
+        for (int shardIndex : shardIndexes) {
+            ofy().transact(new VoidWork() {
+                @Override
+                public void vrun() {
+                    FeedbackSessionRespondentShard shard = ofy().load().type(FeedbackSessionRespondentShard.class)
+                            .id(FeedbackSessionRespondentShard.generateId(feedbackSessionId, shardIndex)).now();
+                    if (shard == null) {
+                        shard = new FeedbackSessionRespondentShard(feedbackSessionName, courseId, shardIndex);
+                    }
+
+                    Set<String> students = shard.getRespondingStudentList();
+                    Set<String> instructors = shard.getRespondingInstructorList();
+                    boolean isChanged = students.addAll(addedStudents.getOrDefault(shardIndex, new HashSet<>()));
+                    isChanged |= students.removeAll(removedStudents.getOrDefault(shardIndex, new HashSet<>()));
+                    isChanged |= instructors.addAll(addedInstructors.getOrDefault(shardIndex, new HashSet<>()));
+                    isChanged |= instructors.removeAll(removedInstructors.getOrDefault(shardIndex, new HashSet<>()));
+                    if (isChanged) {
+                        ofy().save().entity(shard).now();
+                        EntityWriteAuditor.inst().audit("saved", shard);
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Groups the emails in {@code respondents} that are not in {@code excludedRespondents} by their shard.
+     */
+    private static Map<Integer, Set<String>> groupRespondentsByShard(
+            Collection<String> respondents, Set<String> excludedRespondents) {
+        Map<Integer, Set<String>> respondentsByShard = new HashMap<>();
+        for (String email : respondents) {
+            if (!excludedRespondents.contains(email)) {
+                respondentsByShard.computeIfAbsent(getRespondentShardIndex(email), i -> new HashSet<>()).add(email);
+            }
+        }
+        return respondentsByShard;
     }
 
     /**
@@ -350,7 +575,11 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
 
-        deleteEntity(Key.create(FeedbackSession.class, FeedbackSession.generateId(feedbackSessionName, courseId)));
+        String feedbackSessionId = FeedbackSession.generateId(feedbackSessionName, courseId);
+        List<Key<?>> keysToDelete = new ArrayList<>(getRespondentShardKeys(feedbackSessionId));
+        keysToDelete.add(Key.create(FeedbackSession.class, feedbackSessionId));
+
+        deleteEntity(keysToDelete.toArray(new Key<?>[0]));
     }
 
     /**
@@ -364,7 +593,13 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
             entitiesToDelete = entitiesToDelete.filter("courseId =", query.getCourseId());
         }
 
-        deleteEntity(entitiesToDelete.keys().list().toArray(new Key<?>[0]));
+        List<Key<?>> keysToDelete = new ArrayList<>();
+        for (Key<FeedbackSession> sessionKey : entitiesToDelete.keys().list()) {
+            keysToDelete.add(sessionKey);
+            keysToDelete.addAll(getRespondentShardKeys(sessionKey.getName()));
+        }
+
+        deleteEntity(keysToDelete.toArray(new Key<?>[0]));
     }
 
     private List<FeedbackSession> getFeedbackSessionEntitiesForCourse(String courseId) {
@@ -419,10 +654,77 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
                 .isEmpty();
     }
 
+    /**
+     * Converts an entity to attributes, merging the respondents in the respondent shards of the session.
+     */
     @Override
     protected FeedbackSessionAttributes makeAttributes(FeedbackSession entity) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, entity);
 
-        return FeedbackSessionAttributes.valueOf(entity);
+        FeedbackSessionAttributes fsa = FeedbackSessionAttributes.valueOf(entity);
+        loadRespondents(Collections.singletonList(fsa));
+        return fsa;
+    }
+
+    /**
+     * Converts a collection of entities to a list of attributes,
+     * without the respondents in the respondent shards of the sessions.
+     *
+     * @see #loadRespondents(Collection)
+     */
+    @Override
+    protected List<FeedbackSessionAttributes> makeAttributes(Collection<FeedbackSession> entities) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, entities);
+
+        List<FeedbackSessionAttributes> attributes = new LinkedList<>();
+        for (FeedbackSession entity : entities) {
+            attributes.add(FeedbackSessionAttributes.valueOf(entity));
+        }
+        return attributes;
+    }
+
+    /**
+     * Adds the respondents in the respondent shards of the sessions to the sessions read in a list,
+     * loading the shards of all the sessions in one batch.
+     */
+    public void loadRespondents(Collection<FeedbackSessionAttributes> sessions) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, sessions);
+
+        List<Key<FeedbackSessionRespondentShard>> shardKeys = new ArrayList<>();
+        for (FeedbackSessionAttributes session : sessions) {
+            shardKeys.addAll(getRespondentShardKeys(
+                    FeedbackSession.generateId(session.getFeedbackSessionName(), session.getCourseId())));
+        }
+        Map<Key<FeedbackSessionRespondentShard>, FeedbackSessionRespondentShard> shards =
+                ofy().load().keys(shardKeys);
+
+        for (FeedbackSessionAttributes session : sessions) {
+            mergeRespondentShards(session, shards);
+        }
+    }
+
+    private static void mergeRespondentShards(FeedbackSessionAttributes session,
+            Map<Key<FeedbackSessionRespondentShard>, FeedbackSessionRespondentShard> shards) {
+        for (Key<FeedbackSessionRespondentShard> shardKey : getRespondentShardKeys(
+                FeedbackSession.generateId(session.getFeedbackSessionName(), session.getCourseId()))) {
+            FeedbackSessionRespondentShard shard = shards.get(shardKey);
+            if (shard != null) {
+                session.getRespondingStudentList().addAll(shard.getRespondingStudentList());
+                session.getRespondingInstructorList().addAll(shard.getRespondingInstructorList());
+            }
+        }
+    }
+
+    private static int getRespondentShardIndex(String email) {
+        return Math.floorMod(email.hashCode(), NUMBER_OF_RESPONDENT_SHARDS);
+    }
+
+    private static List<Key<FeedbackSessionRespondentShard>> getRespondentShardKeys(String feedbackSessionId) {
+        List<Key<FeedbackSessionRespondentShard>> shardKeys = new ArrayList<>();
+        for (int i = 0; i < NUMBER_OF_RESPONDENT_SHARDS; i++) {
+            shardKeys.add(Key.create(FeedbackSessionRespondentShard.class,
+                    FeedbackSessionRespondentShard.generateId(feedbackSessionId, i)));
+        }
+        return shardKeys;
     }
 }
@@ -3,7 +3,10 @@ package teammates.storage.api;
 import static com.googlecode.objectify.ObjectifyService.ofy;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import com.google.appengine.api.search.Results;
 import com.google.appengine.api.search.ScoredDocument;
@@ -32,6 +35,8 @@ import teammates.storage.search.SearchDocument;
  */
 public class InstructorsDb extends EntitiesDb<Instructor, InstructorAttributes> {
 
+    private final CourseMemberIdsCache instructorIdsCache = new CourseMemberIdsCache(Instructor.class.getSimpleName());
+
     /**
      * Creates or updates search document for the given instructor.
      */
@@ -102,11 +107,32 @@ public class InstructorsDb extends EntitiesDb<Instructor, InstructorAttributes>
     public InstructorAttributes createEntity(InstructorAttributes instructorToAdd)
             throws InvalidParametersException, EntityAlreadyExistsException {
         InstructorAttributes createdInstructor = super.createEntity(instructorToAdd);
+        instructorIdsCache.invalidate(createdInstructor.courseId);
         putDocument(createdInstructor);
 
         return createdInstructor;
     }
 
+    @Override
+    public InstructorAttributes putEntity(InstructorAttributes instructor) throws InvalidParametersException {
+        InstructorAttributes putInstructor = super.putEntity(instructor);
+        instructorIdsCache.invalidate(putInstructor.courseId);
+
+        return putInstructor;
+    }
+
+    @Override
+    public List<InstructorAttributes> putEntities(Collection<InstructorAttributes> instructors)
+            throws InvalidParametersException {
+        List<InstructorAttributes> putInstructors = super.putEntities(instructors);
+        putInstructors.stream()
+                .map(instructor -> instructor.courseId)
+                .distinct()
+                .forEach(instructorIdsCache::invalidate);
+
+        return putInstructors;
+    }
+
     /**
      * Gets an instructor by unique constraint courseId-email.
      */
@@ -117,6 +143,26 @@ public class InstructorsDb extends EntitiesDb<Instructor, InstructorAttributes>
         return makeAttributesOrNull(getInstructorEntityForEmail(courseId, email));
     }
 
+    /**
+     * Gets the instructors by unique constraint courseId-email for each of the given courses.
+     *
+     * <p>The instructors of all the courses are queried concurrently.
+     *
+     * @param emailsByCourseId the email of the instructor to get in each course
+     * @return the instructors that exist
+     */
+    public List<InstructorAttributes> getInstructorsForEmails(Map<String, String> emailsByCourseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, emailsByCourseId);
+
+        List<List<Instructor>> instructorsOfQueries = new ArrayList<>();
+        emailsByCourseId.forEach((courseId, email) ->
+                instructorsOfQueries.add(getInstructorEntitiesForEmail(courseId, email)));
+
+        List<Instructor> instructors = new ArrayList<>();
+        instructorsOfQueries.forEach(instructors::addAll);
+        return makeAttributes(instructors);
+    }
+
     /**
      * Gets an instructor by unique ID.
      */
@@ -311,6 +357,7 @@ public class InstructorsDb extends EntitiesDb<Instructor, InstructorAttributes>
         deleteDocumentByEncryptedInstructorKey(StringHelper.encrypt(instructorToDelete.getRegistrationKey()));
 
         deleteEntity(Key.create(Instructor.class, instructorToDelete.getUniqueId()));
+        instructorIdsCache.invalidate(courseId);
     }
 
     /**
@@ -326,9 +373,14 @@ public class InstructorsDb extends EntitiesDb<Instructor, InstructorAttributes>
                             .map(i -> StringHelper.encrypt(i.getRegistrationKey()))
                             .toArray(String[]::new));
 
-            deleteEntity(instructorsToDelete.stream()
-                    .map(s -> Key.create(Instructor.class, s.getUniqueId()))
-                    .toArray(Key[]::new));
+            try {
+                deleteEntity(instructorsToDelete.stream()
+                        .map(s -> Key.create(Instructor.class, s.getUniqueId()))
+                        .toArray(Key[]::new));
+            } finally {
+                // some instructors may be deleted even if the deletion is not completed
+                instructorIdsCache.invalidate(query.getCourseId());
+            }
         }
     }
 
@@ -346,6 +398,13 @@ public class InstructorsDb extends EntitiesDb<Instructor, InstructorAttributes>
                 .first().now();
     }
 
+    private List<Instructor> getInstructorEntitiesForEmail(String courseId, String email) {
+        return load()
+                .filter("courseId =", courseId)
+                .filter("email =", email)
+                .limit(1).list();
+    }
+
     private Instructor getInstructorEntityById(String courseId, String email) {
         return load().id(Instructor.generateId(email, courseId)).now();
     }
@@ -380,7 +439,12 @@ public class InstructorsDb extends EntitiesDb<Instructor, InstructorAttributes>
     }
 
     private List<Instructor> getInstructorEntitiesForCourse(String courseId) {
-        return load().filter("courseId =", courseId).list();
+        List<String> instructorIds = instructorIdsCache.getIds(courseId,
+                () -> load().filter("courseId =", courseId).keys().list().stream()
+                        .map(Key::getName)
+                        .collect(Collectors.toList()));
+
+        return new ArrayList<>(load().ids(instructorIds).values());
     }
 
     @Override
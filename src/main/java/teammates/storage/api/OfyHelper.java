@@ -13,6 +13,7 @@ import teammates.storage.entity.FeedbackQuestion;
 import teammates.storage.entity.FeedbackResponse;
 import teammates.storage.entity.FeedbackResponseComment;
 import teammates.storage.entity.FeedbackSession;
+import teammates.storage.entity.FeedbackSessionRespondentShard;
 import teammates.storage.entity.Instructor;
 import teammates.storage.entity.StudentProfile;
 
@@ -32,6 +33,7 @@ public class OfyHelper implements ServletContextListener {
         ObjectifyService.register(FeedbackResponse.class);
         ObjectifyService.register(FeedbackResponseComment.class);
         ObjectifyService.register(FeedbackSession.class);
+        ObjectifyService.register(FeedbackSessionRespondentShard.class);
         ObjectifyService.register(Instructor.class);
         ObjectifyService.register(StudentProfile.class);
         // enable the ability to use java.time.Instant to issue query
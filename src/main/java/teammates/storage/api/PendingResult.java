@@ -0,0 +1,56 @@
+package teammates.storage.api;
+
+import java.util.function.Function;
+
+import com.googlecode.objectify.Result;
+import com.googlecode.objectify.util.ResultCache;
+
+/**
+ * The result of a load from the Datastore, which is waited for when the result is first needed.
+ *
+ * <p>The loads behind the pending results of {@link EntitiesDb} subclasses are queries and batch gets,
+ * which are sent to the Datastore as soon as they are started. Independent loads can thus be started one
+ * after another and only then waited for, so that their latency is bounded by the slowest of them
+ * instead of their sum.
+ * A load is waited for and its result converted at most once, however many times the result is asked for.
+ *
+ * @param <T> type of the result
+ */
+public final class PendingResult<T> {
+
+    private final Result<T> result;
+
+    private PendingResult(Result<T> result) {
+        this.result = result;
+    }
+
+    /**
+     * Wraps a computation of the result, e.g. one reading a list returned by an Objectify query
+     * or a map returned by an Objectify batch get, which is only run when the result is first asked for.
+     */
+    static <T> PendingResult<T> of(Result<T> result) {
+        return new PendingResult<>(new ResultCache<T>() {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected T nowUncached() {
+                return result.now();
+            }
+        });
+    }
+
+    /**
+     * Waits for the load to complete and returns its result.
+     */
+    public T get() {
+        return result.now();
+    }
+
+    /**
+     * Returns the result converted by {@code conversion}, without waiting for the load to complete.
+     */
+    public <R> PendingResult<R> map(Function<? super T, ? extends R> conversion) {
+        return of(() -> conversion.apply(get()));
+    }
+
+}
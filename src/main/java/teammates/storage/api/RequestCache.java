@@ -0,0 +1,50 @@
+package teammates.storage.api;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Caches values derived from the Datastore for the duration of each request.
+ *
+ * <p>Values are cached only between {@link #begin()} and {@link #end()}, which are called around each request,
+ * so that a value is built at most once per request however many times it is needed, and is never served
+ * to another request. Outside of a request, values are built every time they are needed.
+ */
+public final class RequestCache {
+
+    private static final ThreadLocal<Map<String, Object>> VALUES = new ThreadLocal<>();
+
+    private RequestCache() {
+        // utility class
+    }
+
+    /**
+     * Starts caching values in the current thread.
+     */
+    public static void begin() {
+        VALUES.set(new HashMap<>());
+    }
+
+    /**
+     * Stops caching values in the current thread and discards the values cached.
+     */
+    public static void end() {
+        VALUES.remove();
+    }
+
+    /**
+     * Gets the value cached under {@code key}, building it with {@code builder} if it is not cached.
+     *
+     * @param key a key which changes whenever the value built would change, e.g. one including a version
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T get(String key, Supplier<T> builder) {
+        Map<String, Object> values = VALUES.get();
+        if (values == null) {
+            return builder.get();
+        }
+        return (T) values.computeIfAbsent(key, k -> builder.get());
+    }
+
+}
@@ -3,7 +3,13 @@ package teammates.storage.api;
 import static com.googlecode.objectify.ObjectifyService.ofy;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.google.appengine.api.search.Results;
@@ -13,6 +19,8 @@ import com.googlecode.objectify.cmd.LoadType;
 import com.googlecode.objectify.cmd.Query;
 
 import teammates.common.datatransfer.AttributesDeletionQuery;
+import teammates.common.datatransfer.CourseStructure;
+import teammates.common.datatransfer.StudentEnrollDetails;
 import teammates.common.datatransfer.StudentSearchResultBundle;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
@@ -36,8 +44,16 @@ import teammates.storage.search.StudentSearchQuery;
  */
 public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
 
+    /**
+     * Error message when a student to enroll has the same email as a student earlier in the enrollment.
+     */
+    public static final String ERROR_ENROLL_DUPLICATE_EMAIL = "The email %s appears more than once in the enrollment";
+
     private static final Logger log = Logger.getLogger();
 
+    private final CourseMemberIdsCache courseStudentIdsCache =
+            new CourseMemberIdsCache(CourseStudent.class.getSimpleName());
+
     /**
      * Creates or updates search document for the given student.
      */
@@ -56,6 +72,17 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
         putDocument(Const.SearchIndex.STUDENT, studentDocuments.toArray(new SearchDocument[0]));
     }
 
+    /**
+     * Batch creates or updates search documents for the students with the given IDs.
+     *
+     * <p>Students who do not exist are skipped.
+     */
+    public void putDocumentsForIds(List<String> studentIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, studentIds);
+
+        putDocuments(makeAttributes(load().ids(studentIds).values()));
+    }
+
     /**
      * Searches for students.
      *
@@ -111,11 +138,119 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
             throws InvalidParametersException, EntityAlreadyExistsException {
 
         StudentAttributes createdStudent = super.createEntity(student);
+        courseStudentIdsCache.invalidate(createdStudent.course);
         putDocument(createdStudent);
 
         return createdStudent;
     }
 
+    @Override
+    public StudentAttributes putEntity(StudentAttributes student) throws InvalidParametersException {
+        StudentAttributes putStudent = super.putEntity(student);
+        courseStudentIdsCache.invalidate(putStudent.course);
+
+        return putStudent;
+    }
+
+    @Override
+    public List<StudentAttributes> putEntities(Collection<StudentAttributes> students)
+            throws InvalidParametersException {
+        List<StudentAttributes> putStudents = super.putEntities(students);
+        putStudents.stream()
+                .map(student -> student.course)
+                .distinct()
+                .forEach(courseStudentIdsCache::invalidate);
+
+        return putStudents;
+    }
+
+    /**
+     * Creates or updates students of a course in batch.
+     *
+     * <p>The existing students are loaded in a single batch, and the students created or modified
+     * are saved in a single batch. The email of an existing student is never changed.
+     * Students who are not valid are skipped, and so are the students whose emails appear earlier
+     * in {@code studentsToEnroll}, so that each student is enrolled at most once.
+     *
+     * <p>The search documents of the students WILL NOT be updated.
+     *
+     * @return details of the enrollment of each student, in the same order as {@code studentsToEnroll}
+     */
+    public List<StudentEnrollDetails> enrollStudents(String courseId, List<StudentAttributes> studentsToEnroll) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, studentsToEnroll);
+
+        List<String> ids = studentsToEnroll.stream()
+                .map(student -> CourseStudent.generateId(student.getEmail(), courseId))
+                .distinct()
+                .collect(Collectors.toList());
+        Map<String, CourseStudent> studentEntities = new HashMap<>(load().ids(ids));
+
+        List<StudentEnrollDetails> enrollDetails = new ArrayList<>();
+        Map<String, CourseStudent> studentEntitiesToSave = new LinkedHashMap<>();
+        Set<String> enrolledIds = new HashSet<>();
+        for (StudentAttributes studentToEnroll : studentsToEnroll) {
+            String id = CourseStudent.generateId(studentToEnroll.getEmail(), courseId);
+            if (!enrolledIds.add(id)) {
+                enrollDetails.add(StudentEnrollDetails.failed(
+                        studentToEnroll, String.format(ERROR_ENROLL_DUPLICATE_EMAIL, studentToEnroll.getEmail())));
+                continue;
+            }
+            CourseStudent studentEntity = studentEntities.get(id);
+
+            StudentAttributes newAttributes = studentEntity == null
+                    ? StudentAttributes.builder(courseId, studentToEnroll.getEmail()).build()
+                    : makeAttributes(studentEntity);
+            StudentAttributes originalAttributes = studentEntity == null ? null : newAttributes.getCopy();
+            newAttributes.update(StudentAttributes.updateOptionsBuilder(courseId, studentToEnroll.getEmail())
+                    .withName(studentToEnroll.getName())
+                    .withSectionName(studentToEnroll.getSection())
+                    .withTeamName(studentToEnroll.getTeam())
+                    .withComment(studentToEnroll.getComments())
+                    .build());
+
+            newAttributes.sanitizeForSaving();
+            if (!newAttributes.isValid()) {
+                enrollDetails.add(StudentEnrollDetails.failed(
+                        studentToEnroll, StringHelper.toString(newAttributes.getInvalidityInfo())));
+                continue;
+            }
+
+            if (studentEntity == null) {
+                studentEntity = newAttributes.toEntity();
+                studentEntities.put(id, studentEntity);
+                studentEntitiesToSave.put(id, studentEntity);
+
+                enrollDetails.add(StudentEnrollDetails.created(makeAttributes(studentEntity)));
+                continue;
+            }
+
+            boolean hasSameAttributes =
+                    this.<String>hasSameValue(studentEntity.getName(), newAttributes.getName())
+                    && this.<String>hasSameValue(studentEntity.getLastName(), newAttributes.getLastName())
+                    && this.<String>hasSameValue(studentEntity.getComments(), newAttributes.getComments())
+                    && this.<String>hasSameValue(studentEntity.getTeamName(), newAttributes.getTeam())
+                    && this.<String>hasSameValue(studentEntity.getSectionName(), newAttributes.getSection());
+            if (!hasSameAttributes) {
+                studentEntity.setName(newAttributes.name);
+                studentEntity.setLastName(newAttributes.lastName);
+                studentEntity.setComments(newAttributes.comments);
+                studentEntity.setTeamName(newAttributes.team);
+                studentEntity.setSectionName(newAttributes.section);
+                studentEntitiesToSave.put(id, studentEntity);
+            }
+            enrollDetails.add(StudentEnrollDetails.updated(
+                    makeAttributes(studentEntity), originalAttributes, !hasSameAttributes));
+        }
+
+        if (!studentEntitiesToSave.isEmpty()) {
+            saveEntities(studentEntitiesToSave.values());
+            courseStudentIdsCache.invalidate(courseId);
+        }
+
+        return enrollDetails;
+    }
+
     /**
      * Gets a student by unique ID courseId-email.
      */
@@ -183,6 +318,36 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
         return makeAttributes(getCourseStudentEntitiesForCourse(courseId));
     }
 
+    /**
+     * Gets the structure of a course, i.e. its sections, teams and students.
+     *
+     * <p>The structure is cached in the {@link RequestCache} until a student of the course is created,
+     * updated or deleted.
+     */
+    public CourseStructure getCourseStructure(String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        Long version = courseStudentIdsCache.getVersion(courseId);
+        if (version == null) {
+            // Memcache is unavailable
+            return new CourseStructure(getStudentsForCourse(courseId));
+        }
+
+        return RequestCache.get(CourseStructure.class.getSimpleName() + "@" + courseId + "@" + version,
+                () -> new CourseStructure(getStudentsForCourse(courseId)));
+    }
+
+    /**
+     * Gets the number of students of a course.
+     *
+     * <p>The students themselves are not loaded.
+     */
+    public int getNumberOfStudentsForCourse(String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        return getCourseStudentIdsForCourse(courseId).size();
+    }
+
     /**
      * Gets all students of a team of a course.
      */
@@ -256,7 +421,6 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
             // delete the old student
             deleteStudent(student.getCourseId(), student.getEmail());
 
-            putDocument(newAttributes);
             return newAttributes;
         } else {
             // update only if change
@@ -279,9 +443,8 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
             student.setTeamName(newAttributes.team);
             student.setSectionName(newAttributes.section);
 
-            putDocument(newAttributes);
-
             saveEntity(student);
+            courseStudentIdsCache.invalidate(student.getCourseId());
 
             newAttributes = makeAttributes(student);
             putDocument(newAttributes);
@@ -303,6 +466,7 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
         if (courseStudentToDelete != null) {
             deleteDocumentByStudentKey(courseStudentToDelete.getRegistrationKey());
             deleteEntity(Key.create(CourseStudent.class, courseStudentToDelete.getUniqueId()));
+            courseStudentIdsCache.invalidate(courseId);
         }
     }
 
@@ -315,9 +479,14 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
             deleteDocument(Const.SearchIndex.STUDENT,
                     studentsToDelete.stream().map(CourseStudent::getRegistrationKey).toArray(String[]::new));
 
-            deleteEntity(studentsToDelete.stream()
-                    .map(s -> Key.create(CourseStudent.class, s.getUniqueId()))
-                    .toArray(Key[]::new));
+            try {
+                deleteEntity(studentsToDelete.stream()
+                        .map(s -> Key.create(CourseStudent.class, s.getUniqueId()))
+                        .toArray(Key[]::new));
+            } finally {
+                // some students may be deleted even if the deletion is not completed
+                courseStudentIdsCache.invalidate(query.getCourseId());
+            }
         }
     }
 
@@ -330,6 +499,17 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
     }
 
     private CourseStudent getCourseStudentEntityForRegistrationKey(String registrationKey) {
+        // registration keys are generated as uniqueId%randomNumber, so the student can be loaded by key,
+        // which avoids a query on the registrationKey index and is strongly consistent
+        int idEnd = registrationKey.lastIndexOf('%');
+        if (idEnd > 0) {
+            CourseStudent student = load().id(registrationKey.substring(0, idEnd)).now();
+            if (student != null && registrationKey.equals(student.getRegistrationKey())) {
+                return student;
+            }
+        }
+
+        // falls back to the query for registration keys not generated in that format
         List<CourseStudent> studentList = load().filter("registrationKey =", registrationKey).list();
 
         // If registration key detected is not unique, something is wrong
@@ -352,8 +532,15 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
         return load().filter("courseId =", courseId);
     }
 
+    private List<String> getCourseStudentIdsForCourse(String courseId) {
+        return courseStudentIdsCache.getIds(courseId,
+                () -> getCourseStudentsForCourseQuery(courseId).keys().list().stream()
+                        .map(Key::getName)
+                        .collect(Collectors.toList()));
+    }
+
     private List<CourseStudent> getCourseStudentEntitiesForCourse(String courseId) {
-        return getCourseStudentsForCourseQuery(courseId).list();
+        return new ArrayList<>(load().ids(getCourseStudentIdsForCourse(courseId)).values());
     }
 
     private Query<CourseStudent> getCourseStudentsForGoogleIdQuery(String googleId) {
@@ -0,0 +1,76 @@
+package teammates.storage.entity;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import com.googlecode.objectify.annotation.Entity;
+import com.googlecode.objectify.annotation.Id;
+import com.googlecode.objectify.annotation.Unindex;
+
+/**
+ * Represents a shard of the respondents of a Feedback Session.
+ *
+ * <p>The respondents of a session are spread across a fixed number of shards by their email,
+ * so that users submitting responses to the same session concurrently update different entities.
+ */
+@Entity
+@Unindex
+public class FeedbackSessionRespondentShard extends BaseEntity {
+
+    // PMD.UnusedPrivateField and SingularField are suppressed
+    // as shardId is persisted to the database
+    /**
+     * The unique id of the entity.
+     *
+     * @see #generateId(String, int)
+     */
+    @SuppressWarnings({"PMD.UnusedPrivateField", "PMD.SingularField"})
+    @Id
+    private transient String shardId;
+
+    private String feedbackSessionName;
+
+    private String courseId;
+
+    private Set<String> respondingInstructorList = new HashSet<>();
+
+    private Set<String> respondingStudentList = new HashSet<>();
+
+    @SuppressWarnings("unused")
+    private FeedbackSessionRespondentShard() {
+        // required by Objectify
+    }
+
+    public FeedbackSessionRespondentShard(String feedbackSessionName, String courseId, int shardIndex) {
+        this.feedbackSessionName = feedbackSessionName;
+        this.courseId = courseId;
+        this.shardId = generateId(FeedbackSession.generateId(feedbackSessionName, courseId), shardIndex);
+    }
+
+    /**
+     * Generates an unique ID for a shard of the respondents of a feedback session.
+     *
+     * @param feedbackSessionId the ID of the feedback session, see {@link FeedbackSession#generateId(String, String)}
+     */
+    public static String generateId(String feedbackSessionId, int shardIndex) {
+        // Format is feedbackSessionName%courseId%shardIndex
+        return feedbackSessionId + '%' + shardIndex;
+    }
+
+    public String getFeedbackSessionName() {
+        return feedbackSessionName;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public Set<String> getRespondingInstructorList() {
+        return respondingInstructorList;
+    }
+
+    public Set<String> getRespondingStudentList() {
+        return respondingStudentList;
+    }
+
+}
@@ -25,6 +25,7 @@ import teammates.common.util.Assumption;
 import teammates.common.util.Const;
 import teammates.common.util.JsonUtils;
 import teammates.common.util.StringHelper;
+import teammates.storage.api.PendingResult;
 
 /**
  * The {@link SearchDocument} object that defines how we store {@link Document} for response comments.
@@ -53,10 +54,17 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
             return;
         }
 
-        relatedSession = fsDb.getFeedbackSession(comment.courseId, comment.feedbackSessionName);
-        relatedQuestion = fqDb.getFeedbackQuestion(comment.feedbackQuestionId);
-        relatedResponse = frDb.getFeedbackResponse(comment.feedbackResponseId);
-        course = coursesDb.getCourse(comment.courseId);
+        PendingResult<FeedbackSessionAttributes> pendingSession =
+                fsDb.getFeedbackSessionAsync(comment.courseId, comment.feedbackSessionName);
+        PendingResult<FeedbackQuestionAttributes> pendingQuestion =
+                fqDb.getFeedbackQuestionAsync(comment.feedbackQuestionId);
+        PendingResult<FeedbackResponseAttributes> pendingResponse =
+                frDb.getFeedbackResponseAsync(comment.feedbackResponseId);
+        PendingResult<CourseAttributes> pendingCourse = coursesDb.getCourseAsync(comment.courseId);
+        relatedSession = pendingSession.get();
+        relatedQuestion = pendingQuestion.get();
+        relatedResponse = pendingResponse.get();
+        course = pendingCourse.get();
         relatedInstructors = new ArrayList<>();
         relatedStudents = new ArrayList<>();
         setCommentGiverNameAndDisplayedName();
@@ -39,6 +39,11 @@ public final class SearchManager {
 
     private static final RetryManager RM = new RetryManager(8);
 
+    /**
+     * The maximum number of documents that the Search API accepts in a single put.
+     */
+    private static final int MAX_DOCUMENTS_PER_PUT = 200;
+
     private SearchManager() {
         // utility class
     }
@@ -112,17 +117,22 @@ public final class SearchManager {
 
     /**
      * Batch creates or updates the search documents for the given documents and index.
+     *
+     * <p>The documents are put in chunks of at most {@value #MAX_DOCUMENTS_PER_PUT} documents.
      */
     public static void putDocuments(String indexName, List<Document> documents) {
-        try {
-            putDocumentsWithRetry(indexName, documents);
-        } catch (PutException e) {
-            log.severe(String.format(ERROR_NON_TRANSIENT_BACKEND_ISSUE, documents, indexName)
-                    + TeammatesException.toStringWithStackTrace(e));
-        } catch (MaximumRetriesExceededException e) {
-            Object failedDocuments = e.finalData;
-            log.severe(String.format(ERROR_MAXIMUM_RETRIES_EXCEEDED, failedDocuments, indexName, e.finalMessage)
-                    + TeammatesException.toStringWithStackTrace(e));
+        for (int i = 0; i < documents.size(); i += MAX_DOCUMENTS_PER_PUT) {
+            List<Document> documentsInChunk = documents.subList(i, Math.min(i + MAX_DOCUMENTS_PER_PUT, documents.size()));
+            try {
+                putDocumentsWithRetry(indexName, documentsInChunk);
+            } catch (PutException e) {
+                log.severe(String.format(ERROR_NON_TRANSIENT_BACKEND_ISSUE, documentsInChunk, indexName)
+                        + TeammatesException.toStringWithStackTrace(e));
+            } catch (MaximumRetriesExceededException e) {
+                Object failedDocuments = e.finalData;
+                log.severe(String.format(ERROR_MAXIMUM_RETRIES_EXCEEDED, failedDocuments, indexName, e.finalMessage)
+                        + TeammatesException.toStringWithStackTrace(e));
+            }
         }
     }
 
@@ -33,6 +33,9 @@ public class AutomatedActionFactory {
         map(CronJobURIs.AUTOMATED_FEEDBACK_PUBLISHED_REMINDERS, FeedbackSessionPublishedRemindersAction.class);
 
         // Task queue workers
+        map(TaskQueue.COURSE_DELETION_WORKER_URL, CourseDeletionWorkerAction.class);
+        map(TaskQueue.FEEDBACK_QUESTION_DELETION_WORKER_URL, FeedbackQuestionDeletionWorkerAction.class);
+        map(TaskQueue.FEEDBACK_SESSION_DELETION_WORKER_URL, FeedbackSessionDeletionWorkerAction.class);
         map(TaskQueue.FEEDBACK_SESSION_PUBLISHED_EMAIL_WORKER_URL, FeedbackSessionPublishedEmailWorkerAction.class);
         map(TaskQueue.FEEDBACK_SESSION_RESEND_PUBLISHED_EMAIL_WORKER_URL,
                 FeedbackSessionResendPublishedEmailWorkerAction.class);
@@ -42,7 +45,9 @@ public class AutomatedActionFactory {
         map(TaskQueue.FEEDBACK_SESSION_UNPUBLISHED_EMAIL_WORKER_URL, FeedbackSessionUnpublishedEmailWorkerAction.class);
         map(TaskQueue.FEEDBACK_SESSION_UPDATE_RESPONDENT_WORKER_URL, FeedbackSessionUpdateRespondentWorkerAction.class);
         map(TaskQueue.INSTRUCTOR_COURSE_JOIN_EMAIL_WORKER_URL, InstructorCourseJoinEmailWorkerAction.class);
+        map(TaskQueue.SEARCH_INDEXING_WORKER_URL, SearchIndexingWorkerAction.class);
         map(TaskQueue.SEND_EMAIL_WORKER_URL, SendEmailWorkerAction.class);
+        map(TaskQueue.SEND_EMAIL_BATCH_WORKER_URL, SendEmailBatchWorkerAction.class);
         map(TaskQueue.STUDENT_COURSE_JOIN_EMAIL_WORKER_URL, StudentCourseJoinEmailWorkerAction.class);
     }
 
@@ -0,0 +1,29 @@
+package teammates.ui.automated;
+
+import teammates.common.exception.IncompleteDeletionException;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.Logger;
+
+/**
+ * Task queue worker action: continues the deletion of a course.
+ *
+ * <p>If this task also runs out of time before the course is deleted, the rest of the deletion
+ * is chained into another task.
+ */
+public class CourseDeletionWorkerAction extends AutomatedAction {
+
+    private static final Logger log = Logger.getLogger();
+
+    @Override
+    public void execute() {
+        String courseId = getNonNullRequestParamValue(ParamsNames.COURSE_ID);
+
+        try {
+            logic.deleteCourseCascade(courseId);
+        } catch (IncompleteDeletionException e) {
+            log.info("Deletion of course " + courseId + " continues in another task: " + e.getMessage());
+            taskQueuer.scheduleCourseDeletion(courseId);
+        }
+    }
+
+}
@@ -0,0 +1,30 @@
+package teammates.ui.automated;
+
+import teammates.common.exception.IncompleteDeletionException;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.Logger;
+
+/**
+ * Task queue worker action: continues the deletion of a feedback question.
+ *
+ * <p>If this task also runs out of time before the question is deleted, the rest of the deletion
+ * is chained into another task.
+ */
+public class FeedbackQuestionDeletionWorkerAction extends AutomatedAction {
+
+    private static final Logger log = Logger.getLogger();
+
+    @Override
+    public void execute() {
+        String feedbackQuestionId = getNonNullRequestParamValue(ParamsNames.FEEDBACK_QUESTION_ID);
+
+        try {
+            logic.deleteFeedbackQuestionCascade(feedbackQuestionId);
+        } catch (IncompleteDeletionException e) {
+            log.info("Deletion of feedback question " + feedbackQuestionId
+                    + " continues in another task: " + e.getMessage());
+            taskQueuer.scheduleFeedbackQuestionDeletion(feedbackQuestionId);
+        }
+    }
+
+}
@@ -0,0 +1,31 @@
+package teammates.ui.automated;
+
+import teammates.common.exception.IncompleteDeletionException;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.Logger;
+
+/**
+ * Task queue worker action: continues the deletion of a feedback session.
+ *
+ * <p>If this task also runs out of time before the session is deleted, the rest of the deletion
+ * is chained into another task.
+ */
+public class FeedbackSessionDeletionWorkerAction extends AutomatedAction {
+
+    private static final Logger log = Logger.getLogger();
+
+    @Override
+    public void execute() {
+        String courseId = getNonNullRequestParamValue(ParamsNames.COURSE_ID);
+        String feedbackSessionName = getNonNullRequestParamValue(ParamsNames.FEEDBACK_SESSION_NAME);
+
+        try {
+            logic.deleteFeedbackSessionCascade(feedbackSessionName, courseId);
+        } catch (IncompleteDeletionException e) {
+            log.info("Deletion of feedback session " + feedbackSessionName + " of course " + courseId
+                    + " continues in another task: " + e.getMessage());
+            taskQueuer.scheduleFeedbackSessionDeletion(courseId, feedbackSessionName);
+        }
+    }
+
+}
@@ -1,6 +1,5 @@
 package teammates.ui.automated;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
@@ -31,20 +30,11 @@ public class FeedbackSessionRemindEmailWorkerAction extends AutomatedAction {
 
             InstructorAttributes instructorToNotify = logic.getInstructorForGoogleId(courseId, instructorId);
 
-            List<StudentAttributes> studentsToRemindList = new ArrayList<>();
-            for (StudentAttributes student : studentList) {
-                if (!logic.isFeedbackSessionCompletedByStudent(session, student.email)) {
-                    studentsToRemindList.add(student);
-                }
-            }
+            List<StudentAttributes> studentsToRemindList = logic.getStudentsYetToRespond(session, studentList);
 
             // Filter out instructors who have submitted the feedback session
-            List<InstructorAttributes> instructorsToRemindList = new ArrayList<>();
-            for (InstructorAttributes instructor : instructorList) {
-                if (!logic.isFeedbackSessionCompletedByInstructor(session, instructor.email)) {
-                    instructorsToRemindList.add(instructor);
-                }
-            }
+            List<InstructorAttributes> instructorsToRemindList =
+                    logic.getInstructorsYetToRespond(session, instructorList);
 
             List<EmailWrapper> emails = emailGenerator.generateFeedbackSessionReminderEmails(
                     session, studentsToRemindList, instructorsToRemindList, instructorToNotify);
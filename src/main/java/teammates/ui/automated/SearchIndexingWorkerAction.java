@@ -0,0 +1,43 @@
+package teammates.ui.automated;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.Logger;
+
+/**
+ * Task queue worker action: creates or updates the search documents of a batch of entities.
+ */
+public class SearchIndexingWorkerAction extends AutomatedAction {
+
+    private static final Logger log = Logger.getLogger();
+
+    @Override
+    public void execute() {
+        String indexName = getNonNullRequestParamValue(ParamsNames.SEARCH_INDEX_NAME);
+        List<String> entityIds = Arrays.asList(getNonNullRequestParamValues(ParamsNames.SEARCH_ENTITY_IDS));
+
+        switch (indexName) {
+        case Const.SearchIndex.FEEDBACK_RESPONSE_COMMENT:
+            List<Long> commentIds;
+            try {
+                commentIds = entityIds.stream().map(Long::valueOf).collect(Collectors.toList());
+            } catch (NumberFormatException e) {
+                log.severe("Invalid feedback response comment IDs to index: " + entityIds);
+                return;
+            }
+            logic.putFeedbackResponseCommentDocumentsForIds(commentIds);
+            break;
+        case Const.SearchIndex.STUDENT:
+            logic.putStudentDocumentsForIds(entityIds);
+            break;
+        default:
+            log.severe("Unknown search index: " + indexName);
+            break;
+        }
+    }
+
+}
@@ -0,0 +1,39 @@
+package teammates.ui.automated;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.EmailSendingStatus;
+import teammates.common.util.EmailWrapper;
+import teammates.common.util.JsonUtils;
+
+/**
+ * Task queue worker action: sends a batch of queued emails.
+ *
+ * <p>If only some of the emails fail to send, only those emails are queued again.
+ */
+public class SendEmailBatchWorkerAction extends AutomatedAction {
+
+    @Override
+    public void execute() {
+        String emailBatch = getNonNullRequestParamValue(ParamsNames.EMAIL_BATCH);
+        List<EmailWrapper> emails = Arrays.asList(JsonUtils.fromJson(emailBatch, EmailWrapper[].class));
+
+        List<EmailSendingStatus> statuses = emailSender.sendEmails(emails);
+
+        List<EmailWrapper> failedEmails = new ArrayList<>();
+        for (int i = 0; i < emails.size(); i++) {
+            if (!statuses.get(i).isSuccess()) {
+                failedEmails.add(emails.get(i));
+            }
+        }
+        if (failedEmails.size() == emails.size()) {
+            setForRetry();
+        } else if (!failedEmails.isEmpty()) {
+            taskQueuer.scheduleEmailsForSending(failedEmails);
+        }
+    }
+
+}
@@ -6,6 +6,9 @@ import teammates.common.util.EmailWrapper;
 
 /**
  * Task queue worker action: sends queued email.
+ *
+ * <p>Emails are now queued in batches, see {@link SendEmailBatchWorkerAction};
+ * this is kept for the emails queued individually before.
  */
 public class SendEmailWorkerAction extends AutomatedAction {
 
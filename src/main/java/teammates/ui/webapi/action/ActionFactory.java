@@ -92,6 +92,7 @@ public class ActionFactory {
         map(ResourceURIs.QUESTION, DELETE, DeleteFeedbackQuestionAction.class);
         map(ResourceURIs.QUESTION_RECIPIENTS, GET, GetFeedbackQuestionRecipientsAction.class);
         map(ResourceURIs.RESPONSES, GET, GetFeedbackResponsesAction.class);
+        map(ResourceURIs.RESPONSES, PUT, SubmitFeedbackResponsesAction.class);
         map(ResourceURIs.RESPONSE, POST, CreateFeedbackResponseAction.class);
         map(ResourceURIs.RESPONSE, PUT, UpdateFeedbackResponseAction.class);
         map(ResourceURIs.RESPONSE, DELETE, DeleteFeedbackResponseAction.class);
@@ -1,7 +1,11 @@
 package teammates.ui.webapi.action;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+import teammates.common.datatransfer.CourseStructure;
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
@@ -174,6 +178,44 @@ public abstract class BasicFeedbackSubmissionAction extends Action {
         }
     }
 
+    /**
+     * Gets the sections of recipients, keyed by recipient.
+     *
+     * <p>The sections are looked up from the given structure of the course, which is loaded once for all
+     * the recipients instead of once for each recipient as in
+     * {@link #getRecipientSection(String, FeedbackParticipantType, String)}.
+     */
+    protected Map<String, String> getRecipientSections(
+            CourseStructure courseStructure, FeedbackParticipantType recipientType,
+            Collection<String> recipientIdentifiers) {
+        Map<String, String> sections = new HashMap<>();
+        for (String recipientIdentifier : recipientIdentifiers) {
+            String section;
+            switch (recipientType) {
+            case INSTRUCTORS:
+            case SELF:
+            case NONE:
+                section = Const.DEFAULT_SECTION;
+                break;
+            case TEAMS:
+            case OWN_TEAM:
+                section = courseStructure.getSectionOfTeam(recipientIdentifier);
+                break;
+            case STUDENTS:
+            case OWN_TEAM_MEMBERS:
+            case OWN_TEAM_MEMBERS_INCLUDING_SELF:
+                String studentSection = courseStructure.getSectionOfStudent(recipientIdentifier);
+                section = studentSection == null ? Const.DEFAULT_SECTION : studentSection;
+                break;
+            default:
+                Assumption.fail("Unknown recipient type " + recipientType);
+                return null;
+            }
+            sections.put(recipientIdentifier, section);
+        }
+        return sections;
+    }
+
     /**
      * Validates the response of the corresponding question.
      */
@@ -1,6 +1,7 @@
 package teammates.ui.webapi.action;
 
 import java.util.ArrayList;
+import java.util.Collections;
 
 import org.apache.http.HttpStatus;
 
@@ -100,7 +101,8 @@ public class CreateFeedbackResponseCommentAction extends Action {
         FeedbackResponseCommentAttributes createdComment = null;
         try {
             createdComment = logic.createFeedbackResponseComment(feedbackResponseComment);
-            logic.putDocument(createdComment);
+            taskQueuer.scheduleSearchIndexing(Const.SearchIndex.FEEDBACK_RESPONSE_COMMENT,
+                    Collections.singletonList(String.valueOf(createdComment.getId())));
         } catch (EntityDoesNotExistException e) {
             return new JsonResult(e.getMessage(), HttpStatus.SC_NOT_FOUND);
         } catch (EntityAlreadyExistsException e) {
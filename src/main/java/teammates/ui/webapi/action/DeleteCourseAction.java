@@ -1,5 +1,6 @@
 package teammates.ui.webapi.action;
 
+import teammates.common.exception.IncompleteDeletionException;
 import teammates.common.exception.UnauthorizedAccessException;
 import teammates.common.util.Const;
 import teammates.ui.webapi.output.MessageOutput;
@@ -29,7 +30,12 @@ public class DeleteCourseAction extends Action {
     public ActionResult execute() {
         String idOfCourseToDelete = getNonNullRequestParamValue(Const.ParamsNames.COURSE_ID);
 
-        logic.deleteCourseCascade(idOfCourseToDelete);
+        try {
+            logic.deleteCourseCascade(idOfCourseToDelete);
+        } catch (IncompleteDeletionException e) {
+            // the course is deleted last, so the deletion continues in a task from where it stopped
+            taskQueuer.scheduleCourseDeletion(idOfCourseToDelete);
+        }
 
         return new JsonResult(new MessageOutput("OK"));
     }
@@ -1,6 +1,7 @@
 package teammates.ui.webapi.action;
 
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.exception.IncompleteDeletionException;
 import teammates.common.exception.UnauthorizedAccessException;
 import teammates.common.util.Const;
 
@@ -33,7 +34,12 @@ public class DeleteFeedbackQuestionAction extends Action {
     public ActionResult execute() {
         String feedbackQuestionId = getNonNullRequestParamValue(Const.ParamsNames.FEEDBACK_QUESTION_ID);
 
-        logic.deleteFeedbackQuestionCascade(feedbackQuestionId);
+        try {
+            logic.deleteFeedbackQuestionCascade(feedbackQuestionId);
+        } catch (IncompleteDeletionException e) {
+            // the question is deleted after its responses, so the deletion continues in a task from where it stopped
+            taskQueuer.scheduleFeedbackQuestionDeletion(feedbackQuestionId);
+        }
 
         return new JsonResult("Feedback question deleted!");
     }
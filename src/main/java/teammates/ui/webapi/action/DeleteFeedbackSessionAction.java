@@ -1,6 +1,7 @@
 package teammates.ui.webapi.action;
 
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.exception.IncompleteDeletionException;
 import teammates.common.util.Const;
 
 /**
@@ -29,7 +30,12 @@ public class DeleteFeedbackSessionAction extends Action {
         String courseId = getNonNullRequestParamValue(Const.ParamsNames.COURSE_ID);
         String feedbackSessionName = getNonNullRequestParamValue(Const.ParamsNames.FEEDBACK_SESSION_NAME);
 
-        logic.deleteFeedbackSessionCascade(feedbackSessionName, courseId);
+        try {
+            logic.deleteFeedbackSessionCascade(feedbackSessionName, courseId);
+        } catch (IncompleteDeletionException e) {
+            // the session is deleted last, so the deletion continues in a task from where it stopped
+            taskQueuer.scheduleFeedbackSessionDeletion(courseId, feedbackSessionName);
+        }
 
         return new JsonResult("The feedback session is deleted.");
     }
@@ -2,14 +2,14 @@ package teammates.ui.webapi.action;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
 import java.util.stream.Collectors;
 
+import teammates.common.datatransfer.StudentEnrollDetails;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.exception.EnrollException;
-import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
+import teammates.common.exception.EntityNotFoundException;
 import teammates.common.exception.InvalidHttpRequestBodyException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.exception.UnauthorizedAccessException;
@@ -66,40 +66,28 @@ public class EnrollStudentsAction extends Action {
             throw new InvalidHttpRequestBodyException(e.getMessage(), e);
         }
 
-        List<StudentAttributes> existingStudents = logic.getStudentsForCourse(courseId);
+        List<StudentEnrollDetails> enrollDetails;
+        List<Long> commentIdsToIndex = new ArrayList<>();
+        try {
+            enrollDetails = logic.enrollStudentsCascade(courseId, studentsToEnroll, commentIdsToIndex);
+        } catch (InvalidParametersException e) {
+            throw new InvalidHttpRequestBodyException(e.getMessage(), e);
+        } catch (EntityDoesNotExistException e) {
+            throw new EntityNotFoundException(e);
+        }
 
-        Set<String> existingStudentsEmail =
-                existingStudents.stream().map(StudentAttributes::getEmail).collect(Collectors.toSet());
-        List<StudentAttributes> enrolledStudents = new ArrayList<>();
-        studentsToEnroll.forEach(student -> {
-            if (existingStudentsEmail.contains(student.email)) {
-                // The student has been enrolled in the course.
-                StudentAttributes.UpdateOptions updateOptions =
-                        StudentAttributes.updateOptionsBuilder(student.getCourse(), student.getEmail())
-                                .withName(student.getName())
-                                .withSectionName(student.getSection())
-                                .withTeamName(student.getTeam())
-                                .withComment(student.getComments())
-                                .build();
-                try {
-                    StudentAttributes updatedStudent = logic.updateStudentCascade(updateOptions);
-                    enrolledStudents.add(updatedStudent);
-                } catch (InvalidParametersException | EntityDoesNotExistException
-                        | EntityAlreadyExistsException exception) {
-                    // Unsuccessfully enrolled students will not be returned.
-                    return;
-                }
-            } else {
-                // The student is new.
-                try {
-                    StudentAttributes newStudent = logic.createStudent(student);
-                    enrolledStudents.add(newStudent);
-                } catch (InvalidParametersException | EntityAlreadyExistsException exception) {
-                    // Unsuccessfully enrolled students will not be returned.
-                    return;
-                }
-            }
-        });
+        // Unsuccessfully enrolled students will not be returned.
+        List<StudentAttributes> enrolledStudents = enrollDetails.stream()
+                .filter(StudentEnrollDetails::isSuccessful)
+                .map(StudentEnrollDetails::getStudent)
+                .collect(Collectors.toList());
+
+        taskQueuer.scheduleSearchIndexing(Const.SearchIndex.STUDENT, enrollDetails.stream()
+                .filter(details -> details.getUpdateStatus() == StudentEnrollDetails.UpdateStatus.NEW
+                        || details.getUpdateStatus() == StudentEnrollDetails.UpdateStatus.MODIFIED)
+                .map(details -> details.getStudent().getId())
+                .collect(Collectors.toList()));
+        taskQueuer.scheduleFeedbackResponseCommentsSearchIndexing(commentIdsToIndex);
         return new JsonResult(new StudentsData(enrolledStudents));
     }
 }
@@ -8,6 +8,7 @@ import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.EntityNotFoundException;
 import teammates.common.exception.InvalidHttpParameterException;
+import teammates.common.exception.InvalidParametersException;
 import teammates.common.exception.UnauthorizedAccessException;
 import teammates.common.util.Const;
 import teammates.ui.webapi.output.SessionResultsData;
@@ -64,6 +65,14 @@ public class GetSessionResultsAction extends Action {
         return logic.getStudentForGoogleId(courseId, userInfo.id);
     }
 
+    private int getPageSize() {
+        long pageSize = getLongRequestParamValue(Const.ParamsNames.FEEDBACK_RESULTS_PAGE_SIZE);
+        if (pageSize <= 0 || pageSize > Integer.MAX_VALUE) {
+            throw new InvalidHttpParameterException("Invalid page size: " + pageSize);
+        }
+        return (int) pageSize;
+    }
+
     @Override
     public ActionResult execute() {
         String courseId = getNonNullRequestParamValue(Const.ParamsNames.COURSE_ID);
@@ -73,16 +82,25 @@ public class GetSessionResultsAction extends Action {
         String questionId = getRequestParamValue(Const.ParamsNames.FEEDBACK_QUESTION_ID);
         String selectedSection = getRequestParamValue(Const.ParamsNames.FEEDBACK_RESULTS_GROUPBYSECTION);
 
+        // Allow results of the whole session to be fetched page by page
+        boolean isPaged = getRequestParamValue(Const.ParamsNames.FEEDBACK_RESULTS_PAGE_SIZE) != null;
+
         FeedbackSessionResultsBundle bundle;
         Intent intent = Intent.valueOf(getNonNullRequestParamValue(Const.ParamsNames.INTENT));
         switch (intent) {
         case INSTRUCTOR_RESULT:
             InstructorAttributes instructor = logic.getInstructorForGoogleId(courseId, userInfo.id);
+            boolean isInPage = false;
 
             try {
                 // TODO optimize the logic layer to get rid of functions that are no longer necessary
                 if (questionId == null) {
-                    if (selectedSection == null) {
+                    if (selectedSection == null && isPaged) {
+                        isInPage = true;
+                        bundle = logic.getFeedbackSessionResultsForInstructorInPage(
+                                feedbackSessionName, courseId, instructor.email,
+                                getRequestParamValue(Const.ParamsNames.FEEDBACK_RESULTS_PAGE_CURSOR), getPageSize());
+                    } else if (selectedSection == null) {
                         bundle = logic.getFeedbackSessionResultsForInstructorWithinRangeFromView(
                                 feedbackSessionName, courseId, instructor.email,
                                 1, Const.FeedbackSessionResults.QUESTION_SORT_TYPE);
@@ -103,9 +121,12 @@ public class GetSessionResultsAction extends Action {
                 }
             } catch (EntityDoesNotExistException e) {
                 throw new EntityNotFoundException(e);
+            } catch (InvalidParametersException e) {
+                throw new InvalidHttpParameterException(e.getMessage(), e);
             }
 
-            return new JsonResult(new SessionResultsData(bundle, instructor));
+            // statistics of a page would only cover the responses in it; they are fetched per question instead
+            return new JsonResult(new SessionResultsData(bundle, instructor, !isInPage));
         case STUDENT_RESULT:
             // Question number and section name filters are not applied here
             StudentAttributes student = getStudent(courseId);
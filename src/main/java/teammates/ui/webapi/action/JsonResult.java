@@ -1,7 +1,6 @@
 package teammates.ui.webapi.action;
 
 import java.io.IOException;
-import java.io.PrintWriter;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -58,8 +57,8 @@ public class JsonResult extends ActionResult {
         }
         resp.setStatus(getStatusCode());
         resp.setContentType("application/json");
-        PrintWriter pw = resp.getWriter();
-        pw.print(JsonUtils.toJson(output));
+        // the output is streamed to the response as it is serialized, as it may be too large to be held in memory twice
+        JsonUtils.toCompactJson(output, resp.getWriter());
     }
 
     public List<Cookie> getCookies() {
@@ -0,0 +1,41 @@
+package teammates.ui.webapi.action;
+
+import java.io.IOException;
+
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.FilterConfig;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+
+import teammates.logic.api.Logic;
+
+/**
+ * Caches values derived from the Datastore for the duration of each HTTP request.
+ */
+public class RequestCacheFilter implements Filter {
+
+    private final Logic logic = new Logic();
+
+    @Override
+    public void init(FilterConfig filterConfig) {
+        // nothing to do
+    }
+
+    @Override
+    public void doFilter(ServletRequest req, ServletResponse res, FilterChain chain) throws IOException, ServletException {
+        logic.beginRequestCache();
+        try {
+            chain.doFilter(req, res);
+        } finally {
+            logic.endRequestCache();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        // nothing to do
+    }
+
+}
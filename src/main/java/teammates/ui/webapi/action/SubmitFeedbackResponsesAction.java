@@ -0,0 +1,146 @@
+package teammates.ui.webapi.action;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.exception.EntityDoesNotExistException;
+import teammates.common.exception.EntityNotFoundException;
+import teammates.common.exception.InvalidHttpParameterException;
+import teammates.common.exception.InvalidHttpRequestBodyException;
+import teammates.common.exception.InvalidParametersException;
+import teammates.common.exception.UnauthorizedAccessException;
+import teammates.common.util.Const;
+import teammates.ui.webapi.output.FeedbackResponsesData;
+import teammates.ui.webapi.request.FeedbackResponseBasicRequest;
+import teammates.ui.webapi.request.FeedbackResponsesRequest;
+
+/**
+ * Submits all the responses of a giver to a question.
+ *
+ * <p>The responses of the giver to recipients not in the request are deleted.
+ */
+public class SubmitFeedbackResponsesAction extends BasicFeedbackSubmissionAction {
+
+    @Override
+    protected AuthType getMinAuthLevel() {
+        return AuthType.PUBLIC;
+    }
+
+    @Override
+    public void checkSpecificAccessControl() {
+        String feedbackQuestionId = getNonNullRequestParamValue(Const.ParamsNames.FEEDBACK_QUESTION_ID);
+        FeedbackQuestionAttributes feedbackQuestion = logic.getFeedbackQuestion(feedbackQuestionId);
+        if (feedbackQuestion == null) {
+            throw new EntityNotFoundException(new EntityDoesNotExistException("The feedback question does not exist."));
+        }
+        FeedbackSessionAttributes feedbackSession =
+                logic.getFeedbackSession(feedbackQuestion.getFeedbackSessionName(), feedbackQuestion.getCourseId());
+
+        verifyInstructorCanSeeQuestionIfInModeration(feedbackQuestion);
+        verifySessionOpenExceptForModeration(feedbackSession);
+        verifyNotPreview();
+
+        Map<String, String> recipientsOfTheQuestion;
+        Intent intent = Intent.valueOf(getNonNullRequestParamValue(Const.ParamsNames.INTENT));
+        switch (intent) {
+        case STUDENT_SUBMISSION:
+            gateKeeper.verifyAnswerableForStudent(feedbackQuestion);
+            StudentAttributes studentAttributes = getStudentOfCourseFromRequest(feedbackQuestion.getCourseId());
+            checkAccessControlForStudentFeedbackSubmission(studentAttributes, feedbackSession);
+            recipientsOfTheQuestion =
+                    logic.getRecipientsOfQuestionForStudent(
+                            feedbackQuestion, studentAttributes.getEmail(), studentAttributes.getTeam());
+            break;
+        case INSTRUCTOR_SUBMISSION:
+            gateKeeper.verifyAnswerableForInstructor(feedbackQuestion);
+            InstructorAttributes instructorAttributes = getInstructorOfCourseFromRequest(feedbackQuestion.getCourseId());
+            checkAccessControlForInstructorFeedbackSubmission(instructorAttributes, feedbackSession);
+            recipientsOfTheQuestion =
+                    logic.getRecipientsOfQuestionForInstructor(feedbackQuestion, instructorAttributes.getEmail());
+            break;
+        default:
+            throw new InvalidHttpParameterException("Unknown intent " + intent);
+        }
+
+        // the recipients are validated together as finding the recipients of the question can load the course roster
+        FeedbackResponsesRequest submitRequest = getAndValidateRequestBody(FeedbackResponsesRequest.class);
+        for (FeedbackResponseBasicRequest responseRequest : submitRequest.getResponses()) {
+            if (!recipientsOfTheQuestion.containsKey(responseRequest.getRecipientIdentifier())) {
+                throw new UnauthorizedAccessException("The recipient is not a valid recipient of the question");
+            }
+        }
+    }
+
+    @Override
+    public ActionResult execute() {
+        Intent intent = Intent.valueOf(getNonNullRequestParamValue(Const.ParamsNames.INTENT));
+        String feedbackQuestionId = getNonNullRequestParamValue(Const.ParamsNames.FEEDBACK_QUESTION_ID);
+        FeedbackQuestionAttributes feedbackQuestion = logic.getFeedbackQuestion(feedbackQuestionId);
+
+        String giverIdentifier;
+        String giverSection;
+        switch (intent) {
+        case STUDENT_SUBMISSION:
+            StudentAttributes studentAttributes = getStudentOfCourseFromRequest(feedbackQuestion.getCourseId());
+            giverIdentifier = feedbackQuestion.getGiverType() == FeedbackParticipantType.TEAMS
+                            ? studentAttributes.getTeam() : studentAttributes.getEmail();
+            giverSection = studentAttributes.getSection();
+            logic.populateFieldsToGenerateInQuestion(feedbackQuestion,
+                    studentAttributes.getEmail(), studentAttributes.getTeam());
+            break;
+        case INSTRUCTOR_SUBMISSION:
+            InstructorAttributes instructorAttributes = getInstructorOfCourseFromRequest(feedbackQuestion.getCourseId());
+            giverIdentifier = instructorAttributes.getEmail();
+            giverSection = Const.DEFAULT_SECTION;
+            logic.populateFieldsToGenerateInQuestion(feedbackQuestion,
+                    instructorAttributes.getEmail(), null);
+            break;
+        default:
+            throw new InvalidHttpParameterException("Unknown intent " + intent);
+        }
+
+        FeedbackResponsesRequest submitRequest = getAndValidateRequestBody(FeedbackResponsesRequest.class);
+        // the structure of the course is the one cached in this request when finding the recipients of the question
+        Map<String, String> recipientSections = getRecipientSections(
+                logic.getCourseStructure(feedbackQuestion.getCourseId()), feedbackQuestion.getRecipientType(),
+                submitRequest.getResponses().stream()
+                        .map(FeedbackResponseBasicRequest::getRecipientIdentifier)
+                        .collect(Collectors.toList()));
+
+        List<FeedbackResponseAttributes> feedbackResponses = new ArrayList<>();
+        for (FeedbackResponseBasicRequest responseRequest : submitRequest.getResponses()) {
+            FeedbackResponseAttributes feedbackResponse =
+                    FeedbackResponseAttributes
+                            .builder(feedbackQuestion.getId(), giverIdentifier, responseRequest.getRecipientIdentifier())
+                    .withGiverSection(giverSection)
+                    .withRecipientSection(recipientSections.get(responseRequest.getRecipientIdentifier()))
+                    .withCourseId(feedbackQuestion.getCourseId())
+                    .withFeedbackSessionName(feedbackQuestion.getFeedbackSessionName())
+                    .withResponseDetails(responseRequest.getResponseDetails())
+                    .build();
+
+            validResponseOfQuestion(feedbackQuestion, feedbackResponse);
+            feedbackResponses.add(feedbackResponse);
+        }
+
+        try {
+            List<Long> commentIdsToIndex = new ArrayList<>();
+            List<FeedbackResponseAttributes> submittedResponses =
+                    logic.updateFeedbackResponsesFromGiverForQuestionCascade(
+                            feedbackQuestion.getId(), giverIdentifier, feedbackResponses, commentIdsToIndex);
+            taskQueuer.scheduleFeedbackResponseCommentsSearchIndexing(commentIdsToIndex);
+            return new JsonResult(new FeedbackResponsesData(submittedResponses));
+        } catch (InvalidParametersException e) {
+            throw new InvalidHttpRequestBodyException(e.getMessage(), e);
+        }
+    }
+
+}
@@ -1,5 +1,7 @@
 package teammates.ui.webapi.action;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 import teammates.common.datatransfer.FeedbackParticipantType;
@@ -115,6 +117,7 @@ public class UpdateFeedbackResponseAction extends BasicFeedbackSubmissionAction
         validResponseOfQuestion(feedbackQuestion, feedbackResponse);
 
         try {
+            List<Long> commentIdsToIndex = new ArrayList<>();
             FeedbackResponseAttributes updatedFeedbackResponse = logic.updateFeedbackResponseCascade(
                     FeedbackResponseAttributes.updateOptionsBuilder(feedbackResponse.getId())
                             .withGiver(feedbackResponse.giver)
@@ -122,7 +125,9 @@ public class UpdateFeedbackResponseAction extends BasicFeedbackSubmissionAction
                             .withRecipient(feedbackResponse.recipient)
                             .withRecipientSection(feedbackResponse.recipientSection)
                             .withResponseDetails(feedbackResponse.getResponseDetails())
-                            .build());
+                            .build(),
+                    commentIdsToIndex);
+            taskQueuer.scheduleFeedbackResponseCommentsSearchIndexing(commentIdsToIndex);
 
             return new JsonResult(new FeedbackResponseData(updatedFeedbackResponse));
         } catch (Exception e) {
@@ -2,6 +2,7 @@ package teammates.ui.webapi.action;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import org.apache.http.HttpStatus;
@@ -112,7 +113,8 @@ public class UpdateFeedbackResponseCommentAction extends Action {
         FeedbackResponseCommentAttributes updatedComment = null;
         try {
             updatedComment = logic.updateFeedbackResponseComment(commentUpdateOptions.build());
-            logic.putDocument(updatedComment);
+            taskQueuer.scheduleSearchIndexing(Const.SearchIndex.FEEDBACK_RESPONSE_COMMENT,
+                    Collections.singletonList(String.valueOf(updatedComment.getId())));
         } catch (EntityDoesNotExistException e) {
             return new JsonResult(e.getMessage(), HttpStatus.SC_NOT_FOUND);
         } catch (InvalidParametersException e) {
@@ -1,5 +1,6 @@
 package teammates.ui.webapi.action;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.apache.http.HttpStatus;
@@ -58,6 +59,7 @@ public class UpdateInstructorAction extends UpdateInstructorPrivilegesAbstractAc
                                 .withRole(instructorToEdit.role)
                                 .build());
             } else {
+                List<Long> commentIdsToIndex = new ArrayList<>();
                 updatedInstructor = logic.updateInstructorCascade(
                         InstructorAttributes
                                 .updateOptionsWithGoogleIdBuilder(instructorToEdit.courseId, instructorRequest.getId())
@@ -67,7 +69,9 @@ public class UpdateInstructorAction extends UpdateInstructorPrivilegesAbstractAc
                                 .withIsDisplayedToStudents(instructorToEdit.isDisplayedToStudents)
                                 .withPrivileges(instructorToEdit.privileges)
                                 .withRole(instructorToEdit.role)
-                                .build());
+                                .build(),
+                        commentIdsToIndex);
+                taskQueuer.scheduleFeedbackResponseCommentsSearchIndexing(commentIdsToIndex);
             }
             return new JsonResult(new InstructorData(updatedInstructor));
         } catch (InvalidParametersException e) {
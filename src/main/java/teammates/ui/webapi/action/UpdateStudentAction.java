@@ -1,6 +1,8 @@
 package teammates.ui.webapi.action;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.apache.http.HttpStatus;
 
@@ -64,6 +66,7 @@ public class UpdateStudentAction extends Action {
 
         try {
             logic.validateSectionsAndTeams(Arrays.asList(studentToUpdate), student.course);
+            List<Long> commentIdsToIndex = new ArrayList<>();
             logic.updateStudentCascade(
                     StudentAttributes.updateOptionsBuilder(courseId, studentEmail)
                             .withName(updateRequest.getName())
@@ -71,7 +74,9 @@ public class UpdateStudentAction extends Action {
                             .withTeamName(updateRequest.getTeam())
                             .withSectionName(updateRequest.getSection())
                             .withComment(updateRequest.getComments())
-                            .build());
+                            .build(),
+                    commentIdsToIndex);
+            taskQueuer.scheduleFeedbackResponseCommentsSearchIndexing(commentIdsToIndex);
 
             if (!student.email.equals(updateRequest.getEmail())) {
                 logic.resetStudentGoogleId(updateRequest.getEmail(), courseId);
@@ -6,6 +6,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import javax.annotation.Nullable;
+
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.FeedbackSessionResultsBundle;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
@@ -24,15 +26,33 @@ public class SessionResultsData extends ApiOutput {
     private static final String REGEX_ANONYMOUS_PARTICIPANT_HASH = "[0-9]{1,10}";
 
     private final List<QuestionOutput> questions = new ArrayList<>();
+    @Nullable
+    private String nextPageCursor;
 
     public SessionResultsData(FeedbackSessionResultsBundle bundle, InstructorAttributes instructor) {
+        this(bundle, instructor, true);
+    }
+
+    /**
+     * Creates the results to show to an instructor.
+     *
+     * <p>Statistics should be left out when the bundle holds one page of the responses,
+     * as statistics of a question computed from part of its responses would be misleading.
+     * Complete statistics of a question are given by its results fetched without paging.
+     */
+    public SessionResultsData(FeedbackSessionResultsBundle bundle, InstructorAttributes instructor,
+                              boolean isStatisticsIncluded) {
+        this.nextPageCursor = bundle.getNextPageCursor();
         Map<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> questionsWithResponses =
                 bundle.getQuestionResponseMapSortedByRecipient();
 
         questionsWithResponses.forEach((question, responses) -> {
             FeedbackQuestionDetails questionDetails = question.getQuestionDetails();
-            QuestionOutput qnOutput = new QuestionOutput(question.getId(), question.questionNumber, questionDetails,
-                    questionDetails.getQuestionResultStatisticsJson(responses, question, instructor.email, bundle, false));
+            String statistics = isStatisticsIncluded
+                    ? questionDetails.getQuestionResultStatisticsJson(responses, question, instructor.email, bundle, false)
+                    : null;
+            QuestionOutput qnOutput =
+                    new QuestionOutput(question.getId(), question.questionNumber, questionDetails, statistics);
 
             List<ResponseOutput> allResponses = buildResponses(responses, bundle);
             for (ResponseOutput respOutput : allResponses) {
@@ -77,6 +97,10 @@ public class SessionResultsData extends ApiOutput {
         return questions;
     }
 
+    public String getNextPageCursor() {
+        return nextPageCursor;
+    }
+
     private static String removeAnonymousHash(String identifier) {
         return identifier.replaceAll(Const.DISPLAYED_NAME_FOR_ANONYMOUS_PARTICIPANT + " (student|instructor|team) "
                 + REGEX_ANONYMOUS_PARTICIPANT_HASH, Const.DISPLAYED_NAME_FOR_ANONYMOUS_PARTICIPANT + " $1");
@@ -174,6 +198,7 @@ public class SessionResultsData extends ApiOutput {
         private final String questionId;
         private final FeedbackQuestionDetails questionDetails;
         private final int questionNumber;
+        @Nullable
         private final String questionStatistics;
 
         // For instructor view
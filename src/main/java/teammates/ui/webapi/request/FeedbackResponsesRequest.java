@@ -0,0 +1,37 @@
+package teammates.ui.webapi.request;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The request of submitting all the responses of a giver to a question.
+ */
+public class FeedbackResponsesRequest extends BasicRequest {
+
+    private static final String ERROR_MESSAGE_DUPLICATE_RECIPIENT =
+            "Error, more than one response to the recipient: %s";
+
+    // Initialize to handle users make a http request with empty body.
+    private List<FeedbackResponseBasicRequest> responses = new ArrayList<>();
+
+    public List<FeedbackResponseBasicRequest> getResponses() {
+        return responses;
+    }
+
+    public void setResponses(List<FeedbackResponseBasicRequest> responses) {
+        this.responses = responses;
+    }
+
+    @Override
+    public void validate() {
+        assertTrue(responses != null, "responses cannot be null");
+        Set<String> recipients = new HashSet<>();
+        for (FeedbackResponseBasicRequest response : responses) {
+            response.validate();
+            assertTrue(recipients.add(response.getRecipientIdentifier()),
+                    String.format(ERROR_MESSAGE_DUPLICATE_RECIPIENT, response.getRecipientIdentifier()));
+        }
+    }
+}
@@ -1,13 +1,29 @@
 package teammates.test.cases.automated;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
 
 import org.testng.annotations.BeforeClass;
 
 import teammates.common.datatransfer.DataBundle;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.datatransfer.questions.FeedbackTextResponseDetails;
+import teammates.common.exception.InvalidParametersException;
+import teammates.common.util.Const;
 import teammates.common.util.EmailWrapper;
+import teammates.common.util.JsonUtils;
+import teammates.common.util.TaskWrapper;
+import teammates.storage.api.FeedbackResponsesDb;
+import teammates.storage.api.StudentsDb;
 import teammates.test.cases.BaseComponentTestCase;
+import teammates.test.driver.MockHttpServletResponse;
 import teammates.ui.automated.AutomatedAction;
 
 /**
@@ -17,6 +33,11 @@ import teammates.ui.automated.AutomatedAction;
  */
 public abstract class BaseAutomatedActionTest<T extends AutomatedAction> extends BaseComponentTestCase {
 
+    /**
+     * Number of entities put for a deletion to be cut short, which is more than a deletion batch holds.
+     */
+    private static final int NUMBER_OF_ENTITIES_TO_DELETE = 600;
+
     protected DataBundle dataBundle;
 
     protected abstract String getActionUri();
@@ -26,6 +47,11 @@ public abstract class BaseAutomatedActionTest<T extends AutomatedAction> extends
         return (T) gaeSimulation.getAutomatedActionObject(getActionUri(), params);
     }
 
+    @SuppressWarnings("unchecked")
+    protected T getAction(MockHttpServletResponse response, String... params) {
+        return (T) gaeSimulation.getAutomatedActionObject(getActionUri(), response, params);
+    }
+
     @BeforeClass
     public void baseClassSetup() {
         prepareTestData();
@@ -63,4 +89,90 @@ public abstract class BaseAutomatedActionTest<T extends AutomatedAction> extends
         assertEquals(emailCount, action.getEmailSender().getEmailsSent().size());
     }
 
+    protected List<EmailWrapper> getEmailsScheduled(AutomatedAction action) {
+        List<EmailWrapper> emails = new ArrayList<>();
+        for (TaskWrapper task : action.getTaskQueuer().getTasksAdded()) {
+            if (Const.TaskQueue.SEND_EMAIL_QUEUE_NAME.equals(task.getQueueName())) {
+                String emailBatch = task.getParamMap().get(Const.ParamsNames.EMAIL_BATCH)[0];
+                emails.addAll(Arrays.asList(JsonUtils.fromJson(emailBatch, EmailWrapper[].class)));
+            }
+        }
+        return emails;
+    }
+
+    protected void verifyNumberOfEmailsScheduled(AutomatedAction action, int emailCount) {
+        assertEquals(emailCount, getEmailsScheduled(action).size());
+    }
+
+    /**
+     * Puts enough students in the course for a deletion of the course to be cut short.
+     */
+    protected void putStudentsToDelete(String courseId) throws InvalidParametersException {
+        List<StudentAttributes> students = new ArrayList<>();
+        for (int i = 0; i < NUMBER_OF_ENTITIES_TO_DELETE; i++) {
+            students.add(StudentAttributes.builder(courseId, "student" + i + "@deletion.tmt")
+                    .withName("Student " + i)
+                    .withComment("")
+                    .withTeamName("Team 1")
+                    .withSectionName("Section 1")
+                    .build());
+        }
+        new StudentsDb().putEntities(students);
+    }
+
+    /**
+     * Puts enough responses to the question for a deletion of the question or its session to be cut short.
+     */
+    protected void putResponsesToDelete(FeedbackQuestionAttributes question) throws InvalidParametersException {
+        List<FeedbackResponseAttributes> responses = new ArrayList<>();
+        for (int i = 0; i < NUMBER_OF_ENTITIES_TO_DELETE; i++) {
+            String email = "student" + i + "@deletion.tmt";
+            responses.add(FeedbackResponseAttributes.builder(question.getId(), email, email)
+                    .withCourseId(question.getCourseId())
+                    .withFeedbackSessionName(question.getFeedbackSessionName())
+                    .withResponseDetails(new FeedbackTextResponseDetails("Response " + i))
+                    .build());
+        }
+        new FeedbackResponsesDb().putEntities(responses);
+    }
+
+    /**
+     * Verifies that a deletion by the action is chained into another task of the queue
+     * when the request runs out of time, and that the chained task completes the deletion.
+     *
+     * @param actionSupplier gives the action to run the deletion, once for each task
+     * @param isEntityDeleted checks whether the entity to delete no longer exists
+     * @param numberOfDependentEntities counts the entities which are deleted together with the entity
+     */
+    protected void verifyDeletionChainedWhenRunningOutOfTime(Supplier<T> actionSupplier, String queueName,
+            BooleanSupplier isEntityDeleted, IntSupplier numberOfDependentEntities) {
+        int numberOfEntitiesBeforeDeletion = numberOfDependentEntities.getAsInt();
+
+        ______TS("request running out of time: rest of the deletion chained into another task");
+
+        gaeSimulation.setRemainingMillis(0);
+        T action;
+        try {
+            action = actionSupplier.get();
+            action.execute();
+        } finally {
+            gaeSimulation.resetRemainingMillis();
+        }
+
+        verifySpecifiedTasksAdded(action, queueName, 1);
+        assertFalse(isEntityDeleted.getAsBoolean());
+        int numberOfEntitiesRemaining = numberOfDependentEntities.getAsInt();
+        assertTrue(numberOfEntitiesRemaining > 0);
+        assertTrue(numberOfEntitiesRemaining < numberOfEntitiesBeforeDeletion);
+
+        ______TS("chained task: rest of the deletion completed");
+
+        action = actionSupplier.get();
+        action.execute();
+
+        assertTrue(isEntityDeleted.getAsBoolean());
+        assertEquals(0, numberOfDependentEntities.getAsInt());
+        verifyNoTasksAdded(action);
+    }
+
 }
@@ -0,0 +1,56 @@
+package teammates.test.cases.automated;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.CourseAttributes;
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.logic.core.CoursesLogic;
+import teammates.logic.core.StudentsLogic;
+import teammates.ui.automated.CourseDeletionWorkerAction;
+
+/**
+ * SUT: {@link CourseDeletionWorkerAction}.
+ */
+public class CourseDeletionWorkerActionTest extends BaseAutomatedActionTest<CourseDeletionWorkerAction> {
+
+    private static final CoursesLogic coursesLogic = CoursesLogic.inst();
+    private static final StudentsLogic studentsLogic = StudentsLogic.inst();
+
+    @Override
+    protected String getActionUri() {
+        return Const.TaskQueue.COURSE_DELETION_WORKER_URL;
+    }
+
+    @Test
+    public void allTests() throws Exception {
+        CourseAttributes course = dataBundle.courses.get("typicalCourse1");
+
+        ______TS("typical case: course deleted");
+
+        assertNotNull(coursesLogic.getCourse(course.getId()));
+
+        CourseDeletionWorkerAction action = getAction(ParamsNames.COURSE_ID, course.getId());
+        action.execute();
+
+        assertNull(coursesLogic.getCourse(course.getId()));
+        assertTrue(studentsLogic.getStudentsForCourse(course.getId()).isEmpty());
+        verifyNoTasksAdded(action);
+
+        ______TS("non-existent course: fails silently");
+
+        action = getAction(ParamsNames.COURSE_ID, course.getId());
+        action.execute();
+
+        verifyNoTasksAdded(action);
+
+        String courseId = dataBundle.courses.get("typicalCourse2").getId();
+        putStudentsToDelete(courseId);
+
+        verifyDeletionChainedWhenRunningOutOfTime(
+                () -> getAction(ParamsNames.COURSE_ID, courseId), Const.TaskQueue.COURSE_DELETION_QUEUE_NAME,
+                () -> coursesLogic.getCourse(courseId) == null,
+                () -> studentsLogic.getStudentsForCourse(courseId).size());
+    }
+
+}
@@ -0,0 +1,60 @@
+package teammates.test.cases.automated;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.logic.core.FeedbackQuestionsLogic;
+import teammates.logic.core.FeedbackResponsesLogic;
+import teammates.ui.automated.FeedbackQuestionDeletionWorkerAction;
+
+/**
+ * SUT: {@link FeedbackQuestionDeletionWorkerAction}.
+ */
+public class FeedbackQuestionDeletionWorkerActionTest
+        extends BaseAutomatedActionTest<FeedbackQuestionDeletionWorkerAction> {
+
+    private static final FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
+    private static final FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
+
+    @Override
+    protected String getActionUri() {
+        return Const.TaskQueue.FEEDBACK_QUESTION_DELETION_WORKER_URL;
+    }
+
+    @Test
+    public void allTests() throws Exception {
+        FeedbackSessionAttributes session = dataBundle.feedbackSessions.get("session1InCourse1");
+        FeedbackQuestionAttributes question =
+                fqLogic.getFeedbackQuestion(session.getFeedbackSessionName(), session.getCourseId(), 2);
+
+        ______TS("typical case: question deleted");
+
+        FeedbackQuestionDeletionWorkerAction action = getAction(ParamsNames.FEEDBACK_QUESTION_ID, question.getId());
+        action.execute();
+
+        assertNull(fqLogic.getFeedbackQuestion(question.getId()));
+        assertTrue(frLogic.getFeedbackResponsesForQuestion(question.getId()).isEmpty());
+        verifyNoTasksAdded(action);
+
+        ______TS("non-existent question: fails silently");
+
+        action = getAction(ParamsNames.FEEDBACK_QUESTION_ID, question.getId());
+        action.execute();
+
+        verifyNoTasksAdded(action);
+
+        FeedbackQuestionAttributes questionToDelete =
+                fqLogic.getFeedbackQuestion(session.getFeedbackSessionName(), session.getCourseId(), 1);
+        putResponsesToDelete(questionToDelete);
+
+        verifyDeletionChainedWhenRunningOutOfTime(
+                () -> getAction(ParamsNames.FEEDBACK_QUESTION_ID, questionToDelete.getId()),
+                Const.TaskQueue.FEEDBACK_QUESTION_DELETION_QUEUE_NAME,
+                () -> fqLogic.getFeedbackQuestion(questionToDelete.getId()) == null,
+                () -> frLogic.getFeedbackResponsesForQuestion(questionToDelete.getId()).size());
+    }
+
+}
@@ -0,0 +1,71 @@
+package teammates.test.cases.automated;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.logic.core.FeedbackQuestionsLogic;
+import teammates.logic.core.FeedbackResponsesLogic;
+import teammates.logic.core.FeedbackSessionsLogic;
+import teammates.ui.automated.FeedbackSessionDeletionWorkerAction;
+
+/**
+ * SUT: {@link FeedbackSessionDeletionWorkerAction}.
+ */
+public class FeedbackSessionDeletionWorkerActionTest
+        extends BaseAutomatedActionTest<FeedbackSessionDeletionWorkerAction> {
+
+    private static final FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
+    private static final FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
+    private static final FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
+
+    @Override
+    protected String getActionUri() {
+        return Const.TaskQueue.FEEDBACK_SESSION_DELETION_WORKER_URL;
+    }
+
+    @Test
+    public void allTests() throws Exception {
+        FeedbackSessionAttributes session = dataBundle.feedbackSessions.get("session2InCourse1");
+
+        ______TS("typical case: session deleted");
+
+        assertNotNull(fsLogic.getFeedbackSession(session.getFeedbackSessionName(), session.getCourseId()));
+
+        FeedbackSessionDeletionWorkerAction action = getAction(
+                ParamsNames.COURSE_ID, session.getCourseId(),
+                ParamsNames.FEEDBACK_SESSION_NAME, session.getFeedbackSessionName());
+        action.execute();
+
+        assertNull(fsLogic.getFeedbackSession(session.getFeedbackSessionName(), session.getCourseId()));
+        assertTrue(frLogic.getFeedbackResponsesForSession(session.getFeedbackSessionName(), session.getCourseId())
+                .isEmpty());
+        verifyNoTasksAdded(action);
+
+        ______TS("non-existent session: fails silently");
+
+        action = getAction(
+                ParamsNames.COURSE_ID, session.getCourseId(),
+                ParamsNames.FEEDBACK_SESSION_NAME, session.getFeedbackSessionName());
+        action.execute();
+
+        verifyNoTasksAdded(action);
+
+        FeedbackSessionAttributes sessionToDelete = dataBundle.feedbackSessions.get("session1InCourse1");
+        FeedbackQuestionAttributes question = fqLogic.getFeedbackQuestion(
+                sessionToDelete.getFeedbackSessionName(), sessionToDelete.getCourseId(), 1);
+        putResponsesToDelete(question);
+
+        verifyDeletionChainedWhenRunningOutOfTime(
+                () -> getAction(
+                        ParamsNames.COURSE_ID, sessionToDelete.getCourseId(),
+                        ParamsNames.FEEDBACK_SESSION_NAME, sessionToDelete.getFeedbackSessionName()),
+                Const.TaskQueue.FEEDBACK_SESSION_DELETION_QUEUE_NAME,
+                () -> fsLogic.getFeedbackSession(
+                        sessionToDelete.getFeedbackSessionName(), sessionToDelete.getCourseId()) == null,
+                () -> frLogic.getFeedbackResponsesForQuestion(question.getId()).size());
+    }
+
+}
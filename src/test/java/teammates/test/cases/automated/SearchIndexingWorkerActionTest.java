@@ -0,0 +1,69 @@
+package teammates.test.cases.automated;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.StudentSearchResultBundle;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.storage.api.StudentsDb;
+import teammates.ui.automated.SearchIndexingWorkerAction;
+
+/**
+ * SUT: {@link SearchIndexingWorkerAction}.
+ */
+public class SearchIndexingWorkerActionTest extends BaseAutomatedActionTest<SearchIndexingWorkerAction> {
+
+    private static final StudentsDb studentsDb = new StudentsDb();
+
+    @Override
+    protected String getActionUri() {
+        return Const.TaskQueue.SEARCH_INDEXING_WORKER_URL;
+    }
+
+    @Test
+    public void allTests() {
+        StudentAttributes student1 = studentsDb.getStudentForEmail("idOfTypicalCourse1", "student1InCourse1@gmail.tmt");
+        StudentAttributes student2 = studentsDb.getStudentForEmail("idOfTypicalCourse1", "student2InCourse1@gmail.tmt");
+        studentsDb.deleteDocumentByStudentKey(student1.key);
+        studentsDb.deleteDocumentByStudentKey(student2.key);
+
+        ______TS("typical case: index students, skipping repeated and non-existent students");
+
+        assertEquals(0, searchStudentsInCourse1("student1InCourse1@gmail.tmt").numberOfResults);
+        assertEquals(0, searchStudentsInCourse1("student2InCourse1@gmail.tmt").numberOfResults);
+
+        String[] submissionParams = new String[] {
+                ParamsNames.SEARCH_INDEX_NAME, Const.SearchIndex.STUDENT,
+                ParamsNames.SEARCH_ENTITY_IDS, student1.getId(),
+                ParamsNames.SEARCH_ENTITY_IDS, student2.getId(),
+                ParamsNames.SEARCH_ENTITY_IDS, "non-existent@gmail.tmt%idOfTypicalCourse1",
+        };
+
+        SearchIndexingWorkerAction action = getAction(submissionParams);
+        action.execute();
+
+        verifySearchResult(searchStudentsInCourse1("student1InCourse1@gmail.tmt"), student1);
+        verifySearchResult(searchStudentsInCourse1("student2InCourse1@gmail.tmt"), student2);
+
+        ______TS("failure case: unknown index is ignored");
+
+        submissionParams = new String[] {
+                ParamsNames.SEARCH_INDEX_NAME, "non-existent-index",
+                ParamsNames.SEARCH_ENTITY_IDS, student1.getId(),
+        };
+
+        action = getAction(submissionParams);
+        action.execute();
+    }
+
+    private StudentSearchResultBundle searchStudentsInCourse1(String email) {
+        return studentsDb.searchStudentsInWholeSystem("\"" + email + "\"");
+    }
+
+    private void verifySearchResult(StudentSearchResultBundle bundle, StudentAttributes expectedStudent) {
+        assertEquals(1, bundle.numberOfResults);
+        assertEquals(expectedStudent.getId(), bundle.studentList.get(0).getId());
+    }
+
+}
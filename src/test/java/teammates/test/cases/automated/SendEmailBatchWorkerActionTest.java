@@ -0,0 +1,131 @@
+package teammates.test.cases.automated;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.http.HttpStatus;
+import org.testng.annotations.Test;
+
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.EmailWrapper;
+import teammates.common.util.JsonUtils;
+import teammates.test.driver.MockEmailSender;
+import teammates.test.driver.MockHttpServletResponse;
+import teammates.test.driver.StringHelperExtension;
+import teammates.ui.automated.SendEmailBatchWorkerAction;
+
+/**
+ * SUT: {@link SendEmailBatchWorkerAction}.
+ */
+public class SendEmailBatchWorkerActionTest extends BaseAutomatedActionTest<SendEmailBatchWorkerAction> {
+
+    @Override
+    protected String getActionUri() {
+        return Const.TaskQueue.SEND_EMAIL_BATCH_WORKER_URL;
+    }
+
+    @Override
+    protected void prepareTestData() {
+        // no test data used in this test
+    }
+
+    @Test
+    public void allTests() {
+
+        ______TS("typical case: all emails in the batch are sent");
+
+        List<EmailWrapper> emails = getEmails(3);
+
+        String[] submissionParams = new String[] {
+                ParamsNames.EMAIL_BATCH, JsonUtils.toCompactJson(emails),
+        };
+
+        SendEmailBatchWorkerAction action = getAction(submissionParams);
+        action.execute();
+
+        verifyNumberOfEmailsSent(action, 3);
+        verifyNoTasksAdded(action);
+
+        List<EmailWrapper> emailsSent = action.getEmailSender().getEmailsSent();
+        for (int i = 0; i < emails.size(); i++) {
+            assertEquals(emails.get(i).getRecipient(), emailsSent.get(i).getRecipient());
+            assertEquals(emails.get(i).getSenderEmail(), emailsSent.get(i).getSenderEmail());
+            assertEquals(emails.get(i).getSenderName(), emailsSent.get(i).getSenderName());
+            assertEquals(emails.get(i).getReplyTo(), emailsSent.get(i).getReplyTo());
+            assertEquals(emails.get(i).getSubject(), emailsSent.get(i).getSubject());
+            assertEquals(emails.get(i).getContent(), emailsSent.get(i).getContent());
+        }
+
+        ______TS("failure case: only the emails which fail to send are queued again");
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        action = getAction(response, submissionParams);
+        ((MockEmailSender) action.getEmailSender()).setFailingRecipients("recipient2@email.tmt");
+        action.execute();
+
+        verifyNumberOfEmailsSent(action, 2);
+        verifySpecifiedTasksAdded(action, Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 1);
+        List<EmailWrapper> emailsScheduled = getEmailsScheduled(action);
+        assertEquals(1, emailsScheduled.size());
+        assertEquals("recipient2@email.tmt", emailsScheduled.get(0).getRecipient());
+        assertEquals(HttpStatus.SC_OK, response.getStatus());
+
+        ______TS("failure case: the task is retried when all emails fail to send");
+
+        response = new MockHttpServletResponse();
+        action = getAction(response, submissionParams);
+        ((MockEmailSender) action.getEmailSender()).setFailingRecipients(
+                "recipient1@email.tmt", "recipient2@email.tmt", "recipient3@email.tmt");
+        action.execute();
+
+        verifyNoEmailsSent(action);
+        verifyNoTasksAdded(action);
+        assertEquals(HttpStatus.SC_CONTINUE, response.getStatus());
+    }
+
+    @Test
+    public void testScheduleEmailsForSending_largeEmails_shouldBatchBySize() {
+        SendEmailBatchWorkerAction action = getAction(ParamsNames.EMAIL_BATCH, "[]");
+        List<EmailWrapper> emails = getEmails(60);
+
+        ______TS("small emails are batched by number");
+
+        action.getTaskQueuer().scheduleEmailsForSending(emails);
+
+        verifySpecifiedTasksAdded(action, Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 2);
+        verifyNumberOfEmailsScheduled(action, 60);
+
+        ______TS("large emails are batched by size");
+
+        action = getAction(ParamsNames.EMAIL_BATCH, "[]");
+        String largeContent = StringHelperExtension.generateStringOfLength(100 * 1024);
+        emails.forEach(email -> email.setContent(largeContent));
+
+        action.getTaskQueuer().scheduleEmailsForSending(emails);
+
+        // at most 2 emails of 100KB each fit in a batch of 300KB
+        verifySpecifiedTasksAdded(action, Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 30);
+        List<EmailWrapper> emailsScheduled = getEmailsScheduled(action);
+        assertEquals(60, emailsScheduled.size());
+        for (int i = 0; i < emails.size(); i++) {
+            assertEquals(emails.get(i).getRecipient(), emailsScheduled.get(i).getRecipient());
+        }
+    }
+
+    private List<EmailWrapper> getEmails(int numberOfEmails) {
+        List<EmailWrapper> emails = new ArrayList<>();
+        for (int i = 1; i <= numberOfEmails; i++) {
+            EmailWrapper email = new EmailWrapper();
+            email.setRecipient("recipient" + i + "@email.tmt");
+            email.setSenderEmail("sender@email.tmt");
+            email.setSenderName("Sender");
+            email.setReplyTo("replyto@email.tmt");
+            email.setSubject("Subject " + i);
+            email.setContent("<p>Content " + i + "</p>");
+            emails.add(email);
+        }
+        return emails;
+    }
+
+}
@@ -0,0 +1,110 @@
+package teammates.test.cases.datatransfer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.CourseStructure;
+import teammates.common.datatransfer.SectionDetailsBundle;
+import teammates.common.datatransfer.TeamDetailsBundle;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Const;
+import teammates.test.cases.BaseTestCase;
+
+/**
+ * SUT: {@link CourseStructure}.
+ */
+public class CourseStructureTest extends BaseTestCase {
+
+    @Test
+    public void testCourseStructure_noStudents_shouldBeEmpty() {
+        CourseStructure structure = new CourseStructure(new ArrayList<>());
+
+        assertTrue(structure.getSectionNames().isEmpty());
+        assertTrue(structure.getSections().isEmpty());
+        assertTrue(structure.getTeams().isEmpty());
+        assertEquals(0, structure.getStudentsTotal());
+        assertEquals(0, structure.getUnregisteredTotal());
+        assertEquals(0, structure.getTeamsTotal());
+        assertEquals(0, structure.getSectionsTotal());
+        assertTrue(structure.getStudentNames().isEmpty());
+        assertTrue(structure.getTeamNames().isEmpty());
+        assertTrue(structure.getTeamMemberNames("Team 1").isEmpty());
+        assertEquals(Const.DEFAULT_SECTION, structure.getSectionOfTeam("Team 1"));
+    }
+
+    @Test
+    public void testCourseStructure_typicalCase_shouldGroupSortedStudents() {
+        List<StudentAttributes> students = Arrays.asList(
+                createStudent("Section B", "Team 2", "Eve", "googleId"),
+                createStudent("Section A", "Team 3", "Dan", null),
+                createStudent("Section A", "Team 1", "Bob", "googleId"),
+                createStudent(Const.DEFAULT_SECTION, "Team 4", "Fay", null),
+                createStudent("Section A", "Team 1", "Amy", "googleId"),
+                createStudent("Section B", "Team 1", "Cat", "googleId"));
+
+        CourseStructure structure = new CourseStructure(students);
+
+        assertEquals(Arrays.asList("Section A", "Section B"), structure.getSectionNames());
+        assertEquals(6, structure.getStudentsTotal());
+        assertEquals(2, structure.getUnregisteredTotal());
+        assertEquals(5, structure.getTeamsTotal());
+        assertEquals(2, structure.getSectionsTotal());
+
+        List<SectionDetailsBundle> sections = structure.getSections();
+        assertEquals(Arrays.asList(Const.DEFAULT_SECTION, "Section A", "Section B"),
+                sections.stream().map(section -> section.name).collect(Collectors.toList()));
+        assertEquals(Arrays.asList("Team 1", "Team 3"),
+                sections.get(1).teams.stream().map(team -> team.name).collect(Collectors.toList()));
+        assertEquals(Arrays.asList("Amy", "Bob"), getNames(sections.get(1).teams.get(0)));
+
+        List<TeamDetailsBundle> teams = structure.getTeams();
+        assertEquals(Arrays.asList("Team 1", "Team 2", "Team 3", "Team 4"),
+                teams.stream().map(team -> team.name).collect(Collectors.toList()));
+        assertEquals(Arrays.asList("Amy", "Bob", "Cat"), getNames(teams.get(0)));
+
+        ______TS("recipients of questions are indexed");
+
+        assertEquals(Arrays.asList("Fay@email.tmt", "Amy@email.tmt", "Bob@email.tmt", "Dan@email.tmt",
+                "Cat@email.tmt", "Eve@email.tmt"), new ArrayList<>(structure.getStudentNames().keySet()));
+        assertEquals("Amy", structure.getStudentNames().get("Amy@email.tmt"));
+        assertEquals(Arrays.asList("Team 1", "Team 2", "Team 3", "Team 4"), structure.getTeamNames());
+        assertEquals(Arrays.asList("Amy@email.tmt", "Bob@email.tmt", "Cat@email.tmt"),
+                new ArrayList<>(structure.getTeamMemberNames("Team 1").keySet()));
+        assertEquals("Section B", structure.getSectionOfStudent("Cat@email.tmt"));
+        assertNull(structure.getSectionOfStudent("nobody@email.tmt"));
+        assertEquals("Section A", structure.getSectionOfTeam("Team 3"));
+
+        structure.getStudentNames().remove("Amy@email.tmt");
+        structure.getTeamMemberNames("Team 1").remove("Amy@email.tmt");
+
+        assertTrue(structure.getStudentNames().containsKey("Amy@email.tmt"));
+        assertTrue(structure.getTeamMemberNames("Team 1").containsKey("Amy@email.tmt"));
+
+        ______TS("students given out are copies");
+
+        sections.get(1).teams.get(0).students.get(0).name = "Changed";
+        teams.get(0).students.get(0).name = "Changed";
+        students.get(4).name = "Changed";
+
+        assertEquals(Arrays.asList("Amy", "Bob"), getNames(structure.getSections().get(1).teams.get(0)));
+        assertEquals(Arrays.asList("Amy", "Bob", "Cat"), getNames(structure.getTeams().get(0)));
+    }
+
+    private StudentAttributes createStudent(String section, String team, String name, String googleId) {
+        return StudentAttributes.builder("course", name + "@email.tmt")
+                .withSectionName(section)
+                .withTeamName(team)
+                .withName(name)
+                .withGoogleId(googleId)
+                .build();
+    }
+
+    private List<String> getNames(TeamDetailsBundle team) {
+        return team.students.stream().map(student -> student.name).collect(Collectors.toList());
+    }
+
+}
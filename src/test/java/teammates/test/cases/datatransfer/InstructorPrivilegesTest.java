@@ -379,6 +379,53 @@ public class InstructorPrivilegesTest extends BaseTestCase {
                 sectionId, sessionId, Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS));
     }
 
+    @Test
+    public void testIsAllowedForPrivilegeAnySection() {
+        InstructorPrivileges privileges =
+                new InstructorPrivileges(Const.InstructorPermissionRoleNames.INSTRUCTOR_PERMISSION_ROLE_CUSTOM);
+        String sessionId = "sessionId";
+
+        ______TS("no section with special settings");
+
+        privileges.updatePrivilege(Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS, true);
+        assertFalse(privileges.isAllowedForPrivilegeAnySection(
+                sessionId, Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS));
+
+        ______TS("section level settings apply to all sessions in the section");
+
+        privileges.updatePrivilege("section1", Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS, true);
+        assertTrue(privileges.isAllowedForPrivilegeAnySection(
+                sessionId, Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS));
+        assertTrue(privileges.isAllowedForPrivilegeAnySection(
+                sessionId, Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS));
+
+        ______TS("session level settings override section level settings");
+
+        privileges.updatePrivilege("section1", sessionId,
+                Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS, false);
+        assertFalse(privileges.isAllowedForPrivilegeAnySection(
+                sessionId, Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS));
+        assertTrue(privileges.isAllowedForPrivilegeAnySection(
+                "otherSessionId", Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS));
+
+        privileges.updatePrivilege("section2", sessionId,
+                Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS, true);
+        assertTrue(privileges.isAllowedForPrivilegeAnySection(
+                sessionId, Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS));
+
+        ______TS("removed settings no longer apply");
+
+        privileges.removeSectionLevelPrivileges("section2");
+        assertFalse(privileges.isAllowedForPrivilegeAnySection(
+                sessionId, Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS));
+        assertFalse(privileges.isAllowedForPrivilege(
+                "section2", sessionId, Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS));
+
+        privileges.removeSessionPrivileges("section1", sessionId);
+        assertTrue(privileges.isAllowedForPrivilegeAnySection(
+                sessionId, Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS));
+    }
+
     @Test
     public void testValidatePrivileges() {
         InstructorPrivileges privileges =
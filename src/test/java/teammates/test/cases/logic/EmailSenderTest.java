@@ -1,5 +1,8 @@
 package teammates.test.cases.logic;
 
+import java.util.Arrays;
+import java.util.Map;
+
 import javax.mail.Message;
 import javax.mail.internet.InternetAddress;
 import javax.mail.internet.MimeMessage;
@@ -12,6 +15,7 @@ import org.testng.annotations.Test;
 import com.mailjet.client.MailjetRequest;
 import com.mailjet.client.resource.Email;
 import com.sendgrid.helpers.mail.Mail;
+import com.sendgrid.helpers.mail.objects.Personalization;
 import com.sun.jersey.multipart.FormDataMultiPart;
 
 import teammates.common.util.EmailWrapper;
@@ -116,4 +120,61 @@ public class EmailSenderTest extends BaseLogicTest {
         assertEquals(wrapper.getContent(), email.get(Email.HTMLPART));
     }
 
+    @Test
+    public void testConvertBatchToSendgrid() {
+        EmailWrapper wrapper1 = getTypicalEmailWrapper();
+        EmailWrapper wrapper2 = getTypicalEmailWrapper();
+        wrapper2.setRecipient("recipient2@email.com");
+        wrapper2.setBcc(null);
+        wrapper2.setSubject("Test subject 2");
+        wrapper2.setContent("<p>This is another test content</p>");
+        Mail email = new SendgridService().parseToEmails(Arrays.asList(wrapper1, wrapper2));
+
+        assertEquals(wrapper1.getSenderEmail(), email.getFrom().getEmail());
+        assertEquals(wrapper1.getSenderName(), email.getFrom().getName());
+        assertEquals(wrapper1.getReplyTo(), email.getReplyto().getEmail());
+        assertEquals(2, email.personalization.size());
+        assertEquals(2, email.getContent().size());
+
+        for (int i = 0; i < 2; i++) {
+            EmailWrapper wrapper = i == 0 ? wrapper1 : wrapper2;
+            Personalization personalization = email.personalization.get(i);
+            assertEquals(wrapper.getRecipient(), personalization.getTos().get(0).getEmail());
+            assertEquals(wrapper.getSubject(), personalization.getSubject());
+
+            // the content of each email is substituted into the content shared by all emails
+            String textContent = email.getContent().get(0).getValue();
+            String htmlContent = email.getContent().get(1).getValue();
+            for (Map.Entry<String, String> substitution : personalization.getSubstitutions().entrySet()) {
+                textContent = textContent.replace(substitution.getKey(), substitution.getValue());
+                htmlContent = htmlContent.replace(substitution.getKey(), substitution.getValue());
+            }
+            assertEquals(Jsoup.parse(wrapper.getContent()).text(), textContent);
+            assertEquals(wrapper.getContent(), htmlContent);
+        }
+        assertEquals(wrapper1.getBcc(), email.personalization.get(0).getBccs().get(0).getEmail());
+        assertTrue(email.personalization.get(1).getBccs().isEmpty());
+    }
+
+    @Test
+    public void testConvertBatchToMailjet() {
+        EmailWrapper wrapper1 = getTypicalEmailWrapper();
+        EmailWrapper wrapper2 = getTypicalEmailWrapper();
+        wrapper2.setRecipient("recipient2@email.com");
+        wrapper2.setSubject("Test subject 2");
+        MailjetRequest request = new MailjetService().parseToEmails(Arrays.asList(wrapper1, wrapper2));
+        JSONArray messages = new JSONObject(request.getBody()).getJSONArray(Email.MESSAGES);
+
+        assertEquals(2, messages.length());
+        for (int i = 0; i < 2; i++) {
+            EmailWrapper wrapper = i == 0 ? wrapper1 : wrapper2;
+            JSONObject email = messages.getJSONObject(i);
+            assertEquals(wrapper.getSenderEmail(), email.get(Email.FROMEMAIL));
+            assertEquals(wrapper.getRecipient(),
+                         ((JSONArray) email.get(Email.RECIPIENTS)).getJSONObject(0).get("Email"));
+            assertEquals(wrapper.getSubject(), email.get(Email.SUBJECT));
+            assertEquals(wrapper.getContent(), email.get(Email.HTMLPART));
+        }
+    }
+
 }
@@ -0,0 +1,285 @@
+package teammates.test.cases.logic;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.CourseRoster;
+import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.UserRole;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Const;
+import teammates.logic.core.FeedbackQuestionsLogic;
+import teammates.logic.core.FeedbackResponseVisibilityIndex;
+import teammates.logic.core.FeedbackResponsesLogic;
+import teammates.logic.core.InstructorsLogic;
+import teammates.logic.core.StudentsLogic;
+
+/**
+ * SUT: {@link FeedbackResponseVisibilityIndex}.
+ *
+ * <p>The visibility given by the index is compared with the visibility given by checking each response
+ * against its question, as done before the index was introduced.
+ */
+public class FeedbackResponseVisibilityIndexTest extends BaseLogicTest {
+
+    private static final FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
+    private static final FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
+    private static final InstructorsLogic instructorsLogic = InstructorsLogic.inst();
+    private static final StudentsLogic studentsLogic = StudentsLogic.inst();
+
+    @Test
+    public void testIsResponseVisible_studentsInTeams_shouldMatchPerResponseChecks() {
+        FeedbackSessionAttributes session = dataBundle.feedbackSessions.get("session1InCourse1");
+        CourseRoster roster = getRoster(session.getCourseId());
+        Map<String, FeedbackQuestionAttributes> questions = getQuestions(session);
+        List<FeedbackResponseAttributes> responses =
+                frLogic.getFeedbackResponsesForSession(session.getFeedbackSessionName(), session.getCourseId());
+
+        for (StudentAttributes student : roster.getStudents()) {
+            FeedbackResponseVisibilityIndex index = getIndexForStudent(student, session, roster);
+            for (FeedbackResponseAttributes response : responses) {
+                verifyVisibilityMatchesPerResponseChecks(index, response, questions.get(response.feedbackQuestionId),
+                        student.email, UserRole.STUDENT, student, getTeammateEmails(student), null, roster);
+            }
+        }
+
+        ______TS("response visible to the giver's own team members");
+
+        StudentAttributes student1 = dataBundle.students.get("student1InCourse1");
+        FeedbackQuestionAttributes question = getQuestion(session, 2);
+        question.showResponsesTo = Arrays.asList(FeedbackParticipantType.OWN_TEAM_MEMBERS);
+        FeedbackResponseAttributes responseFromTeammate = getResponseFromGiver(
+                frLogic.getFeedbackResponsesForQuestion(question.getId()), "student2InCourse1@gmail.tmt");
+        FeedbackResponseVisibilityIndex index = getIndexForStudent(student1, session, roster);
+
+        assertTrue(index.isResponseVisible(responseFromTeammate, question));
+        verifyVisibilityMatchesPerResponseChecks(index, responseFromTeammate, question,
+                student1.email, UserRole.STUDENT, student1, getTeammateEmails(student1), null, roster);
+    }
+
+    @Test
+    public void testIsResponseVisible_receiverTeamMembersQuestion_shouldMatchPerResponseChecks() {
+        FeedbackSessionAttributes session = dataBundle.feedbackSessions.get("session1InCourse1");
+        CourseRoster roster = getRoster(session.getCourseId());
+        FeedbackQuestionAttributes question = getQuestion(session, 2);
+        question.showResponsesTo = Arrays.asList(FeedbackParticipantType.RECEIVER_TEAM_MEMBERS);
+        List<FeedbackResponseAttributes> responses = frLogic.getFeedbackResponsesForQuestion(question.getId());
+
+        for (StudentAttributes student : roster.getStudents()) {
+            FeedbackResponseVisibilityIndex index = getIndexForStudent(student, session, roster);
+            for (FeedbackResponseAttributes response : responses) {
+                verifyVisibilityMatchesPerResponseChecks(index, response, question,
+                        student.email, UserRole.STUDENT, student, getTeammateEmails(student), null, roster);
+            }
+        }
+
+        ______TS("response to a teammate is visible, response to a student of another team is not");
+
+        StudentAttributes student1 = dataBundle.students.get("student1InCourse1");
+        FeedbackResponseVisibilityIndex index = getIndexForStudent(student1, session, roster);
+        FeedbackResponseAttributes responseToTeammate = getResponseFromGiver(responses, "student3InCourse1@gmail.tmt");
+        FeedbackResponseAttributes responseToOtherTeam = getResponseFromGiver(responses, "student2InCourse1@gmail.tmt");
+
+        assertTrue(index.isResponseVisible(responseToTeammate, question));
+        assertFalse(index.isResponseVisible(responseToOtherTeam, question));
+    }
+
+    @Test
+    public void testIsResponseVisible_instructorRestrictedBySection_shouldMatchPerResponseChecks() {
+        FeedbackSessionAttributes session = dataBundle.feedbackSessions.get("session1InCourse1");
+        CourseRoster roster = getRoster(session.getCourseId());
+        Map<String, FeedbackQuestionAttributes> questions = getQuestions(session);
+        List<FeedbackResponseAttributes> responses =
+                frLogic.getFeedbackResponsesForSession(session.getFeedbackSessionName(), session.getCourseId());
+
+        InstructorAttributes instructor = instructorsLogic.getInstructorForEmail(
+                session.getCourseId(), dataBundle.instructors.get("instructor1OfCourse1").email);
+        instructor.privileges.updatePrivilege("Section 2", session.getFeedbackSessionName(),
+                Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS, false);
+        FeedbackResponseVisibilityIndex index = getIndexForInstructor(instructor, session, roster);
+
+        for (FeedbackResponseAttributes response : responses) {
+            verifyVisibilityMatchesPerResponseChecks(index, response, questions.get(response.feedbackQuestionId),
+                    instructor.email, UserRole.INSTRUCTOR, null, null, instructor, roster);
+        }
+
+        FeedbackQuestionAttributes question = getQuestion(session, 2);
+        List<FeedbackResponseAttributes> responsesForQuestion = frLogic.getFeedbackResponsesForQuestion(question.getId());
+
+        ______TS("giver in a restricted section");
+
+        FeedbackResponseAttributes responseFromRestrictedSection =
+                getResponseFromGiver(responsesForQuestion, "student5InCourse1@gmail.tmt");
+        assertEquals("Section 2", responseFromRestrictedSection.giverSection);
+        assertFalse(index.isResponseVisible(responseFromRestrictedSection, question));
+
+        ______TS("recipient in a restricted section");
+
+        FeedbackResponseAttributes responseToRestrictedSection =
+                getResponseFromGiver(responsesForQuestion, "student2InCourse1@gmail.tmt");
+        assertEquals("Section 1", responseToRestrictedSection.giverSection);
+        assertEquals("Section 2", responseToRestrictedSection.recipientSection);
+        assertFalse(index.isResponseVisible(responseToRestrictedSection, question));
+
+        ______TS("giver and recipient in unrestricted sections");
+
+        FeedbackResponseAttributes responseInUnrestrictedSection =
+                getResponseFromGiver(responsesForQuestion, "student3InCourse1@gmail.tmt");
+        assertEquals("Section 1", responseInUnrestrictedSection.giverSection);
+        assertEquals("Section 1", responseInUnrestrictedSection.recipientSection);
+        assertTrue(index.isResponseVisible(responseInUnrestrictedSection, question));
+    }
+
+    @Test
+    public void testIsResponseVisible_noneRecipient_shouldIgnoreRecipientSection() {
+        FeedbackSessionAttributes session = dataBundle.feedbackSessions.get("session1InCourse1");
+        CourseRoster roster = getRoster(session.getCourseId());
+        FeedbackQuestionAttributes question = getQuestion(session, 3);
+        assertEquals(FeedbackParticipantType.NONE, question.recipientType);
+
+        FeedbackResponseAttributes response = new FeedbackResponseAttributes(getResponse(session, 3, 0));
+        response.giverSection = "Section 1";
+        response.recipientSection = "Section 2";
+
+        ______TS("instructor restricted in the recipient's section: response is visible");
+
+        InstructorAttributes instructor = instructorsLogic.getInstructorForEmail(
+                session.getCourseId(), dataBundle.instructors.get("instructor2OfCourse1").email);
+        instructor.privileges.updatePrivilege("Section 2", session.getFeedbackSessionName(),
+                Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS, false);
+        FeedbackResponseVisibilityIndex index = getIndexForInstructor(instructor, session, roster);
+
+        assertTrue(index.isResponseVisible(response, question));
+        verifyVisibilityMatchesPerResponseChecks(index, response, question,
+                instructor.email, UserRole.INSTRUCTOR, null, null, instructor, roster);
+
+        ______TS("instructor restricted in the giver's section: response is not visible");
+
+        instructor.privileges.updatePrivilege("Section 1", session.getFeedbackSessionName(),
+                Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS, false);
+        index = getIndexForInstructor(instructor, session, roster);
+
+        assertFalse(index.isResponseVisible(response, question));
+        verifyVisibilityMatchesPerResponseChecks(index, response, question,
+                instructor.email, UserRole.INSTRUCTOR, null, null, instructor, roster);
+    }
+
+    private void verifyVisibilityMatchesPerResponseChecks(FeedbackResponseVisibilityIndex index,
+            FeedbackResponseAttributes response, FeedbackQuestionAttributes question, String userEmail, UserRole role,
+            StudentAttributes student, Set<String> studentsEmailInTeam, InstructorAttributes instructor,
+            CourseRoster roster) {
+        String message = "response " + response.getId() + " viewed by " + userEmail;
+        assertEquals(message,
+                isResponseVisibleForUser(userEmail, role, student, studentsEmailInTeam, response, question, instructor),
+                index.isResponseVisible(response, question));
+
+        boolean[] nameVisibility = index.getNameVisibility(response, question);
+        assertEquals(message,
+                frLogic.isNameVisibleToUser(question, response, userEmail, role, true, roster),
+                nameVisibility[Const.VISIBILITY_TABLE_GIVER]);
+        assertEquals(message,
+                frLogic.isNameVisibleToUser(question, response, userEmail, role, false, roster),
+                nameVisibility[Const.VISIBILITY_TABLE_RECIPIENT]);
+    }
+
+    /**
+     * Checks the visibility of a single response, as done for each response before
+     * {@link FeedbackResponseVisibilityIndex} was introduced.
+     */
+    private boolean isResponseVisibleForUser(String userEmail, UserRole role, StudentAttributes student,
+            Set<String> studentsEmailInTeam, FeedbackResponseAttributes response,
+            FeedbackQuestionAttributes relatedQuestion, InstructorAttributes instructor) {
+
+        boolean isVisibleResponse = false;
+        if (role == UserRole.INSTRUCTOR && relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.INSTRUCTORS)
+                || response.recipient.equals(userEmail)
+                        && relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.RECEIVER)
+                || response.giver.equals(userEmail)
+                || role == UserRole.STUDENT && relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.STUDENTS)) {
+            isVisibleResponse = true;
+        } else if (studentsEmailInTeam != null && role == UserRole.STUDENT) {
+            if (relatedQuestion.recipientType == FeedbackParticipantType.TEAMS
+                    && relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.RECEIVER)
+                    && response.recipient.equals(student.team)) {
+                isVisibleResponse = true;
+            } else if (relatedQuestion.giverType == FeedbackParticipantType.TEAMS
+                       && studentsEmailInTeam.contains(response.giver)) {
+                isVisibleResponse = true;
+            } else if (relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.OWN_TEAM_MEMBERS)
+                       && studentsEmailInTeam.contains(response.giver)) {
+                isVisibleResponse = true;
+            } else if (relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.RECEIVER_TEAM_MEMBERS)
+                       && studentsEmailInTeam.contains(response.recipient)) {
+                isVisibleResponse = true;
+            }
+        }
+        if (isVisibleResponse && instructor != null) {
+            boolean isGiverSectionRestricted =
+                    !instructor.isAllowedForPrivilege(response.giverSection, response.feedbackSessionName,
+                            Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS);
+            boolean isRecipientSectionRestricted =
+                    relatedQuestion.recipientType != FeedbackParticipantType.NONE
+                    && !instructor.isAllowedForPrivilege(response.recipientSection, response.feedbackSessionName,
+                            Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS);
+
+            isVisibleResponse = !isGiverSectionRestricted && !isRecipientSectionRestricted;
+        }
+        return isVisibleResponse;
+    }
+
+    private FeedbackResponseVisibilityIndex getIndexForStudent(StudentAttributes student,
+            FeedbackSessionAttributes session, CourseRoster roster) {
+        return new FeedbackResponseVisibilityIndex(student.email, UserRole.STUDENT, student,
+                getTeammateEmails(student), null, session.getFeedbackSessionName(), roster);
+    }
+
+    private FeedbackResponseVisibilityIndex getIndexForInstructor(InstructorAttributes instructor,
+            FeedbackSessionAttributes session, CourseRoster roster) {
+        return new FeedbackResponseVisibilityIndex(instructor.email, UserRole.INSTRUCTOR, null,
+                null, instructor, session.getFeedbackSessionName(), roster);
+    }
+
+    private CourseRoster getRoster(String courseId) {
+        return new CourseRoster(studentsLogic.getStudentsForCourse(courseId),
+                instructorsLogic.getInstructorsForCourse(courseId));
+    }
+
+    private Set<String> getTeammateEmails(StudentAttributes student) {
+        return studentsLogic.getStudentsForTeam(student.team, student.course).stream()
+                .map(teammate -> teammate.email)
+                .collect(Collectors.toSet());
+    }
+
+    private Map<String, FeedbackQuestionAttributes> getQuestions(FeedbackSessionAttributes session) {
+        Map<String, FeedbackQuestionAttributes> questions = new HashMap<>();
+        fqLogic.getFeedbackQuestionsForSession(session.getFeedbackSessionName(), session.getCourseId())
+                .forEach(question -> questions.put(question.getId(), question));
+        return questions;
+    }
+
+    private FeedbackQuestionAttributes getQuestion(FeedbackSessionAttributes session, int questionNumber) {
+        return fqLogic.getFeedbackQuestion(session.getFeedbackSessionName(), session.getCourseId(), questionNumber);
+    }
+
+    private FeedbackResponseAttributes getResponse(FeedbackSessionAttributes session, int questionNumber, int index) {
+        return frLogic.getFeedbackResponsesForQuestion(getQuestion(session, questionNumber).getId()).get(index);
+    }
+
+    private FeedbackResponseAttributes getResponseFromGiver(List<FeedbackResponseAttributes> responses, String giver) {
+        return responses.stream()
+                .filter(response -> response.giver.equals(giver))
+                .findFirst()
+                .get();
+    }
+
+}
@@ -1,8 +1,10 @@
 package teammates.test.cases.logic;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -356,6 +358,62 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
         assertEquals(originalResponseRate, responseRateAfterDeletion);
     }
 
+    @Test
+    public void testUpdateFeedbackResponsesForChangingTeams_severalStudents_shouldDeleteTeamResponsesOfEach() {
+        StudentAttributes student1InCourse1 = dataBundle.students.get("student1InCourse1");
+        StudentAttributes student4InCourse1 = dataBundle.students.get("student4InCourse1");
+        FeedbackResponseAttributes teamMembersResponseFromStudent1 = getResponseFromDatastore("response2ForQ2S2C1");
+        FeedbackResponseAttributes teamMembersResponseFromStudent4 = getResponseFromDatastore("response1ForQ2S2C1");
+        FeedbackResponseAttributes teamResponseFromStudent4 = getResponseFromDatastore("response1ForQ1S2C1");
+        FeedbackResponseAttributes selfResponseFromStudent1 = getResponseFromDatastore("response1ForQ1S1C1");
+        assertNotNull(teamMembersResponseFromStudent1);
+        assertNotNull(teamMembersResponseFromStudent4);
+        assertNotNull(teamResponseFromStudent4);
+
+        Map<String, String> oldTeams = new HashMap<>();
+        oldTeams.put(student1InCourse1.getEmail(), student1InCourse1.getTeam());
+        oldTeams.put(student4InCourse1.getEmail(), student4InCourse1.getTeam());
+        frLogic.updateFeedbackResponsesForChangingTeams(student1InCourse1.getCourse(), oldTeams);
+
+        // the team responses of both students are deleted
+        assertNull(frLogic.getFeedbackResponse(teamMembersResponseFromStudent1.getId()));
+        assertNull(frLogic.getFeedbackResponse(teamMembersResponseFromStudent4.getId()));
+        assertNull(frLogic.getFeedbackResponse(teamResponseFromStudent4.getId()));
+
+        // the responses which do not depend on the team remain
+        assertNotNull(frLogic.getFeedbackResponse(selfResponseFromStudent1.getId()));
+    }
+
+    @Test
+    public void testUpdateFeedbackResponsesForChangingSections_severalStudents_shouldUpdateResponsesAndComments() {
+        StudentAttributes student2InCourse1 = dataBundle.students.get("student2InCourse1");
+        StudentAttributes student5InCourse1 = dataBundle.students.get("student5InCourse1");
+        FeedbackResponseAttributes responseFromStudent2ToStudent5 = getResponseFromDatastore("response1ForQ2S1C1");
+        FeedbackResponseAttributes responseFromStudent5ToStudent2 = getResponseFromDatastore("response2ForQ2S1C1");
+        FeedbackResponseAttributes responseFromStudent3ToStudent2 = getResponseFromDatastore("response3ForQ2S1C1");
+
+        Map<String, String> newSections = new HashMap<>();
+        newSections.put(student2InCourse1.getEmail(), "Section 3");
+        newSections.put(student5InCourse1.getEmail(), "Section 4");
+        frLogic.updateFeedbackResponsesForChangingSections(student2InCourse1.getCourse(), newSections);
+
+        FeedbackResponseAttributes updatedResponse = frLogic.getFeedbackResponse(responseFromStudent2ToStudent5.getId());
+        assertEquals("Section 3", updatedResponse.giverSection);
+        assertEquals("Section 4", updatedResponse.recipientSection);
+        updatedResponse = frLogic.getFeedbackResponse(responseFromStudent5ToStudent2.getId());
+        assertEquals("Section 4", updatedResponse.giverSection);
+        assertEquals("Section 3", updatedResponse.recipientSection);
+        updatedResponse = frLogic.getFeedbackResponse(responseFromStudent3ToStudent2.getId());
+        assertEquals("Section 1", updatedResponse.giverSection);
+        assertEquals("Section 3", updatedResponse.recipientSection);
+
+        List<FeedbackResponseCommentAttributes> comments =
+                frcLogic.getFeedbackResponseCommentForResponse(responseFromStudent2ToStudent5.getId());
+        assertEquals(1, comments.size());
+        assertEquals("Section 3", comments.get(0).giverSection);
+        assertEquals("Section 4", comments.get(0).receiverSection);
+    }
+
     private int numResponsesFromGiverInSession(String studentEmail, String sessionName, String courseId) {
         int numResponses = 0;
         for (FeedbackResponseAttributes response : questionTypeBundle.feedbackResponses.values()) {
@@ -1,5 +1,6 @@
 package teammates.test.cases.logic;
 
+import java.io.StringWriter;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
@@ -7,8 +8,10 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.testng.annotations.BeforeMethod;
@@ -22,6 +25,7 @@ import teammates.common.datatransfer.FeedbackSessionQuestionsBundle;
 import teammates.common.datatransfer.FeedbackSessionResultsBundle;
 import teammates.common.datatransfer.FeedbackSessionStats;
 import teammates.common.datatransfer.SectionDetail;
+import teammates.common.datatransfer.TeamEvalResult;
 import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
@@ -29,18 +33,23 @@ import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttribute
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.datatransfer.questions.FeedbackContributionResponseDetails;
+import teammates.common.datatransfer.questions.FeedbackQuestionType;
 import teammates.common.datatransfer.questions.FeedbackTextQuestionDetails;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Const;
 import teammates.common.util.JsonUtils;
+import teammates.common.util.SanitizationHelper;
 import teammates.common.util.TimeHelper;
 import teammates.logic.core.CoursesLogic;
 import teammates.logic.core.FeedbackQuestionsLogic;
 import teammates.logic.core.FeedbackResponseCommentsLogic;
 import teammates.logic.core.FeedbackResponsesLogic;
 import teammates.logic.core.FeedbackSessionsLogic;
+import teammates.logic.core.InstructorsLogic;
+import teammates.logic.core.StudentsLogic;
 import teammates.storage.api.FeedbackSessionsDb;
 import teammates.test.driver.AssertHelper;
 import teammates.test.driver.CsvChecker;
@@ -55,6 +64,8 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
     private static FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
     private static FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
     private static FeedbackResponseCommentsLogic frcLogic = FeedbackResponseCommentsLogic.inst();
+    private static InstructorsLogic instructorsLogic = InstructorsLogic.inst();
+    private static StudentsLogic studentsLogic = StudentsLogic.inst();
 
     @Override
     protected void prepareTestData() {
@@ -268,6 +279,7 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
     public void testAll() throws Exception {
 
         testGetFeedbackSessionsForCourse();
+        testGetFeedbackSessionsForUsersInCoursesSkipCheck();
         testGetFeedbackSessionsListForInstructor();
         testGetSoftDeletedFeedbackSessionsListForInstructor();
         testGetSoftDeletedFeedbackSessionsListForInstructors();
@@ -287,6 +299,7 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
         testIsFeedbackSessionCompletedByStudent();
         testIsFeedbackSessionCompletedByInstructor();
         testIsFeedbackSessionFullyCompletedByStudent();
+        testGetUsersYetToRespond();
 
         testMoveFeedbackSessionToRecycleBin();
         testRestoreFeedbackSessionFromRecycleBin();
@@ -699,6 +712,37 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
         // no responses
         assertEquals(0, stats.submittedTotal);
 
+        ______TS("more sessions than the questions queries run ahead of the session being processed");
+
+        FeedbackSessionAttributes standardSession = newDataBundle.feedbackSessions.get("standard.session");
+        List<FeedbackSessionAttributes> extraSessions = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            FeedbackSessionAttributes extraSession = getNewFeedbackSession();
+            extraSession.setFeedbackSessionName("Extra session " + i);
+            extraSession.setCourseId(standardSession.getCourseId());
+            fsLogic.createFeedbackSession(extraSession);
+            extraSessions.add(extraSession);
+        }
+
+        detailsList = fsLogic.getFeedbackSessionDetailsForInstructor(instrGoogleId);
+        detailsMap.clear();
+        for (FeedbackSessionDetailsBundle details : detailsList) {
+            detailsMap.put(
+                    details.feedbackSession.getFeedbackSessionName() + "%" + details.feedbackSession.getCourseId(),
+                    details);
+        }
+
+        assertEquals(15, detailsList.size());
+        stats = detailsMap.get(standardSession.getFeedbackSessionName() + "%" + standardSession.getCourseId()).stats;
+        assertEquals(8, stats.expectedTotal);
+        assertEquals(6, stats.submittedTotal);
+        for (FeedbackSessionAttributes extraSession : extraSessions) {
+            // no questions, so no responses
+            stats = detailsMap.get(extraSession.getFeedbackSessionName() + "%" + extraSession.getCourseId()).stats;
+            assertEquals(0, stats.submittedTotal);
+            fsLogic.deleteFeedbackSessionCascade(extraSession.getFeedbackSessionName(), extraSession.getCourseId());
+        }
+
         ______TS("instructor does not exist");
 
         assertTrue(fsLogic.getFeedbackSessionDetailsForInstructor("non-existent.google.id").isEmpty());
@@ -769,6 +813,34 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
                 actualSessions.toString());
     }
 
+    private void testGetFeedbackSessionsForUsersInCoursesSkipCheck() throws Exception {
+
+        ______TS("sessions of users in many courses are the same as those of each user in each course");
+
+        Map<String, String> userEmailsByCourseId = new HashMap<>();
+        userEmailsByCourseId.put("idOfTypicalCourse1", "student1InCourse1@gmail.tmt");
+        userEmailsByCourseId.put("idOfTypicalCourse2", "instructor2@course2.tmt");
+        userEmailsByCourseId.put("idOfArchivedCourse", "student1InCourse1@gmail.tmt");
+
+        Map<String, List<FeedbackSessionAttributes>> sessionsByCourseId =
+                fsLogic.getFeedbackSessionsForUsersInCoursesSkipCheck(userEmailsByCourseId);
+
+        assertEquals(userEmailsByCourseId.keySet(), sessionsByCourseId.keySet());
+        for (Map.Entry<String, String> userEmailOfCourse : userEmailsByCourseId.entrySet()) {
+            List<FeedbackSessionAttributes> expectedSessions =
+                    fsLogic.getFeedbackSessionsForUserInCourse(userEmailOfCourse.getKey(), userEmailOfCourse.getValue());
+            AssertHelper.assertSameContentIgnoreOrder(expectedSessions,
+                    sessionsByCourseId.get(userEmailOfCourse.getKey()));
+        }
+        assertEquals(3, sessionsByCourseId.get("idOfTypicalCourse1").size());
+
+        ______TS("course without sessions");
+
+        sessionsByCourseId = fsLogic.getFeedbackSessionsForUsersInCoursesSkipCheck(
+                Collections.singletonMap("idOfCourseNoEvals", "instructor1@course1.tmt"));
+        assertTrue(sessionsByCourseId.get("idOfCourseNoEvals").isEmpty());
+    }
+
     private void testGetFeedbackSessionQuestionsForStudent() throws Exception {
 
         ______TS("standard test");
@@ -1256,6 +1328,28 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
         assertEquals(4, results.responses.size());
         assertEquals(8, results.questions.size());
 
+        ______TS("standard case to view page by page");
+
+        FeedbackSessionResultsBundle allResults = fsLogic.getFeedbackSessionResultsForInstructor(
+                session.getFeedbackSessionName(), session.getCourseId(), instructor.email);
+        Set<String> pagedResponseIds = new HashSet<>();
+        String cursor = null;
+        do {
+            results = fsLogic.getFeedbackSessionResultsForInstructorInPage(
+                    session.getFeedbackSessionName(), session.getCourseId(), instructor.email, cursor, 3);
+            assertTrue(results.responses.size() <= 3);
+            assertEquals(results.getNextPageCursor() == null, results.isComplete());
+            assertEquals(cursor == null, results.responseStatus != null);
+            // all questions are shown on every page
+            assertEquals(8, results.questions.size());
+            for (FeedbackResponseAttributes response : results.responses) {
+                assertTrue(pagedResponseIds.add(response.getId()));
+            }
+            cursor = results.getNextPageCursor();
+        } while (cursor != null);
+        assertEquals(allResults.responses.stream().map(FeedbackResponseAttributes::getId).collect(Collectors.toSet()),
+                pagedResponseIds);
+
         ______TS("failure: no session");
 
         EntityDoesNotExistException ednee = assertThrows(EntityDoesNotExistException.class,
@@ -1300,6 +1394,29 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
 
         CsvChecker.verifyCsvContent(export, "/feedbackSessionResultsSingleQuestion.csv");
 
+        ______TS("typical case: stream results for single question");
+
+        StringWriter writer = new StringWriter();
+        fsLogic.writeFeedbackSessionResultsSummaryInSectionAsCsv(
+                session.getFeedbackSessionName(), session.getCourseId(), instructor.email, null,
+                SectionDetail.NOT_APPLICABLE, questionId, true, true, writer);
+
+        assertEquals(export, writer.toString());
+
+        ______TS("typical case: stream all results one question at a time");
+
+        writer = new StringWriter();
+        fsLogic.writeFeedbackSessionResultsSummaryInSectionAsCsv(
+                session.getFeedbackSessionName(), session.getCourseId(), instructor.email, null,
+                SectionDetail.NOT_APPLICABLE, null, true, true, writer);
+
+        String streamedExport = writer.toString();
+        assertTrue(streamedExport.startsWith("Course," + SanitizationHelper.sanitizeForCsv(session.getCourseId())));
+        for (FeedbackQuestionAttributes question : fqLogic.getFeedbackQuestionsForSession(
+                session.getFeedbackSessionName(), session.getCourseId())) {
+            assertTrue(streamedExport.contains("Question " + question.getQuestionNumber() + ","));
+        }
+
         ______TS("MCQ results");
 
         DataBundle newDataBundle = loadDataBundle("/FeedbackSessionQuestionTypeTest.json");
@@ -1475,6 +1592,56 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
         assertEquals(fsa.toString(), updatedFeedbackSession.toString());
     }
 
+    @Test
+    public void testGetFeedbackSessionResultsForInstructor_contribQuestion_shouldComputeTeamResultsOnce()
+            throws Exception {
+        DataBundle newDataBundle = loadDataBundle("/FeedbackSessionQuestionTypeTest.json");
+        removeAndRestoreDataBundle(newDataBundle);
+        FeedbackSessionAttributes session = newDataBundle.feedbackSessions.get("contribSession");
+        InstructorAttributes instructor = newDataBundle.instructors.get("instructor1OfCourse1");
+
+        FeedbackSessionResultsBundle bundle = fsLogic.getFeedbackSessionResultsForInstructor(
+                session.getFeedbackSessionName(), session.getCourseId(), instructor.email);
+        FeedbackQuestionAttributes question = bundle.questions.values().stream()
+                .filter(q -> q.getQuestionType() == FeedbackQuestionType.CONTRIB)
+                .findFirst()
+                .get();
+        List<FeedbackResponseAttributes> responses = bundle.getQuestionResponseMap().get(question);
+        assertFalse(responses.isEmpty());
+        assertNull(bundle.contributionQuestionTeamEvalResults.get(question.getId()));
+
+        ______TS("statistics compute the results of the teams and keep them in the bundle");
+
+        String statistics = question.getQuestionDetails().getQuestionResultStatisticsCsv(responses, question, bundle);
+        Map<String, TeamEvalResult> teamResults = bundle.contributionQuestionTeamEvalResults.get(question.getId());
+        assertFalse(teamResults.isEmpty());
+
+        ______TS("answers reuse the results computed for the statistics without grouping the responses again");
+
+        List<String> answers = new ArrayList<>();
+        for (FeedbackResponseAttributes response : responses) {
+            answers.add(response.getResponseDetails().getAnswerCsv(response, question, bundle));
+            FeedbackContributionResponseDetails details =
+                    (FeedbackContributionResponseDetails) response.getResponseDetails();
+            assertSame(teamResults, details.getContribQnTeamEvalResult(question, bundle));
+        }
+        assertEquals(statistics, question.getQuestionDetails().getQuestionResultStatisticsCsv(responses, question, bundle));
+        assertSame(teamResults, bundle.contributionQuestionTeamEvalResults.get(question.getId()));
+
+        ______TS("answers are the same as those computed without precomputed results");
+
+        FeedbackSessionResultsBundle newBundle = fsLogic.getFeedbackSessionResultsForInstructor(
+                session.getFeedbackSessionName(), session.getCourseId(), instructor.email);
+        List<String> answersInNewBundle = new ArrayList<>();
+        for (FeedbackResponseAttributes response : newBundle.getQuestionResponseMap().get(question)) {
+            answersInNewBundle.add(response.getResponseDetails().getAnswerCsv(response, question, newBundle));
+        }
+        assertEquals(answers, answersInNewBundle);
+        assertEquals(statistics,
+                question.getQuestionDetails().getQuestionResultStatisticsCsv(
+                        newBundle.getQuestionResponseMap().get(question), question, newBundle));
+    }
+
     @Test
     public void testUpdateFeedbackSession_shouldAdjustEmailSendingStatusAccordingly() throws Exception {
         FeedbackSessionsDb fsDb = new FeedbackSessionsDb();
@@ -1687,6 +1854,47 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
         assertTrue(fsLogic.isFeedbackSessionCompletedByStudent(fs, student.email));
     }
 
+    private void testGetUsersYetToRespond() throws Exception {
+
+        ______TS("success: empty session");
+
+        FeedbackSessionAttributes fs = dataBundle.feedbackSessions.get("empty.session");
+        List<StudentAttributes> students = studentsLogic.getStudentsForCourse(fs.getCourseId());
+        List<InstructorAttributes> instructors = instructorsLogic.getInstructorsForCourse(fs.getCourseId());
+
+        assertTrue(fsLogic.getStudentsYetToRespond(fs, students).isEmpty());
+        assertTrue(fsLogic.getInstructorsYetToRespond(fs, instructors).isEmpty());
+
+        ______TS("success: only users who have not responded are returned");
+
+        fs = dataBundle.feedbackSessions.get("session1InCourse1");
+        StudentAttributes respondedStudent = dataBundle.students.get("student1InCourse1");
+        StudentAttributes notRespondedStudent = dataBundle.students.get("student2InCourse1");
+        InstructorAttributes respondedInstructor = dataBundle.instructors.get("instructor1OfCourse1");
+        InstructorAttributes notRespondedInstructor = dataBundle.instructors.get("instructor2OfCourse1");
+        fsLogic.addStudentRespondent(respondedStudent.email, fs.getFeedbackSessionName(), fs.getCourseId());
+        fsLogic.deleteStudentFromRespondentList(notRespondedStudent.email, fs.getFeedbackSessionName(), fs.getCourseId());
+        fsLogic.addInstructorRespondent(respondedInstructor.email, fs.getFeedbackSessionName(), fs.getCourseId());
+        fsLogic.deleteInstructorRespondent(notRespondedInstructor.email, fs.getFeedbackSessionName(), fs.getCourseId());
+        fs = fsLogic.getFeedbackSession(fs.getFeedbackSessionName(), fs.getCourseId());
+
+        List<String> studentEmailsYetToRespond = fsLogic.getStudentsYetToRespond(fs, students).stream()
+                .map(student -> student.email)
+                .collect(Collectors.toList());
+        assertFalse(studentEmailsYetToRespond.contains(respondedStudent.email));
+        assertTrue(studentEmailsYetToRespond.contains(notRespondedStudent.email));
+        for (StudentAttributes student : students) {
+            assertEquals(!fs.getRespondingStudentList().contains(student.email),
+                    studentEmailsYetToRespond.contains(student.email));
+        }
+
+        List<String> instructorEmailsYetToRespond = fsLogic.getInstructorsYetToRespond(fs, instructors).stream()
+                .map(instructor -> instructor.email)
+                .collect(Collectors.toList());
+        assertFalse(instructorEmailsYetToRespond.contains(respondedInstructor.email));
+        assertTrue(instructorEmailsYetToRespond.contains(notRespondedInstructor.email));
+    }
+
     private void testIsFeedbackSessionFullyCompletedByStudent() throws Exception {
 
         FeedbackSessionAttributes fs = dataBundle.feedbackSessions.get("session1InCourse1");
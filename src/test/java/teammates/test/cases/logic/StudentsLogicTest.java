@@ -1,6 +1,7 @@
 package teammates.test.cases.logic;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 
@@ -9,6 +10,7 @@ import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 import teammates.common.datatransfer.AttributesDeletionQuery;
+import teammates.common.datatransfer.StudentEnrollDetails;
 import teammates.common.datatransfer.TeamDetailsBundle;
 import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
@@ -286,6 +288,60 @@ public class StudentsLogicTest extends BaseLogicTest {
         assertNull(responseToBeDeleted);
     }
 
+    @Test
+    public void testEnrollStudentsCascade() throws Exception {
+        StudentAttributes student1InCourse1 = dataBundle.students.get("student1InCourse1");
+        StudentAttributes student5InCourse1 = dataBundle.students.get("student5InCourse1");
+        String courseId = student1InCourse1.getCourse();
+
+        FeedbackResponseAttributes teamResponse = dataBundle.feedbackResponses.get("response2ForQ2S2C1");
+        FeedbackQuestionAttributes teamQuestion = logic.getFeedbackQuestion(teamResponse.feedbackSessionName,
+                teamResponse.courseId, Integer.parseInt(teamResponse.feedbackQuestionId));
+        FeedbackResponseAttributes responseToStudent5 = dataBundle.feedbackResponses.get("response1ForQ2S1C1");
+        FeedbackQuestionAttributes studentsQuestion = logic.getFeedbackQuestion(responseToStudent5.feedbackSessionName,
+                responseToStudent5.courseId, Integer.parseInt(responseToStudent5.feedbackQuestionId));
+        assertNotNull(logic.getFeedbackResponse(teamQuestion.getId(), teamResponse.giver, teamResponse.recipient));
+
+        StudentAttributes studentChangingTeam = student1InCourse1.getCopy();
+        studentChangingTeam.team = "Team 1.3";
+        StudentAttributes studentChangingSection = student5InCourse1.getCopy();
+        studentChangingSection.section = "Section 3";
+        StudentAttributes newStudent = StudentAttributes.builder(courseId, "newStudent@email.tmt")
+                .withName("New Student")
+                .withTeamName("Team 1.3")
+                .withSectionName("Section 1")
+                .withComment("")
+                .build();
+        StudentAttributes newStudentAgain = newStudent.getCopy();
+        newStudentAgain.name = "New Student Again";
+
+        ______TS("typical case: students are enrolled and their responses are updated");
+
+        List<StudentEnrollDetails> enrollDetails = studentsLogic.enrollStudentsCascade(courseId,
+                Arrays.asList(studentChangingTeam, studentChangingSection, newStudent, newStudentAgain));
+
+        assertEquals(4, enrollDetails.size());
+        assertEquals(StudentEnrollDetails.UpdateStatus.MODIFIED, enrollDetails.get(0).getUpdateStatus());
+        assertEquals(StudentEnrollDetails.UpdateStatus.MODIFIED, enrollDetails.get(1).getUpdateStatus());
+        assertEquals(StudentEnrollDetails.UpdateStatus.NEW, enrollDetails.get(2).getUpdateStatus());
+        assertEquals("Team 1.3", studentsLogic.getStudentForEmail(courseId, student1InCourse1.getEmail()).team);
+        assertEquals("Section 3", studentsLogic.getStudentForEmail(courseId, student5InCourse1.getEmail()).section);
+
+        // the response within the old team of the student changing team is deleted
+        assertNull(logic.getFeedbackResponse(teamQuestion.getId(), teamResponse.giver, teamResponse.recipient));
+
+        // the response to the student changing section is moved to the new section
+        assertEquals("Section 3", logic.getFeedbackResponse(studentsQuestion.getId(),
+                responseToStudent5.giver, responseToStudent5.recipient).recipientSection);
+
+        ______TS("email appearing more than once: only the first student with the email is enrolled");
+
+        assertEquals(StudentEnrollDetails.UpdateStatus.ERROR, enrollDetails.get(3).getUpdateStatus());
+        assertEquals(String.format(StudentsDb.ERROR_ENROLL_DUPLICATE_EMAIL, newStudent.email),
+                enrollDetails.get(3).getErrorMessage());
+        assertEquals("New Student", studentsLogic.getStudentForEmail(courseId, newStudent.email).name);
+    }
+
     private void testGetStudentForEmail() {
 
         ______TS("null parameters");
@@ -14,9 +14,11 @@ import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.questions.FeedbackTextResponseDetails;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.retry.RetryableTask;
+import teammates.logic.core.FeedbackResponsesLogic;
 import teammates.logic.core.FeedbackSessionsLogic;
 import teammates.storage.api.FeedbackResponseCommentsDb;
 
@@ -28,11 +30,13 @@ import teammates.storage.api.FeedbackResponseCommentsDb;
 public class FeedbackResponseCommentSearchTest extends BaseSearchTest {
 
     private FeedbackSessionsLogic feedbackSessionsLogic;
+    private FeedbackResponsesLogic feedbackResponsesLogic;
     private FeedbackResponseCommentsDb commentsDb;
 
     @BeforeClass
     public void classSetup() {
         feedbackSessionsLogic = FeedbackSessionsLogic.inst();
+        feedbackResponsesLogic = FeedbackResponsesLogic.inst();
         commentsDb = new FeedbackResponseCommentsDb();
     }
 
@@ -163,7 +167,7 @@ public class FeedbackResponseCommentSearchTest extends BaseSearchTest {
         assertEquals(0, bundle.numberOfResults);
 
         // create a new comment
-        feedbackResponseCommentsDb.createEntity(
+        FeedbackResponseCommentAttributes createdComment = feedbackResponseCommentsDb.createEntity(
                 FeedbackResponseCommentAttributes.builder()
                         .withCourseId(response1ForQ1S1C1.getCourseId())
                         .withFeedbackSessionName(response1ForQ1S1C1.getFeedbackSessionName())
@@ -180,6 +184,12 @@ public class FeedbackResponseCommentSearchTest extends BaseSearchTest {
                         .withVisibilityFollowingFeedbackQuestion(true)
                         .build());
 
+        // the newly created comment is not searchable until it is indexed
+        bundle = feedbackResponseCommentsDb.search("commentABCDE", Arrays.asList(instructor3OfCourse1));
+        assertEquals(0, bundle.numberOfResults);
+
+        feedbackResponseCommentsDb.putDocumentsForIds(Arrays.asList(createdComment.getId()));
+
         // the newly created comment is searchable
         bundle = feedbackResponseCommentsDb.search("commentABCDE", Arrays.asList(instructor3OfCourse1));
         assertEquals(1, bundle.numberOfResults);
@@ -187,6 +197,59 @@ public class FeedbackResponseCommentSearchTest extends BaseSearchTest {
                 bundle.comments.get(response1ForQ1S1C1.getId()).get(0).getCommentText());
     }
 
+    @Test
+    public void testSearchComment_responseUpdatedByCascade_commentShouldBeSearchableAfterIndexing() throws Exception {
+        FeedbackResponseCommentAttributes frc1I1Q1S1C1 =
+                dataBundle.feedbackResponseComments.get("comment1FromT1C1ToR1Q1S1C1");
+        InstructorAttributes instructor1OfCourse1 = dataBundle.instructors.get("instructor1OfCourse1");
+        FeedbackResponseCommentAttributes comment = commentsDb.getFeedbackResponseComment(frc1I1Q1S1C1.courseId,
+                frc1I1Q1S1C1.createdAt, frc1I1Q1S1C1.commentGiver);
+
+        FeedbackResponseCommentSearchResultBundle bundle =
+                commentsDb.search("answerABCDE", Arrays.asList(instructor1OfCourse1));
+        assertEquals(0, bundle.numberOfResults);
+
+        List<Long> commentIdsToIndex = new ArrayList<>();
+        feedbackResponsesLogic.updateFeedbackResponseCascade(
+                FeedbackResponseAttributes.updateOptionsBuilder(comment.feedbackResponseId)
+                        .withResponseDetails(new FeedbackTextResponseDetails("answerABCDE"))
+                        .build(),
+                commentIdsToIndex);
+
+        // the document of the comment is stale until the comment returned by the cascade is re-indexed
+        bundle = commentsDb.search("answerABCDE", Arrays.asList(instructor1OfCourse1));
+        assertEquals(0, bundle.numberOfResults);
+
+        assertTrue(commentIdsToIndex.contains(comment.getId()));
+        commentsDb.putDocumentsForIds(commentIdsToIndex);
+
+        bundle = commentsDb.search("answerABCDE", Arrays.asList(instructor1OfCourse1));
+        verifySearchResults(bundle, frc1I1Q1S1C1);
+    }
+
+    @Test
+    public void testSearchComment_responseUpdatedByCascadeWithoutIndexingList_commentShouldBeSearchable()
+            throws Exception {
+        FeedbackResponseCommentAttributes frc1I1Q1S1C1 =
+                dataBundle.feedbackResponseComments.get("comment1FromT1C1ToR1Q1S1C1");
+        InstructorAttributes instructor1OfCourse1 = dataBundle.instructors.get("instructor1OfCourse1");
+        FeedbackResponseCommentAttributes comment = commentsDb.getFeedbackResponseComment(frc1I1Q1S1C1.courseId,
+                frc1I1Q1S1C1.createdAt, frc1I1Q1S1C1.commentGiver);
+
+        FeedbackResponseCommentSearchResultBundle bundle =
+                commentsDb.search("answerFGHIJ", Arrays.asList(instructor1OfCourse1));
+        assertEquals(0, bundle.numberOfResults);
+
+        // the cascade re-indexes the comments itself when the caller does not take their IDs
+        feedbackResponsesLogic.updateFeedbackResponseCascade(
+                FeedbackResponseAttributes.updateOptionsBuilder(comment.feedbackResponseId)
+                        .withResponseDetails(new FeedbackTextResponseDetails("answerFGHIJ"))
+                        .build());
+
+        bundle = commentsDb.search("answerFGHIJ", Arrays.asList(instructor1OfCourse1));
+        verifySearchResults(bundle, frc1I1Q1S1C1);
+    }
+
     @Test
     public void testSearchComment_commentsDeletedByBatch_shouldReturnNoResult() {
         // perform normal search
@@ -2,7 +2,9 @@ package teammates.test.cases.storage;
 
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.testng.annotations.Test;
 
@@ -14,6 +16,7 @@ import teammates.common.util.Const;
 import teammates.common.util.FieldValidator;
 import teammates.common.util.JsonUtils;
 import teammates.storage.api.CoursesDb;
+import teammates.storage.api.PendingResult;
 import teammates.test.cases.BaseComponentTestCase;
 import teammates.test.driver.AssertHelper;
 import teammates.test.driver.StringHelperExtension;
@@ -127,6 +130,62 @@ public class CoursesDbTest extends BaseComponentTestCase {
 
     }
 
+    @Test
+    public void testGetCourseAsync() throws InvalidParametersException {
+        CourseAttributes c = createNewCourse();
+
+        ______TS("Success: get an existent course");
+
+        PendingResult<CourseAttributes> pendingCourse = coursesDb.getCourseAsync(c.getId());
+        assertEquals(c.getId(), pendingCourse.get().getId());
+
+        ______TS("Failure: get a non-existent course");
+
+        assertNull(coursesDb.getCourseAsync("non-existent-course").get());
+
+        ______TS("Success: converted result is computed once when first asked for");
+
+        AtomicInteger numberOfConversions = new AtomicInteger();
+        PendingResult<String> pendingName = coursesDb.getCourseAsync(c.getId()).map(course -> {
+            numberOfConversions.incrementAndGet();
+            return course.getName();
+        });
+        assertEquals(0, numberOfConversions.get());
+        assertEquals(c.getName(), pendingName.get());
+        assertEquals(c.getName(), pendingName.get());
+        assertEquals(1, numberOfConversions.get());
+
+        ______TS("Success: null result is passed to the conversion");
+
+        PendingResult<Boolean> pendingIsAbsent =
+                coursesDb.getCourseAsync("non-existent-course").map(course -> course == null);
+        assertTrue(pendingIsAbsent.get());
+
+        ______TS("Failure: get null parameters");
+
+        AssertionError ae = assertThrows(AssertionError.class, () -> coursesDb.getCourseAsync(null));
+        assertEquals(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getMessage());
+
+    }
+
+    @Test
+    public void testGetCoursesAsync() throws InvalidParametersException {
+        CourseAttributes c = createNewCourse();
+
+        ______TS("Success: get existent and non-existent courses");
+
+        PendingResult<List<CourseAttributes>> pendingCourses =
+                coursesDb.getCoursesAsync(Arrays.asList(c.getId(), "non-existent-course"));
+        List<CourseAttributes> retrieved = pendingCourses.get();
+        assertEquals(1, retrieved.size());
+        assertEquals(c.getId(), retrieved.get(0).getId());
+
+        ______TS("Success: get no courses");
+
+        assertTrue(coursesDb.getCoursesAsync(new ArrayList<>()).get().isEmpty());
+
+    }
+
     @Test
     public void testUpdateCourse_noChangeToCourse_shouldNotIssueSaveRequest() throws Exception {
         CourseAttributes c = createNewCourse();
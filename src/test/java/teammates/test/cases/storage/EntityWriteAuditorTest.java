@@ -0,0 +1,50 @@
+package teammates.test.cases.storage;
+
+import java.time.ZoneId;
+import java.util.HashMap;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.CourseAttributes;
+import teammates.common.util.JsonUtils;
+import teammates.storage.api.EntityWriteAuditor;
+import teammates.storage.entity.Course;
+import teammates.test.cases.BaseComponentTestCase;
+
+/**
+ * SUT: {@link EntityWriteAuditor}.
+ */
+public class EntityWriteAuditorTest extends BaseComponentTestCase {
+
+    private final Course course = CourseAttributes.builder("audited-course")
+            .withName("Course with a long name to be truncated")
+            .withTimezone(ZoneId.of("UTC"))
+            .build()
+            .toEntity();
+
+    @Test
+    public void testDescribe_withoutContent_shouldDescribeKindAndKey() {
+        EntityWriteAuditor auditor = new EntityWriteAuditor(new HashMap<>(), 1.0, 2000);
+
+        assertEquals("Entity saved: Course (id: 0, name: audited-course)", auditor.describe("saved", course, false));
+    }
+
+    @Test
+    public void testDescribe_withContent_shouldAppendJson() {
+        EntityWriteAuditor auditor = new EntityWriteAuditor(new HashMap<>(), 1.0, 2000);
+
+        assertEquals("Entity created: Course (id: 0, name: audited-course) " + JsonUtils.toCompactJson(course),
+                auditor.describe("created", course, true));
+    }
+
+    @Test
+    public void testDescribe_contentLongerThanMaximum_shouldTruncateContent() {
+        EntityWriteAuditor auditor = new EntityWriteAuditor(new HashMap<>(), 1.0, 20);
+
+        String description = auditor.describe("created", course, true);
+
+        assertEquals("Entity created: Course (id: 0, name: audited-course) "
+                + JsonUtils.toCompactJson(course).substring(0, 20) + "...(truncated)", description);
+    }
+
+}
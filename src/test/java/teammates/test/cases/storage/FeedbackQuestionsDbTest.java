@@ -3,7 +3,9 @@ package teammates.test.cases.storage;
 import static teammates.common.util.FieldValidator.PARTICIPANT_TYPE_TEAM_ERROR_MESSAGE;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import org.testng.annotations.Test;
 import org.testng.collections.Lists;
@@ -285,6 +287,33 @@ public class FeedbackQuestionsDbTest extends BaseComponentTestCase {
         actual = fqDb.getFeedbackQuestion("non-existent id");
 
         assertNull(actual);
+
+        ______TS("get by ids in a batch, skipping repeated and non-existent ids");
+
+        actual = fqDb.getFeedbackQuestion(expected.feedbackSessionName, expected.courseId, expected.questionNumber);
+        Map<String, FeedbackQuestionAttributes> questions =
+                fqDb.getFeedbackQuestions(Arrays.asList(actual.getId(), "non-existent id", actual.getId()));
+
+        assertEquals(1, questions.size());
+        assertEquals(actual.toString(), questions.get(actual.getId()).toString());
+
+        ______TS("get by id asynchronously");
+
+        assertEquals(actual.toString(), fqDb.getFeedbackQuestionAsync(actual.getId()).get().toString());
+        assertNull(fqDb.getFeedbackQuestionAsync("non-existent id").get());
+
+        ______TS("get for session asynchronously");
+
+        List<FeedbackQuestionAttributes> questionsForSession =
+                fqDb.getFeedbackQuestionsForSessionAsync(expected.feedbackSessionName, expected.courseId).get();
+        assertEquals(
+                fqDb.getFeedbackQuestionsForSession(expected.feedbackSessionName, expected.courseId).toString(),
+                questionsForSession.toString());
+
+        ______TS("null ids");
+
+        ae = assertThrows(AssertionError.class, () -> fqDb.getFeedbackQuestions(null));
+        AssertHelper.assertContains(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getLocalizedMessage());
     }
 
     @Test
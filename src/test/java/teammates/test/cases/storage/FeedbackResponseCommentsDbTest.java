@@ -2,7 +2,11 @@ package teammates.test.cases.storage;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
@@ -11,7 +15,9 @@ import org.testng.collections.Lists;
 import teammates.common.datatransfer.AttributesDeletionQuery;
 import teammates.common.datatransfer.DataBundle;
 import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
+import teammates.common.datatransfer.questions.FeedbackTextResponseDetails;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
@@ -416,6 +422,58 @@ public class FeedbackResponseCommentsDbTest extends BaseComponentTestCase {
         assertEquals(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getMessage());
     }
 
+    @Test
+    public void testUpdateFeedbackResponseCommentsForResponses() {
+
+        ______TS("null parameter");
+
+        AssertionError ae = assertThrows(AssertionError.class,
+                () -> frcDb.updateFeedbackResponseCommentsForResponses(null));
+        assertEquals(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getMessage());
+
+        ______TS("typical success case: comments are moved to re-created responses with changed sections");
+
+        FeedbackResponseAttributes recreatedResponse =
+                FeedbackResponseAttributes.builder(frcaData.feedbackQuestionId, "new@email.tmt", "new@email.tmt")
+                        .withCourseId(frcaData.courseId)
+                        .withFeedbackSessionName(frcaData.feedbackSessionName)
+                        .withGiverSection("Section A")
+                        .withRecipientSection("Section B")
+                        .withResponseDetails(new FeedbackTextResponseDetails("answer"))
+                        .build();
+        recreatedResponse.setId(frcaData.feedbackQuestionId + "%new@email.tmt%new@email.tmt");
+        Map<String, FeedbackResponseAttributes> updatedResponses = new HashMap<>();
+        updatedResponses.put(frId, recreatedResponse);
+        updatedResponses.put("non-existent-response-id", recreatedResponse);
+        List<Long> expectedCommentIds = new ArrayList<>();
+        for (FeedbackResponseCommentAttributes comment : frcDb.getFeedbackResponseCommentsForResponse(frId)) {
+            expectedCommentIds.add(comment.getId());
+        }
+        assertTrue(expectedCommentIds.contains(frcaData.getId()));
+
+        List<Long> commentIds = frcDb.updateFeedbackResponseCommentsForResponses(updatedResponses);
+
+        AssertHelper.assertSameContentIgnoreOrder(expectedCommentIds, commentIds);
+        assertTrue(frcDb.getFeedbackResponseCommentsForResponse(frId).isEmpty());
+        FeedbackResponseCommentAttributes updatedComment = frcDb.getFeedbackResponseComment(frcaData.getId());
+        assertEquals(recreatedResponse.getId(), updatedComment.feedbackResponseId);
+        assertEquals("Section A", updatedComment.giverSection);
+        assertEquals("Section B", updatedComment.receiverSection);
+        assertEquals(frcaData.commentText, updatedComment.commentText);
+        // other irrelevant comment is not changed
+        assertEquals(anotherFrcaData.feedbackResponseId,
+                frcDb.getFeedbackResponseComment(anotherFrcaData.getId()).feedbackResponseId);
+
+        ______TS("unchanged comments are still returned for re-indexing");
+
+        commentIds = frcDb.updateFeedbackResponseCommentsForResponses(
+                Collections.singletonMap(recreatedResponse.getId(), recreatedResponse));
+
+        AssertHelper.assertSameContentIgnoreOrder(expectedCommentIds, commentIds);
+        assertEquals(JsonUtils.toJson(updatedComment),
+                JsonUtils.toJson(frcDb.getFeedbackResponseComment(frcaData.getId())));
+    }
+
     @Test
     public void testDeleteFeedbackResponseComment() {
 
@@ -481,6 +539,35 @@ public class FeedbackResponseCommentsDbTest extends BaseComponentTestCase {
         assertNotNull(frcDb.getFeedbackResponseComment(anotherFrcaData.getId()));
     }
 
+    @Test
+    public void testDeleteFeedbackResponseCommentsForResponses() throws InvalidParametersException {
+        ______TS("non-existent response ids");
+
+        // should pass silently
+        frcDb.deleteFeedbackResponseCommentsForResponses(Collections.singletonList("not_exist"));
+
+        ______TS("typical success case: comments of all the responses are deleted");
+
+        assertFalse(frcDb.getFeedbackResponseCommentsForResponse(frcaData.feedbackResponseId).isEmpty());
+        assertFalse(frcDb.getFeedbackResponseCommentsForResponse(anotherFrcaData.feedbackResponseId).isEmpty());
+        FeedbackResponseCommentAttributes irrelevantComment =
+                frcDb.putEntity(dataBundle.feedbackResponseComments.get("comment1FromT1C1ToR1Q3S1C1"));
+
+        frcDb.deleteFeedbackResponseCommentsForResponses(
+                Arrays.asList(frcaData.feedbackResponseId, anotherFrcaData.feedbackResponseId));
+
+        assertTrue(frcDb.getFeedbackResponseCommentsForResponse(frcaData.feedbackResponseId).isEmpty());
+        assertTrue(frcDb.getFeedbackResponseCommentsForResponse(anotherFrcaData.feedbackResponseId).isEmpty());
+        // other irrelevant comment remains
+        assertNotNull(frcDb.getFeedbackResponseComment(irrelevantComment.getId()));
+
+        ______TS("null parameter");
+
+        AssertionError ae = assertThrows(AssertionError.class,
+                () -> frcDb.deleteFeedbackResponseCommentsForResponses(null));
+        assertEquals(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getMessage());
+    }
+
     @Test
     public void testDeleteFeedbackResponseComments_byQuestionId() {
         ______TS("non-existent question id");
@@ -1,8 +1,10 @@
 package teammates.test.cases.storage;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeClass;
@@ -13,6 +15,7 @@ import com.google.common.collect.Sets;
 
 import teammates.common.datatransfer.AttributesDeletionQuery;
 import teammates.common.datatransfer.DataBundle;
+import teammates.common.datatransfer.FeedbackResponsesPage;
 import teammates.common.datatransfer.SectionDetail;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
@@ -26,6 +29,7 @@ import teammates.common.util.FieldValidator;
 import teammates.common.util.JsonUtils;
 import teammates.storage.api.FeedbackQuestionsDb;
 import teammates.storage.api.FeedbackResponsesDb;
+import teammates.storage.api.PendingResult;
 import teammates.test.cases.BaseComponentTestCase;
 import teammates.test.driver.AssertHelper;
 
@@ -366,6 +370,17 @@ public class FeedbackResponsesDbTest extends BaseComponentTestCase {
         actual = frDb.getFeedbackResponse("non-existent id");
 
         assertNull(actual);
+
+        ______TS("get by id asynchronously");
+
+        String responseId =
+                frDb.getFeedbackResponse(expected.feedbackQuestionId, expected.giver, expected.recipient).getId();
+        PendingResult<FeedbackResponseAttributes> pendingResponse = frDb.getFeedbackResponseAsync(responseId);
+        PendingResult<FeedbackResponseAttributes> pendingNonExistentResponse =
+                frDb.getFeedbackResponseAsync("non-existent id");
+
+        assertEquals(expected.toString(), pendingResponse.get().toString());
+        assertNull(pendingNonExistentResponse.get());
     }
 
     @Test
@@ -398,6 +413,8 @@ public class FeedbackResponsesDbTest extends BaseComponentTestCase {
         List<FeedbackResponseAttributes> responses = frDb.getFeedbackResponsesForQuestionInSection(questionId, "Section 1",
                 SectionDetail.EITHER);
         assertEquals(3, responses.size());
+        // responses with both giver and recipient in the section are returned once only
+        assertEquals(3, responses.stream().map(FeedbackResponseAttributes::getId).distinct().count());
 
         ______TS("show response after filtering by giver from section 1");
 
@@ -730,6 +747,113 @@ public class FeedbackResponsesDbTest extends BaseComponentTestCase {
                 feedbackSessionName, "non-existent courseId", 1).isEmpty());
     }
 
+    @Test
+    public void testGetFeedbackResponsesForSessionInPage() throws Exception {
+
+        ______TS("standard success case: pages cover all responses in order without overlap");
+
+        String courseId = fras.get("response1ForQ1S1C1").courseId;
+        String feedbackSessionName = fras.get("response1ForQ1S1C1").feedbackSessionName;
+
+        List<FeedbackResponseAttributes> allResponses =
+                frDb.getFeedbackResponsesForSession(feedbackSessionName, courseId);
+        assertTrue(allResponses.size() > 2);
+
+        List<FeedbackResponseAttributes> pagedResponses = new ArrayList<>();
+        String cursor = null;
+        do {
+            FeedbackResponsesPage page =
+                    frDb.getFeedbackResponsesForSessionInPage(feedbackSessionName, courseId, cursor, 2);
+            assertTrue(page.getResponses().size() <= 2);
+            assertFalse(page.getResponses().isEmpty());
+            pagedResponses.addAll(page.getResponses());
+            cursor = page.getNextPageCursor();
+        } while (cursor != null);
+
+        assertEquals(allResponses.stream().map(FeedbackResponseAttributes::getId).sorted().collect(Collectors.toList()),
+                pagedResponses.stream().map(FeedbackResponseAttributes::getId).collect(Collectors.toList()));
+
+        ______TS("page size covering all responses: last page");
+
+        FeedbackResponsesPage page = frDb.getFeedbackResponsesForSessionInPage(
+                feedbackSessionName, courseId, null, allResponses.size());
+        assertEquals(allResponses.size(), page.getResponses().size());
+        assertTrue(page.isLastPage());
+
+        ______TS("non-existent feedback session");
+
+        page = frDb.getFeedbackResponsesForSessionInPage("non-existent feedback session", courseId, null, 2);
+        assertTrue(page.getResponses().isEmpty());
+        assertTrue(page.isLastPage());
+
+        ______TS("malformed cursor");
+
+        InvalidParametersException ipe = assertThrows(InvalidParametersException.class,
+                () -> frDb.getFeedbackResponsesForSessionInPage(feedbackSessionName, courseId, "%malformed%", 2));
+        AssertHelper.assertContains("Invalid cursor", ipe.getMessage());
+
+        ______TS("null params");
+
+        AssertionError ae = assertThrows(AssertionError.class,
+                () -> frDb.getFeedbackResponsesForSessionInPage(null, courseId, null, 2));
+        AssertHelper.assertContains(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getLocalizedMessage());
+
+        ae = assertThrows(AssertionError.class,
+                () -> frDb.getFeedbackResponsesForSessionInPage(feedbackSessionName, null, null, 2));
+        AssertHelper.assertContains(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getLocalizedMessage());
+    }
+
+    @Test
+    public void testGetFeedbackResponsesForQuestionInPage() throws Exception {
+
+        String questionId = fras.get("response1ForQ1S1C1").feedbackQuestionId;
+
+        List<FeedbackResponseAttributes> allResponses = frDb.getFeedbackResponsesForQuestion(questionId);
+        assertTrue(allResponses.size() > 1);
+
+        ______TS("first page");
+
+        FeedbackResponsesPage page = frDb.getFeedbackResponsesForQuestionInPage(questionId, null, 1);
+        assertEquals(1, page.getResponses().size());
+        assertFalse(page.isLastPage());
+
+        ______TS("following pages cover all responses of the question in order without overlap");
+
+        List<FeedbackResponseAttributes> pagedResponses = new ArrayList<>(page.getResponses());
+        while (!page.isLastPage()) {
+            page = frDb.getFeedbackResponsesForQuestionInPage(questionId, page.getNextPageCursor(), 1);
+            assertEquals(1, page.getResponses().size());
+            pagedResponses.addAll(page.getResponses());
+        }
+
+        assertEquals(allResponses.stream().map(FeedbackResponseAttributes::getId).sorted().collect(Collectors.toList()),
+                pagedResponses.stream().map(FeedbackResponseAttributes::getId).collect(Collectors.toList()));
+
+        ______TS("page size covering all responses: last page");
+
+        page = frDb.getFeedbackResponsesForQuestionInPage(questionId, null, allResponses.size());
+        assertEquals(allResponses.size(), page.getResponses().size());
+        assertTrue(page.isLastPage());
+
+        ______TS("non-existent question");
+
+        page = frDb.getFeedbackResponsesForQuestionInPage("non-existent question", null, 1);
+        assertTrue(page.getResponses().isEmpty());
+        assertTrue(page.isLastPage());
+
+        ______TS("malformed cursor");
+
+        InvalidParametersException ipe = assertThrows(InvalidParametersException.class,
+                () -> frDb.getFeedbackResponsesForQuestionInPage(questionId, "%malformed%", 1));
+        AssertHelper.assertContains("Invalid cursor", ipe.getMessage());
+
+        ______TS("null params");
+
+        AssertionError ae = assertThrows(AssertionError.class,
+                () -> frDb.getFeedbackResponsesForQuestionInPage(null, null, 1));
+        AssertHelper.assertContains(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getLocalizedMessage());
+    }
+
     @Test
     public void testGetFeedbackResponsesForSessionInSection() {
 
@@ -964,6 +1088,67 @@ public class FeedbackResponsesDbTest extends BaseComponentTestCase {
         frDb.deleteFeedbackResponse(typicalResponse.getId());
     }
 
+    @Test
+    public void testUpdateEmailOfResponsesForUser() throws Exception {
+        String courseId = "idOfTypicalCourse1";
+        String oldEmail = "student1InCourse1@gmail.tmt";
+        String newEmail = "new.student1InCourse1@gmail.tmt";
+        List<FeedbackResponseAttributes> responsesFromUser = frDb.getFeedbackResponsesFromGiverForCourse(courseId, oldEmail);
+        List<FeedbackResponseAttributes> responsesToUser = frDb.getFeedbackResponsesForReceiverForCourse(courseId, oldEmail);
+        assertFalse(responsesFromUser.isEmpty());
+        assertFalse(responsesToUser.isEmpty());
+
+        ______TS("responses are re-created with the new email and keep their creation time");
+
+        Map<String, FeedbackResponseAttributes> updatedResponses =
+                frDb.updateEmailOfResponsesForUser(courseId, oldEmail, newEmail);
+
+        assertTrue(frDb.getFeedbackResponsesFromGiverForCourse(courseId, oldEmail).isEmpty());
+        assertTrue(frDb.getFeedbackResponsesForReceiverForCourse(courseId, oldEmail).isEmpty());
+        assertEquals(responsesFromUser.size(), frDb.getFeedbackResponsesFromGiverForCourse(courseId, newEmail).size());
+        assertEquals(responsesToUser.size(), frDb.getFeedbackResponsesForReceiverForCourse(courseId, newEmail).size());
+
+        FeedbackResponseAttributes oldResponse = responsesFromUser.get(0);
+        FeedbackResponseAttributes newResponse = updatedResponses.get(oldResponse.getId());
+        assertNull(frDb.getFeedbackResponse(oldResponse.getId()));
+        assertEquals(newEmail, newResponse.getGiver());
+        assertEquals(oldResponse.getRecipient().equals(oldEmail) ? newEmail : oldResponse.getRecipient(),
+                newResponse.getRecipient());
+        FeedbackResponseAttributes actualResponse = frDb.getFeedbackResponse(newResponse.getId());
+        assertEquals(oldResponse.getCreatedAt(), actualResponse.getCreatedAt());
+        assertEquals(oldResponse.getResponseDetails().getAnswerString(),
+                actualResponse.getResponseDetails().getAnswerString());
+
+        ______TS("same email: nothing is updated");
+
+        assertTrue(frDb.updateEmailOfResponsesForUser(courseId, newEmail, newEmail).isEmpty());
+
+        frDb.updateEmailOfResponsesForUser(courseId, newEmail, oldEmail);
+        assertEquals(responsesFromUser.size(), frDb.getFeedbackResponsesFromGiverForCourse(courseId, oldEmail).size());
+
+        ______TS("a response with the ID of a re-created response exists: fails without updating any response");
+
+        FeedbackResponseAttributes responseFromUser = responsesFromUser.get(0);
+        FeedbackResponseAttributes existingResponse = frDb.createEntity(
+                FeedbackResponseAttributes.builder(responseFromUser.feedbackQuestionId, newEmail,
+                        responseFromUser.recipient.equals(oldEmail) ? newEmail : responseFromUser.recipient)
+                        .withCourseId(courseId)
+                        .withFeedbackSessionName(responseFromUser.feedbackSessionName)
+                        .withGiverSection(responseFromUser.giverSection)
+                        .withRecipientSection(responseFromUser.recipientSection)
+                        .withResponseDetails(new FeedbackTextResponseDetails("existing response"))
+                        .build());
+
+        assertThrows(AssertionError.class, () -> frDb.updateEmailOfResponsesForUser(courseId, oldEmail, newEmail));
+
+        assertEquals(responsesFromUser.size(), frDb.getFeedbackResponsesFromGiverForCourse(courseId, oldEmail).size());
+        assertEquals(responsesToUser.size(), frDb.getFeedbackResponsesForReceiverForCourse(courseId, oldEmail).size());
+        assertEquals("existing response",
+                frDb.getFeedbackResponse(existingResponse.getId()).getResponseDetails().getAnswerString());
+
+        frDb.deleteFeedbackResponse(existingResponse.getId());
+    }
+
     private FeedbackResponseAttributes getNewFeedbackResponseAttributes() {
         return FeedbackResponseAttributes.builder(
                 "testFeedbackQuestionId", "giver@email.tmt", "recipient@email.tmt")
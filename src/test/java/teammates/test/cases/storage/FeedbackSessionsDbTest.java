@@ -7,7 +7,11 @@ import static teammates.common.util.FieldValidator.TIME_FRAME_ERROR_MESSAGE;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.testng.annotations.AfterMethod;
@@ -25,6 +29,7 @@ import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Const;
 import teammates.common.util.JsonUtils;
 import teammates.storage.api.FeedbackSessionsDb;
+import teammates.storage.api.PendingResult;
 import teammates.test.cases.BaseComponentTestCase;
 import teammates.test.driver.AssertHelper;
 import teammates.test.driver.TimeHelperExtension;
@@ -187,6 +192,7 @@ public class FeedbackSessionsDbTest extends BaseComponentTestCase {
 
         testGetFeedbackSessions();
         testGetFeedbackSessionsForCourse();
+        testGetFeedbackSessionsForCourses();
         testGetSoftDeletedFeedbackSessionsForCourse();
     }
 
@@ -210,6 +216,20 @@ public class FeedbackSessionsDbTest extends BaseComponentTestCase {
         assertNotNull(fsDb.getSoftDeletedFeedbackSession("idOfTypicalCourse4", "First feedback session"));
         assertNull(fsDb.getFeedbackSession("idOfTypicalCourse4", "First feedback session"));
 
+        ______TS("sessions loaded together");
+
+        PendingResult<FeedbackSessionAttributes> pendingSession =
+                fsDb.getFeedbackSessionAsync("idOfTypicalCourse2", "Instructor feedback session");
+        PendingResult<FeedbackSessionAttributes> pendingNonExistentSession =
+                fsDb.getFeedbackSessionAsync("non-course", "Non-existant feedback session");
+        PendingResult<FeedbackSessionAttributes> pendingSoftDeletedSession =
+                fsDb.getFeedbackSessionAsync("idOfTypicalCourse4", "First feedback session");
+
+        assertEquals(expected.toString(), pendingSession.get().toString());
+        assertSame(pendingSession.get(), pendingSession.get());
+        assertNull(pendingNonExistentSession.get());
+        assertNull(pendingSoftDeletedSession.get());
+
         ______TS("null fsName");
 
         AssertionError ae = assertThrows(AssertionError.class,
@@ -257,6 +277,28 @@ public class FeedbackSessionsDbTest extends BaseComponentTestCase {
         assertTrue(fsDb.getFeedbackSessionsForCourse("idOfCourseNoEvals").isEmpty());
     }
 
+    private void testGetFeedbackSessionsForCourses() {
+
+        ______TS("standard success case");
+
+        Map<String, List<FeedbackSessionAttributes>> sessionsByCourseId = fsDb.getFeedbackSessionsForCourses(
+                Arrays.asList("idOfTypicalCourse2", "idOfTypicalCourse1", "idOfCourseNoEvals", "non-existant course"));
+
+        assertEquals(Arrays.asList("idOfTypicalCourse2", "idOfTypicalCourse1", "idOfCourseNoEvals", "non-existant course"),
+                new ArrayList<>(sessionsByCourseId.keySet()));
+        for (Map.Entry<String, List<FeedbackSessionAttributes>> entry : sessionsByCourseId.entrySet()) {
+            assertEquals(fsDb.getFeedbackSessionsForCourse(entry.getKey()).toString(), entry.getValue().toString());
+        }
+        assertEquals(6, sessionsByCourseId.get("idOfTypicalCourse1").size());
+        assertTrue(sessionsByCourseId.get("idOfCourseNoEvals").isEmpty());
+        assertTrue(sessionsByCourseId.get("non-existant course").isEmpty());
+
+        ______TS("null params");
+
+        AssertionError ae = assertThrows(AssertionError.class, () -> fsDb.getFeedbackSessionsForCourses(null));
+        AssertHelper.assertContains(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getLocalizedMessage());
+    }
+
     private void testGetSoftDeletedFeedbackSessionsForCourse() {
 
         ______TS("standard success case");
@@ -505,6 +547,126 @@ public class FeedbackSessionsDbTest extends BaseComponentTestCase {
         assertEquals(JsonUtils.toJson(modifiedSession), JsonUtils.toJson(updatedSession));
     }
 
+    @Test
+    public void testUpdateFeedbackSession_respondents_shouldMergeStoredAndAddedRespondents() throws Exception {
+        FeedbackSessionAttributes fs = getNewFeedbackSession();
+        fs.setRespondingStudentList(Sets.newHashSet("stored@email.com"));
+        fs.setRespondingInstructorList(Sets.newHashSet("storedInstructor@email.com"));
+        fsDb.putEntity(fs);
+
+        ______TS("respondents added are read together with respondents stored with the session");
+
+        for (int i = 0; i < 20; i++) {
+            fsDb.updateFeedbackSession(
+                    FeedbackSessionAttributes.updateOptionsBuilder(fs.getFeedbackSessionName(), fs.getCourseId())
+                            .withAddingStudentRespondent("student" + i + "@email.com")
+                            .build());
+        }
+        FeedbackSessionAttributes updatedFs = fsDb.updateFeedbackSession(
+                FeedbackSessionAttributes.updateOptionsBuilder(fs.getFeedbackSessionName(), fs.getCourseId())
+                        .withAddingInstructorRespondent("instructor@email.com")
+                        .build());
+        FeedbackSessionAttributes actualFs = fsDb.getFeedbackSession(fs.getCourseId(), fs.getFeedbackSessionName());
+        assertEquals(21, actualFs.getRespondingStudentList().size());
+        assertTrue(actualFs.getRespondingStudentList().contains("stored@email.com"));
+        assertTrue(actualFs.getRespondingStudentList().contains("student19@email.com"));
+        assertEquals(Sets.newHashSet("storedInstructor@email.com", "instructor@email.com"),
+                actualFs.getRespondingInstructorList());
+        assertEquals(actualFs.getRespondingStudentList(), updatedFs.getRespondingStudentList());
+        assertEquals(actualFs.getRespondingInstructorList(), updatedFs.getRespondingInstructorList());
+
+        ______TS("respondents stored with the session can be updated and removed");
+
+        fsDb.updateFeedbackSession(
+                FeedbackSessionAttributes.updateOptionsBuilder(fs.getFeedbackSessionName(), fs.getCourseId())
+                        .withUpdatingStudentRespondent("stored@email.com", "storedNew@email.com")
+                        .build());
+        fsDb.updateFeedbackSession(
+                FeedbackSessionAttributes.updateOptionsBuilder(fs.getFeedbackSessionName(), fs.getCourseId())
+                        .withRemovingInstructorRespondent("storedInstructor@email.com")
+                        .build());
+        actualFs = fsDb.getFeedbackSession(fs.getCourseId(), fs.getFeedbackSessionName());
+        assertEquals(21, actualFs.getRespondingStudentList().size());
+        assertFalse(actualFs.getRespondingStudentList().contains("stored@email.com"));
+        assertTrue(actualFs.getRespondingStudentList().contains("storedNew@email.com"));
+        assertEquals(Sets.newHashSet("instructor@email.com"), actualFs.getRespondingInstructorList());
+
+        ______TS("respondents are deleted together with the session");
+
+        fsDb.deleteFeedbackSession(fs.getFeedbackSessionName(), fs.getCourseId());
+        fsDb.createEntity(getNewFeedbackSession());
+        actualFs = fsDb.getFeedbackSession(fs.getCourseId(), fs.getFeedbackSessionName());
+        assertTrue(actualFs.getRespondingStudentList().isEmpty());
+        assertTrue(actualFs.getRespondingInstructorList().isEmpty());
+
+        fsDb.deleteFeedbackSession(fs.getFeedbackSessionName(), fs.getCourseId());
+    }
+
+    @Test
+    public void testAddAndRemoveRespondents() throws Exception {
+        FeedbackSessionAttributes fs = getNewFeedbackSession();
+        fs.setRespondingStudentList(Sets.newHashSet("stored@email.com"));
+        fsDb.putEntity(fs);
+
+        ______TS("respondents are added and removed in batches");
+
+        fsDb.addRespondents(fs.getFeedbackSessionName(), fs.getCourseId(),
+                Arrays.asList("student1@email.com", "student2@email.com", "student3@email.com"),
+                Collections.singleton("instructor@email.com"));
+        FeedbackSessionAttributes actualFs = fsDb.getFeedbackSession(fs.getCourseId(), fs.getFeedbackSessionName());
+        assertEquals(Sets.newHashSet("stored@email.com", "student1@email.com", "student2@email.com",
+                "student3@email.com"), actualFs.getRespondingStudentList());
+        assertEquals(Sets.newHashSet("instructor@email.com"), actualFs.getRespondingInstructorList());
+
+        fsDb.removeRespondents(fs.getFeedbackSessionName(), fs.getCourseId(),
+                Arrays.asList("stored@email.com", "student2@email.com", "nonRespondent@email.com"),
+                Collections.singleton("instructor@email.com"));
+        actualFs = fsDb.getFeedbackSession(fs.getCourseId(), fs.getFeedbackSessionName());
+        assertEquals(Sets.newHashSet("student1@email.com", "student3@email.com"), actualFs.getRespondingStudentList());
+        assertTrue(actualFs.getRespondingInstructorList().isEmpty());
+
+        ______TS("non-existent session");
+
+        assertThrows(EntityDoesNotExistException.class,
+                () -> fsDb.addRespondents("nonExistentSession", fs.getCourseId(),
+                        Collections.singleton("student@email.com"), Collections.emptySet()));
+        assertThrows(EntityDoesNotExistException.class,
+                () -> fsDb.removeRespondents("nonExistentSession", fs.getCourseId(),
+                        Collections.singleton("student@email.com"), Collections.emptySet()));
+
+        fsDb.deleteFeedbackSession(fs.getFeedbackSessionName(), fs.getCourseId());
+    }
+
+    @Test
+    public void testLoadRespondents() throws Exception {
+        FeedbackSessionAttributes fs = getNewFeedbackSession();
+        fs.setRespondingStudentList(Sets.newHashSet("stored@email.com"));
+        fsDb.putEntity(fs);
+        fsDb.addRespondents(fs.getFeedbackSessionName(), fs.getCourseId(),
+                Collections.singleton("student@email.com"), Collections.singleton("instructor@email.com"));
+
+        ______TS("sessions read in a list only come with the respondents stored in the session");
+
+        FeedbackSessionAttributes listedFs = fsDb.getFeedbackSessionsForCourse(fs.getCourseId()).stream()
+                .filter(session -> session.getFeedbackSessionName().equals(fs.getFeedbackSessionName()))
+                .findFirst()
+                .get();
+        assertEquals(Sets.newHashSet("stored@email.com"), listedFs.getRespondingStudentList());
+        assertTrue(listedFs.getRespondingInstructorList().isEmpty());
+
+        ______TS("respondents in the shards are merged when loaded");
+
+        fsDb.loadRespondents(Collections.singletonList(listedFs));
+        assertEquals(Sets.newHashSet("stored@email.com", "student@email.com"), listedFs.getRespondingStudentList());
+        assertEquals(Sets.newHashSet("instructor@email.com"), listedFs.getRespondingInstructorList());
+
+        FeedbackSessionAttributes actualFs = fsDb.getFeedbackSession(fs.getCourseId(), fs.getFeedbackSessionName());
+        assertEquals(actualFs.getRespondingStudentList(), listedFs.getRespondingStudentList());
+        assertEquals(actualFs.getRespondingInstructorList(), listedFs.getRespondingInstructorList());
+
+        fsDb.deleteFeedbackSession(fs.getFeedbackSessionName(), fs.getCourseId());
+    }
+
     // the test is to ensure that optimized saving policy is implemented without false negative
     @Test
     public void testUpdateFeedbackSession_singleFieldUpdate_shouldUpdateCorrectly() throws Exception {
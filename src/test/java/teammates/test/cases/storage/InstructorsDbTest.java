@@ -1,7 +1,9 @@
 package teammates.test.cases.storage;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
@@ -126,6 +128,37 @@ public class InstructorsDbTest extends BaseComponentTestCase {
 
     }
 
+    @Test
+    public void testGetInstructorsForEmails() {
+
+        InstructorAttributes i1 = dataBundle.instructors.get("instructor1OfCourse1");
+        InstructorAttributes i2 = dataBundle.instructors.get("instructor1OfCourse2");
+
+        ______TS("Success: get the instructors that exist");
+
+        Map<String, String> emailsByCourseId = new HashMap<>();
+        emailsByCourseId.put(i1.courseId, i1.email);
+        emailsByCourseId.put(i2.courseId, i2.email);
+        emailsByCourseId.put("non.existent.course", "non.existent");
+
+        List<InstructorAttributes> retrieved = instructorsDb.getInstructorsForEmails(emailsByCourseId);
+        assertEquals(2, retrieved.size());
+        for (InstructorAttributes instructor : retrieved) {
+            assertEquals(emailsByCourseId.get(instructor.courseId), instructor.email);
+        }
+
+        ______TS("Success: no courses");
+
+        assertTrue(instructorsDb.getInstructorsForEmails(new HashMap<>()).isEmpty());
+
+        ______TS("Failure: null parameters");
+
+        AssertionError ae = assertThrows(AssertionError.class,
+                () -> instructorsDb.getInstructorsForEmails(null));
+        assertEquals(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getMessage());
+
+    }
+
     @Test
     public void testGetInstructorForGoogleId() {
 
@@ -1,11 +1,20 @@
 package teammates.test.cases.storage;
 
+import static com.googlecode.objectify.ObjectifyService.ofy;
 import static teammates.common.util.FieldValidator.COURSE_ID_ERROR_MESSAGE;
 import static teammates.common.util.FieldValidator.REASON_INCORRECT_FORMAT;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
 import org.testng.annotations.Test;
 
+import com.googlecode.objectify.Key;
+
 import teammates.common.datatransfer.AttributesDeletionQuery;
+import teammates.common.datatransfer.CourseStructure;
+import teammates.common.datatransfer.StudentEnrollDetails;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
@@ -14,7 +23,9 @@ import teammates.common.util.Const;
 import teammates.common.util.FieldValidator;
 import teammates.common.util.JsonUtils;
 import teammates.common.util.StringHelper;
+import teammates.storage.api.RequestCache;
 import teammates.storage.api.StudentsDb;
+import teammates.storage.entity.CourseStudent;
 import teammates.test.cases.BaseComponentTestCase;
 import teammates.test.driver.AssertHelper;
 
@@ -326,6 +337,173 @@ public class StudentsDbTest extends BaseComponentTestCase {
         assertEquals("sectionName", actualStudent.getSection());
     }
 
+    @Test
+    public void testGetStudentsForCourse_studentsAddedOrRemoved_shouldReflectChanges() throws Exception {
+        StudentAttributes s = createNewStudent();
+
+        ______TS("students of a course are read again after a student is added");
+
+        assertEquals(1, studentsDb.getStudentsForCourse(s.course).size());
+        StudentAttributes s2 = createNewStudent("valid2@email.com");
+        assertEquals(Arrays.asList(s2.email, s.email), getEmailsOfStudentsInCourse(s.course));
+        assertEquals(2, studentsDb.getNumberOfStudentsForCourse(s.course));
+
+        ______TS("students of a course are read again after a student is re-created with a new email");
+
+        studentsDb.updateStudent(
+                StudentAttributes.updateOptionsBuilder(s2.course, s2.email)
+                        .withNewEmail("valid3@email.com")
+                        .build());
+        assertEquals(Arrays.asList("valid3@email.com", s.email), getEmailsOfStudentsInCourse(s.course));
+
+        ______TS("updates which do not change the students of a course are visible without re-reading them");
+
+        studentsDb.updateStudent(
+                StudentAttributes.updateOptionsBuilder(s.course, s.email)
+                        .withName("new name")
+                        .build());
+        assertTrue(studentsDb.getStudentsForCourse(s.course).stream().anyMatch(student -> "new name".equals(student.name)));
+
+        ______TS("students of a course are read again after a student is removed");
+
+        studentsDb.deleteStudent(s.course, "valid3@email.com");
+        assertEquals(Arrays.asList(s.email), getEmailsOfStudentsInCourse(s.course));
+
+        studentsDb.deleteStudent(s.course, s.email);
+        assertTrue(studentsDb.getStudentsForCourse(s.course).isEmpty());
+        assertEquals(0, studentsDb.getNumberOfStudentsForCourse(s.course));
+    }
+
+    @Test
+    public void testGetStudentsForCourse_studentsRecentlyChanged_shouldNotCacheIdsOfStudents() throws Exception {
+        StudentAttributes s = createNewStudent();
+        createNewStudent("valid2@email.com");
+
+        ______TS("students of a course loaded right after a change are read again");
+
+        assertEquals(2, studentsDb.getStudentsForCourse(s.course).size());
+
+        // a student removed without invalidating the cache stands in for a write that the query
+        // which loaded the students had yet to reflect
+        ofy().delete().key(Key.create(CourseStudent.class, CourseStudent.generateId(s.email, s.course))).now();
+
+        assertEquals(Arrays.asList("valid2@email.com"), getEmailsOfStudentsInCourse(s.course));
+    }
+
+    @Test
+    public void testGetCourseStructure_studentsChanged_shouldReflectChanges() throws Exception {
+        StudentAttributes s = createNewStudent();
+
+        ______TS("structure of a course is built every time outside of a request");
+
+        CourseStructure structure = studentsDb.getCourseStructure(s.course);
+        assertEquals(1, structure.getStudentsTotal());
+        assertNotSame(structure, studentsDb.getCourseStructure(s.course));
+
+        ______TS("structure of a course is cached within a request");
+
+        RequestCache.begin();
+        structure = studentsDb.getCourseStructure(s.course);
+        assertSame(structure, studentsDb.getCourseStructure(s.course));
+
+        ______TS("structure of a course is rebuilt after a student is added");
+
+        createNewStudent("valid2@email.com");
+        structure = studentsDb.getCourseStructure(s.course);
+        assertEquals(2, structure.getStudentsTotal());
+
+        ______TS("structure of a course is rebuilt after a student is updated");
+
+        studentsDb.updateStudent(
+                StudentAttributes.updateOptionsBuilder(s.course, s.email)
+                        .withTeamName("new team")
+                        .build());
+        structure = studentsDb.getCourseStructure(s.course);
+        assertTrue(structure.getTeams().stream().anyMatch(team -> "new team".equals(team.name)));
+
+        ______TS("structure of a course is rebuilt after a student is removed");
+
+        studentsDb.deleteStudent(s.course, s.email);
+        assertEquals(1, studentsDb.getCourseStructure(s.course).getStudentsTotal());
+
+        studentsDb.deleteStudent(s.course, "valid2@email.com");
+        assertEquals(0, studentsDb.getCourseStructure(s.course).getStudentsTotal());
+
+        ______TS("structure of a course is not served to another request");
+
+        structure = studentsDb.getCourseStructure(s.course);
+        RequestCache.end();
+        RequestCache.begin();
+        assertNotSame(structure, studentsDb.getCourseStructure(s.course));
+        RequestCache.end();
+    }
+
+    @Test
+    public void testEnrollStudents() throws Exception {
+        StudentAttributes existingStudent = createNewStudent();
+        StudentAttributes unchangedStudent = createNewStudent("valid2@email.com");
+        studentsDb.deleteStudent(existingStudent.course, "valid3@email.com");
+
+        List<StudentAttributes> studentsToEnroll = Arrays.asList(
+                StudentAttributes.builder(existingStudent.course, existingStudent.email)
+                        .withName("new name")
+                        .withTeamName("new team name")
+                        .withSectionName(existingStudent.section)
+                        .withComment(existingStudent.comments)
+                        .build(),
+                StudentAttributes.builder(unchangedStudent.course, unchangedStudent.email)
+                        .withName(unchangedStudent.name)
+                        .withTeamName(unchangedStudent.team)
+                        .withSectionName(unchangedStudent.section)
+                        .withComment(unchangedStudent.comments)
+                        .build(),
+                StudentAttributes.builder(existingStudent.course, "valid3@email.com")
+                        .withName("new student")
+                        .withTeamName("new team name")
+                        .withSectionName("new section name")
+                        .withComment("")
+                        .build(),
+                StudentAttributes.builder(existingStudent.course, "invalid-email")
+                        .withName("invalid student")
+                        .withTeamName("new team name")
+                        .withSectionName("new section name")
+                        .withComment("")
+                        .build());
+
+        ______TS("typical case: create new students, update existing students and skip invalid students");
+
+        List<StudentEnrollDetails> enrollDetails = studentsDb.enrollStudents(existingStudent.course, studentsToEnroll);
+
+        assertEquals(4, enrollDetails.size());
+
+        assertEquals(StudentEnrollDetails.UpdateStatus.MODIFIED, enrollDetails.get(0).getUpdateStatus());
+        assertEquals("validTeamName", enrollDetails.get(0).getOriginalStudent().team);
+        assertEquals("new team name", enrollDetails.get(0).getStudent().team);
+        StudentAttributes updatedStudent = studentsDb.getStudentForEmail(existingStudent.course, existingStudent.email);
+        assertEquals("new name", updatedStudent.name);
+        assertEquals("new team name", updatedStudent.team);
+        assertEquals(existingStudent.key, updatedStudent.key);
+
+        assertEquals(StudentEnrollDetails.UpdateStatus.UNMODIFIED, enrollDetails.get(1).getUpdateStatus());
+
+        assertEquals(StudentEnrollDetails.UpdateStatus.NEW, enrollDetails.get(2).getUpdateStatus());
+        assertNull(enrollDetails.get(2).getOriginalStudent());
+        StudentAttributes newStudent = studentsDb.getStudentForEmail(existingStudent.course, "valid3@email.com");
+        assertEquals("new student", newStudent.name);
+        assertEquals(enrollDetails.get(2).getStudent().key, newStudent.key);
+
+        assertEquals(StudentEnrollDetails.UpdateStatus.ERROR, enrollDetails.get(3).getUpdateStatus());
+        assertFalse(enrollDetails.get(3).isSuccessful());
+        assertNotNull(enrollDetails.get(3).getErrorMessage());
+        assertNull(studentsDb.getStudentForEmail(existingStudent.course, "invalid-email"));
+
+        assertEquals(Arrays.asList(unchangedStudent.email, "valid3@email.com", existingStudent.email),
+                getEmailsOfStudentsInCourse(existingStudent.course));
+
+        studentsDb.deleteStudent(existingStudent.course, unchangedStudent.email);
+        studentsDb.deleteStudent(existingStudent.course, "valid3@email.com");
+    }
+
     @Test
     public void testDeleteStudent() throws Exception {
         StudentAttributes s = createNewStudent();
@@ -427,4 +605,10 @@ public class StudentsDbTest extends BaseComponentTestCase {
         studentsDb.deleteStudent(s.getCourse(), s.getEmail());
         return studentsDb.createEntity(s);
     }
+
+    private List<String> getEmailsOfStudentsInCourse(String courseId) {
+        return studentsDb.getStudentsForCourse(courseId).stream()
+                .map(student -> student.email)
+                .collect(Collectors.toList());
+    }
 }
@@ -0,0 +1,62 @@
+package teammates.test.cases.util;
+
+import org.testng.annotations.Test;
+
+import teammates.common.util.CompiledTemplate;
+import teammates.common.util.Templates;
+import teammates.test.cases.BaseTestCase;
+
+/**
+ * SUT: {@link CompiledTemplate}.
+ */
+public class CompiledTemplateTest extends BaseTestCase {
+
+    @Test
+    public void testPopulate() {
+        CompiledTemplate template = CompiledTemplate.compile("Dear ${userName}, ${courseName} is ${status}. ${userName}");
+
+        ______TS("typical case: same result as populateTemplate");
+
+        String[] keyValuePairs = {
+                "${userName}", "Alice",
+                "${courseName}", "CS1101",
+                "${status}", "open",
+        };
+        assertEquals(Templates.populateTemplate("Dear ${userName}, ${courseName} is ${status}. ${userName}",
+                keyValuePairs), template.populate(keyValuePairs));
+
+        ______TS("variables without values are kept");
+
+        assertEquals("Dear Alice, ${courseName} is ${status}. Alice", template.populate("${userName}", "Alice"));
+
+        ______TS("values are not populated again");
+
+        assertEquals("Dear ${courseName}, CS1101 is ${status}. ${courseName}",
+                template.populate("${userName}", "${courseName}", "${courseName}", "CS1101"));
+
+        ______TS("templates without variables or with unclosed variables");
+
+        assertEquals("No variables", CompiledTemplate.compile("No variables").populate("${userName}", "Alice"));
+        assertEquals("Alice ${unclosed",
+                CompiledTemplate.compile("${userName} ${unclosed").populate("${userName}", "Alice"));
+        assertEquals("", CompiledTemplate.compile("").populate());
+    }
+
+    @Test
+    public void testPartiallyPopulate() {
+        CompiledTemplate template = CompiledTemplate.compile("${userName}: ${courseName} is ${status} (${courseName})");
+
+        CompiledTemplate courseTemplate = template.partiallyPopulate("${courseName}", "CS1101", "${status}", "open");
+
+        assertEquals("Alice: CS1101 is open (CS1101)", courseTemplate.populate("${userName}", "Alice"));
+        assertEquals("Bob: CS1101 is open (CS1101)", courseTemplate.populate("${userName}", "Bob"));
+        assertEquals("${userName}: CS1101 is open (CS1101)", courseTemplate.populate());
+
+        ______TS("partially populated values are not populated again");
+
+        assertEquals("Alice: ${userName} is open (${userName})",
+                template.partiallyPopulate("${courseName}", "${userName}")
+                        .populate("${userName}", "Alice", "${status}", "open"));
+    }
+
+}
@@ -1,5 +1,6 @@
 package teammates.test.cases.util;
 
+import java.io.StringWriter;
 import java.util.ArrayList;
 
 import org.testng.annotations.Test;
@@ -101,4 +102,34 @@ public class JsonUtilsTest extends BaseTestCase {
             fail("error detected during serializing");
         }
     }
+
+    @Test
+    public void testToCompactJson_shouldSerializeWithoutWhitespace() throws Exception {
+        FeedbackResponseAttributes fra =
+                FeedbackResponseAttributes.builder(
+                        "questionId", "giver@email.com", "recipient@email.com")
+                .withFeedbackSessionName("Session1")
+                .withCourseId("CS3281")
+                .withResponseDetails(new FeedbackTextResponseDetails("My answer"))
+                .build();
+
+        String expected = "{"
+                + "\"feedbackQuestionId\":\"questionId\","
+                + "\"giver\":\"giver@email.com\","
+                + "\"recipient\":\"recipient@email.com\","
+                + "\"feedbackSessionName\":\"Session1\","
+                + "\"courseId\":\"CS3281\","
+                + "\"responseDetails\":{\"answer\":\"My answer\",\"questionType\":\"TEXT\"},"
+                + "\"giverSection\":\"None\","
+                + "\"recipientSection\":\"None\""
+                + "}";
+        assertEquals(expected, JsonUtils.toCompactJson(fra));
+
+        StringWriter writer = new StringWriter();
+        JsonUtils.toCompactJson(fra, writer);
+        assertEquals(expected, writer.toString());
+
+        FeedbackResponseAttributes deserialized = JsonUtils.fromJson(writer.toString(), FeedbackResponseAttributes.class);
+        assertEquals(fra.toString(), deserialized.toString());
+    }
 }
@@ -130,7 +130,7 @@ public class StringHelperTest extends BaseTestCase {
     }
 
     @Test
-    public void testDecryptingInvalidCiphertextThrowsException() {
+    public void testDecryptingInvalidCiphertextThrowsException() throws Exception {
         // The decrypt function converts a hex string into an array of bytes before decryption.
         // E.g AF is the byte 10101111
         // Hence, non-hex strings should fail to decrypt.
@@ -145,6 +145,10 @@ public class StringHelperTest extends BaseTestCase {
         for (String invalidCiphertext : invalidCiphertexts) {
             assertThrows(InvalidParametersException.class, () -> StringHelper.decrypt(invalidCiphertext));
         }
+
+        ______TS("valid ciphertexts can still be decrypted after invalid ones");
+
+        assertEquals("message", StringHelper.decrypt(StringHelper.encrypt("message")));
     }
 
     @Test
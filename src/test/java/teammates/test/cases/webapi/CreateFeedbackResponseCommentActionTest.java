@@ -75,6 +75,7 @@ public class CreateFeedbackResponseCommentActionTest extends BaseActionTest<Crea
         assertEquals("instructor1@course1.tmt", frc.commentGiver);
         assertFalse(frc.isCommentFromFeedbackParticipant);
         assertFalse(frc.isVisibilityFollowingFeedbackQuestion);
+        verifySpecifiedTasksAdded(action, Const.TaskQueue.SEARCH_INDEXING_QUEUE_NAME, 1);
 
         ______TS("typical successful case for unpublished session empty giver permissions");
 
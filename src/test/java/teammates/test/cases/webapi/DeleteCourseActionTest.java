@@ -1,11 +1,16 @@
 package teammates.test.cases.webapi;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.apache.http.HttpStatus;
 import org.testng.annotations.Test;
 
 import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.util.Const;
+import teammates.storage.api.StudentsDb;
 import teammates.ui.webapi.action.DeleteCourseAction;
 import teammates.ui.webapi.action.JsonResult;
 import teammates.ui.webapi.output.MessageOutput;
@@ -83,6 +88,48 @@ public class DeleteCourseActionTest
         assertNull(logic.getCourse(instructor1OfCourse1.courseId));
     }
 
+    @Test
+    public void testExecute_requestRunningOutOfTime_shouldContinueDeletionInTask() throws Exception {
+        InstructorAttributes instructor1OfCourse1 = typicalBundle.instructors.get("instructor1OfCourse1");
+        String courseId = instructor1OfCourse1.courseId;
+
+        List<StudentAttributes> students = new ArrayList<>();
+        for (int i = 0; i < 600; i++) {
+            students.add(StudentAttributes.builder(courseId, "student" + i + "@deletion.tmt")
+                    .withName("Student " + i)
+                    .withComment("")
+                    .withTeamName("Team 1")
+                    .withSectionName("Section 1")
+                    .build());
+        }
+        new StudentsDb().putEntities(students);
+
+        ______TS("request running out of time: course deleted in a task");
+
+        String[] submissionParams = new String[] {
+                Const.ParamsNames.COURSE_ID, courseId,
+        };
+
+        loginAsInstructor(instructor1OfCourse1.googleId);
+        gaeSimulation.setRemainingMillis(0);
+
+        DeleteCourseAction deleteCourseAction = getAction(submissionParams);
+        JsonResult result;
+        try {
+            result = getJsonResult(deleteCourseAction);
+        } finally {
+            gaeSimulation.resetRemainingMillis();
+        }
+        MessageOutput messageOutput = (MessageOutput) result.getOutput();
+
+        assertEquals(HttpStatus.SC_OK, result.getStatusCode());
+        assertEquals("OK", messageOutput.getMessage());
+        verifySpecifiedTasksAdded(deleteCourseAction, Const.TaskQueue.COURSE_DELETION_QUEUE_NAME, 1);
+        // the course is deleted last and thus remains until the task completes the deletion
+        assertNotNull(logic.getCourse(courseId));
+        assertFalse(logic.getStudentsForCourse(courseId).isEmpty());
+    }
+
     @Override
     @Test
     protected void testAccessControl() throws Exception {
@@ -7,6 +7,8 @@ import java.util.List;
 import org.apache.http.HttpStatus;
 import org.testng.annotations.Test;
 
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.exception.InvalidHttpRequestBodyException;
@@ -164,6 +166,59 @@ public class EnrollStudentsActionTest extends BaseActionTest<EnrollStudentsActio
         verifyCorrectResponseData(req.getStudentEnrollRequests().get(2), enrolledStudents.get(1));
     }
 
+    @Test
+    public void testExecute_withDuplicatedEmailInInput_shouldThrowInvalidBodyException() {
+        String courseId = typicalBundle.students.get("student1InCourse1").getCourse();
+        StudentAttributes newStudent = getTypicalNewStudent(courseId);
+        newStudent.email = "duplicatedEmail@test.com";
+        StudentAttributes newStudentAgain = newStudent.getCopy();
+        newStudentAgain.name = "another name";
+        StudentsEnrollRequest req = prepareRequest(Arrays.asList(newStudent, newStudentAgain));
+        String[] params = new String[] {
+                Const.ParamsNames.COURSE_ID, courseId,
+        };
+
+        loginAsInstructor(typicalBundle.instructors.get("instructor1OfCourse1").getGoogleId());
+        EnrollStudentsAction action = getAction(req, params);
+        InvalidHttpRequestBodyException ee = assertThrows(InvalidHttpRequestBodyException.class,
+                () -> action.execute());
+
+        assertEquals("Error, duplicated email addresses detected in the input: " + newStudent.getEmail(),
+                ee.getMessage());
+        assertNull(logic.getStudentForEmail(courseId, newStudent.getEmail()));
+    }
+
+    @Test
+    public void testExecute_withTeamsAndSectionsChanged_shouldUpdateResponses() {
+        StudentAttributes studentChangingTeam = typicalBundle.students.get("student4InCourse1").getCopy();
+        StudentAttributes studentChangingSection = typicalBundle.students.get("student3InCourse1").getCopy();
+        String courseId = studentChangingTeam.getCourse();
+        FeedbackQuestionAttributes teamMembersQuestion = logic.getFeedbackQuestion("Second feedback session", courseId, 2);
+        FeedbackQuestionAttributes studentsQuestion = logic.getFeedbackQuestion("First feedback session", courseId, 2);
+        FeedbackResponseAttributes teamMembersResponse = logic.getFeedbackResponse(teamMembersQuestion.getId(),
+                studentChangingTeam.getEmail(), typicalBundle.students.get("student2InCourse1").getEmail());
+        FeedbackResponseAttributes responseFromStudentChangingSection = logic.getFeedbackResponse(
+                studentsQuestion.getId(), studentChangingSection.getEmail(),
+                typicalBundle.students.get("student2InCourse1").getEmail());
+        assertNotNull(teamMembersResponse);
+        assertNotNull(responseFromStudentChangingSection);
+
+        studentChangingTeam.team = "Team 1.3";
+        studentChangingSection.team = "Team 1.4";
+        studentChangingSection.section = "Section 3";
+        StudentsEnrollRequest req = prepareRequest(Arrays.asList(studentChangingTeam, studentChangingSection));
+
+        loginAsInstructor(typicalBundle.instructors.get("instructor1OfCourse1").getGoogleId());
+        List<StudentData> enrolledStudents = executeActionAndReturnResults(courseId, req);
+
+        assertEquals(2, enrolledStudents.size());
+        verifyStudentInDatabase(studentChangingTeam, courseId, studentChangingTeam.getEmail());
+        verifyStudentInDatabase(studentChangingSection, courseId, studentChangingSection.getEmail());
+        assertNull(logic.getFeedbackResponse(teamMembersResponse.getId()));
+        assertEquals("Section 3",
+                logic.getFeedbackResponse(responseFromStudentChangingSection.getId()).getGiverSection());
+    }
+
     @Test
     public void testExecute_withDuplicatedTeamNameAmongSectionsToExistingStudents_shouldThrowInvalidBodyException() {
         String courseId = typicalBundle.courses.get("typicalCourse1").getId();
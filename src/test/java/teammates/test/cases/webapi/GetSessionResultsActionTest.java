@@ -0,0 +1,178 @@
+package teammates.test.cases.webapi;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.http.HttpStatus;
+import org.testng.annotations.Test;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.exception.InvalidHttpParameterException;
+import teammates.common.util.Const;
+import teammates.common.util.JsonUtils;
+import teammates.ui.webapi.action.GetSessionResultsAction;
+import teammates.ui.webapi.action.Intent;
+import teammates.ui.webapi.action.JsonResult;
+
+/**
+ * SUT: {@link GetSessionResultsAction}.
+ */
+public class GetSessionResultsActionTest extends BaseActionTest<GetSessionResultsAction> {
+
+    @Override
+    protected String getActionUri() {
+        return Const.ResourceURIs.RESULT;
+    }
+
+    @Override
+    protected String getRequestMethod() {
+        return GET;
+    }
+
+    @Override
+    @Test
+    protected void testExecute() throws Exception {
+        // See test cases below.
+    }
+
+    @Test
+    public void testExecute_instructorResultsInPages_shouldReturnAllResponsesOnce() throws Exception {
+        InstructorAttributes instructor = typicalBundle.instructors.get("instructor1OfCourse1");
+        FeedbackSessionAttributes session = typicalBundle.feedbackSessions.get("session1InCourse1");
+        loginAsInstructor(instructor.getGoogleId());
+
+        int numResponses = logic.getFeedbackSessionResultsForInstructor(
+                session.getFeedbackSessionName(), session.getCourseId(), instructor.getEmail()).responses.size();
+        // the responses need at least three pages, so that there is a page which is neither the first nor the last
+        int pageSize = 2;
+        assertTrue(numResponses > 2 * pageSize);
+
+        ______TS("first page: a cursor to the next page is returned");
+
+        JsonObject output = getResultsInPage(session, pageSize, null);
+
+        assertNotNull(getNextPageCursor(output));
+        List<String> responses = getResponses(output);
+        assertTrue(responses.size() <= pageSize);
+
+        ______TS("following pages: each page continues from the cursor of the previous page");
+
+        List<String> allResponses = new ArrayList<>(responses);
+        int numPages = 1;
+        String cursor = getNextPageCursor(output);
+        while (cursor != null) {
+            output = getResultsInPage(session, pageSize, cursor);
+            responses = getResponses(output);
+            assertTrue(responses.size() <= pageSize);
+            allResponses.addAll(responses);
+            numPages++;
+
+            assertTrue(numPages <= numResponses);
+            cursor = getNextPageCursor(output);
+        }
+        assertTrue(numPages >= 3);
+
+        ______TS("last page: no cursor is returned and every response has been returned exactly once");
+
+        assertNull(getNextPageCursor(output));
+        assertEquals(numResponses, allResponses.size());
+        assertEquals(allResponses.size(), new HashSet<>(allResponses).size());
+
+        ______TS("one page larger than the session: all responses are returned in the first and last page");
+
+        output = getResultsInPage(session, numResponses + 1, null);
+
+        assertNull(getNextPageCursor(output));
+        assertEquals(new HashSet<>(allResponses), new HashSet<>(getResponses(output)));
+    }
+
+    @Test
+    public void testExecute_instructorResultsInPagesWithInvalidParameters_shouldFail() {
+        InstructorAttributes instructor = typicalBundle.instructors.get("instructor1OfCourse1");
+        FeedbackSessionAttributes session = typicalBundle.feedbackSessions.get("session1InCourse1");
+        loginAsInstructor(instructor.getGoogleId());
+
+        ______TS("malformed cursor");
+
+        GetSessionResultsAction action = getAction(getPagedParams(session, 2, "malformed-cursor"));
+        InvalidHttpParameterException e = assertThrows(InvalidHttpParameterException.class,
+                () -> getJsonResult(action));
+        assertEquals("Invalid cursor: malformed-cursor", e.getMessage());
+
+        ______TS("page size which is not positive");
+
+        GetSessionResultsAction zeroPageSizeAction = getAction(getPagedParams(session, 0, null));
+        assertThrows(InvalidHttpParameterException.class, () -> getJsonResult(zeroPageSizeAction));
+    }
+
+    @Override
+    @Test
+    protected void testAccessControl() throws Exception {
+        FeedbackSessionAttributes session = typicalBundle.feedbackSessions.get("session1InCourse1");
+        String[] submissionParams = new String[] {
+                Const.ParamsNames.COURSE_ID, session.getCourseId(),
+                Const.ParamsNames.FEEDBACK_SESSION_NAME, session.getFeedbackSessionName(),
+                Const.ParamsNames.INTENT, Intent.INSTRUCTOR_RESULT.toString(),
+        };
+
+        verifyAccessibleForInstructorsOfTheSameCourse(submissionParams);
+        verifyInaccessibleForInstructorsOfOtherCourses(submissionParams);
+        verifyInaccessibleForStudents(submissionParams);
+    }
+
+    private JsonObject getResultsInPage(FeedbackSessionAttributes session, int pageSize, String cursor) {
+        JsonResult result = getJsonResult(getAction(getPagedParams(session, pageSize, cursor)));
+        assertEquals(HttpStatus.SC_OK, result.getStatusCode());
+        return JsonUtils.parse(JsonUtils.toJson(result.getOutput())).getAsJsonObject();
+    }
+
+    private String getNextPageCursor(JsonObject output) {
+        return output.has("nextPageCursor") ? output.get("nextPageCursor").getAsString() : null;
+    }
+
+    private String[] getPagedParams(FeedbackSessionAttributes session, int pageSize, String cursor) {
+        List<String> params = new ArrayList<>();
+        params.add(Const.ParamsNames.COURSE_ID);
+        params.add(session.getCourseId());
+        params.add(Const.ParamsNames.FEEDBACK_SESSION_NAME);
+        params.add(session.getFeedbackSessionName());
+        params.add(Const.ParamsNames.INTENT);
+        params.add(Intent.INSTRUCTOR_RESULT.toString());
+        params.add(Const.ParamsNames.FEEDBACK_RESULTS_PAGE_SIZE);
+        params.add(String.valueOf(pageSize));
+        if (cursor != null) {
+            params.add(Const.ParamsNames.FEEDBACK_RESULTS_PAGE_CURSOR);
+            params.add(cursor);
+        }
+        return params.toArray(new String[0]);
+    }
+
+    /**
+     * Returns the responses in the results, each identified by its question, giver and recipient.
+     */
+    private List<String> getResponses(JsonObject output) {
+        List<String> responses = new ArrayList<>();
+        Set<String> questionIds = new HashSet<>();
+        for (JsonElement questionElement : output.getAsJsonArray("questions")) {
+            JsonObject question = questionElement.getAsJsonObject();
+            String questionId = question.get("questionId").getAsString();
+            // a question appears at most once in a page
+            assertTrue(questionIds.add(questionId));
+            // statistics are left out of a page as they would only cover the responses in it
+            assertFalse(question.has("questionStatistics"));
+            for (JsonElement responseElement : question.getAsJsonArray("allResponses")) {
+                JsonObject response = responseElement.getAsJsonObject();
+                responses.add(questionId + "%" + response.get("giver").getAsString()
+                        + "%" + response.get("recipient").getAsString());
+            }
+        }
+        return responses;
+    }
+
+}
@@ -8,6 +8,7 @@ import javax.servlet.http.Cookie;
 import org.apache.http.HttpStatus;
 import org.testng.annotations.Test;
 
+import teammates.common.util.JsonUtils;
 import teammates.test.cases.BaseTestCase;
 import teammates.test.driver.MockHttpServletResponse;
 import teammates.ui.webapi.action.JsonResult;
@@ -33,6 +34,8 @@ public class JsonResultTest extends BaseTestCase {
         result.send(resp);
         assertEquals(HttpStatus.SC_OK, resp.getStatus());
         assertEquals(0, resp.getCookies().size());
+        assertEquals(JsonUtils.toCompactJson(output), resp.getBody());
+        assertFalse(resp.getBody().contains("\n"));
 
         ______TS("json result with output message and cookies");
 
@@ -0,0 +1,223 @@
+package teammates.test.cases.webapi;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.http.HttpStatus;
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.datatransfer.questions.FeedbackQuestionType;
+import teammates.common.datatransfer.questions.FeedbackTextResponseDetails;
+import teammates.common.exception.InvalidHttpRequestBodyException;
+import teammates.common.exception.UnauthorizedAccessException;
+import teammates.common.util.Const;
+import teammates.storage.api.StudentsDb;
+import teammates.ui.webapi.action.Intent;
+import teammates.ui.webapi.action.JsonResult;
+import teammates.ui.webapi.action.SubmitFeedbackResponsesAction;
+import teammates.ui.webapi.output.FeedbackResponseData;
+import teammates.ui.webapi.output.FeedbackResponsesData;
+import teammates.ui.webapi.request.FeedbackResponseBasicRequest;
+import teammates.ui.webapi.request.FeedbackResponsesRequest;
+
+/**
+ * SUT: {@link SubmitFeedbackResponsesAction}.
+ */
+public class SubmitFeedbackResponsesActionTest extends BaseActionTest<SubmitFeedbackResponsesAction> {
+    private FeedbackQuestionAttributes qn1InSession1InCourse1;
+    private FeedbackQuestionAttributes qn2InSession1InCourse1;
+    private FeedbackQuestionAttributes qn4InSession1InCourse1;
+    private FeedbackQuestionAttributes qn1InClosedSessionInCourse1;
+    private InstructorAttributes instructor1OfCourse1;
+    private StudentAttributes student1InCourse1;
+    private StudentAttributes student2InCourse1;
+    private StudentAttributes student5InCourse1;
+
+    @Override
+    protected String getActionUri() {
+        return Const.ResourceURIs.RESPONSES;
+    }
+
+    @Override
+    protected String getRequestMethod() {
+        return PUT;
+    }
+
+    @Override
+    protected void prepareTestData() {
+        removeAndRestoreTypicalDataBundle();
+        FeedbackSessionAttributes session1InCourse1 = typicalBundle.feedbackSessions.get("session1InCourse1");
+        FeedbackSessionAttributes closedSession = typicalBundle.feedbackSessions.get("closedSession");
+        qn1InSession1InCourse1 = logic.getFeedbackQuestion(
+                session1InCourse1.getFeedbackSessionName(), session1InCourse1.getCourseId(), 1);
+        qn2InSession1InCourse1 = logic.getFeedbackQuestion(
+                session1InCourse1.getFeedbackSessionName(), session1InCourse1.getCourseId(), 2);
+        qn4InSession1InCourse1 = logic.getFeedbackQuestion(
+                session1InCourse1.getFeedbackSessionName(), session1InCourse1.getCourseId(), 4);
+        qn1InClosedSessionInCourse1 = logic.getFeedbackQuestion(
+                closedSession.getFeedbackSessionName(), closedSession.getCourseId(), 1);
+        instructor1OfCourse1 = typicalBundle.instructors.get("instructor1OfCourse1");
+        student1InCourse1 = typicalBundle.students.get("student1InCourse1");
+        student2InCourse1 = typicalBundle.students.get("student2InCourse1");
+        student5InCourse1 = typicalBundle.students.get("student5InCourse1");
+    }
+
+    @Test
+    @Override
+    protected void testExecute() throws Exception {
+
+        ______TS("not enough attributes");
+        verifyHttpParameterFailure();
+        verifyHttpParameterFailure(Const.ParamsNames.INTENT, Intent.STUDENT_SUBMISSION.toString());
+
+        loginAsStudent(student2InCourse1.getGoogleId());
+        String[] params = {
+                Const.ParamsNames.FEEDBACK_QUESTION_ID, qn2InSession1InCourse1.getId(),
+                Const.ParamsNames.INTENT, Intent.STUDENT_SUBMISSION.toString(),
+        };
+
+        ______TS("typical case: existing response is updated and new response is created");
+        FeedbackResponseAttributes existingResponse = logic.getFeedbackResponse(
+                qn2InSession1InCourse1.getId(), student2InCourse1.getEmail(), student5InCourse1.getEmail());
+        assertNotNull(existingResponse);
+
+        FeedbackResponsesRequest submitRequest = getResponsesRequest(
+                getResponseRequest(student5InCourse1.getEmail(), "Updated text"),
+                getResponseRequest(student1InCourse1.getEmail(), "New text"));
+        JsonResult result = getJsonResult(getAction(submitRequest, params));
+
+        assertEquals(HttpStatus.SC_OK, result.getStatusCode());
+        List<FeedbackResponseData> responses = ((FeedbackResponsesData) result.getOutput()).getResponses();
+        assertEquals(2, responses.size());
+        assertEquals(student5InCourse1.getEmail(), responses.get(0).getRecipientIdentifier());
+        assertEquals(existingResponse.getId(), responses.get(0).getFeedbackResponseId());
+        assertEquals("Updated text", responses.get(0).getResponseDetails().getAnswerString());
+        assertEquals(student1InCourse1.getEmail(), responses.get(1).getRecipientIdentifier());
+        assertEquals("New text", responses.get(1).getResponseDetails().getAnswerString());
+
+        FeedbackResponseAttributes updatedResponse = logic.getFeedbackResponse(existingResponse.getId());
+        assertEquals("Updated text", updatedResponse.getResponseDetails().getAnswerString());
+        assertEquals(existingResponse.getCreatedAt(), updatedResponse.getCreatedAt());
+        FeedbackResponseAttributes newResponse = logic.getFeedbackResponse(
+                qn2InSession1InCourse1.getId(), student2InCourse1.getEmail(), student1InCourse1.getEmail());
+        assertEquals(student1InCourse1.getSection(), newResponse.getRecipientSection());
+        assertEquals(student2InCourse1.getSection(), newResponse.getGiverSection());
+
+        ______TS("section of recipient changed: sections of response and its comments are updated");
+        FeedbackResponseCommentAttributes comment = typicalBundle.feedbackResponseComments
+                .get("comment1FromT1C1ToR1Q2S1C1");
+        // the student is moved without updating the responses, as if the responses were not updated in time
+        new StudentsDb().updateStudent(
+                StudentAttributes.updateOptionsBuilder(student5InCourse1.getCourse(), student5InCourse1.getEmail())
+                        .withSectionName("Section 3")
+                        .build());
+
+        submitRequest = getResponsesRequest(
+                getResponseRequest(student5InCourse1.getEmail(), "Updated text"),
+                getResponseRequest(student1InCourse1.getEmail(), "New text"));
+        getJsonResult(getAction(submitRequest, params));
+
+        updatedResponse = logic.getFeedbackResponse(existingResponse.getId());
+        assertEquals("Section 3", updatedResponse.getRecipientSection());
+        assertEquals(student2InCourse1.getSection(), updatedResponse.getGiverSection());
+        FeedbackResponseCommentAttributes updatedComment = logic.getFeedbackResponseComment(
+                existingResponse.getId(), comment.getCommentGiver(), comment.getCreatedAt());
+        assertEquals("Section 3", updatedComment.getReceiverSection());
+        assertEquals(student2InCourse1.getSection(), updatedComment.getGiverSection());
+
+        ______TS("responses to recipients not submitted are deleted");
+        submitRequest = getResponsesRequest(getResponseRequest(student1InCourse1.getEmail(), "New text"));
+        result = getJsonResult(getAction(submitRequest, params));
+
+        responses = ((FeedbackResponsesData) result.getOutput()).getResponses();
+        assertEquals(1, responses.size());
+        assertEquals(newResponse.getId(), responses.get(0).getFeedbackResponseId());
+        assertNull(logic.getFeedbackResponse(existingResponse.getId()));
+        assertNull(logic.getFeedbackResponseComment(
+                existingResponse.getId(), comment.getCommentGiver(), comment.getCreatedAt()));
+
+        ______TS("no responses submitted: all responses of the giver are deleted");
+        result = getJsonResult(getAction(getResponsesRequest(), params));
+
+        assertTrue(((FeedbackResponsesData) result.getOutput()).getResponses().isEmpty());
+        assertNull(logic.getFeedbackResponse(newResponse.getId()));
+
+        ______TS("more than one response to the same recipient");
+        FeedbackResponsesRequest duplicateRequest = getResponsesRequest(
+                getResponseRequest(student1InCourse1.getEmail(), "First"),
+                getResponseRequest(student1InCourse1.getEmail(), "Second"));
+        InvalidHttpRequestBodyException e = assertThrows(InvalidHttpRequestBodyException.class,
+                () -> getJsonResult(getAction(duplicateRequest, params)));
+        assertEquals("Error, more than one response to the recipient: " + student1InCourse1.getEmail(),
+                e.getMessage());
+
+        ______TS("instructor giver: response is created in the default sections");
+        loginAsInstructor(instructor1OfCourse1.getGoogleId());
+        String[] instructorParams = {
+                Const.ParamsNames.FEEDBACK_QUESTION_ID, qn4InSession1InCourse1.getId(),
+                Const.ParamsNames.INTENT, Intent.INSTRUCTOR_SUBMISSION.toString(),
+        };
+
+        submitRequest = getResponsesRequest(getResponseRequest(Const.GENERAL_QUESTION, "Instructor text"));
+        result = getJsonResult(getAction(submitRequest, instructorParams));
+
+        responses = ((FeedbackResponsesData) result.getOutput()).getResponses();
+        assertEquals(1, responses.size());
+        assertEquals(Const.GENERAL_QUESTION, responses.get(0).getRecipientIdentifier());
+        FeedbackResponseAttributes instructorResponse = logic.getFeedbackResponse(
+                qn4InSession1InCourse1.getId(), instructor1OfCourse1.getEmail(), Const.GENERAL_QUESTION);
+        assertEquals("Instructor text", instructorResponse.getResponseDetails().getAnswerString());
+        assertEquals(Const.DEFAULT_SECTION, instructorResponse.getGiverSection());
+        assertEquals(Const.DEFAULT_SECTION, instructorResponse.getRecipientSection());
+
+        ______TS("instructor giver: no responses submitted, the response is deleted");
+        result = getJsonResult(getAction(getResponsesRequest(), instructorParams));
+
+        assertTrue(((FeedbackResponsesData) result.getOutput()).getResponses().isEmpty());
+        assertNull(logic.getFeedbackResponse(instructorResponse.getId()));
+    }
+
+    @Test
+    @Override
+    protected void testAccessControl() throws Exception {
+
+        ______TS("feedback session is closed");
+        loginAsStudent(student1InCourse1.getGoogleId());
+        String[] closedFeedbackSessionParams = {
+                Const.ParamsNames.FEEDBACK_QUESTION_ID, qn1InClosedSessionInCourse1.getId(),
+                Const.ParamsNames.INTENT, Intent.STUDENT_SUBMISSION.toString(),
+        };
+        verifyCannotAccess(closedFeedbackSessionParams);
+
+        ______TS("one of the recipients is invalid for student");
+        String[] invalidRecipientForStudent = {
+                Const.ParamsNames.FEEDBACK_QUESTION_ID, qn1InSession1InCourse1.getId(),
+                Const.ParamsNames.INTENT, Intent.STUDENT_SUBMISSION.toString(),
+        };
+        FeedbackResponsesRequest submitRequest = getResponsesRequest(
+                getResponseRequest(student1InCourse1.getEmail(), "Valid"),
+                getResponseRequest(student2InCourse1.getEmail(), "Invalid"));
+        assertThrows(UnauthorizedAccessException.class,
+                () -> getAction(submitRequest, invalidRecipientForStudent).checkAccessControl());
+    }
+
+    private FeedbackResponsesRequest getResponsesRequest(FeedbackResponseBasicRequest... responseRequests) {
+        FeedbackResponsesRequest submitRequest = new FeedbackResponsesRequest();
+        submitRequest.setResponses(Arrays.asList(responseRequests));
+        return submitRequest;
+    }
+
+    private FeedbackResponseBasicRequest getResponseRequest(String recipientEmail, String answer) {
+        FeedbackResponseBasicRequest responseRequest = new FeedbackResponseBasicRequest();
+        responseRequest.setQuestionType(FeedbackQuestionType.TEXT);
+        responseRequest.setRecipientIdentifier(recipientEmail);
+        responseRequest.setResponseDetails(new FeedbackTextResponseDetails(answer));
+        return responseRequest;
+    }
+}
@@ -88,6 +88,9 @@ public class UpdateStudentActionTest extends BaseActionTest<UpdateStudentAction>
                 instructor1OfCourse1.courseId), email.getSubject());
         assertEquals(newStudentEmail, email.getRecipient());
 
+        // the comments moved to the responses re-created for the new email are re-indexed
+        verifySpecifiedTasksAdded(updateAction, Const.TaskQueue.SEARCH_INDEXING_QUEUE_NAME, 1);
+
         ______TS("Typical case, successful edit and save student detail with spaces to be trimmed");
         String newStudentEmailToBeTrimmed = "  newemail@gmail.tmt   "; // after trim, this is equal to newStudentEmail
         String newStudentTeamToBeTrimmed = "  New team   ";
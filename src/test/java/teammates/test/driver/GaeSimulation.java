@@ -122,6 +122,20 @@ public class GaeSimulation {
         return loginUser(userId, true);
     }
 
+    /**
+     * Sets the time remaining for the current request in the GAE simulation environment.
+     */
+    public void setRemainingMillis(long remainingMillis) {
+        helper.setRemainingMillisTimer(() -> remainingMillis);
+    }
+
+    /**
+     * Resets the time remaining for the current request in the GAE simulation environment to be unlimited.
+     */
+    public void resetRemainingMillis() {
+        helper.setRemainingMillisTimer(LocalServiceTestHelper.RequestMillisTimer.DEFAULT);
+    }
+
     /**
      * Logs the current user out of the GAE simulation environment.
      */
@@ -249,13 +263,21 @@ public class GaeSimulation {
      * @param parameters Parameters that appear in a HttpServletRequest received by the app.
      */
     public AutomatedAction getAutomatedActionObject(String uri, String... parameters) {
+        return getAutomatedActionObject(uri, new MockHttpServletResponse(), parameters);
+    }
+
+    /**
+     * Returns an {@link AutomatedAction} object that matches the parameters given and writes to {@code resp}.
+     *
+     * @param parameters Parameters that appear in a HttpServletRequest received by the app.
+     */
+    public AutomatedAction getAutomatedActionObject(String uri, MockHttpServletResponse resp, String... parameters) {
         try {
             // HTTP method is not used here
             MockHttpServletRequest req = new MockHttpServletRequest(null, uri);
             for (int i = 0; i < parameters.length; i = i + 2) {
                 req.addParam(parameters[i], parameters[i + 1]);
             }
-            MockHttpServletResponse resp = new MockHttpServletResponse();
             AutomatedAction action = new AutomatedActionFactory().getAction(req, resp);
             action.setTaskQueuer(new MockTaskQueuer());
             action.setEmailSender(new MockEmailSender());
@@ -1,7 +1,10 @@
 package teammates.test.driver;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.apache.http.HttpStatus;
 
@@ -18,13 +21,33 @@ import teammates.logic.api.EmailSender;
 public class MockEmailSender extends EmailSender {
 
     private List<EmailWrapper> sentEmails = new ArrayList<>();
+    private Set<String> failingRecipients = new HashSet<>();
+
+    /**
+     * Makes the emails to the given recipients fail to send; such emails are not tracked as sent.
+     */
+    public void setFailingRecipients(String... recipients) {
+        failingRecipients = new HashSet<>(Arrays.asList(recipients));
+    }
 
     @Override
     public EmailSendingStatus sendEmail(EmailWrapper email) {
+        if (failingRecipients.contains(email.getRecipient())) {
+            return new EmailSendingStatus(HttpStatus.SC_SERVICE_UNAVAILABLE, "Failed to send email");
+        }
         sentEmails.add(email);
         return new EmailSendingStatus(HttpStatus.SC_OK, null);
     }
 
+    @Override
+    public List<EmailSendingStatus> sendEmails(List<EmailWrapper> emails) {
+        List<EmailSendingStatus> statuses = new ArrayList<>();
+        for (EmailWrapper email : emails) {
+            statuses.add(sendEmail(email));
+        }
+        return statuses;
+    }
+
     @Override
     public List<EmailWrapper> getEmailsSent() {
         return sentEmails;
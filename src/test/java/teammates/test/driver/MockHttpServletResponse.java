@@ -1,6 +1,7 @@
 package teammates.test.driver;
 
 import java.io.PrintWriter;
+import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -22,6 +23,7 @@ public class MockHttpServletResponse implements HttpServletResponse {
     private int statusCode = HttpStatus.SC_OK;
     private String redirectUrl;
     private List<Cookie> cookies = new ArrayList<>();
+    private StringWriter body = new StringWriter();
 
     @Override
     public void addCookie(Cookie cookie) {
@@ -149,7 +151,11 @@ public class MockHttpServletResponse implements HttpServletResponse {
 
     @Override
     public PrintWriter getWriter() {
-        return new PrintWriter(System.out);
+        return new PrintWriter(body);
+    }
+
+    public String getBody() {
+        return body.toString();
     }
 
     @Override